@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.async;
+
+/**
+ * Gauges on the hand-offs of asynchronous post-processing to the <strong>Achilles</strong> executor service.
+ * <br/>
+ * Operations running with {@link info.archinnov.achilles.type.ExecutionPolicy#DIRECT} never hand-off and are
+ * not accounted here.
+ */
+public interface ExecutorMetrics {
+
+    /**
+     * @return number of tasks handed-off to the executor service and not started yet
+     */
+    long getQueueDepth();
+
+    /**
+     * @return highest queue depth observed so far
+     */
+    long getMaxQueueDepth();
+
+    /**
+     * @return number of tasks handed-off and started so far
+     */
+    long getHandoffCount();
+
+    /**
+     * @return number of tasks rejected by the executor service
+     */
+    long getRejectedCount();
+
+    /**
+     * @return mean delay in nanoseconds between the hand-off of a task and its start
+     */
+    long getMeanHandoffLatencyNanos();
+
+    /**
+     * @return highest delay in nanoseconds between the hand-off of a task and its start
+     */
+    long getMaxHandoffLatencyNanos();
+}
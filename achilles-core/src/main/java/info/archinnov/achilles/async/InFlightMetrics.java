@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.async;
+
+/**
+ * Gauges on the requests sent to Cassandra when a max number of in-flight requests is configured.
+ * <br/>
+ * Nothing is accounted here when no limit is configured.
+ */
+public interface InFlightMetrics {
+
+    /**
+     * @return number of requests sent and not completed yet
+     */
+    long getInFlightCount();
+
+    /**
+     * @param entityClass entity class
+     * @return number of requests for this entity sent and not completed yet, when a limit is configured for this entity
+     */
+    long getInFlightCount(Class<?> entityClass);
+
+    /**
+     * @return number of requests waiting in the queue with the <strong>InFlightLimitStrategy.QUEUE</strong> strategy
+     */
+    long getPendingCount();
+
+    /**
+     * @return number of requests rejected because the limit was reached (or the queue full)
+     */
+    long getRejectedCount();
+
+    /**
+     * @return mean delay in nanoseconds of the requests that had to wait for the limit before being sent
+     */
+    long getMeanWaitNanos();
+
+    /**
+     * @return highest delay in nanoseconds a request has waited for the limit before being sent
+     */
+    long getMaxWaitNanos();
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.async;
+
+/**
+ * Metrics of one statement shape, i.e. all the executions of the same query string whatever the bound values.
+ * <br/>
+ * Instances are snapshots taken when the statistics are read.
+ */
+public interface StatementMetrics {
+
+    /**
+     * @return query string of the statement, the joined distinct query strings for a batch
+     */
+    String getQueryString();
+
+    /**
+     * @return number of executions, successful or not
+     */
+    long getExecutionCount();
+
+    /**
+     * @return number of executions that failed
+     */
+    long getErrorCount();
+
+    /**
+     * @return number of rows returned by the first page of the successful executions
+     */
+    long getRowsReturned();
+
+    /**
+     * @return estimated size in bytes of the values bound to the statement, all executions included
+     */
+    long getBoundValuesBytes();
+
+    /**
+     * @return cumulated latency in nanoseconds of all executions
+     */
+    long getTotalLatencyNanos();
+
+    /**
+     * @return mean latency in nanoseconds of the executions
+     */
+    long getMeanLatencyNanos();
+
+    /**
+     * @return highest latency in nanoseconds of an execution
+     */
+    long getMaxLatencyNanos();
+
+    /**
+     * @return upper bounds in milliseconds of the latency histogram buckets
+     */
+    long[] getLatencyBucketBoundsMillis();
+
+    /**
+     * @return number of executions per latency bucket. The last bucket, one more than the bounds,
+     * counts the executions slower than the highest bound
+     */
+    long[] getLatencyHistogram();
+}
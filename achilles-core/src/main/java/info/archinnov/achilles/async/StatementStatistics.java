@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.async;
+
+import java.util.List;
+
+/**
+ * Execution metrics of the statements sent to Cassandra, aggregated per statement shape.
+ * <br/>
+ * Nothing is accounted here unless the statistics are enabled with
+ * <strong>ConfigurationParameters.STATEMENT_STATISTICS_ENABLED</strong>.
+ */
+public interface StatementStatistics {
+
+    /**
+     * Criteria to rank the statements
+     */
+    public static enum SortBy {
+        EXECUTION_COUNT,
+        ERROR_COUNT,
+        TOTAL_LATENCY,
+        MEAN_LATENCY,
+        MAX_LATENCY,
+        ROWS_RETURNED,
+        BOUND_VALUES_BYTES
+    }
+
+    /**
+     * @return true if the statement executions are accounted
+     */
+    boolean isEnabled();
+
+    /**
+     * @return metrics of all the statement shapes executed so far
+     */
+    List<StatementMetrics> getStatements();
+
+    /**
+     * @param sortBy ranking criteria
+     * @param limit max number of statements to return
+     * @return metrics of the <em>limit</em> statement shapes ranking first for the given criteria, in descending order
+     */
+    List<StatementMetrics> getTopStatements(SortBy sortBy, int limit);
+
+    /**
+     * Discard all the metrics accounted so far
+     */
+    void reset();
+}
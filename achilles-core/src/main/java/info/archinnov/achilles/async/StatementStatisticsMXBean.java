@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.async;
+
+import java.util.List;
+
+/**
+ * JMX view of the {@link StatementStatistics}, registered when
+ * <strong>ConfigurationParameters.STATEMENT_STATISTICS_JMX_ENABLED</strong> is true
+ */
+public interface StatementStatisticsMXBean {
+
+    /**
+     * @return number of statement shapes accounted
+     */
+    int getStatementCount();
+
+    /**
+     * @return the most executed statements
+     */
+    List<StatementMetrics> getTopStatementsByExecutionCount();
+
+    /**
+     * @return the statements with the highest cumulated latency
+     */
+    List<StatementMetrics> getTopStatementsByTotalLatency();
+
+    /**
+     * @return the statements returning the most rows
+     */
+    List<StatementMetrics> getTopStatementsByRowsReturned();
+
+    /**
+     * @return the statements failing the most
+     */
+    List<StatementMetrics> getTopStatementsByErrorCount();
+
+    /**
+     * @param sortBy name of a {@link StatementStatistics.SortBy} criteria
+     * @param limit max number of statements to return
+     * @return the statements ranking first for the given criteria
+     */
+    List<StatementMetrics> topStatements(String sortBy, int limit);
+
+    /**
+     * Discard all the metrics accounted so far
+     */
+    void reset();
+}
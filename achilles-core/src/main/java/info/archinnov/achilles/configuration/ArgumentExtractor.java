@@ -43,11 +43,16 @@ import com.google.common.collect.ImmutableMap;
 import info.archinnov.achilles.annotations.Entity;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.interceptor.Interceptor;
+import info.archinnov.achilles.internal.async.InFlightLimiter;
+import info.archinnov.achilles.internal.async.StatementStatisticsRegistry;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.utils.ConfigMap;
+import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
 import info.archinnov.achilles.json.JacksonMapperFactory;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.ExecutionPolicy;
+import info.archinnov.achilles.type.InFlightLimitStrategy;
 import info.archinnov.achilles.type.InsertStrategy;
 import info.archinnov.achilles.type.NamingStrategy;
 
@@ -74,6 +79,18 @@ public class ArgumentExtractor {
     static final InsertStrategy DEFAULT_INSERT_STRATEGY = InsertStrategy.ALL_FIELDS;
     static final NamingStrategy DEFAULT_GLOBAL_NAMING_STRATEGY = NamingStrategy.LOWER_CASE;
 
+    static final ExecutionPolicy DEFAULT_EXECUTION_POLICY = ExecutionPolicy.EXECUTOR;
+    static final boolean DEFAULT_BLOCKING_CALLER_RUNS = false;
+    static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0;
+    static final InFlightLimitStrategy DEFAULT_IN_FLIGHT_LIMIT_STRATEGY = InFlightLimitStrategy.BLOCK;
+    static final int DEFAULT_IN_FLIGHT_QUEUE_SIZE = 1000;
+    static final long DEFAULT_COUNTER_WRITE_BEHIND_FLUSH_INTERVAL = 0L;
+    static final int DEFAULT_COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD = 10000;
+    static final int DEFAULT_INITIALIZE_MAX_CONCURRENCY = 64;
+    static final boolean DEFAULT_STATEMENT_STATISTICS_ENABLED = false;
+    static final int DEFAULT_STATEMENT_STATISTICS_MAX_STATEMENTS = 1000;
+    static final boolean DEFAULT_STATEMENT_STATISTICS_JMX_ENABLED = false;
+
     public List<Class<?>> initEntities(ConfigMap configurationMap, ClassLoader classLoader) {
         log.trace("Extract entities from configuration map");
 
@@ -114,6 +131,7 @@ public class ArgumentExtractor {
         ConfigurationContext configContext = new ConfigurationContext();
 	configContext.setCurrentKeyspace(initKeyspaceName(configurationMap));
         configContext.setForceColumnFamilyCreation(initForceTableCreation(configurationMap));
+        configContext.setParallelTableCreation(initParallelTableCreation(configurationMap));
         configContext.setEnableSchemaUpdate(initForceTableUpdate(configurationMap));
         configContext.setEnableSchemaUpdateForTables(initForceTableUpdateMap(configurationMap));
         configContext.setJacksonMapperFactory(initObjectMapperFactory(configurationMap));
@@ -128,6 +146,14 @@ public class ArgumentExtractor {
         configContext.setOSGIClassLoader(initOSGIClassLoader(configurationMap));
         configContext.setRelaxIndexValidation(initRelaxIndexValidation(configurationMap));
         configContext.setExecutorService(initExecutorService(configurationMap));
+        configContext.setExecutionPolicy(initExecutionPolicy(configurationMap));
+        configContext.setBlockingCallerRuns(initBlockingCallerRuns(configurationMap));
+        configContext.setInFlightLimiter(initInFlightLimiter(configurationMap));
+        configContext.setStatementStatistics(initStatementStatistics(configurationMap));
+        configContext.setCounterFlushIntervalMillis(initCounterWriteBehindFlushInterval(configurationMap));
+        configContext.setCounterFlushThreshold(initCounterWriteBehindFlushThreshold(configurationMap));
+        configContext.setInitializeMaxConcurrency(initInitializeMaxConcurrency(configurationMap));
+        configContext.setSnapshotDirtyChecking(initSnapshotDirtyChecking(configurationMap));
         return configContext;
     }
 
@@ -136,6 +162,11 @@ public class ArgumentExtractor {
         return configurationMap.getTypedOr(FORCE_TABLE_CREATION, false);
     }
 
+    boolean initParallelTableCreation(ConfigMap configurationMap) {
+        log.trace("Extract 'parallel table creation' from configuration map");
+        return configurationMap.getTypedOr(PARALLEL_TABLE_CREATION, false);
+    }
+
     boolean initForceTableUpdate(ConfigMap configurationMap) {
         log.trace("Extract 'force table update' from configuration map");
 
@@ -257,6 +288,78 @@ public class ArgumentExtractor {
         return configMap.getTypedOr(RELAX_INDEX_VALIDATION, DEFAULT_INDEX_RELAX_VALIDATION);
     }
 
+    public ExecutionPolicy initExecutionPolicy(ConfigMap configMap) {
+        return configMap.getTypedOr(EXECUTION_POLICY, DEFAULT_EXECUTION_POLICY);
+    }
+
+    public boolean initBlockingCallerRuns(ConfigMap configMap) {
+        return configMap.getTypedOr(BLOCKING_CALLER_RUNS, DEFAULT_BLOCKING_CALLER_RUNS);
+    }
+
+    public InFlightLimiter initInFlightLimiter(ConfigMap configMap) {
+        log.trace("Extract in-flight requests limits from configuration map");
+
+        final int maxInFlight = configMap.getTypedOr(MAX_IN_FLIGHT_REQUESTS, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+        final Map<Class<?>, Integer> maxInFlightPerEntity = configMap.getTypedOr(MAX_IN_FLIGHT_REQUESTS_PER_ENTITY, ImmutableMap.<Class<?>, Integer>of());
+        final InFlightLimitStrategy strategy = configMap.getTypedOr(IN_FLIGHT_LIMIT_STRATEGY, DEFAULT_IN_FLIGHT_LIMIT_STRATEGY);
+        final int queueSize = configMap.getTypedOr(IN_FLIGHT_QUEUE_SIZE, DEFAULT_IN_FLIGHT_QUEUE_SIZE);
+
+        Validator.validateTrue(maxInFlight >= 0, "The max number of in-flight requests '%s' should be positive", maxInFlight);
+        for (Map.Entry<Class<?>, Integer> entry : maxInFlightPerEntity.entrySet()) {
+            Validator.validateTrue(entry.getValue() != null && entry.getValue() > 0,
+                    "The max number of in-flight requests for entity '%s' should be strictly positive", entry.getKey());
+        }
+        Validator.validateTrue(queueSize > 0, "The in-flight requests queue size '%s' should be strictly positive", queueSize);
+
+        if (maxInFlight == 0 && maxInFlightPerEntity.isEmpty()) {
+            return InFlightLimiter.UNLIMITED;
+        }
+        return new InFlightLimiter(maxInFlight, maxInFlightPerEntity, strategy, queueSize);
+    }
+
+    public StatementStatisticsRegistry initStatementStatistics(ConfigMap configMap) {
+        log.trace("Extract statement statistics from configuration map");
+
+        final boolean enabled = configMap.getTypedOr(STATEMENT_STATISTICS_ENABLED, DEFAULT_STATEMENT_STATISTICS_ENABLED);
+        final int maxStatements = configMap.getTypedOr(STATEMENT_STATISTICS_MAX_STATEMENTS, DEFAULT_STATEMENT_STATISTICS_MAX_STATEMENTS);
+        Validator.validateTrue(maxStatements > 0, "The max number of statements accounted by the statement statistics '%s' should be strictly positive", maxStatements);
+
+        if (!enabled) {
+            return StatementStatisticsRegistry.DISABLED;
+        }
+        return new StatementStatisticsRegistry(maxStatements);
+    }
+
+    public boolean initStatementStatisticsJMX(ConfigMap configMap) {
+        final boolean jmxEnabled = configMap.getTypedOr(STATEMENT_STATISTICS_JMX_ENABLED, DEFAULT_STATEMENT_STATISTICS_JMX_ENABLED);
+        Validator.validateFalse(jmxEnabled && !configMap.getTypedOr(STATEMENT_STATISTICS_ENABLED, DEFAULT_STATEMENT_STATISTICS_ENABLED),
+                "The statement statistics should be enabled to be exposed in JMX");
+        return jmxEnabled;
+    }
+
+    public long initCounterWriteBehindFlushInterval(ConfigMap configMap) {
+        final long flushInterval = configMap.getTypedOr(COUNTER_WRITE_BEHIND_FLUSH_INTERVAL, DEFAULT_COUNTER_WRITE_BEHIND_FLUSH_INTERVAL);
+        Validator.validateTrue(flushInterval >= 0, "The counter write-behind flush interval '%s' should be positive", flushInterval);
+        return flushInterval;
+    }
+
+    public int initCounterWriteBehindFlushThreshold(ConfigMap configMap) {
+        final int flushThreshold = configMap.getTypedOr(COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD, DEFAULT_COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD);
+        Validator.validateTrue(flushThreshold > 0, "The counter write-behind flush threshold '%s' should be strictly positive", flushThreshold);
+        return flushThreshold;
+    }
+
+    public int initInitializeMaxConcurrency(ConfigMap configMap) {
+        final int maxConcurrency = configMap.getTypedOr(INITIALIZE_MAX_CONCURRENCY, DEFAULT_INITIALIZE_MAX_CONCURRENCY);
+        Validator.validateTrue(maxConcurrency > 0, "The initialize max concurrency '%s' should be strictly positive", maxConcurrency);
+        return maxConcurrency;
+    }
+
+    boolean initSnapshotDirtyChecking(ConfigMap configurationMap) {
+        log.trace("Extract 'snapshot dirty checking' from configuration map");
+        return configurationMap.getTypedOr(SNAPSHOT_DIRTY_CHECKING, false);
+    }
+
     public ExecutorService initExecutorService(ConfigMap configMap) {
         return configMap.getTypedOr(EXECUTOR_SERVICE, initializeDefaultExecutor(configMap));
     }
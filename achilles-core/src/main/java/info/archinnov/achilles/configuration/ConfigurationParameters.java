@@ -41,6 +41,11 @@ package info.archinnov.achilles.configuration;
  *
  * <p>If set to <strong>false</strong> and no column family is found for any entity, <strong>Achilles</strong> will raise an <strong>AchillesInvalidColumnFamilyException</strong></p>
  * </li>
+ * <li>
+ * <p><strong>PARALLEL_TABLE_CREATION</strong> (OPTIONAL): send the CREATE TABLE statements of all missing tables at once instead of one after the other. <strong>Default = 'false'</strong>.</p>
+ *
+ * <p>Meant for single node clusters (embedded server, tests). Concurrent schema changes on a multi nodes cluster may end up in schema disagreement</p>
+ * </li>
  * </ul>
  *
  * <h4>JSON Serialization</h4>
@@ -141,6 +146,16 @@ package info.archinnov.achilles.configuration;
  *
  * <p>If you want to speed up start up, you may disable this behavior. </p>
  *
+ * <ul >
+ * <li>
+ * <strong>SNAPSHOT_DIRTY_CHECKING</strong> (OPTIONAL): return plain entities instead of <strong>CGLIB</strong> proxies from <em>find()</em>, <em>insert()</em>,
+ * typed queries and slice queries. Default = <code>false</code>
+ * </li>
+ * </ul><p>A snapshot of the field values of each returned entity is kept in a registry with weak keys. <em>update()</em> finds the dirty fields
+ * by comparing the entity to its snapshot, so there is no interception cost on getters and setters and collections are not wrapped.</p>
+ *
+ * <p>Counters are not lazy loaded in this mode, call <em>initialize(entity)</em> to read them. <em>getProxy()</em> and <em>forUpdate()</em> still return proxies.</p>
+ *
  * <h4>Strategies</h4>
  *
  * <ul >
@@ -221,6 +236,66 @@ package info.archinnov.achilles.configuration;
  *                  DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY)
  *       </code></pre>
  *  </li>
+ *  <li>
+ *      <strong>EXECUTION_POLICY</strong> (OPTIONAL): define where the post-processing of asynchronous operations (tracing, LWT checks,
+ *      entity mapping, interceptors and async listeners) is run. <strong><code>ExecutionPolicy.EXECUTOR</code></strong> hands it off to the executor service,
+ *      <strong><code>ExecutionPolicy.DIRECT</code></strong> runs it on the thread completing the driver future. Queries returning a list or an iterator
+ *      fetch their next pages synchronously and always hand off to the executor service.
+ *      Default value is <strong><code>ExecutionPolicy.EXECUTOR</code></strong>. The policy can be overriden per operation with <em>OptionsBuilder.withExecutionPolicy()</em>
+ *  </li>
+ *  <li>
+ *      <strong>BLOCKING_CALLER_RUNS</strong> (OPTIONAL): when true, the post-processing of blocking calls (<em>PersistenceManager</em>, <em>TypedQuery</em>,
+ *      <em>NativeQuery</em>, slice queries and <em>Batch.endBatch()</em>) runs on the calling thread once the driver result is available,
+ *      without any hand-off to the executor service. Recommended when the calling threads are virtual threads.
+ *      Default value is <strong>false</strong>
+ *  </li>
+ *  <li>
+ *      <strong>MAX_IN_FLIGHT_REQUESTS</strong> (OPTIONAL): max number of requests sent to Cassandra and not completed yet.
+ *      Default value is <strong>0</strong> (no limit)
+ *  </li>
+ *  <li>
+ *      <strong>MAX_IN_FLIGHT_REQUESTS_PER_ENTITY</strong> (OPTIONAL): a map of <strong>entity class</strong> -&gt; max number of in-flight requests for this entity.
+ *      Entities not in the map are only bound by <strong>MAX_IN_FLIGHT_REQUESTS</strong>
+ *  </li>
+ *  <li>
+ *      <strong>IN_FLIGHT_LIMIT_STRATEGY</strong> (OPTIONAL): what happens to a request when an in-flight limit is reached.
+ *      <strong><code>InFlightLimitStrategy.BLOCK</code></strong> waits for a request to complete, or queues the request when sent from asynchronous post-processing,
+ *      <strong><code>InFlightLimitStrategy.FAIL_FAST</code></strong> fails immediately with an <em>AchillesInFlightLimitException</em>,
+ *      <strong><code>InFlightLimitStrategy.QUEUE</code></strong> queues the request without blocking. Default value is <strong><code>InFlightLimitStrategy.BLOCK</code></strong>
+ *  </li>
+ *  <li>
+ *      <strong>IN_FLIGHT_QUEUE_SIZE</strong> (OPTIONAL): max number of queued requests with the <strong><code>InFlightLimitStrategy.QUEUE</code></strong> strategy,
+ *      or sent from asynchronous post-processing with the <strong><code>InFlightLimitStrategy.BLOCK</code></strong> strategy.
+ *      Default value is <strong>1000</strong>
+ *  </li>
+ *  <li>
+ *      <strong>COUNTER_WRITE_BEHIND_FLUSH_INTERVAL</strong> (OPTIONAL): when strictly positive, the simple counter increments of managed entities
+ *      are aggregated in memory per (entity, primary key, counter) and flushed as batched counter statements every <em>n</em> milliseconds,
+ *      and on <em>PersistenceManagerFactory.shutDown()</em>. Increments not flushed yet are lost if the JVM crashes.
+ *      Default value is <strong>0</strong> (each increment is sent with the entity operation)
+ *  </li>
+ *  <li>
+ *      <strong>COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD</strong> (OPTIONAL): number of aggregated increments triggering a flush before the
+ *      <strong>COUNTER_WRITE_BEHIND_FLUSH_INTERVAL</strong> elapses. Default value is <strong>10000</strong>
+ *  </li>
+ *  <li>
+ *      <strong>INITIALIZE_MAX_CONCURRENCY</strong> (OPTIONAL): max number of entities whose counters are read concurrently by
+ *      <em>PersistenceManager.initialize(List)</em> and <em>PersistenceManager.initialize(Set)</em>. Default value is <strong>64</strong>
+ *  </li>
+ *  <li>
+ *      <strong>STATEMENT_STATISTICS_ENABLED</strong> (OPTIONAL): when true, the execution count, error count, latency histogram,
+ *      rows returned and bound values size of the statements are accounted per statement shape (query string) and available with
+ *      <em>PersistenceManagerFactory.getStatementStatistics()</em>. Default value is <strong>false</strong>
+ *  </li>
+ *  <li>
+ *      <strong>STATEMENT_STATISTICS_MAX_STATEMENTS</strong> (OPTIONAL): max number of statement shapes accounted separately,
+ *      the executions of the other shapes are aggregated together. Default value is <strong>1000</strong>
+ *  </li>
+ *  <li>
+ *      <strong>STATEMENT_STATISTICS_JMX_ENABLED</strong> (OPTIONAL): when true, the statement statistics are registered in the platform
+ *      MBean server as <em>info.archinnov.achilles:type=StatementStatistics,name=&lt;keyspace&gt;</em>.
+ *      Requires <strong>STATEMENT_STATISTICS_ENABLED</strong>. Default value is <strong>false</strong>
+ *  </li>
  * </ul>
  * <p>For more details, please check <strong><a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a></strong></p>
  */
@@ -242,6 +317,7 @@ public enum ConfigurationParameters {
     EVENT_INTERCEPTORS("achilles.event.interceptors"),
 
     FORCE_TABLE_CREATION("achilles.ddl.force.table.creation"),
+    PARALLEL_TABLE_CREATION("achilles.ddl.parallel.table.creation"),
 
     ENABLE_SCHEMA_UPDATE("achilles.ddl.enable.schema.update"),
     ENABLE_SCHEMA_UPDATE_FOR_TABLES("achilles.ddl.enable.schema.update.for.tables"),
@@ -252,6 +328,7 @@ public enum ConfigurationParameters {
     PREPARED_STATEMENTS_CACHE_SIZE("achilles.prepared.statements.cache.size"),
 
     PROXIES_WARM_UP_DISABLED("achilles.proxies.warm.up.disabled"),
+    SNAPSHOT_DIRTY_CHECKING("achilles.snapshot.dirty.checking"),
 
     GLOBAL_INSERT_STRATEGY("achilles.global.insert.strategy"),
 
@@ -267,7 +344,24 @@ public enum ConfigurationParameters {
     DEFAULT_EXECUTOR_SERVICE_MAX_THREAD("achilles.executor.service.default.thread.max"),
     DEFAULT_EXECUTOR_SERVICE_THREAD_KEEPALIVE("achilles.executor.service.default.thread.keepalive"),
     DEFAULT_EXECUTOR_SERVICE_QUEUE_SIZE("achilles.executor.service.default.queue.size"),
-    DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory");
+    DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory"),
+
+    EXECUTION_POLICY("achilles.executor.execution.policy"),
+    BLOCKING_CALLER_RUNS("achilles.executor.blocking.caller.runs"),
+
+    MAX_IN_FLIGHT_REQUESTS("achilles.max.in.flight.requests"),
+    MAX_IN_FLIGHT_REQUESTS_PER_ENTITY("achilles.max.in.flight.requests.per.entity"),
+    IN_FLIGHT_LIMIT_STRATEGY("achilles.in.flight.limit.strategy"),
+    IN_FLIGHT_QUEUE_SIZE("achilles.in.flight.queue.size"),
+
+    COUNTER_WRITE_BEHIND_FLUSH_INTERVAL("achilles.counter.write.behind.flush.interval"),
+    COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD("achilles.counter.write.behind.flush.threshold"),
+
+    INITIALIZE_MAX_CONCURRENCY("achilles.initialize.max.concurrency"),
+
+    STATEMENT_STATISTICS_ENABLED("achilles.statement.statistics.enabled"),
+    STATEMENT_STATISTICS_MAX_STATEMENTS("achilles.statement.statistics.max.statements"),
+    STATEMENT_STATISTICS_JMX_ENABLED("achilles.statement.statistics.jmx.enabled");
 
 
     private String label;
@@ -41,7 +41,7 @@ public interface AchillesCounter {
 	public static final String ACHILLES_COUNTER_VALUE = "counter_value";
 
 	public static enum CQLQueryType {
-		INCR, DECR, SELECT, DELETE;
+		INCR, DECR, SELECT, SELECT_ENTITY, DELETE;
 	}
 
     public static enum ClusteredCounterStatement {
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.counter;
+
+/**
+ * Gauges on the simple counter increments aggregated in memory when the counter write-behind mode is enabled.
+ * <br/>
+ * Everything is 0 when the write-behind mode is disabled.
+ */
+public interface CounterWriteBehindMetrics {
+
+    /**
+     * @return number of distinct (entity, primary key, counter) waiting for the next flush
+     */
+    long getPendingCounters();
+
+    /**
+     * @return number of increments aggregated since the last flush
+     */
+    long getPendingIncrements();
+
+    /**
+     * @return number of flushes done so far
+     */
+    long getFlushCount();
+
+    /**
+     * @return number of counter increment statements sent by the flushes
+     */
+    long getFlushedStatements();
+
+    /**
+     * @return number of counter increment statements whose batch failed. They are not retried since counter
+     * increments are not idempotent
+     */
+    long getFailedStatements();
+}
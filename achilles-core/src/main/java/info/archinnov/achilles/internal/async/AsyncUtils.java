@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internal.async;
 
+import static info.archinnov.achilles.internal.async.BlockingCallExecutor.currentOr;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -25,7 +26,9 @@ import java.util.concurrent.Executors;
 
 import com.google.common.util.concurrent.MoreExecutors;
 import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.Page;
 import org.apache.commons.lang3.ArrayUtils;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
@@ -72,10 +75,38 @@ public class AsyncUtils {
         }
     };
 
+    /**
+     * Only the rows of the page already fetched are read, the paging state allows to fetch the next page later
+     */
+    public static final Function<ResultSet, Page<Row>> RESULTSET_TO_PAGE = new Function<ResultSet, Page<Row>>() {
+        @Override
+        public Page<Row> apply(ResultSet resultSet) {
+            List<Row> rows = new ArrayList<>();
+            String pagingState = null;
+            if (resultSet != null) {
+                for (int remaining = resultSet.getAvailableWithoutFetching(); remaining > 0; remaining--) {
+                    rows.add(resultSet.one());
+                }
+                final PagingState nextPage = resultSet.getExecutionInfo().getPagingState();
+                if (nextPage != null) {
+                    pagingState = nextPage.toString();
+                }
+            }
+            return new Page<>(rows, pagingState);
+        }
+    };
+
+    public static final Function<Object, Empty> TO_EMPTY = new Function<Object, Empty>() {
+        @Override
+        public Empty apply(Object input) {
+            return Empty.INSTANCE;
+        }
+    };
+
     public void maybeAddAsyncListeners(ListenableFuture<?> listenableFuture, Options options, ExecutorService executorService) {
         if (options.hasAsyncListeners()) {
             for (FutureCallback<Object> callback : options.getAsyncListeners()) {
-                Futures.addCallback(listenableFuture, callback, executorService);
+                Futures.addCallback(listenableFuture, callback, currentOr(executorService));
             }
         }
     }
@@ -87,7 +118,7 @@ public class AsyncUtils {
     public void maybeAddAsyncListeners(ListenableFuture<?> listenableFuture, FutureCallback<Object>[] asyncListeners, ExecutorService executorService) {
         if (ArrayUtils.isNotEmpty(asyncListeners)) {
             for (FutureCallback<Object> callback : asyncListeners) {
-                Futures.addCallback(listenableFuture, callback, executorService);
+                Futures.addCallback(listenableFuture, callback, currentOr(executorService));
             }
         }
     }
@@ -97,7 +128,7 @@ public class AsyncUtils {
     }
 
     public <T, V> ListenableFuture<T> transformFuture(ListenableFuture<V> from, Function<V, T> function, ExecutorService executorService) {
-        return Futures.transform(from, function, executorService);
+        return Futures.transform(from, function, currentOr(executorService));
     }
 
     public <T, V> ListenableFuture<T> transformFuture(ListenableFuture<V> from, Function<V, T> function) {
@@ -111,7 +142,7 @@ public class AsyncUtils {
                 return Empty.INSTANCE;
             }
         };
-        return Futures.transform(from, function, executorService);
+        return Futures.transform(from, function, currentOr(executorService));
     }
 
     public <T> AchillesFuture<T> buildInterruptible(ListenableFuture<T> listenableFuture) {
@@ -122,26 +153,22 @@ public class AsyncUtils {
         return Futures.allAsList(resultSetFutures);
     }
 
+    public <V> CompletionPipeline<V> pipeline(ListenableFuture<V> from) {
+        return new CompletionPipeline<>(from);
+    }
+
     public ListenableFuture<ResultSet> applyLoggingTracingAndCASCheck(ResultSetFuture resultSetFuture, final AbstractStatementWrapper statementWrapper, ExecutorService executorService) {
 
-        Function<ResultSet, ResultSet> tracing = new Function<ResultSet, ResultSet>() {
+        Function<ResultSet, ResultSet> tracingAndLWTCheck = new Function<ResultSet, ResultSet>() {
             @Override
             public ResultSet apply(ResultSet resultSet) {
                 statementWrapper.tracing(resultSet);
-                return resultSet;
-            }
-        };
-
-        Function<ResultSet, ResultSet> LWTCheck = new Function<ResultSet, ResultSet>() {
-            @Override
-            public ResultSet apply(ResultSet resultSet) {
                 statementWrapper.checkForLWTSuccess(resultSet);
                 return resultSet;
             }
         };
 
-        final ListenableFuture<ResultSet> tracingApplied = Futures.transform(resultSetFuture, tracing, executorService);
-        return Futures.transform(tracingApplied, LWTCheck);
+        return Futures.transform(resultSetFuture, tracingAndLWTCheck, currentOr(executorService));
     }
 
     public static enum Singleton {
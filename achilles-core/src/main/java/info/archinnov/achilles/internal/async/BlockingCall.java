@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.async;
+
+import info.archinnov.achilles.async.AchillesFuture;
+
+/**
+ * Asynchronous operation behind a synchronous call, see {@link info.archinnov.achilles.internal.context.ConfigurationContext#awaitBlocking(BlockingCall)}
+ *
+ * @param <V> result type
+ */
+public interface BlockingCall<V> {
+
+    /**
+     * Start the asynchronous operation. Called once the blocking call is open on the current thread,
+     * so that the post-processing registered here runs on this thread
+     *
+     * @return future of the operation
+     */
+    AchillesFuture<V> start();
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.async;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.util.concurrent.Uninterruptibles;
+import info.archinnov.achilles.async.AchillesFuture;
+
+/**
+ * Executor running the post-processing of a synchronous call on the thread blocked waiting for its result.
+ * <br/>
+ * <br/>
+ * While a blocking call is open, every hand-off registered by the calling thread (see {@link #currentOr(java.util.concurrent.Executor)})
+ * is queued here instead of the Achilles executor service. The calling thread then parks on the queue and runs
+ * the tasks itself until the result is available. Parking relies on <em>java.util.concurrent</em> locks only,
+ * so a virtual thread waiting for Cassandra never pins its carrier thread.
+ *
+ * <pre class="code"><code class="java">
+ *      return configContext.awaitBlocking(new BlockingCall&lt;T&gt;() {
+ *          &#64;Override
+ *          public AchillesFuture&lt;T&gt; start() {
+ *              return asyncFind(entityClass, primaryKey, options);
+ *          }
+ *      });
+ * </code></pre>
+ */
+public class BlockingCallExecutor extends AbstractExecutorService {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockingCallExecutor.class);
+
+    private static final ThreadLocal<BlockingCallExecutor> CURRENT = new ThreadLocal<>();
+
+    static final BlockingCallExecutor UNBOUND = new BlockingCallExecutor(null, false);
+
+    private static final Runnable WAKE_UP = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+    private final BlockingCallExecutor previous;
+
+    private final boolean bound;
+
+    private volatile boolean closed;
+
+    private BlockingCallExecutor(BlockingCallExecutor previous, boolean bound) {
+        this.previous = previous;
+        this.bound = bound;
+        this.closed = !bound;
+    }
+
+    /**
+     * Open a blocking call on the current thread
+     *
+     * @param callerRuns whether post-processing should run on the current thread.
+     *                   When false, the returned executor just waits on the future
+     * @return BlockingCallExecutor to await the result with
+     */
+    public static BlockingCallExecutor open(boolean callerRuns) {
+        if (!callerRuns) {
+            return UNBOUND;
+        }
+        final BlockingCallExecutor executor = new BlockingCallExecutor(CURRENT.get(), true);
+        CURRENT.set(executor);
+        return executor;
+    }
+
+    /**
+     * @return the executor of the blocking call opened on the current thread if any, the provided executor otherwise
+     */
+    public static Executor currentOr(Executor executor) {
+        final BlockingCallExecutor current = CURRENT.get();
+        return current != null ? current : executor;
+    }
+
+    /**
+     * @return the executor service of the blocking call opened on the current thread if any, the provided executor service otherwise
+     */
+    public static ExecutorService currentOr(ExecutorService executorService) {
+        final BlockingCallExecutor current = CURRENT.get();
+        return current != null ? current : executorService;
+    }
+
+    /**
+     * Run queued post-processing tasks on the current thread until the future is done, then close this blocking call
+     *
+     * @param future future of the asynchronous operation
+     * @return result of the future
+     */
+    public <V> V await(AchillesFuture<V> future) {
+        if (bound) {
+            try {
+                future.addListener(WAKE_UP, this);
+                while (!future.isDone()) {
+                    runSafely(Uninterruptibles.takeUninterruptibly(tasks));
+                }
+            } finally {
+                close();
+            }
+        }
+        return future.getImmediately();
+    }
+
+    /**
+     * Unbind this blocking call from the current thread. Tasks still queued, or submitted later on,
+     * run on the submitting thread. Calling this method several times has no effect
+     */
+    public void close() {
+        if (!closed) {
+            closed = true;
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            drain();
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.offer(task);
+        if (closed) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            runSafely(task);
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("Post-processing task {} of blocking call failed", task, e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        close();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        close();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return closed;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return closed && tasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return isTerminated();
+    }
+}
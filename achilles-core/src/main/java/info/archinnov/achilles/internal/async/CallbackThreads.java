@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.async;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Track the threads running asynchronous post-processing: the threads of the Achilles executor service and,
+ * with the <strong>DIRECT</strong> execution policy, the driver I/O threads completing the requests.
+ * <br/>
+ * Such threads should never park waiting for an in-flight permit since permits are only released
+ * by the completion callbacks they are in charge of running.
+ */
+public class CallbackThreads {
+
+    private static final ThreadLocal<Boolean> RUNNING_CALLBACK = new ThreadLocal<>();
+
+    /**
+     * Executor running post-processing directly on the thread completing the future
+     */
+    public static final ExecutorService DIRECT = new DirectExecutorService();
+
+    /**
+     * @return whether the current thread is running asynchronous post-processing
+     */
+    public static boolean isRunningCallback() {
+        return Boolean.TRUE.equals(RUNNING_CALLBACK.get());
+    }
+
+    public static void runAsCallback(Runnable task) {
+        final Boolean previous = RUNNING_CALLBACK.get();
+        RUNNING_CALLBACK.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                RUNNING_CALLBACK.remove();
+            } else {
+                RUNNING_CALLBACK.set(previous);
+            }
+        }
+    }
+
+    private static class DirectExecutorService extends AbstractExecutorService {
+
+        @Override
+        public void execute(Runnable task) {
+            runAsCallback(task);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return false;
+        }
+    }
+}
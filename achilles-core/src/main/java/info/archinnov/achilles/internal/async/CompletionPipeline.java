@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package info.archinnov.achilles.internal.async;
+
+import static com.google.common.util.concurrent.MoreExecutors.sameThreadExecutor;
+import static info.archinnov.achilles.internal.async.BlockingCallExecutor.currentOr;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import info.archinnov.achilles.type.Options;
+
+/**
+ * Fused replacement for a chain of <em>Futures.transform()</em> and <em>Futures.addCallback()</em>.
+ * <br/>
+ * Stages are recorded with {@link #then(Function)} and {@link #notify(Options)} then run sequentially
+ * inside a single listener registered on the source future when {@link #build()} is called. The pipeline
+ * itself is the resulting future so each operation allocates only one intermediate future instead of one
+ * future, one listener and one callback per stage.
+ * <br/>
+ * Async listeners are notified with the value computed at the stage they were registered,
+ * or with the failure if the source or any previous stage failed.
+ * Exceptions raised by listeners are logged and do not fail the pipeline.
+ *
+ * @param <V> type of the value produced by the last recorded stage
+ */
+public class CompletionPipeline<V> extends AbstractFuture<V> implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(CompletionPipeline.class);
+
+    private final ListenableFuture<?> source;
+    private final List<Object> stages = new ArrayList<>(4);
+    private volatile boolean built = false;
+
+    CompletionPipeline(ListenableFuture<?> source) {
+        this.source = source;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletionPipeline<T> then(Function<? super V, ? extends T> function) {
+        checkNotBuilt();
+        stages.add(function);
+        return (CompletionPipeline<T>) this;
+    }
+
+    public CompletionPipeline<V> notify(FutureCallback<Object>[] asyncListeners) {
+        checkNotBuilt();
+        if (ArrayUtils.isNotEmpty(asyncListeners)) {
+            stages.add(asyncListeners);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletionPipeline<V> notify(Options options) {
+        if (options.hasAsyncListeners()) {
+            final List<FutureCallback<Object>> asyncListeners = options.getAsyncListeners();
+            notify(asyncListeners.toArray(new FutureCallback[asyncListeners.size()]));
+        }
+        return this;
+    }
+
+    /**
+     * Start the pipeline, all stages will run on the thread completing the source future
+     */
+    public ListenableFuture<V> build() {
+        return build(sameThreadExecutor());
+    }
+
+    /**
+     * Start the pipeline, all stages will run on the provided executor
+     */
+    public ListenableFuture<V> build(Executor executor) {
+        checkNotBuilt();
+        built = true;
+        source.addListener(this, currentOr(executor));
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+        Object value;
+        try {
+            value = Uninterruptibles.getUninterruptibly(source);
+        } catch (ExecutionException e) {
+            fail(e.getCause(), 0);
+            return;
+        } catch (CancellationException e) {
+            notifyFailure(e, 0);
+            cancel(false);
+            return;
+        } catch (RuntimeException | Error e) {
+            fail(e, 0);
+            return;
+        }
+
+        int index = 0;
+        try {
+            for (; index < stages.size(); index++) {
+                final Object stage = stages.get(index);
+                if (stage instanceof Function) {
+                    value = ((Function<Object, Object>) stage).apply(value);
+                } else {
+                    notifySuccess((FutureCallback<Object>[]) stage, value);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            fail(e, index + 1);
+            return;
+        }
+        set((V) value);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (super.cancel(mayInterruptIfRunning)) {
+            source.cancel(mayInterruptIfRunning);
+            return true;
+        }
+        return false;
+    }
+
+    private void fail(Throwable throwable, int fromStage) {
+        notifyFailure(throwable, fromStage);
+        setException(throwable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void notifyFailure(Throwable throwable, int fromStage) {
+        for (int i = fromStage; i < stages.size(); i++) {
+            final Object stage = stages.get(i);
+            if (stage instanceof FutureCallback[]) {
+                for (FutureCallback<Object> listener : (FutureCallback<Object>[]) stage) {
+                    try {
+                        listener.onFailure(throwable);
+                    } catch (RuntimeException e) {
+                        log.error("Exception while notifying async listener {} of failure", listener, e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void notifySuccess(FutureCallback<Object>[] listeners, Object value) {
+        for (FutureCallback<Object> listener : listeners) {
+            try {
+                listener.onSuccess(value);
+            } catch (RuntimeException e) {
+                log.error("Exception while notifying async listener {} of success", listener, e);
+            }
+        }
+    }
+
+    private void checkNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("Cannot modify an already started completion pipeline");
+        }
+    }
+}
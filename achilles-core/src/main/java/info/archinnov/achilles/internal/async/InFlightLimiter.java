@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.async;
+
+import static com.google.common.util.concurrent.MoreExecutors.sameThreadExecutor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.async.InFlightMetrics;
+import info.archinnov.achilles.exception.AchillesInFlightLimitException;
+import info.archinnov.achilles.type.InFlightLimitStrategy;
+
+/**
+ * Bound the number of requests in-flight, globally and per entity class.
+ * <br/>
+ * A request takes its entity permit (if any limit is configured for the entity) then a global permit, both released
+ * when its future completes. When a permit is not available, the {@link info.archinnov.achilles.type.InFlightLimitStrategy}
+ * decides whether the request blocks the calling thread, fails fast or is queued. Queued requests are served before
+ * new ones. With the <strong>BLOCK</strong> strategy, a request submitted while running asynchronous post-processing
+ * (see {@link CallbackThreads}) is queued instead, since blocking such a thread could prevent permits from being released.
+ * This queue is unbounded, so that <strong>BLOCK</strong> never rejects a request.
+ */
+public class InFlightLimiter implements InFlightMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(InFlightLimiter.class);
+
+    public static final InFlightLimiter UNLIMITED = new InFlightLimiter(0, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.BLOCK, 0);
+
+    private final boolean limited;
+    private final Semaphore globalPermits;
+    private final Map<Class<?>, Semaphore> entityPermits = new HashMap<>();
+    private final Map<Class<?>, Integer> maxPerEntity;
+    private final InFlightLimitStrategy strategy;
+    private final BlockingQueue<PendingRequest<?>> pendingRequests;
+
+    private final AtomicLong inFlightCount = new AtomicLong(0);
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+    private final AtomicLong waitCount = new AtomicLong(0);
+    private final AtomicLong totalWaitNanos = new AtomicLong(0);
+    private final AtomicLong maxWaitNanos = new AtomicLong(0);
+
+    /**
+     * @param maxInFlight max number of in-flight requests, 0 for no global limit
+     * @param maxInFlightPerEntity max number of in-flight requests per entity class
+     * @param strategy what to do with a request when the limit is reached
+     * @param queueSize max number of queued requests for the <strong>QUEUE</strong> strategy, the queue of the
+     *                  <strong>BLOCK</strong> strategy is unbounded
+     */
+    public InFlightLimiter(int maxInFlight, Map<Class<?>, Integer> maxInFlightPerEntity, InFlightLimitStrategy strategy, int queueSize) {
+        this.globalPermits = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        this.maxPerEntity = maxInFlightPerEntity;
+        for (Map.Entry<Class<?>, Integer> entry : maxInFlightPerEntity.entrySet()) {
+            entityPermits.put(entry.getKey(), new Semaphore(entry.getValue()));
+        }
+        this.limited = globalPermits != null || !entityPermits.isEmpty();
+        this.strategy = strategy;
+        // Under BLOCK, only the requests of callback threads are queued, rejecting them would turn BLOCK into FAIL_FAST
+        this.pendingRequests = strategy == InFlightLimitStrategy.QUEUE
+                ? new LinkedBlockingQueue<PendingRequest<?>>(Math.max(queueSize, 1))
+                : new LinkedBlockingQueue<PendingRequest<?>>();
+    }
+
+    /**
+     * Send the request if the limits allow it, or apply the limit strategy
+     *
+     * @param entityClass entity class of the request, can be null
+     * @param request sends the request when called
+     * @return future of the request
+     */
+    public <V> ListenableFuture<V> submit(Class<?> entityClass, Supplier<? extends ListenableFuture<V>> request) {
+        if (!limited) {
+            return request.get();
+        }
+        final Semaphore entity = entityPermits.get(entityClass);
+        // Queued requests go first, a new request only takes a free permit when none is waiting
+        if (pendingRequests.isEmpty() && tryAcquire(entity)) {
+            return start(entity, request);
+        }
+        switch (strategy) {
+            case FAIL_FAST:
+                return reject(entityClass);
+            case QUEUE:
+                return enqueue(entityClass, entity, request);
+            default:
+                if (CallbackThreads.isRunningCallback()) {
+                    // Parking an executor or driver I/O thread could starve the very completions releasing the permits
+                    return enqueue(entityClass, entity, request);
+                }
+                final long waitStart = System.nanoTime();
+                if (entity != null) {
+                    entity.acquireUninterruptibly();
+                }
+                if (globalPermits != null) {
+                    globalPermits.acquireUninterruptibly();
+                }
+                recordWait(System.nanoTime() - waitStart);
+                return start(entity, request);
+        }
+    }
+
+    private boolean tryAcquire(Semaphore entity) {
+        if (entity != null && !entity.tryAcquire()) {
+            return false;
+        }
+        if (globalPermits != null && !globalPermits.tryAcquire()) {
+            if (entity != null) {
+                entity.release();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private void release(Semaphore entity) {
+        if (globalPermits != null) {
+            globalPermits.release();
+        }
+        if (entity != null) {
+            entity.release();
+        }
+    }
+
+    private <V> ListenableFuture<V> start(final Semaphore entity, Supplier<? extends ListenableFuture<V>> request) {
+        inFlightCount.incrementAndGet();
+        final ListenableFuture<V> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            completed(entity);
+            throw e;
+        }
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                completed(entity);
+            }
+        }, sameThreadExecutor());
+        return future;
+    }
+
+    private void completed(Semaphore entity) {
+        inFlightCount.decrementAndGet();
+        release(entity);
+        drainPendingRequests();
+    }
+
+    private <V> ListenableFuture<V> reject(Class<?> entityClass) {
+        rejectedCount.incrementAndGet();
+        return Futures.immediateFailedFuture(new AchillesInFlightLimitException(
+                String.format("Max number of in-flight requests reached for entity '%s'", entityClass)));
+    }
+
+    private <V> ListenableFuture<V> enqueue(Class<?> entityClass, Semaphore entity, Supplier<? extends ListenableFuture<V>> request) {
+        final PendingRequest<V> pendingRequest = new PendingRequest<>(entity, request);
+        if (!pendingRequests.offer(pendingRequest)) {
+            return reject(entityClass);
+        }
+        // A request may have completed between the failed tryAcquire() and offer()
+        drainPendingRequests();
+        return pendingRequest.result;
+    }
+
+    /**
+     * Start the queued requests in order. A request whose entity has no permit left is skipped, along with the following
+     * requests of the same entity, so that a saturated entity does not hold back the requests of other entities
+     */
+    private void drainPendingRequests() {
+        final Set<Semaphore> saturatedEntities = new HashSet<>();
+        final Iterator<PendingRequest<?>> iterator = pendingRequests.iterator();
+        while (iterator.hasNext()) {
+            if (globalPermits != null && globalPermits.availablePermits() == 0) {
+                return;
+            }
+            final PendingRequest<?> pending = iterator.next();
+            if (pending.result.isCancelled()) {
+                // Cancelled while queued, it neither takes a permit nor holds back the requests behind it
+                pendingRequests.remove(pending);
+                continue;
+            }
+            if (pending.entity != null && saturatedEntities.contains(pending.entity)) {
+                continue;
+            }
+            if (tryAcquire(pending.entity)) {
+                if (pendingRequests.remove(pending)) {
+                    pending.start();
+                } else {
+                    release(pending.entity);
+                }
+            } else if (pending.entity != null && pending.entity.availablePermits() == 0) {
+                saturatedEntities.add(pending.entity);
+            }
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        waitCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        long current = maxWaitNanos.get();
+        while (waitNanos > current && !maxWaitNanos.compareAndSet(current, waitNanos)) {
+            current = maxWaitNanos.get();
+        }
+    }
+
+    @Override
+    public long getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    @Override
+    public long getInFlightCount(Class<?> entityClass) {
+        final Semaphore entity = entityPermits.get(entityClass);
+        return entity == null ? 0 : maxPerEntity.get(entityClass) - entity.availablePermits();
+    }
+
+    @Override
+    public long getPendingCount() {
+        return pendingRequests.size();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public long getMeanWaitNanos() {
+        final long count = waitCount.get();
+        return count == 0 ? 0 : totalWaitNanos.get() / count;
+    }
+
+    @Override
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    private class PendingRequest<V> {
+
+        private final Semaphore entity;
+        private final Supplier<? extends ListenableFuture<V>> request;
+        private final SettableFuture<V> result = SettableFuture.create();
+        private final long enqueuedAt = System.nanoTime();
+
+        private PendingRequest(Semaphore entity, Supplier<? extends ListenableFuture<V>> request) {
+            this.entity = entity;
+            this.request = request;
+        }
+
+        private void start() {
+            recordWait(System.nanoTime() - enqueuedAt);
+            if (result.isCancelled()) {
+                // Cancelled after taking its permits, hand them over to the next queued requests
+                release(entity);
+                drainPendingRequests();
+                return;
+            }
+            try {
+                Futures.addCallback(InFlightLimiter.this.start(entity, request), new FutureCallback<V>() {
+                    @Override
+                    public void onSuccess(V value) {
+                        result.set(value);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        result.setException(throwable);
+                    }
+                }, sameThreadExecutor());
+            } catch (RuntimeException e) {
+                log.error("Fail to send queued request", e);
+                result.setException(e);
+            }
+        }
+    }
+}
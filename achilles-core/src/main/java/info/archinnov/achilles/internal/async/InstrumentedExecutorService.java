@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.async;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import info.archinnov.achilles.async.ExecutorMetrics;
+
+public class InstrumentedExecutorService extends AbstractExecutorService implements ExecutorMetrics {
+
+    private final ExecutorService delegate;
+
+    private final AtomicLong queueDepth = new AtomicLong(0);
+    private final AtomicLong maxQueueDepth = new AtomicLong(0);
+    private final AtomicLong handoffCount = new AtomicLong(0);
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+    private final AtomicLong totalHandoffLatencyNanos = new AtomicLong(0);
+    private final AtomicLong maxHandoffLatencyNanos = new AtomicLong(0);
+
+    public InstrumentedExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        final long submittedAt = System.nanoTime();
+        updateMax(maxQueueDepth, queueDepth.incrementAndGet());
+        try {
+            delegate.execute(new Runnable() {
+                @Override
+                public void run() {
+                    started(submittedAt);
+                    CallbackThreads.runAsCallback(task);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private void started(long submittedAt) {
+        final long latency = System.nanoTime() - submittedAt;
+        queueDepth.decrementAndGet();
+        handoffCount.incrementAndGet();
+        totalHandoffLatencyNanos.addAndGet(latency);
+        updateMax(maxHandoffLatencyNanos, latency);
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    @Override
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @Override
+    public long getHandoffCount() {
+        return handoffCount.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public long getMeanHandoffLatencyNanos() {
+        final long count = handoffCount.get();
+        return count == 0 ? 0 : totalHandoffLatencyNanos.get() / count;
+    }
+
+    @Override
+    public long getMaxHandoffLatencyNanos() {
+        return maxHandoffLatencyNanos.get();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.async;
+
+import static com.google.common.util.concurrent.MoreExecutors.sameThreadExecutor;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.datastax.driver.core.ResultSet;
+import com.google.common.base.Joiner;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import info.archinnov.achilles.async.StatementMetrics;
+import info.archinnov.achilles.async.StatementStatistics;
+import info.archinnov.achilles.async.StatementStatisticsMXBean;
+import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
+import info.archinnov.achilles.internal.statement.wrapper.BatchStatementWrapper;
+
+/**
+ * Account the executions of the statements sent to Cassandra, per statement shape.
+ * <br/>
+ * The shape of a statement is its query string, which is also the query string of the prepared statement
+ * cached for it. The shape of a batch is the distinct query strings of its statements. Once <em>maxStatements</em>
+ * shapes are accounted, the executions of new shapes are aggregated under {@link #OTHER_STATEMENTS}
+ * so that native queries with inlined values cannot grow the registry without bound.
+ * <br/>
+ * When disabled, {@link #instrument(AbstractStatementWrapper, Supplier)} returns the request as is.
+ */
+public class StatementStatisticsRegistry implements StatementStatistics, StatementStatisticsMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStatisticsRegistry.class);
+
+    public static final StatementStatisticsRegistry DISABLED = new StatementStatisticsRegistry(false, 0);
+
+    public static final String OTHER_STATEMENTS = "<other statements>";
+
+    static final int JMX_TOP_STATEMENTS = 20;
+
+    private final boolean enabled;
+    private final int maxStatements;
+    private final ConcurrentMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final AtomicBoolean overflowLogged = new AtomicBoolean(false);
+    private volatile ObjectName objectName;
+
+    /**
+     * @param maxStatements max number of statement shapes accounted separately
+     */
+    public StatementStatisticsRegistry(int maxStatements) {
+        this(true, maxStatements);
+    }
+
+    private StatementStatisticsRegistry(boolean enabled, int maxStatements) {
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Wrap the request so that its execution is accounted for the shape of the statement
+     *
+     * @param statementWrapper statement sent by the request
+     * @param request sends the statement when called
+     * @return the request itself when disabled, an accounting request otherwise
+     */
+    public Supplier<ListenableFuture<ResultSet>> instrument(final AbstractStatementWrapper statementWrapper,
+            final Supplier<ListenableFuture<ResultSet>> request) {
+        if (!enabled) {
+            return request;
+        }
+        return new Supplier<ListenableFuture<ResultSet>>() {
+            @Override
+            public ListenableFuture<ResultSet> get() {
+                // Computed before sending, the statements of a batch release their values once the batch is built
+                final StatementStats stats = statsFor(statementShape(statementWrapper));
+                final long boundValuesBytes = boundValuesBytes(statementWrapper);
+                final long start = System.nanoTime();
+                final ListenableFuture<ResultSet> future;
+                try {
+                    future = request.get();
+                } catch (RuntimeException e) {
+                    stats.recordError(System.nanoTime() - start, boundValuesBytes);
+                    throw e;
+                }
+                Futures.addCallback(future, new FutureCallback<ResultSet>() {
+                    @Override
+                    public void onSuccess(ResultSet resultSet) {
+                        final int rows = resultSet != null ? resultSet.getAvailableWithoutFetching() : 0;
+                        stats.recordSuccess(System.nanoTime() - start, rows, boundValuesBytes);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        stats.recordError(System.nanoTime() - start, boundValuesBytes);
+                    }
+                }, sameThreadExecutor());
+                return future;
+            }
+        };
+    }
+
+    StatementStats statsFor(String queryString) {
+        StatementStats stats = statements.get(queryString);
+        if (stats == null) {
+            String key = queryString;
+            if (statements.size() >= maxStatements) {
+                key = OTHER_STATEMENTS;
+                if (overflowLogged.compareAndSet(false, true)) {
+                    log.warn("More than {} statement shapes executed, the executions of the new ones are accounted as '{}'", maxStatements, OTHER_STATEMENTS);
+                }
+            }
+            final StatementStats newStats = new StatementStats(key);
+            stats = statements.putIfAbsent(key, newStats);
+            if (stats == null) {
+                stats = newStats;
+            }
+        }
+        return stats;
+    }
+
+    static String statementShape(AbstractStatementWrapper statementWrapper) {
+        if (statementWrapper instanceof BatchStatementWrapper) {
+            final Set<String> queryStrings = new LinkedHashSet<>();
+            for (AbstractStatementWrapper wrapper : ((BatchStatementWrapper) statementWrapper).getStatementWrappers()) {
+                queryStrings.add(wrapper.getQueryString());
+            }
+            return Joiner.on("\n").join(queryStrings);
+        }
+        return statementWrapper.getQueryString();
+    }
+
+    static long boundValuesBytes(AbstractStatementWrapper statementWrapper) {
+        if (statementWrapper instanceof BatchStatementWrapper) {
+            long bytes = 0;
+            for (AbstractStatementWrapper wrapper : ((BatchStatementWrapper) statementWrapper).getStatementWrappers()) {
+                bytes += boundValuesBytes(wrapper);
+            }
+            return bytes;
+        }
+        final Object[] values = statementWrapper.getValues();
+        long bytes = 0;
+        if (values != null) {
+            for (Object value : values) {
+                bytes += estimateSize(value);
+            }
+        }
+        return bytes;
+    }
+
+    /*
+     * Approximation of the serialized size of an encoded value, the protocol overhead is ignored
+     */
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).remaining();
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof Long || value instanceof Double || value instanceof Date) {
+            return 8;
+        } else if (value instanceof Integer || value instanceof Float) {
+            return 4;
+        } else if (value instanceof Boolean) {
+            return 1;
+        } else if (value instanceof UUID) {
+            return 16;
+        } else if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() / 8 + 1;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).unscaledValue().bitLength() / 8 + 5;
+        } else if (value instanceof InetAddress) {
+            return ((InetAddress) value).getAddress().length;
+        } else if (value instanceof Collection) {
+            long size = 0;
+            for (Object element : (Collection<?>) value) {
+                size += estimateSize(element);
+            }
+            return size;
+        } else if (value instanceof Map) {
+            long size = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        return String.valueOf(value).length();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<StatementMetrics> getStatements() {
+        final List<StatementMetrics> snapshots = new ArrayList<>(statements.size());
+        for (StatementStats stats : statements.values()) {
+            snapshots.add(stats.snapshot());
+        }
+        return snapshots;
+    }
+
+    @Override
+    public List<StatementMetrics> getTopStatements(final SortBy sortBy, int limit) {
+        // Sorting the snapshots, the live counters could change during the sort
+        final List<StatementMetrics> snapshots = getStatements();
+        Collections.sort(snapshots, new Comparator<StatementMetrics>() {
+            @Override
+            public int compare(StatementMetrics metrics1, StatementMetrics metrics2) {
+                return Long.compare(valueOf(metrics2, sortBy), valueOf(metrics1, sortBy));
+            }
+        });
+        return snapshots.size() > limit ? new ArrayList<>(snapshots.subList(0, limit)) : snapshots;
+    }
+
+    private static long valueOf(StatementMetrics metrics, SortBy sortBy) {
+        switch (sortBy) {
+            case ERROR_COUNT:
+                return metrics.getErrorCount();
+            case TOTAL_LATENCY:
+                return metrics.getTotalLatencyNanos();
+            case MEAN_LATENCY:
+                return metrics.getMeanLatencyNanos();
+            case MAX_LATENCY:
+                return metrics.getMaxLatencyNanos();
+            case ROWS_RETURNED:
+                return metrics.getRowsReturned();
+            case BOUND_VALUES_BYTES:
+                return metrics.getBoundValuesBytes();
+            default:
+                return metrics.getExecutionCount();
+        }
+    }
+
+    @Override
+    public void reset() {
+        statements.clear();
+        overflowLogged.set(false);
+    }
+
+    @Override
+    public int getStatementCount() {
+        return statements.size();
+    }
+
+    @Override
+    public List<StatementMetrics> getTopStatementsByExecutionCount() {
+        return getTopStatements(SortBy.EXECUTION_COUNT, JMX_TOP_STATEMENTS);
+    }
+
+    @Override
+    public List<StatementMetrics> getTopStatementsByTotalLatency() {
+        return getTopStatements(SortBy.TOTAL_LATENCY, JMX_TOP_STATEMENTS);
+    }
+
+    @Override
+    public List<StatementMetrics> getTopStatementsByRowsReturned() {
+        return getTopStatements(SortBy.ROWS_RETURNED, JMX_TOP_STATEMENTS);
+    }
+
+    @Override
+    public List<StatementMetrics> getTopStatementsByErrorCount() {
+        return getTopStatements(SortBy.ERROR_COUNT, JMX_TOP_STATEMENTS);
+    }
+
+    @Override
+    public List<StatementMetrics> topStatements(String sortBy, int limit) {
+        return getTopStatements(SortBy.valueOf(sortBy.trim().toUpperCase()), limit);
+    }
+
+    /**
+     * Register the statistics in the platform MBean server, under
+     * <em>info.archinnov.achilles:type=StatementStatistics,name=&lt;name&gt;</em>
+     *
+     * @param name name of the MBean, usually the keyspace name
+     */
+    public void registerMBean(String name) {
+        try {
+            final ObjectName mBeanName = new ObjectName("info.archinnov.achilles:type=StatementStatistics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new StandardMBean(this, StatementStatisticsMXBean.class, true), mBeanName);
+            this.objectName = mBeanName;
+            log.info("Statement statistics registered in JMX as {}", mBeanName);
+        } catch (JMException e) {
+            log.warn("Cannot register the statement statistics in JMX with name '{}'", name, e);
+        }
+    }
+
+    public void unregisterMBean() {
+        final ObjectName mBeanName = this.objectName;
+        if (mBeanName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(mBeanName);
+            } catch (JMException e) {
+                log.warn("Cannot unregister the statement statistics {} from JMX", mBeanName, e);
+            }
+            this.objectName = null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.async;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import info.archinnov.achilles.async.StatementMetrics;
+
+/**
+ * Counters of one statement shape, updated by the completion of its executions
+ */
+class StatementStats {
+
+    static final long[] LATENCY_BUCKET_BOUNDS_MILLIS = new long[] { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+    private static final long[] LATENCY_BUCKET_BOUNDS_NANOS = new long[LATENCY_BUCKET_BOUNDS_MILLIS.length];
+
+    static {
+        for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; i++) {
+            LATENCY_BUCKET_BOUNDS_NANOS[i] = TimeUnit.MILLISECONDS.toNanos(LATENCY_BUCKET_BOUNDS_MILLIS[i]);
+        }
+    }
+
+    private final String queryString;
+    private final AtomicLong executionCount = new AtomicLong(0);
+    private final AtomicLong errorCount = new AtomicLong(0);
+    private final AtomicLong rowsReturned = new AtomicLong(0);
+    private final AtomicLong boundValuesBytes = new AtomicLong(0);
+    private final AtomicLong totalLatencyNanos = new AtomicLong(0);
+    private final AtomicLong maxLatencyNanos = new AtomicLong(0);
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKET_BOUNDS_MILLIS.length + 1);
+
+    StatementStats(String queryString) {
+        this.queryString = queryString;
+    }
+
+    void recordSuccess(long latencyNanos, int rows, long boundValuesBytes) {
+        rowsReturned.addAndGet(rows);
+        recordExecution(latencyNanos, boundValuesBytes);
+    }
+
+    void recordError(long latencyNanos, long boundValuesBytes) {
+        errorCount.incrementAndGet();
+        recordExecution(latencyNanos, boundValuesBytes);
+    }
+
+    private void recordExecution(long latencyNanos, long boundValuesBytes) {
+        executionCount.incrementAndGet();
+        this.boundValuesBytes.addAndGet(boundValuesBytes);
+        totalLatencyNanos.addAndGet(latencyNanos);
+        long current = maxLatencyNanos.get();
+        while (latencyNanos > current && !maxLatencyNanos.compareAndSet(current, latencyNanos)) {
+            current = maxLatencyNanos.get();
+        }
+        latencyHistogram.incrementAndGet(bucketOf(latencyNanos));
+    }
+
+    static int bucketOf(long latencyNanos) {
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS_NANOS.length && latencyNanos >= LATENCY_BUCKET_BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    String getQueryString() {
+        return queryString;
+    }
+
+    StatementMetrics snapshot() {
+        final long[] histogram = new long[latencyHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = latencyHistogram.get(i);
+        }
+        return new Snapshot(queryString, executionCount.get(), errorCount.get(), rowsReturned.get(), boundValuesBytes.get(),
+                totalLatencyNanos.get(), maxLatencyNanos.get(), histogram);
+    }
+
+    private static class Snapshot implements StatementMetrics {
+        private final String queryString;
+        private final long executionCount;
+        private final long errorCount;
+        private final long rowsReturned;
+        private final long boundValuesBytes;
+        private final long totalLatencyNanos;
+        private final long maxLatencyNanos;
+        private final long[] latencyHistogram;
+
+        private Snapshot(String queryString, long executionCount, long errorCount, long rowsReturned, long boundValuesBytes,
+                long totalLatencyNanos, long maxLatencyNanos, long[] latencyHistogram) {
+            this.queryString = queryString;
+            this.executionCount = executionCount;
+            this.errorCount = errorCount;
+            this.rowsReturned = rowsReturned;
+            this.boundValuesBytes = boundValuesBytes;
+            this.totalLatencyNanos = totalLatencyNanos;
+            this.maxLatencyNanos = maxLatencyNanos;
+            this.latencyHistogram = latencyHistogram;
+        }
+
+        @Override
+        public String getQueryString() {
+            return queryString;
+        }
+
+        @Override
+        public long getExecutionCount() {
+            return executionCount;
+        }
+
+        @Override
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        @Override
+        public long getRowsReturned() {
+            return rowsReturned;
+        }
+
+        @Override
+        public long getBoundValuesBytes() {
+            return boundValuesBytes;
+        }
+
+        @Override
+        public long getTotalLatencyNanos() {
+            return totalLatencyNanos;
+        }
+
+        @Override
+        public long getMeanLatencyNanos() {
+            return executionCount == 0 ? 0 : totalLatencyNanos / executionCount;
+        }
+
+        @Override
+        public long getMaxLatencyNanos() {
+            return maxLatencyNanos;
+        }
+
+        @Override
+        public long[] getLatencyBucketBoundsMillis() {
+            return LATENCY_BUCKET_BOUNDS_MILLIS.clone();
+        }
+
+        @Override
+        public long[] getLatencyHistogram() {
+            return latencyHistogram.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "StatementMetrics{" +
+                    "queryString='" + queryString + '\'' +
+                    ", executionCount=" + executionCount +
+                    ", errorCount=" + errorCount +
+                    ", rowsReturned=" + rowsReturned +
+                    ", boundValuesBytes=" + boundValuesBytes +
+                    ", meanLatencyNanos=" + getMeanLatencyNanos() +
+                    ", maxLatencyNanos=" + maxLatencyNanos +
+                    ", latencyHistogram=" + Arrays.toString(latencyHistogram) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.cache;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import java.util.concurrent.atomic.AtomicLong;
+import com.datastax.driver.core.Row;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+
+/**
+ * Client-side cache of the rows of one entity class, keyed by primary key.
+ * <br/>
+ * <br/>
+ * It remembers found rows ({@link info.archinnov.achilles.annotations.NearCache}) and/or primary keys with no row
+ * ({@link info.archinnov.achilles.annotations.NegativeCache}), each with its own size and time to live.
+ * <br/>
+ * A load snapshots the invalidation counter with {@link #loadStarted()} before querying Cassandra. Its result is only
+ * kept by {@link #loaded(Object, com.datastax.driver.core.Row, long)} if no invalidation happened in between, so a
+ * read racing with a write never caches the state as it was before the write.
+ */
+public class RowCache {
+
+    private static final CacheStats NO_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    private final Cache<Object, Row> rows;
+
+    private final Cache<Object, Boolean> misses;
+
+    private final AtomicLong invalidations = new AtomicLong(0);
+
+    public RowCache(NearCache nearCache, NegativeCache negativeCache) {
+        this.rows = nearCache != null ? RowCache.<Row>buildCache(nearCache.maxSize(), nearCache.expireAfterWriteSeconds()) : null;
+        this.misses = negativeCache != null ? RowCache.<Boolean>buildCache(negativeCache.maxSize(), negativeCache.expireAfterWriteSeconds()) : null;
+    }
+
+    private static <V> Cache<Object, V> buildCache(long maxSize, long expireAfterWriteSeconds) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWriteSeconds, SECONDS)
+                .recordStats()
+                .<Object, V>build();
+    }
+
+    public Row getIfPresent(Object cacheKey) {
+        return rows != null ? rows.getIfPresent(cacheKey) : null;
+    }
+
+    /**
+     * @return whether a recent load found no row for this primary key
+     */
+    public boolean isKnownMiss(Object cacheKey) {
+        return misses != null && misses.getIfPresent(cacheKey) != null;
+    }
+
+    /**
+     * @return token to provide to {@link #loaded(Object, com.datastax.driver.core.Row, long)} once the row is loaded
+     */
+    public long loadStarted() {
+        return invalidations.get();
+    }
+
+    public void loaded(Object cacheKey, Row row, long loadToken) {
+        final Cache<Object, ?> cache = row != null ? rows : misses;
+        if (cache != null && invalidations.get() == loadToken) {
+            if (row != null) {
+                rows.put(cacheKey, row);
+            } else {
+                misses.put(cacheKey, Boolean.TRUE);
+            }
+            // An invalidation may have happened between the check and the put
+            if (invalidations.get() != loadToken) {
+                cache.invalidate(cacheKey);
+            }
+        }
+    }
+
+    public void invalidate(Object cacheKey) {
+        invalidations.incrementAndGet();
+        if (rows != null) {
+            rows.invalidate(cacheKey);
+        }
+        if (misses != null) {
+            misses.invalidate(cacheKey);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        if (rows != null) {
+            rows.invalidateAll();
+        }
+        if (misses != null) {
+            misses.invalidateAll();
+        }
+    }
+
+    public long size() {
+        return rows != null ? rows.size() : 0;
+    }
+
+    public long missesSize() {
+        return misses != null ? misses.size() : 0;
+    }
+
+    public boolean hasRows() {
+        return rows != null;
+    }
+
+    public boolean hasMisses() {
+        return misses != null;
+    }
+
+    public CacheStats stats() {
+        return rows != null ? rows.stats() : NO_STATS;
+    }
+
+    public CacheStats missesStats() {
+        return misses != null ? misses.stats() : NO_STATS;
+    }
+}
@@ -18,24 +18,35 @@ package info.archinnov.achilles.internal.context;
 import static com.google.common.base.Optional.fromNullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.ResultSet;
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.cache.RowCache;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.BatchStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.Pair;
 
 public abstract class AbstractFlushContext {
+    private static final Logger log = LoggerFactory.getLogger(AbstractFlushContext.class);
+
     protected AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
     protected DaoContext daoContext;
 
     protected List<AbstractStatementWrapper> statementWrappers = new ArrayList<>();
     protected List<AbstractStatementWrapper> counterStatementWrappers = new ArrayList<>();
+    protected List<Pair<CounterKey, Long>> counterDeltas = new ArrayList<>();
 
     protected ConsistencyLevel consistencyLevel;
 		protected Optional<com.datastax.driver.core.ConsistencyLevel> serialConsistencyLevel = Optional.absent();
@@ -58,15 +69,22 @@ public abstract class AbstractFlushContext {
         if (statementWrappers.isEmpty()) {
             return null;
         }
+        return daoContext.execute(buildBatchStatement(batchType, statementWrappers));
+    }
+
+    protected ListenableFuture<ResultSet> executeBatch(BatchStatement.Type batchType, List<AbstractStatementWrapper> statementWrappers, ExecutorService callbackExecutor) {
+        if (statementWrappers.isEmpty()) {
+            return null;
+        }
+        return daoContext.execute(buildBatchStatement(batchType, statementWrappers), callbackExecutor);
+    }
 
-        final AbstractStatementWrapper batchStatement;
+    private AbstractStatementWrapper buildBatchStatement(BatchStatement.Type batchType, List<AbstractStatementWrapper> statementWrappers) {
         if (statementWrappers.size() == 1 && batchType != BatchStatement.Type.LOGGED) {
-            batchStatement = statementWrappers.get(0);
+            return statementWrappers.get(0);
         } else {
-            batchStatement = new BatchStatementWrapper(batchType, statementWrappers, fromNullable(consistencyLevel), serialConsistencyLevel);
+            return new BatchStatementWrapper(batchType, statementWrappers, fromNullable(consistencyLevel), serialConsistencyLevel);
         }
-
-        return daoContext.execute(batchStatement);
     }
 
     public void pushStatement(AbstractStatementWrapper statementWrapper) {
@@ -77,10 +95,42 @@ public abstract class AbstractFlushContext {
         counterStatementWrappers.add(statementWrapper);
     }
 
+    /**
+     * Hand a simple counter increment to the counter write-behind aggregation once the statements of this context
+     * are written. The increment is dropped if they fail or if the context is discarded without being flushed
+     */
+    public void aggregateCounterOnWrite(CounterKey counterKey, long delta) {
+        counterDeltas.add(Pair.create(counterKey, delta));
+    }
+
+    protected void aggregateCounterDeltasOnSuccess(ListenableFuture<?> writeFuture) {
+        if (counterDeltas.isEmpty()) {
+            return;
+        }
+        final List<Pair<CounterKey, Long>> deltas = counterDeltas;
+        Futures.addCallback(writeFuture, new FutureCallback<Object>() {
+            @Override
+            public void onSuccess(Object result) {
+                for (Pair<CounterKey, Long> delta : deltas) {
+                    daoContext.aggregateCounterDelta(delta.left, delta.right);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                log.warn("Drop {} simple counter increments since the statements pushed along with them failed", deltas.size());
+            }
+        });
+    }
+
     public ListenableFuture<ResultSet> execute(AbstractStatementWrapper statementWrapper) {
         return daoContext.execute(statementWrapper);
     }
 
+    public ListenableFuture<ResultSet> execute(AbstractStatementWrapper statementWrapper, ExecutorService callbackExecutor) {
+        return daoContext.execute(statementWrapper, callbackExecutor);
+    }
+
     public void setConsistencyLevel(ConsistencyLevel consistencyLevel) {
         this.consistencyLevel = consistencyLevel;
     }
@@ -89,9 +139,17 @@ public abstract class AbstractFlushContext {
         return consistencyLevel;
     }
 
+    /**
+     * Evict the cached row of an entity once the statements pushed for it are written
+     */
+    public abstract void invalidateRowCacheOnWrite(RowCache rowCache, Object cacheKey);
+
     public abstract void startBatch();
 
-    public abstract ListenableFuture<List<ResultSet>> flush();
+    /**
+     * @param callbackExecutor executor running the asynchronous post-processing of the flushed statements
+     */
+    public abstract ListenableFuture<List<ResultSet>> flush(ExecutorService callbackExecutor);
 
     public abstract ListenableFuture<Empty> flushBatch();
 
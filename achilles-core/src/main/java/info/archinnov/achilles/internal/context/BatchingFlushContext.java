@@ -20,9 +20,13 @@ import static com.datastax.driver.core.BatchStatement.Type.LOGGED;
 import static com.google.common.base.Predicates.isNull;
 import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.FluentIterable.from;
+import static com.google.common.util.concurrent.MoreExecutors.sameThreadExecutor;
 import static java.util.Arrays.asList;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.type.Empty;
@@ -34,15 +38,18 @@ import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.EmptyFutureResultSets;
+import info.archinnov.achilles.internal.cache.RowCache;
 import info.archinnov.achilles.internal.interceptor.EventHolder;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Pair;
 
 public class BatchingFlushContext extends AbstractFlushContext {
 
     private static final Logger log = LoggerFactory.getLogger(BatchingFlushContext.class);
     protected List<EventHolder> eventHolders = new ArrayList<>();
+    protected Set<Pair<RowCache, Object>> rowCacheInvalidations = new LinkedHashSet<>();
 
 
     public BatchingFlushContext(DaoContext daoContext, ConsistencyLevel consistencyLevel,
@@ -55,13 +62,18 @@ public class BatchingFlushContext extends AbstractFlushContext {
         super(daoContext, statementWrappers, consistencyLevel, serialConsistencyLevel);
     }
 
+    @Override
+    public void invalidateRowCacheOnWrite(RowCache rowCache, Object cacheKey) {
+        rowCacheInvalidations.add(Pair.<RowCache, Object>create(rowCache, cacheKey));
+    }
+
     @Override
     public void startBatch() {
         log.debug("Starting a new batch");
     }
 
     @Override
-    public ListenableFuture<List<ResultSet>> flush() {
+    public ListenableFuture<List<ResultSet>> flush(ExecutorService callbackExecutor) {
         log.debug("Flush called but do nothing. Flushing is done only at the end of the batch");
         return EmptyFutureResultSets.instance();
     }
@@ -85,6 +97,18 @@ public class BatchingFlushContext extends AbstractFlushContext {
         final List<ListenableFuture<ResultSet>> resultSetFutures = from(asList(resultSetFutureFields, resultSetFutureCounters)).filter(not(isNull())).toList();
 
         final ListenableFuture<List<ResultSet>> futureAsList = asyncUtils.mergeResultSetFutures(resultSetFutures);
+        // Evict once the batch is written, or failed, since reads done in the meantime may have cached the previous rows.
+        // Listeners run in order so the eviction and the counter aggregation happen before the triggers complete the returned future
+        final Set<Pair<RowCache, Object>> invalidations = rowCacheInvalidations;
+        futureAsList.addListener(new Runnable() {
+            @Override
+            public void run() {
+                for (Pair<RowCache, Object> invalidation : invalidations) {
+                    invalidation.left.invalidate(invalidation.right);
+                }
+            }
+        }, sameThreadExecutor());
+        aggregateCounterDeltasOnSuccess(futureAsList);
         final ListenableFuture<Empty> triggersApplied = asyncUtils.transformFuture(futureAsList, applyTriggers);
         return asyncUtils.buildInterruptible(triggersApplied);
     }
@@ -96,7 +120,10 @@ public class BatchingFlushContext extends AbstractFlushContext {
 
     @Override
     public BatchingFlushContext duplicate() {
-        return new BatchingFlushContext(daoContext, statementWrappers, consistencyLevel, serialConsistencyLevel);
+        final BatchingFlushContext duplicate = new BatchingFlushContext(daoContext, statementWrappers, consistencyLevel, serialConsistencyLevel);
+        duplicate.rowCacheInvalidations = rowCacheInvalidations;
+        duplicate.counterDeltas = counterDeltas;
+        return duplicate;
     }
 
     @Override
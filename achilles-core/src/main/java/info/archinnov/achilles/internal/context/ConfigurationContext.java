@@ -21,16 +21,31 @@ import java.util.concurrent.ExecutorService;
 import javax.validation.Validator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Optional;
+import info.archinnov.achilles.async.ExecutorMetrics;
+import info.archinnov.achilles.internal.async.BlockingCall;
+import info.archinnov.achilles.internal.async.BlockingCallExecutor;
+import info.archinnov.achilles.internal.async.InFlightLimiter;
+import info.archinnov.achilles.internal.async.StatementStatisticsRegistry;
+import info.archinnov.achilles.internal.async.CallbackThreads;
+import info.archinnov.achilles.internal.async.InstrumentedExecutorService;
 import info.archinnov.achilles.internal.interceptor.DefaultBeanValidationInterceptor;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.proxy.dirtycheck.EntitySnapshotRegistry;
 import info.archinnov.achilles.json.JacksonMapperFactory;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.ExecutionPolicy;
 import info.archinnov.achilles.type.InsertStrategy;
 import info.archinnov.achilles.type.NamingStrategy;
+import info.archinnov.achilles.type.Options;
 
 public class ConfigurationContext {
+
+    private static final ExecutorService DIRECT_EXECUTOR = CallbackThreads.DIRECT;
+
     private boolean forceColumnFamilyCreation;
 
+    private boolean parallelTableCreation;
+
     private boolean enableSchemaUpdate;
 
     private Map<String, Boolean> enableSchemaUpdateForTables;
@@ -62,6 +77,24 @@ public class ConfigurationContext {
 
      private ExecutorService executorService;
 
+    private InstrumentedExecutorService handoffExecutorService;
+
+    private ExecutionPolicy executionPolicy = ExecutionPolicy.EXECUTOR;
+
+    private boolean blockingCallerRuns;
+
+    private InFlightLimiter inFlightLimiter = InFlightLimiter.UNLIMITED;
+
+    private StatementStatisticsRegistry statementStatistics = StatementStatisticsRegistry.DISABLED;
+
+    private long counterFlushIntervalMillis;
+
+    private int counterFlushThreshold;
+
+    private int initializeMaxConcurrency = 64;
+
+    private EntitySnapshotRegistry snapshotRegistry;
+
     public boolean isForceColumnFamilyCreation() {
         return forceColumnFamilyCreation;
     }
@@ -70,6 +103,14 @@ public class ConfigurationContext {
         this.forceColumnFamilyCreation = forceColumnFamilyCreation;
     }
 
+    public boolean isParallelTableCreation() {
+        return parallelTableCreation;
+    }
+
+    public void setParallelTableCreation(boolean parallelTableCreation) {
+        this.parallelTableCreation = parallelTableCreation;
+    }
+
     public boolean isEnableSchemaUpdate() {
         return enableSchemaUpdate;
     }
@@ -156,8 +197,9 @@ public class ConfigurationContext {
 
     public void addBeanValidationInterceptor(EntityMeta meta) {
         if (beanValidationInterceptor == null) {
-            beanValidationInterceptor = new DefaultBeanValidationInterceptor(beanValidator);
+            beanValidationInterceptor = new DefaultBeanValidationInterceptor(beanValidator, snapshotRegistry);
         }
+        beanValidationInterceptor.addEntityMeta(meta);
         meta.forInterception().addInterceptor(beanValidationInterceptor);
     }
 
@@ -212,5 +254,127 @@ public class ConfigurationContext {
 
     public void setExecutorService(ExecutorService executorService) {
         this.executorService = executorService;
+        this.handoffExecutorService = new InstrumentedExecutorService(executorService);
+    }
+
+    /**
+     * @return the executor service wrapped to record hand-off metrics, whatever the execution policy
+     */
+    public ExecutorService getHandoffExecutor() {
+        return handoffExecutorService;
+    }
+
+    /**
+     * @return the executor running asynchronous post-processing for the global execution policy
+     */
+    public ExecutorService getCallbackExecutor() {
+        return getCallbackExecutor(executionPolicy);
+    }
+
+    /**
+     * @return the executor running asynchronous post-processing for the execution policy of the options if any,
+     * or the global execution policy
+     */
+    public ExecutorService getCallbackExecutor(Options options) {
+        return getCallbackExecutor(options.getExecutionPolicy().or(executionPolicy));
+    }
+
+    private ExecutorService getCallbackExecutor(ExecutionPolicy policy) {
+        return policy == ExecutionPolicy.DIRECT ? DIRECT_EXECUTOR : handoffExecutorService;
+    }
+
+    public ExecutorMetrics getExecutorMetrics() {
+        return handoffExecutorService;
+    }
+
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
+    /**
+     * @return a blocking call running its post-processing on the current thread if enabled,
+     * or just waiting for the result otherwise
+     */
+    public BlockingCallExecutor openBlockingCall() {
+        return BlockingCallExecutor.open(blockingCallerRuns);
+    }
+
+    /**
+     * Open a blocking call on the current thread, start the operation then wait for its result
+     *
+     * @param call asynchronous operation, started once the blocking call is open
+     * @return result of the operation
+     */
+    public <V> V awaitBlocking(BlockingCall<V> call) {
+        final BlockingCallExecutor blockingCall = openBlockingCall();
+        try {
+            return blockingCall.await(call.start());
+        } finally {
+            blockingCall.close();
+        }
+    }
+
+    public boolean isBlockingCallerRuns() {
+        return blockingCallerRuns;
+    }
+
+    public void setBlockingCallerRuns(boolean blockingCallerRuns) {
+        this.blockingCallerRuns = blockingCallerRuns;
+    }
+
+    public InFlightLimiter getInFlightLimiter() {
+        return inFlightLimiter;
+    }
+
+    public void setInFlightLimiter(InFlightLimiter inFlightLimiter) {
+        this.inFlightLimiter = inFlightLimiter;
+    }
+
+    public StatementStatisticsRegistry getStatementStatistics() {
+        return statementStatistics;
+    }
+
+    public void setStatementStatistics(StatementStatisticsRegistry statementStatistics) {
+        this.statementStatistics = statementStatistics;
+    }
+
+    public long getCounterFlushIntervalMillis() {
+        return counterFlushIntervalMillis;
+    }
+
+    public void setCounterFlushIntervalMillis(long counterFlushIntervalMillis) {
+        this.counterFlushIntervalMillis = counterFlushIntervalMillis;
+    }
+
+    public int getCounterFlushThreshold() {
+        return counterFlushThreshold;
+    }
+
+    public void setCounterFlushThreshold(int counterFlushThreshold) {
+        this.counterFlushThreshold = counterFlushThreshold;
+    }
+
+    public int getInitializeMaxConcurrency() {
+        return initializeMaxConcurrency;
+    }
+
+    public void setInitializeMaxConcurrency(int initializeMaxConcurrency) {
+        this.initializeMaxConcurrency = initializeMaxConcurrency;
+    }
+
+    public boolean isSnapshotDirtyChecking() {
+        return snapshotRegistry != null;
+    }
+
+    public void setSnapshotDirtyChecking(boolean snapshotDirtyChecking) {
+        this.snapshotRegistry = snapshotDirtyChecking ? new EntitySnapshotRegistry() : null;
+    }
+
+    public EntitySnapshotRegistry getSnapshotRegistry() {
+        return snapshotRegistry;
     }
 }
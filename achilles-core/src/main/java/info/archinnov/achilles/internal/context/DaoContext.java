@@ -19,12 +19,18 @@ import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.DECR;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.DELETE;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.INCR;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.SELECT;
+import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.SELECT_ENTITY;
+import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_PROPERTY_NAME;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_VALUE;
 import static info.archinnov.achilles.counter.AchillesCounter.ClusteredCounterStatement.DELETE_ALL;
 import static info.archinnov.achilles.counter.AchillesCounter.ClusteredCounterStatement.SELECT_ALL;
+import static info.archinnov.achilles.internal.async.BlockingCallExecutor.currentOr;
 import static info.archinnov.achilles.internal.consistency.ConsistencyConverter.getCQLLevel;
 import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.REMOVE_FROM_LIST_AT_INDEX;
 import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.SET_TO_LIST_AT_INDEX;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -32,8 +38,10 @@ import java.util.concurrent.ExecutorService;
 import info.archinnov.achilles.listener.LWTResultListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
@@ -43,11 +51,19 @@ import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
 import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.async.InFlightLimiter;
+import info.archinnov.achilles.internal.async.StatementStatisticsRegistry;
+import info.archinnov.achilles.internal.cache.RowCache;
 import info.archinnov.achilles.internal.consistency.ConsistencyOverrider;
 import info.archinnov.achilles.internal.context.facade.DaoOperations;
+import info.archinnov.achilles.internal.counter.CounterAggregator;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType;
@@ -57,6 +73,7 @@ import info.archinnov.achilles.internal.statement.cache.CacheManager;
 import info.archinnov.achilles.internal.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.internal.statement.prepared.PreparedStatementBinder;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
+import info.archinnov.achilles.internal.statement.wrapper.BatchStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.RegularStatementWrapper;
 import info.archinnov.achilles.query.slice.SliceQueryProperties;
@@ -66,6 +83,8 @@ import info.archinnov.achilles.type.Pair;
 public class DaoContext {
     private static final Logger log = LoggerFactory.getLogger(DaoContext.class);
 
+    static final int COUNTER_FLUSH_BATCH_SIZE = 100;
+
     protected  Cache<StatementCacheKey, PreparedStatement> dynamicPSCache;
 
     protected  Map<Class<?>, PreparedStatement> selectPSs;
@@ -88,6 +107,16 @@ public class DaoContext {
 
     protected  ExecutorService executorService;
 
+    protected  ExecutorService handoffExecutorService;
+
+    protected InFlightLimiter inFlightLimiter = InFlightLimiter.UNLIMITED;
+
+    protected StatementStatisticsRegistry statementStatistics = StatementStatisticsRegistry.DISABLED;
+
+    protected Map<Class<?>, RowCache> rowCaches = ImmutableMap.of();
+
+    protected CounterAggregator counterAggregator = CounterAggregator.DISABLED;
+
 
     protected static final Function<ResultSet, Row> RESULTSET_TO_ROW = new Function<ResultSet, Row>() {
         @Override
@@ -101,6 +130,19 @@ public class DaoContext {
         }
     };
 
+    protected static final Function<ResultSet, Map<String, Long>> RESULTSET_TO_COUNTERS = new Function<ResultSet, Map<String, Long>>() {
+        @Override
+        public Map<String, Long> apply(ResultSet resultSet) {
+            final Map<String, Long> counters = new HashMap<>();
+            for (Row row : resultSet) {
+                if (!row.isNull(ACHILLES_COUNTER_VALUE)) {
+                    counters.put(row.getString(ACHILLES_COUNTER_PROPERTY_NAME), row.getLong(ACHILLES_COUNTER_VALUE));
+                }
+            }
+            return counters;
+        }
+    };
+
     protected ExecutorService getExecutorService() {
         return executorService;
     }
@@ -110,6 +152,7 @@ public class DaoContext {
 
         PreparedStatement ps = cacheManager.getCacheForEntityInsert(session, dynamicPSCache, context, pms);
         BoundStatementWrapper bsWrapper = binder.bindForInsert(context, ps, pms);
+        invalidateRowCache(context);
         context.pushStatement(bsWrapper);
     }
 
@@ -118,6 +161,7 @@ public class DaoContext {
 
         PreparedStatement ps = cacheManager.getCacheForFieldsUpdate(session, dynamicPSCache, context, pms);
         BoundStatementWrapper bsWrapper = binder.bindForUpdate(context, ps, pms);
+        invalidateRowCache(context);
         context.pushStatement(bsWrapper);
     }
 
@@ -125,6 +169,7 @@ public class DaoContext {
 
         final CollectionAndMapChangeType changeType = changeSet.getChangeType();
         final PropertyMeta propertyMeta = changeSet.getPropertyMeta();
+        invalidateRowCache(context);
 
         if (log.isDebugEnabled()) {
             log.debug("Push update statement for PersistenceContext '{}' and collection/map property '{}' for change type '{}'", context, propertyMeta, changeType);
@@ -156,18 +201,114 @@ public class DaoContext {
         final PreparedStatement preparedStatement = cacheManager.getCacheForDeletion(session, dynamicPSCache, context);
         ConsistencyLevel consistencyLevel = overrider.getWriteLevel(context);
         BoundStatementWrapper bsWrapper = binder.bindForDeletion(context, preparedStatement, entityMeta.structure().hasOnlyStaticColumns(), consistencyLevel);
+        invalidateRowCache(context);
         context.pushStatement(bsWrapper);
     }
 
     // Simple counter
     public void bindForSimpleCounterIncrement(DaoOperations context, PropertyMeta counterMeta, Long increment) {
         log.debug("Push simple counter increment statement for PersistenceContext '{}' and value '{}'", context, increment);
-        PreparedStatement ps = counterQueryMap.get(INCR);
         ConsistencyLevel writeLevel = overrider.getWriteLevel(context, counterMeta);
+        if (counterAggregator.isEnabled()) {
+            final String primaryKey = context.getIdMeta().forTranscoding().forceEncodeToJSONForCounter(context.getPrimaryKey());
+            final CounterKey counterKey = new CounterKey(context.getEntityMeta().getClassName(), primaryKey, counterMeta.getCQLColumnName(), writeLevel);
+            context.aggregateCounterOnWrite(counterKey, increment);
+            return;
+        }
+        PreparedStatement ps = counterQueryMap.get(INCR);
         BoundStatementWrapper bsWrapper = binder.bindForSimpleCounterIncrementDecrement(context, ps, counterMeta, increment, writeLevel);
         context.pushCounterStatement(bsWrapper);
     }
 
+    /**
+     * Add a simple counter increment to the counter write-behind aggregation, once the statements pushed along with it
+     * are written
+     */
+    public void aggregateCounterDelta(CounterKey counterKey, long delta) {
+        if (!counterAggregator.add(counterKey, delta)) {
+            // The write-behind is shut down and its last flush may be over, send the increment right away
+            log.debug("Counter write-behind stopped, send the increment of {} immediately", counterKey);
+            final List<AbstractStatementWrapper> statements = new ArrayList<>(1);
+            statements.add(bindCounterDelta(counterQueryMap.get(INCR), counterKey, delta));
+            executeCounterBatch(counterKey.getConsistencyLevel(), statements);
+        }
+    }
+
+    /**
+     * Send the simple counter increments aggregated by the counter write-behind mode, in counter batches of at most
+     * {@link #COUNTER_FLUSH_BATCH_SIZE} statements
+     */
+    public ListenableFuture<List<ResultSet>> flushCounterDeltas() {
+        final Map<CounterKey, Long> deltas = counterAggregator.drain();
+        final List<ListenableFuture<ResultSet>> batchFutures = new ArrayList<>();
+        if (!deltas.isEmpty()) {
+            log.debug("Flush {} aggregated simple counter increments", deltas.size());
+            final PreparedStatement ps = counterQueryMap.get(INCR);
+            final Map<ConsistencyLevel, List<AbstractStatementWrapper>> batches = new EnumMap<>(ConsistencyLevel.class);
+            for (Map.Entry<CounterKey, Long> entry : deltas.entrySet()) {
+                final ConsistencyLevel writeLevel = entry.getKey().getConsistencyLevel();
+                List<AbstractStatementWrapper> batch = batches.get(writeLevel);
+                if (batch == null) {
+                    batch = new ArrayList<>(COUNTER_FLUSH_BATCH_SIZE);
+                    batches.put(writeLevel, batch);
+                }
+                batch.add(bindCounterDelta(ps, entry.getKey(), entry.getValue()));
+                if (batch.size() == COUNTER_FLUSH_BATCH_SIZE) {
+                    batchFutures.add(executeCounterBatch(writeLevel, batch));
+                    batches.remove(writeLevel);
+                }
+            }
+            for (Map.Entry<ConsistencyLevel, List<AbstractStatementWrapper>> entry : batches.entrySet()) {
+                batchFutures.add(executeCounterBatch(entry.getKey(), entry.getValue()));
+            }
+        }
+        return Futures.successfulAsList(batchFutures);
+    }
+
+    private ListenableFuture<ResultSet> executeCounterBatch(ConsistencyLevel writeLevel, final List<AbstractStatementWrapper> statements) {
+        final BatchStatementWrapper batchWrapper = new BatchStatementWrapper(BatchStatement.Type.COUNTER, statements,
+                Optional.of(writeLevel), Optional.<com.datastax.driver.core.ConsistencyLevel>absent());
+        final ListenableFuture<ResultSet> future = execute(batchWrapper);
+        Futures.addCallback(future, new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet result) {
+                counterAggregator.flushed(statements.size());
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                counterAggregator.flushFailed(statements.size(), throwable);
+            }
+        });
+        return future;
+    }
+
+    private BoundStatementWrapper bindCounterDelta(PreparedStatement ps, CounterKey counterKey, long delta) {
+        final Object[] boundValues = counterKey.getBoundValues(delta);
+        return new BoundStatementWrapper(null, bindSupplier(ps, boundValues), boundValues, getCQLLevel(counterKey.getConsistencyLevel()),
+                Optional.<LWTResultListener>absent(), Optional.<com.datastax.driver.core.ConsistencyLevel>absent());
+    }
+
+    private Supplier<BoundStatement> bindSupplier(final PreparedStatement ps, final Object[] boundValues) {
+        return new Supplier<BoundStatement>() {
+            @Override
+            public BoundStatement get() {
+                return ps.bind(boundValues);
+            }
+        };
+    }
+
+    /**
+     * Stop the counter write-behind mode then flush the pending increments, waiting for the flush to complete.
+     * Increments handed over afterwards are sent one by one
+     */
+    public void shutDownCounterAggregation() {
+        if (counterAggregator.isEnabled()) {
+            counterAggregator.stop();
+            asyncUtils.buildInterruptible(flushCounterDeltas()).getImmediately();
+        }
+    }
+
     public ListenableFuture<ResultSet> incrementSimpleCounter(DaoOperations context, PropertyMeta counterMeta, Long increment, ConsistencyLevel consistencyLevel) {
         log.debug("Increment immediately simple counter for PersistenceContext '{}' and value '{}'", context, increment);
         PreparedStatement ps = counterQueryMap.get(INCR);
@@ -194,6 +335,19 @@ public class DaoContext {
         return rowToLongFunction(ACHILLES_COUNTER_VALUE).apply(row);
     }
 
+    /**
+     * Read all the simple counters of the entity with one query on its <em>achilles_counter_table</em> partition
+     *
+     * @return future of the counter values by CQL column name. Counters never incremented are missing
+     */
+    public ListenableFuture<Map<String, Long>> getSimpleCounters(DaoOperations context, ConsistencyLevel consistencyLevel) {
+        log.debug("Get all simple counter values for PersistenceContext '{}' using Consistency level '{}'", context, consistencyLevel);
+        PreparedStatement ps = counterQueryMap.get(SELECT_ENTITY);
+        BoundStatementWrapper bsWrapper = binder.bindForSimpleCountersSelect(context, ps, consistencyLevel);
+        final ListenableFuture<ResultSet> resultSetFuture = context.executeImmediate(bsWrapper);
+        return asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_COUNTERS);
+    }
+
     public void bindForSimpleCounterDelete(DaoOperations context, PropertyMeta counterMeta) {
         log.debug("Push simple counter deletion statement for counterMeta '{}' and PersistenceContext '{}'", counterMeta, context);
         PreparedStatement ps = counterQueryMap.get(DELETE);
@@ -245,6 +399,13 @@ public class DaoContext {
     }
 
     public ListenableFuture<Row> loadEntity(DaoOperations context) {
+        return loadEntity(context, false);
+    }
+
+    /**
+     * @param bypassRowCache read the row from Cassandra even if the entity class has a near cache or a negative cache
+     */
+    public ListenableFuture<Row> loadEntity(DaoOperations context, boolean bypassRowCache) {
         log.debug("Load entity for PersistenceContext '{}'", context);
 
         Class<?> entityClass = context.getEntityClass();
@@ -252,16 +413,78 @@ public class DaoContext {
 
 		final EntityMeta entityMeta = context.getEntityMeta();
 
+        final RowCache rowCache = rowCaches.get(entityClass);
+        // An explicit consistency level asks for a fresh read
+        if (rowCache != null && !bypassRowCache && !context.getConsistencyLevel().isPresent()) {
+            final Object cacheKey = rowCacheKey(context);
+            final Row cachedRow = rowCache.getIfPresent(cacheKey);
+            if (cachedRow != null || rowCache.isKnownMiss(cacheKey)) {
+                return Futures.immediateFuture(cachedRow);
+            }
+            final long loadToken = rowCache.loadStarted();
+            final ListenableFuture<ResultSet> resultSetFuture = executeReadWithConsistency(context, ps, entityMeta.structure().hasOnlyStaticColumns());
+            return asyncUtils.transformFuture(resultSetFuture, new Function<ResultSet, Row>() {
+                @Override
+                public Row apply(ResultSet resultSet) {
+                    final Row row = RESULTSET_TO_ROW.apply(resultSet);
+                    rowCache.loaded(cacheKey, row, loadToken);
+                    return row;
+                }
+            });
+        }
+
         final ListenableFuture<ResultSet> resultSetFuture = executeReadWithConsistency(context, ps, entityMeta.structure().hasOnlyStaticColumns());
         return asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ROW);
     }
 
+    /**
+     * Load only the columns of the projection. The near cache is bypassed since it holds full rows
+     */
+    public ListenableFuture<Row> loadProjection(DaoOperations context, List<PropertyMeta> projection) {
+        log.debug("Load projection {} for PersistenceContext '{}'", projection, context);
+
+        final PreparedStatement ps = cacheManager.getCacheForProjectionSelect(session, dynamicPSCache, context, projection);
+        final ListenableFuture<ResultSet> resultSetFuture = executeReadWithConsistency(context, ps, context.getEntityMeta().structure().hasOnlyStaticColumns());
+        return asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ROW);
+    }
+
+    /**
+     * SELECT of the rows of the entity table within a token range, or above a token when the range is not upper bounded
+     */
+    public PreparedStatement getTokenRangeSelect(EntityMeta entityMeta, boolean upperBounded) {
+        return cacheManager.getCacheForTokenRangeSelect(session, dynamicPSCache, entityMeta, upperBounded);
+    }
+
+    /**
+     * Evict the cached row or miss of the entity, if its entity class has a near cache or a negative cache.
+     * The eviction happens right away with an immediate flush, and once the batch is written within a batch
+     */
+    public void invalidateRowCache(DaoOperations context) {
+        final RowCache rowCache = rowCaches.get(context.getEntityClass());
+        if (rowCache != null) {
+            context.invalidateRowCacheOnWrite(rowCache, rowCacheKey(context));
+        }
+    }
+
+    private Object rowCacheKey(DaoOperations context) {
+        // Compound primary key classes do not necessarily implement equals()/hashCode(), use their components instead
+        final PropertyMeta idMeta = context.getIdMeta();
+        if (idMeta.structure().isCompoundPK()) {
+            return idMeta.forTranscoding().encodeToComponents(context.getPrimaryKey(), false);
+        }
+        return context.getPrimaryKey();
+    }
+
     public BoundStatementWrapper bindForSliceQuerySelect(SliceQueryProperties<?> sliceQueryProperties) {
         final PreparedStatement ps = cacheManager.getCacheForSliceSelectAndIterator(session, dynamicPSCache, sliceQueryProperties);
         return buildBSForSliceQuery(sliceQueryProperties, sliceQueryProperties.getReadConsistencyLevel(), ps);
     }
 
     public BoundStatementWrapper bindForSliceQueryDelete(SliceQueryProperties<?> sliceQueryProperties) {
+        final RowCache rowCache = rowCaches.get(sliceQueryProperties.getEntityClass());
+        if (rowCache != null) {
+            rowCache.invalidateAll();
+        }
         final PreparedStatement ps = cacheManager.getCacheForSliceDelete(session, dynamicPSCache, sliceQueryProperties);
         return buildBSForSliceQuery(sliceQueryProperties, sliceQueryProperties.getWriteConsistencyLevel(), ps);
     }
@@ -273,6 +496,7 @@ public class DaoContext {
             public BoundStatement get() {
                 BoundStatement bs = ps.bind(boundValues);
                 sliceQueryProperties.setFetchSizeToStatement(bs);
+                sliceQueryProperties.setPagingStateToStatement(bs);
                 return bs;
             }
         };
@@ -288,8 +512,31 @@ public class DaoContext {
     }
 
 
-    public ListenableFuture<ResultSet> execute(AbstractStatementWrapper statementWrapper) {
-        return statementWrapper.executeAsync(session, executorService);
+    public ListenableFuture<ResultSet> execute(final AbstractStatementWrapper statementWrapper) {
+        return execute(statementWrapper, executorService);
+    }
+
+    /**
+     * Execute the statement, running its asynchronous post-processing on the provided executor, which reflects
+     * the execution policy of the operation
+     */
+    public ListenableFuture<ResultSet> execute(final AbstractStatementWrapper statementWrapper, ExecutorService operationExecutor) {
+        // Query tracing fetches trace events synchronously, never run it on a driver I/O thread
+        final ExecutorService callbackExecutor = currentOr(statementWrapper.isTracingEnabled() ? handoffExecutorService : operationExecutor);
+        return inFlightLimiter.submit(statementWrapper.getEntityClass(), statementStatistics.instrument(statementWrapper, new Supplier<ListenableFuture<ResultSet>>() {
+            @Override
+            public ListenableFuture<ResultSet> get() {
+                return statementWrapper.executeAsync(session, callbackExecutor);
+            }
+        }));
+    }
+
+    /**
+     * Execute a statement whose result set may span several pages. Reading such a result set fetches the next pages
+     * synchronously, so its post-processing always hands off to the executor service, whatever the execution policy
+     */
+    public ListenableFuture<ResultSet> executePaged(final AbstractStatementWrapper statementWrapper) {
+        return execute(statementWrapper, handoffExecutorService);
     }
 
     public PreparedStatement prepare(RegularStatement statement) {
@@ -313,6 +560,13 @@ public class DaoContext {
         return session;
     }
 
+    /**
+     * @return the native protocol version negotiated by the session
+     */
+    public ProtocolVersion getProtocolVersion() {
+        return session.getCluster().getConfiguration().getProtocolOptions().getProtocolVersionEnum();
+    }
+
     void setDynamicPSCache(Cache<StatementCacheKey, PreparedStatement> dynamicPSCache) {
         this.dynamicPSCache = dynamicPSCache;
     }
@@ -341,4 +595,36 @@ public class DaoContext {
     void setExecutorService(ExecutorService executorService) {
         this.executorService = executorService;
     }
+
+    void setHandoffExecutorService(ExecutorService handoffExecutorService) {
+        this.handoffExecutorService = handoffExecutorService;
+    }
+
+    void setInFlightLimiter(InFlightLimiter inFlightLimiter) {
+        this.inFlightLimiter = inFlightLimiter;
+    }
+
+    void setStatementStatistics(StatementStatisticsRegistry statementStatistics) {
+        this.statementStatistics = statementStatistics;
+    }
+
+    public StatementStatisticsRegistry getStatementStatistics() {
+        return statementStatistics;
+    }
+
+    void setRowCaches(Map<Class<?>, RowCache> rowCaches) {
+        this.rowCaches = rowCaches;
+    }
+
+    public Map<Class<?>, RowCache> getRowCaches() {
+        return rowCaches;
+    }
+
+    void setCounterAggregator(CounterAggregator counterAggregator) {
+        this.counterAggregator = counterAggregator;
+    }
+
+    public CounterAggregator getCounterAggregator() {
+        return counterAggregator;
+    }
 }
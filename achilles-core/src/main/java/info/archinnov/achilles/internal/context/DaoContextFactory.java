@@ -31,6 +31,8 @@ import com.google.common.base.Function;
 import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableMap;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
+import info.archinnov.achilles.internal.cache.RowCache;
+import info.archinnov.achilles.internal.counter.CounterAggregator;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.parsing.context.ParsingResult;
 import info.archinnov.achilles.internal.statement.cache.CacheManager;
@@ -73,11 +75,42 @@ public class DaoContextFactory {
         daoContext.setClusteredCounterQueryMap(clusteredCounterQueriesMap);
         daoContext.setSession(session);
         daoContext.setCacheManager(new CacheManager(configContext.getPreparedStatementLRUCacheSize()));
-        daoContext.setExecutorService(configContext.getExecutorService());
+        daoContext.setExecutorService(configContext.getCallbackExecutor());
+        daoContext.setHandoffExecutorService(configContext.getHandoffExecutor());
+        daoContext.setInFlightLimiter(configContext.getInFlightLimiter());
+        daoContext.setStatementStatistics(configContext.getStatementStatistics());
+        daoContext.setRowCaches(createRowCaches(metaMap));
+
+        if (parsingResult.hasSimpleCounter() && configContext.getCounterFlushIntervalMillis() > 0) {
+            startCounterAggregation(daoContext, configContext);
+        }
 
         return daoContext;
     }
 
+    Map<Class<?>, RowCache> createRowCaches(Map<Class<?>, EntityMeta> metaMap) {
+        final Map<Class<?>, RowCache> rowCaches = new HashMap<>();
+        for (EntityMeta meta : metaMap.values()) {
+            if (meta.config().isNearCacheEnabled() || meta.config().isNegativeCacheEnabled()) {
+                log.info("Enable near cache for entity class {}", meta.getClassName());
+                rowCaches.put(meta.getEntityClass(), new RowCache(meta.config().getNearCache(), meta.config().getNegativeCache()));
+            }
+        }
+        return ImmutableMap.copyOf(rowCaches);
+    }
+
+    void startCounterAggregation(final DaoContext daoContext, ConfigurationContext configContext) {
+        final CounterAggregator counterAggregator = new CounterAggregator(configContext.getCounterFlushIntervalMillis(),
+                configContext.getCounterFlushThreshold());
+        daoContext.setCounterAggregator(counterAggregator);
+        counterAggregator.start(new Runnable() {
+            @Override
+            public void run() {
+                daoContext.flushCounterDeltas();
+            }
+        });
+    }
+
     Function<EntityMeta, PreparedStatement> getSelectPSTransformer(final Session session) {
         return new Function<EntityMeta, PreparedStatement>() {
             @Override
@@ -22,6 +22,7 @@ import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.FluentIterable.from;
 import static java.util.Arrays.asList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import info.archinnov.achilles.type.Empty;
 import org.slf4j.Logger;
@@ -30,6 +31,7 @@ import com.datastax.driver.core.ResultSet;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.interceptor.Event;
+import info.archinnov.achilles.internal.cache.RowCache;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -46,6 +48,12 @@ public class ImmediateFlushContext extends AbstractFlushContext {
         super(daoContext, statementWrappers, consistencyLevel, serialConsistencyLevel);
     }
 
+    @Override
+    public void invalidateRowCacheOnWrite(RowCache rowCache, Object cacheKey) {
+        // Evict right away, the entity context evicts again once the write completes to catch racing reads
+        rowCache.invalidate(cacheKey);
+    }
+
     @Override
     public void startBatch() {
         throw new UnsupportedOperationException("Cannot start a batch with a normal PersistenceManager. Please create a Batch instead");
@@ -57,14 +65,16 @@ public class ImmediateFlushContext extends AbstractFlushContext {
     }
 
     @Override
-    public ListenableFuture<List<ResultSet>> flush() {
+    public ListenableFuture<List<ResultSet>> flush(ExecutorService callbackExecutor) {
         log.debug("Flush immediately all pending statements");
 
-        final ListenableFuture<ResultSet> resultSetFutureFields = executeBatch(UNLOGGED, statementWrappers);
-        final ListenableFuture<ResultSet> resultSetFutureCounters = executeBatch(COUNTER, counterStatementWrappers);
+        final ListenableFuture<ResultSet> resultSetFutureFields = executeBatch(UNLOGGED, statementWrappers, callbackExecutor);
+        final ListenableFuture<ResultSet> resultSetFutureCounters = executeBatch(COUNTER, counterStatementWrappers, callbackExecutor);
         final List<ListenableFuture<ResultSet>> resultSetFutures = from(asList(resultSetFutureFields, resultSetFutureCounters)).filter(not(isNull())).toList();
 
-        return asyncUtils.mergeResultSetFutures(resultSetFutures);
+        final ListenableFuture<List<ResultSet>> futureAsList = asyncUtils.mergeResultSetFutures(resultSetFutures);
+        aggregateCounterDeltasOnSuccess(futureAsList);
+        return futureAsList;
     }
 
     @Override
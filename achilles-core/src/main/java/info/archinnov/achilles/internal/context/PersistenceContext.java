@@ -42,6 +42,8 @@ import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.internal.async.ImmediateValue;
+import info.archinnov.achilles.internal.cache.RowCache;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
 import info.archinnov.achilles.internal.consistency.ConsistencyOverrider;
 import info.archinnov.achilles.internal.context.facade.DaoOperations;
 import info.archinnov.achilles.internal.context.facade.EntityOperations;
@@ -246,8 +248,8 @@ public class PersistenceContext {
             return options.getLWTResultListener();
         }
 
-        public Set<Method> getAllGettersExceptCounters() {
-            return new HashSet<>(from(entityMeta.getAllMetasExceptCounters()).transform(metaToGetter).toList());
+        public Set<Method> getAllEagerGettersExceptCounters() {
+            return new HashSet<>(from(entityMeta.getAllEagerMetasExceptCounters()).transform(metaToGetter).toList());
         }
 
         public Set<Method> getAllGetters() {
@@ -263,7 +265,7 @@ public class PersistenceContext {
         }
 
         public ExecutorService getExecutorService() {
-            return configContext.getExecutorService();
+            return configContext.getCallbackExecutor(options);
         }
     }
 
@@ -279,6 +281,8 @@ public class PersistenceContext {
             Function<List<ResultSet>, T> applyTriggers = new Function<List<ResultSet>, T>() {
                 @Override
                 public T apply(List<ResultSet> input) {
+                    // Evict again the row possibly cached by a read which raced with the write
+                    daoContext.invalidateRowCache(daoFacade);
                     flushContext.triggerInterceptor(entityMeta, rawEntity, POST_INSERT);
                     return rawEntity;
                 }
@@ -291,11 +295,11 @@ public class PersistenceContext {
                 }
             };
 
-            final ListenableFuture<T> triggersApplied = asyncUtils.transformFuture(resultSetFutures, applyTriggers, getExecutorService());
-
-            asyncUtils.maybeAddAsyncListeners(triggersApplied, options);
-
-            final ListenableFuture<T> proxyCreated = asyncUtils.transformFuture(triggersApplied, createProxy);
+            final ListenableFuture<T> proxyCreated = asyncUtils.pipeline(resultSetFutures)
+                    .then(applyTriggers)
+                    .notify(options)
+                    .then(createProxy)
+                    .build(getExecutorService());
 
             return asyncUtils.buildInterruptible(proxyCreated);
         }
@@ -316,13 +320,20 @@ public class PersistenceContext {
             Function<List<ResultSet>, T> applyTriggers = new Function<List<ResultSet>, T>() {
                 @Override
                 public T apply(List<ResultSet> input) {
+                    daoContext.invalidateRowCache(daoFacade);
                     flushContext.triggerInterceptor(entityMeta, proxy, POST_UPDATE);
-                    proxifier.getInterceptor(proxy).getDirtyMap().clear();
+                    if (proxifier.isProxy(proxy)) {
+                        proxifier.getInterceptor(proxy).getDirtyMap().clear();
+                    } else {
+                        configContext.getSnapshotRegistry().register(proxy, entityMeta);
+                    }
                     return proxy;
                 }
             };
-            final ListenableFuture<T> triggersApplied = asyncUtils.transformFuture(resultSetFutures, applyTriggers, getExecutorService());
-            asyncUtils.maybeAddAsyncListeners(triggersApplied, options);
+            final ListenableFuture<T> triggersApplied = asyncUtils.pipeline(resultSetFutures)
+                    .then(applyTriggers)
+                    .notify(options)
+                    .build(getExecutorService());
             return asyncUtils.buildInterruptible(triggersApplied);
         }
 
@@ -333,12 +344,15 @@ public class PersistenceContext {
             Function<List<ResultSet>, T> applyTriggers = new Function<List<ResultSet>, T>() {
                 @Override
                 public T apply(List<ResultSet> input) {
+                    daoContext.invalidateRowCache(daoFacade);
                     flushContext.triggerInterceptor(entityMeta, entity, POST_DELETE);
                     return (T) entity;
                 }
             };
-            final ListenableFuture<T> triggersApplied = asyncUtils.transformFuture(resultSetFutures, applyTriggers, getExecutorService());
-            asyncUtils.maybeAddAsyncListeners(triggersApplied, options);
+            final ListenableFuture<T> triggersApplied = asyncUtils.pipeline(resultSetFutures)
+                    .then(applyTriggers)
+                    .notify(options)
+                    .build(getExecutorService());
             return asyncUtils.buildInterruptible(triggersApplied);
         }
 
@@ -348,43 +362,61 @@ public class PersistenceContext {
             Function<List<ResultSet>, Empty> toEmpty = new Function<List<ResultSet>, Empty>() {
                 @Override
                 public Empty apply(List<ResultSet> input) {
+                    daoContext.invalidateRowCache(daoFacade);
                     return Empty.INSTANCE;
                 }
             };
-            final ListenableFuture<Empty> triggersApplied = asyncUtils.transformFuture(resultSetFutures, toEmpty, getExecutorService());
-            asyncUtils.maybeAddAsyncListeners(triggersApplied, options);
+            final ListenableFuture<Empty> triggersApplied = asyncUtils.pipeline(resultSetFutures)
+                    .then(toEmpty)
+                    .notify(options)
+                    .build(getExecutorService());
             return asyncUtils.buildInterruptible(triggersApplied);
         }
 
         public <T> AchillesFuture<T> find(Class<T> entityClass) {
             final AchillesFuture<T> achillesFuture = loader.load(entityFacade, entityClass);
 
-            Function<T, T> applyTrigger = new Function<T, T>() {
+            Function<T, T> createProxy = new Function<T, T>() {
                 @Override
                 public T apply(T rawEntity) {
-                    if (rawEntity != null) {
-                        flushContext.triggerInterceptor(entityMeta, rawEntity, POST_LOAD);
+                    if (entityMeta.structure().isClusteredCounter()) {
+                        return proxifier.buildProxyWithAllFieldsLoaded(rawEntity, entityFacade);
+                    } else {
+                        return proxifier.buildProxyWithAllFieldsLoadedExceptCounters(rawEntity, entityFacade);
                     }
-                    return rawEntity;
                 }
             };
+            return applyTriggersAndProxify(achillesFuture, createProxy);
+        }
 
-            final ListenableFuture<T> triggersApplied = asyncUtils.transformFuture(achillesFuture, applyTrigger);
-
-            asyncUtils.maybeAddAsyncListeners(triggersApplied, options);
+        public <T> AchillesFuture<T> findProjection(Class<T> entityClass, final List<PropertyMeta> projection) {
+            final AchillesFuture<T> achillesFuture = loader.loadProjection(entityFacade, entityClass, projection);
 
             Function<T, T> createProxy = new Function<T, T>() {
                 @Override
                 public T apply(T rawEntity) {
-                    if (entityMeta.structure().isClusteredCounter()) {
-                        return proxifier.buildProxyWithAllFieldsLoaded(rawEntity, entityFacade);
-                    } else {
-                        return proxifier.buildProxyWithAllFieldsLoadedExceptCounters(rawEntity, entityFacade);
+                    return rawEntity != null ? proxifier.buildProxyWithFieldsLoaded(rawEntity, entityFacade, projection) : null;
+                }
+            };
+            return applyTriggersAndProxify(achillesFuture, createProxy);
+        }
+
+        private <T> AchillesFuture<T> applyTriggersAndProxify(AchillesFuture<T> achillesFuture, Function<T, T> createProxy) {
+            Function<T, T> applyTrigger = new Function<T, T>() {
+                @Override
+                public T apply(T rawEntity) {
+                    if (rawEntity != null) {
+                        flushContext.triggerInterceptor(entityMeta, rawEntity, POST_LOAD);
                     }
+                    return rawEntity;
                 }
             };
 
-            final ListenableFuture<T> proxyCreated = asyncUtils.transformFuture(triggersApplied, createProxy);
+            final ListenableFuture<T> proxyCreated = asyncUtils.pipeline(achillesFuture)
+                    .then(applyTrigger)
+                    .notify(options)
+                    .then(createProxy)
+                    .build();
             return asyncUtils.buildInterruptible(proxyCreated);
         }
 
@@ -426,26 +458,42 @@ public class PersistenceContext {
         }
 
         public <T> T initialize(T proxy) {
-            initializer.initializeEntity(proxy, entityMeta);
+            if (proxifier.isProxy(proxy)) {
+                initializer.initializeEntity(proxy, entityMeta);
+            } else {
+                // Without proxy, the counters and @Lazy properties cannot be lazy loaded by their getter
+                initializer.initializeCounters(entityFacade, proxy);
+                initializer.initializeLazyProperties(entityFacade, proxy);
+            }
             return proxy;
         }
 
         public <T> List<T> initialize(List<T> entities) {
-            for (T entity : entities) {
-                initialize(entity);
-            }
+            initializer.initializeEntities(entities, configContext, entityOperationsProvider());
             return entities;
         }
 
         public <T> Set<T> initialize(Set<T> entities) {
-            for (T entity : entities) {
-                initialize(entity);
-            }
+            initializer.initializeEntities(entities, configContext, entityOperationsProvider());
             return entities;
         }
 
+        private Function<Object, EntityOperations> entityOperationsProvider() {
+            return new Function<Object, EntityOperations>() {
+                @Override
+                public EntityOperations apply(Object other) {
+                    if (other == entity) {
+                        return entityFacade;
+                    }
+                    Validator.validateTrue(entityClass.equals(proxifier.deriveBaseClass(other)),
+                            "Cannot initialize the entity '%s' with the context of entity class '%s'", other, entityClass.getCanonicalName());
+                    return new PersistenceContext(entityMeta, configContext, daoContext, flushContext.duplicate(), other, options).entityFacade;
+                }
+            };
+        }
+
         protected ListenableFuture<List<ResultSet>> flush() {
-            return flushContext.flush();
+            return flushContext.flush(configContext.getCallbackExecutor(options));
         }
 
     }
@@ -459,6 +507,14 @@ public class PersistenceContext {
             return daoContext.loadEntity(daoFacade);
         }
 
+        public ListenableFuture<Row> loadEntity(boolean bypassRowCache) {
+            return daoContext.loadEntity(daoFacade, bypassRowCache);
+        }
+
+        public ListenableFuture<Row> loadProjection(List<PropertyMeta> projection) {
+            return daoContext.loadProjection(daoFacade, projection);
+        }
+
         public Row loadProperty(PropertyMeta pm) {
             return daoContext.loadProperty(daoFacade, pm);
         }
@@ -491,6 +547,12 @@ public class PersistenceContext {
             return daoContext.getSimpleCounter(daoFacade, counterMeta, consistency);
         }
 
+        public ListenableFuture<Map<String, Long>> getSimpleCounters(ConsistencyLevel consistency) {
+            log.trace("Get all counter values with consistency level '{}'", consistency);
+
+            return daoContext.getSimpleCounters(daoFacade, consistency);
+        }
+
         public void bindForSimpleCounterDeletion(PropertyMeta counterMeta) {
             daoContext.bindForSimpleCounterDelete(daoFacade, counterMeta);
         }
@@ -529,7 +591,15 @@ public class PersistenceContext {
         }
 
         public ListenableFuture<ResultSet> executeImmediate(AbstractStatementWrapper bsWrapper) {
-            return flushContext.execute(bsWrapper);
+            return flushContext.execute(bsWrapper, configContext.getCallbackExecutor(options));
+        }
+
+        public void invalidateRowCacheOnWrite(RowCache rowCache, Object cacheKey) {
+            flushContext.invalidateRowCacheOnWrite(rowCache, cacheKey);
+        }
+
+        public void aggregateCounterOnWrite(CounterKey counterKey, long delta) {
+            flushContext.aggregateCounterOnWrite(counterKey, delta);
         }
     }
 }
@@ -17,6 +17,7 @@ package info.archinnov.achilles.internal.context;
 
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_TABLE;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -86,6 +87,14 @@ public class SchemaContext {
         tableCreator.createTableForEntity(session, entityMeta, configContext);
     }
 
+    public boolean isParallelTableCreation() {
+        return configContext.isParallelTableCreation();
+    }
+
+    public void createTablesForEntities(Collection<EntityMeta> entityMetas) {
+        tableCreator.createTablesForEntities(session, entityMetas, configContext);
+    }
+
     public void createTableForCounter() {
         tableCreator.createTableForCounter(session, configContext);
     }
@@ -19,6 +19,8 @@ package info.archinnov.achilles.internal.context.facade;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
 import com.google.common.util.concurrent.ListenableFuture;
+import info.archinnov.achilles.internal.cache.RowCache;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
 
 public interface DaoOperations extends PersistentStateHolder {
@@ -29,4 +31,8 @@ public interface DaoOperations extends PersistentStateHolder {
 
     public ListenableFuture<ResultSet> executeImmediate(AbstractStatementWrapper bsWrapper);
 
+    public void invalidateRowCacheOnWrite(RowCache rowCache, Object cacheKey);
+
+    public void aggregateCounterOnWrite(CounterKey counterKey, long delta);
+
 }
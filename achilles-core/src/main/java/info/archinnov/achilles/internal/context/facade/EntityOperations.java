@@ -17,6 +17,7 @@
 package info.archinnov.achilles.internal.context.facade;
 
 import java.util.List;
+import java.util.Map;
 import com.datastax.driver.core.Row;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
@@ -28,6 +29,10 @@ public interface EntityOperations extends PersistentStateHolder {
 
     public ListenableFuture<Row> loadEntity();
 
+    public ListenableFuture<Row> loadEntity(boolean bypassRowCache);
+
+    public ListenableFuture<Row> loadProjection(List<PropertyMeta> projection);
+
     public Row loadProperty(PropertyMeta pm);
 
     public void pushInsertStatement();
@@ -43,6 +48,8 @@ public interface EntityOperations extends PersistentStateHolder {
 
     public Long getSimpleCounter(PropertyMeta counterMeta, ConsistencyLevel consistency);
 
+    public ListenableFuture<Map<String, Long>> getSimpleCounters(ConsistencyLevel consistency);
+
     public void bindForSimpleCounterDeletion(PropertyMeta counterMeta);
 
     // Clustered counter
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Set;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.type.Empty;
 
 public interface PersistenceManagerOperations extends PersistentStateHolder {
@@ -34,6 +35,8 @@ public interface PersistenceManagerOperations extends PersistentStateHolder {
 
     public <T> AchillesFuture<T> find(Class<T> entityClass);
 
+    public <T> AchillesFuture<T> findProjection(Class<T> entityClass, List<PropertyMeta> projection);
+
     public <T> T getProxy(Class<T> entityClass);
 
     public <T> T getProxyForUpdate(Class<T> entityClass);
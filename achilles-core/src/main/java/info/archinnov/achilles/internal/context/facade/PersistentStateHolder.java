@@ -66,7 +66,7 @@ public interface PersistentStateHolder {
 
     public Set<Method> getAllGetters();
 
-    public Set<Method> getAllGettersExceptCounters();
+    public Set<Method> getAllEagerGettersExceptCounters();
 
     public List<PropertyMeta> getAllCountersMeta();
 
@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.counter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import info.archinnov.achilles.counter.CounterWriteBehindMetrics;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+/**
+ * In-memory aggregation of the simple counter increments, flushed periodically as batched counter statements.
+ * <br/>
+ * <br/>
+ * Each (entity, primary key, counter, consistency level) has its own cell, so concurrent increments on different
+ * counters never contend. A flush retires the cells it drains: a writer finding a retired cell retries on a new one,
+ * so no increment is lost between the drain and the next flush.
+ * <br/>
+ * The flush itself is done by the task given to {@link #start(Runnable)}, every <em>flushIntervalMillis</em> or as
+ * soon as <em>flushThreshold</em> increments are pending.
+ */
+public class CounterAggregator implements CounterWriteBehindMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(CounterAggregator.class);
+
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    public static final CounterAggregator DISABLED = new CounterAggregator(0, 0);
+
+    private final ConcurrentMap<CounterKey, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong pendingIncrements = new AtomicLong(0);
+    private final AtomicLong flushCount = new AtomicLong(0);
+    private final AtomicLong flushedStatements = new AtomicLong(0);
+    private final AtomicLong failedStatements = new AtomicLong(0);
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final AtomicBoolean stopped = new AtomicBoolean(false);
+    private final AtomicInteger activeAdds = new AtomicInteger(0);
+
+    private final long flushIntervalMillis;
+    private final long flushThreshold;
+
+    private ScheduledExecutorService scheduler;
+    private Runnable flushTask;
+
+    public CounterAggregator(long flushIntervalMillis, long flushThreshold) {
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushThreshold = flushThreshold;
+    }
+
+    public boolean isEnabled() {
+        return flushIntervalMillis > 0;
+    }
+
+    /**
+     * Add the delta to the pending value of the counter, and request a flush once the flush threshold is reached
+     *
+     * @return false when the aggregation is stopped, the delta is then left to the caller
+     */
+    public boolean add(CounterKey key, long delta) {
+        activeAdds.incrementAndGet();
+        try {
+            if (stopped.get()) {
+                return false;
+            }
+            addToCell(key, delta);
+        } finally {
+            activeAdds.decrementAndGet();
+        }
+        if (flushThreshold > 0 && pendingIncrements.incrementAndGet() >= flushThreshold) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    private void addToCell(CounterKey key, long delta) {
+        while (true) {
+            AtomicLong cell = pending.get(key);
+            if (cell == null) {
+                cell = pending.putIfAbsent(key, new AtomicLong(delta));
+                if (cell == null) {
+                    break;
+                }
+            }
+            final long current = cell.get();
+            if (current != RETIRED && cell.compareAndSet(current, current + delta)) {
+                break;
+            }
+            if (current == RETIRED) {
+                // drained by a flush, remove it in case the flush has not done it yet then retry with a new cell
+                pending.remove(key, cell);
+            }
+        }
+    }
+
+    /**
+     * Remove all the pending deltas, skipping the ones adding up to 0
+     */
+    public Map<CounterKey, Long> drain() {
+        // Subtracted rather than reset so that the increments added during the drain still count towards the next flush
+        final long drainedIncrements = pendingIncrements.get();
+        final Map<CounterKey, Long> deltas = new HashMap<>();
+        for (Map.Entry<CounterKey, AtomicLong> entry : pending.entrySet()) {
+            final long delta = entry.getValue().getAndSet(RETIRED);
+            pending.remove(entry.getKey(), entry.getValue());
+            if (delta != 0 && delta != RETIRED) {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        pendingIncrements.addAndGet(-drainedIncrements);
+        return deltas.isEmpty() ? Collections.<CounterKey, Long>emptyMap() : deltas;
+    }
+
+    public void start(Runnable flushTask) {
+        log.info("Start counter write-behind with flush every {} ms or {} increments", flushIntervalMillis, flushThreshold);
+        this.flushTask = flushTask;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("achilles-counter-flush-%d").setDaemon(true).build());
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Trigger an asynchronous flush, unless one is already requested or the aggregation is stopped
+     */
+    public void requestFlush() {
+        if (scheduler != null && !stopped.get() && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        flush();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Stopped concurrently, the last flush done by the caller of stop() sends the pending deltas
+                log.debug("Counter write-behind stopped, flush request ignored");
+            }
+        }
+    }
+
+    /**
+     * Stop the periodic flush. Once this method returns, {@link #add(CounterKey, long)} no longer accepts deltas
+     * and the pending ones are left for a last flush by the caller
+     */
+    public void stop() {
+        stopped.set(true);
+        // Wait for the adds which have not seen the stop, so that the last flush includes their deltas
+        while (activeAdds.get() > 0) {
+            Thread.yield();
+        }
+        if (scheduler != null) {
+            log.info("Stop counter write-behind, {} counters pending", pending.size());
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        try {
+            flushTask.run();
+        } catch (RuntimeException e) {
+            log.error("Fail to flush the pending counter increments", e);
+        }
+    }
+
+    public void flushed(int statements) {
+        flushCount.incrementAndGet();
+        flushedStatements.addAndGet(statements);
+    }
+
+    public void flushFailed(int statements, Throwable cause) {
+        log.error("Fail to flush {} counter increments, they are lost", statements, cause);
+        flushCount.incrementAndGet();
+        failedStatements.addAndGet(statements);
+    }
+
+    @Override
+    public long getPendingCounters() {
+        return pending.size();
+    }
+
+    @Override
+    public long getPendingIncrements() {
+        return pendingIncrements.get();
+    }
+
+    @Override
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    @Override
+    public long getFlushedStatements() {
+        return flushedStatements.get();
+    }
+
+    @Override
+    public long getFailedStatements() {
+        return failedStatements.get();
+    }
+
+    public static class CounterKey {
+
+        private final String fqcn;
+        private final String primaryKey;
+        private final String cqlColumnName;
+        private final ConsistencyLevel consistencyLevel;
+
+        public CounterKey(String fqcn, String primaryKey, String cqlColumnName, ConsistencyLevel consistencyLevel) {
+            this.fqcn = fqcn;
+            this.primaryKey = primaryKey;
+            this.cqlColumnName = cqlColumnName;
+            this.consistencyLevel = consistencyLevel;
+        }
+
+        public Object[] getBoundValues(long delta) {
+            return new Object[] { delta, fqcn, primaryKey, cqlColumnName };
+        }
+
+        public ConsistencyLevel getConsistencyLevel() {
+            return consistencyLevel;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fqcn, primaryKey, cqlColumnName, consistencyLevel);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CounterKey other = (CounterKey) o;
+            return Objects.equals(this.fqcn, other.fqcn) &&
+                    Objects.equals(this.primaryKey, other.primaryKey) &&
+                    Objects.equals(this.cqlColumnName, other.cqlColumnName) &&
+                    Objects.equals(this.consistencyLevel, other.consistencyLevel);
+        }
+
+        @Override
+        public String toString() {
+            return "CounterKey{" +
+                    "fqcn=" + fqcn +
+                    ", primaryKey=" + primaryKey +
+                    ", cqlColumnName=" + cqlColumnName +
+                    ", consistencyLevel=" + consistencyLevel +
+                    '}';
+        }
+    }
+}
@@ -20,98 +20,130 @@ import static info.archinnov.achilles.interceptor.Event.*;
 import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
-import com.google.common.base.Function;
-import com.google.common.collect.FluentIterable;
 import info.archinnov.achilles.exception.AchillesBeanValidationException;
 import info.archinnov.achilles.interceptor.Event;
-import info.archinnov.achilles.interceptor.Interceptor;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.persistence.operations.EntityProxifier;
-import info.archinnov.achilles.internal.proxy.ProxyInterceptor;
 import info.archinnov.achilles.internal.proxy.dirtycheck.DirtyChecker;
+import info.archinnov.achilles.internal.proxy.dirtycheck.EntitySnapshotRegistry;
 
-import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ElementKind;
 import javax.validation.Path;
 import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 
 
 public class DefaultBeanValidationInterceptor implements AchillesInternalInterceptor<Object> {
 
-    private static final Set<String> ALWAYS_TRUE_CONTAINS_SET = new AlwaysTrueContainsSet();
-
-    private static final Function<DirtyChecker,String> DIRTY_CHECKER_TO_FIELD_NAME = new Function<DirtyChecker, String>() {
-        @Override
-        public String apply(DirtyChecker dirtyChecker) {
-            return dirtyChecker.getPropertyMeta().getPropertyName();
-        }
-    };
-
 	private Validator validator;
     protected EntityProxifier proxifier = EntityProxifier.Singleton.INSTANCE.get();
 
+    private final ConcurrentMap<Class<?>, BeanConstraints> beanConstraintsCache = new ConcurrentHashMap<>();
+
+    private final EntitySnapshotRegistry snapshotRegistry;
+    private final ConcurrentMap<Class<?>, EntityMeta> entityMetas = new ConcurrentHashMap<>();
 
     public DefaultBeanValidationInterceptor(Validator validator) {
-        this.validator = validator;
+        this(validator, null);
 	}
 
+    /**
+     * @param snapshotRegistry registry of the entities managed by snapshot dirty checking, null when disabled
+     */
+    public DefaultBeanValidationInterceptor(Validator validator, EntitySnapshotRegistry snapshotRegistry) {
+        this.validator = validator;
+        this.snapshotRegistry = snapshotRegistry;
+    }
+
+    /**
+     * Register the meta of an intercepted entity, needed to find the dirty properties of the entities managed by snapshot
+     */
+    public void addEntityMeta(EntityMeta entityMeta) {
+        entityMetas.put(entityMeta.getEntityClass(), entityMeta);
+    }
+
+    /**
+     * A transient entity (insert) is fully validated. For a managed entity (update), only the dirty
+     * properties having constraints are validated, plus the class-level constraints if any. The dirty properties
+     * come from the proxy, or from the snapshot for an entity managed by snapshot dirty checking
+     */
 	@Override
 	public void onEvent(Object entity) {
-        final Set<String> dirtyFieldNames = getDirtyFiedNames(entity);
         final Object realObject = proxifier.getRealObject(entity);
-        Set<ConstraintViolation<Object>> violations = validator.validate(realObject);
-        boolean raiseError = false;
+        final Set<ConstraintViolation<Object>> violations;
+        if (proxifier.isProxy(entity)) {
+            final List<String> dirtyPropertyNames = new ArrayList<>();
+            for (DirtyChecker dirtyChecker : proxifier.getInterceptor(entity).getDirtyMap().values()) {
+                dirtyPropertyNames.add(dirtyChecker.getPropertyMeta().getPropertyName());
+            }
+            violations = validateDirtyProperties(realObject, dirtyPropertyNames);
+        } else if (isManagedBySnapshot(realObject)) {
+            final EntityMeta entityMeta = entityMetas.get(realObject.getClass());
+            violations = validateDirtyProperties(realObject, snapshotRegistry.findDirtyPropertyNames(realObject, entityMeta));
+        } else {
+            violations = validator.validate(realObject);
+        }
         if (violations.size() > 0) {
             StringBuilder errorMessage = new StringBuilder("Bean validation error : \n");
             for (ConstraintViolation<Object> violation : violations) {
-                raiseError |= buildValidationErrorMessage(errorMessage, violation, dirtyFieldNames);
-            }
-            if (raiseError) {
-                throw new AchillesBeanValidationException(errorMessage.toString());
+                buildValidationErrorMessage(errorMessage, violation);
             }
+            throw new AchillesBeanValidationException(errorMessage.toString());
         }
     }
 
-    private Set<String> getDirtyFiedNames(Object entity) {
-        if (proxifier.isProxy(entity)) {
-            final Map<Method, DirtyChecker> dirtyMap = proxifier.getInterceptor(entity).getDirtyMap();
-            return FluentIterable.from(dirtyMap.values()).transform(DIRTY_CHECKER_TO_FIELD_NAME).toSet();
-        } else {
-            return ALWAYS_TRUE_CONTAINS_SET;
+    private boolean isManagedBySnapshot(Object realObject) {
+        return snapshotRegistry != null && entityMetas.containsKey(realObject.getClass()) && snapshotRegistry.isManaged(realObject);
+    }
+
+    private Set<ConstraintViolation<Object>> validateDirtyProperties(Object realObject, List<String> dirtyPropertyNames) {
+        final BeanConstraints beanConstraints = getBeanConstraints(realObject.getClass());
+        final Set<ConstraintViolation<Object>> violations = new LinkedHashSet<>();
+        for (String propertyName : dirtyPropertyNames) {
+            if (beanConstraints.constrainedProperties.contains(propertyName)) {
+                violations.addAll(validator.validateProperty(realObject, propertyName));
+            }
+        }
+
+        // Class-level constraints may involve any property, they cannot be narrowed down to the dirty ones
+        if (beanConstraints.hasClassLevelConstraints) {
+            for (ConstraintViolation<Object> violation : validator.validate(realObject)) {
+                if (violation.getPropertyPath().iterator().next().getKind() != ElementKind.PROPERTY) {
+                    violations.add(violation);
+                }
+            }
         }
+        return violations;
+    }
 
+    private BeanConstraints getBeanConstraints(Class<?> entityClass) {
+        BeanConstraints beanConstraints = beanConstraintsCache.get(entityClass);
+        if (beanConstraints == null) {
+            beanConstraints = new BeanConstraints(validator.getConstraintsForClass(entityClass));
+            beanConstraintsCache.putIfAbsent(entityClass, beanConstraints);
+        }
+        return beanConstraints;
     }
 
-    private boolean buildValidationErrorMessage(StringBuilder errorMessage, ConstraintViolation<Object> violation, Set<String> dirtyFieldNames) {
+    private void buildValidationErrorMessage(StringBuilder errorMessage, ConstraintViolation<Object> violation) {
 		String className = violation.getLeafBean().getClass().getCanonicalName();
 		Path propertyPath = violation.getPropertyPath();
-        final ElementKind elementKind = propertyPath.iterator().next().getKind();
-        final String propertyName = propertyPath.toString();
-
-        boolean raiseError = false;
-
-        /**
-         * Throw error only when
-         *   1. it's a proxy and the dirty field names do not validate the constraints
-         *   2. it's a proxy and the validation is not on the fields so we cannot filter out null fields
-         *   3. it's a transient entity (dirtyFieldNames = ALWAYS_TRUE_CONTAINS_SET)
-         */
-        if (dirtyFieldNames.contains(propertyName) || elementKind != ElementKind.PROPERTY) {
-            errorMessage.append("\t");
-            raiseError = true;
-            if (propertyPath != null && isNotBlank(propertyPath.toString())) {
-                errorMessage.append("property '").append(propertyPath).append("'") //
-                        .append(" of class '").append(className).append("' ") //
-                        .append(violation.getMessage()).append("\n");
-            } else {
-                errorMessage.append(violation.getMessage()).append(" for class '").append(className).append("'");
-            }
-        }
 
-        return raiseError;
+        errorMessage.append("\t");
+        if (propertyPath != null && isNotBlank(propertyPath.toString())) {
+            errorMessage.append("property '").append(propertyPath).append("'") //
+                    .append(" of class '").append(className).append("' ") //
+                    .append(violation.getMessage()).append("\n");
+        } else {
+            errorMessage.append(violation.getMessage()).append(" for class '").append(className).append("'");
+        }
     }
 
 	@Override
@@ -119,72 +151,16 @@ public class DefaultBeanValidationInterceptor implements AchillesInternalInterce
 		return asList(PRE_INSERT, PRE_UPDATE);
 	}
 
+    private static class BeanConstraints {
 
-    private static class AlwaysTrueContainsSet implements Set<String> {
-
-        @Override
-        public int size() {
-            return 0;
-        }
-
-        @Override
-        public boolean isEmpty() {
-            return false;
-        }
-
-        @Override
-        public boolean contains(Object o) {
-            return true;
-        }
-
-        @Override
-        public Iterator<String> iterator() {
-            return null;
-        }
-
-        @Override
-        public Object[] toArray() {
-            return new Object[0];
-        }
-
-        @Override
-        public <T> T[] toArray(T[] a) {
-            return null;
-        }
-
-        @Override
-        public boolean add(String s) {
-            return false;
-        }
-
-        @Override
-        public boolean remove(Object o) {
-            return false;
-        }
-
-        @Override
-        public boolean containsAll(Collection<?> c) {
-            return false;
-        }
-
-        @Override
-        public boolean addAll(Collection<? extends String> c) {
-            return false;
-        }
-
-        @Override
-        public boolean retainAll(Collection<?> c) {
-            return false;
-        }
-
-        @Override
-        public boolean removeAll(Collection<?> c) {
-            return false;
-        }
-
-        @Override
-        public void clear() {
+        private final Set<String> constrainedProperties = new HashSet<>();
+        private final boolean hasClassLevelConstraints;
 
+        private BeanConstraints(BeanDescriptor beanDescriptor) {
+            for (PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+                constrainedProperties.add(propertyDescriptor.getPropertyName());
+            }
+            this.hasClassLevelConstraints = !beanDescriptor.getConstraintDescriptors().isEmpty();
         }
     }
 }
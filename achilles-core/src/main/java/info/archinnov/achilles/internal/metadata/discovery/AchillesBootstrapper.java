@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internal.metadata.discovery;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +68,8 @@ public class AchillesBootstrapper {
     public void validateOrCreateTables(SchemaContext schemaContext) {
         log.debug("Start schema validation/creation");
         Map<String, TableMetadata> tableMetaDatas = schemaContext.fetchTableMetaData();
+        final boolean parallelTableCreation = schemaContext.isParallelTableCreation();
+        final List<EntityMeta> missingTables = new ArrayList<>();
 
         for (Entry<Class<?>, EntityMeta> entry : schemaContext.entityMetaEntrySet()) {
             EntityMeta entityMeta = entry.getValue();
@@ -77,11 +80,17 @@ public class AchillesBootstrapper {
                 TableMetadata tableMetaData = tableMetaDatas.get(qualifiedTableName);
                 schemaContext.validateForEntity(entityMeta, tableMetaData);
                 schemaContext.updateForEntity(entityMeta, tableMetaData);
+            } else if (parallelTableCreation) {
+                missingTables.add(entityMeta);
             } else {
                 schemaContext.createTableForEntity(entry.getValue());
             }
         }
 
+        if (!missingTables.isEmpty()) {
+            schemaContext.createTablesForEntities(missingTables);
+        }
+
         if (schemaContext.hasSimpleCounter()) {            
             if (schemaContext.achillesCounterTableExists()) {
                 schemaContext.validateAchillesCounter();
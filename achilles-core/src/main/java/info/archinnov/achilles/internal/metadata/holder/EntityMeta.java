@@ -16,6 +16,7 @@
 package info.archinnov.achilles.internal.metadata.holder;
 
 import static com.google.common.collect.FluentIterable.from;
+import static info.archinnov.achilles.internal.metadata.holder.PropertyMeta.LAZY_COLUMN_FILTER;
 import static info.archinnov.achilles.internal.metadata.holder.PropertyType.COUNTER_TYPE;
 
 import java.lang.reflect.Method;
@@ -27,6 +28,9 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import com.google.common.base.Objects;
 import com.google.common.base.Predicate;
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+import info.archinnov.achilles.annotations.TableTuning;
 import info.archinnov.achilles.interceptor.Interceptor;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.InsertStrategy;
@@ -58,6 +62,7 @@ public class EntityMeta {
     private Class<?> idClass;
     private Map<String, PropertyMeta> propertyMetas;
     private List<PropertyMeta> allMetasExceptCounters;
+    private List<PropertyMeta> allEagerMetasExceptCounters;
     private List<PropertyMeta> allMetasExceptIdAndCounters;
     protected PropertyMeta idMeta;
     private Map<Method, PropertyMeta> getterMetas;
@@ -74,6 +79,9 @@ public class EntityMeta {
     protected Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels;
     protected InsertStrategy insertStrategy;
     protected boolean schemaUpdateEnabled = false;
+    protected NearCache nearCache;
+    protected NegativeCache negativeCache;
+    protected TableTuning tableTuning;
 
     private final EntityMetaInterceptors forInterception;
     private final EntityMetaSliceQuerySupport forSliceQuery;
@@ -201,6 +209,18 @@ public class EntityMeta {
         this.schemaUpdateEnabled = schemaUpdateEnabled;
     }
 
+    void setNearCache(NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    void setNegativeCache(NegativeCache negativeCache) {
+        this.negativeCache = negativeCache;
+    }
+
+    void setTableTuning(TableTuning tableTuning) {
+        this.tableTuning = tableTuning;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> Class<T> getIdClass() {
         return (Class<T>) idClass;
@@ -218,6 +238,10 @@ public class EntityMeta {
         return from(propertyMetas.values()).filter(COUNTER_TYPE).toList();
     }
 
+    public List<PropertyMeta> getAllLazyMetas() {
+        return from(propertyMetas.values()).filter(LAZY_COLUMN_FILTER).toList();
+    }
+
     void setClusteredCounter(boolean clusteredCounter) {
         this.clusteredCounter = clusteredCounter;
     }
@@ -246,6 +270,17 @@ public class EntityMeta {
         this.allMetasExceptCounters = allMetasExceptCounters;
     }
 
+    /**
+     * @return the metas of the columns loaded with the entity, counters and @Lazy columns are loaded on demand
+     */
+    public List<PropertyMeta> getAllEagerMetasExceptCounters() {
+        return allEagerMetasExceptCounters;
+    }
+
+    void setAllEagerMetasExceptCounters(List<PropertyMeta> allEagerMetasExceptCounters) {
+        this.allEagerMetasExceptCounters = allEagerMetasExceptCounters;
+    }
+
     void setHasOnlyStaticColumns(boolean hasOnlyStaticColumns) {
         this.hasOnlyStaticColumns = hasOnlyStaticColumns;
     }
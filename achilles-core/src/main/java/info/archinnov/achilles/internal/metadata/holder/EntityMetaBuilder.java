@@ -15,7 +15,9 @@
  */
 package info.archinnov.achilles.internal.metadata.holder;
 
+import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.FluentIterable.from;
+import static info.archinnov.achilles.internal.metadata.holder.PropertyMeta.LAZY_COLUMN_FILTER;
 import static info.archinnov.achilles.internal.metadata.holder.PropertyMeta.STATIC_COLUMN_FILTER;
 import static info.archinnov.achilles.internal.metadata.holder.PropertyType.EXCLUDE_COUNTER_TYPE;
 import static info.archinnov.achilles.internal.metadata.holder.PropertyType.EXCLUDE_PK_AND_COUNTER_TYPE;
@@ -29,6 +31,9 @@ import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+import info.archinnov.achilles.annotations.TableTuning;
 import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.InsertStrategy;
@@ -47,6 +52,9 @@ public class EntityMetaBuilder {
     private Pair<ConsistencyLevel, ConsistencyLevel> consistencyLevels;
     private InsertStrategy insertStrategy;
     private boolean schemaUpdateEnabled;
+    private NearCache nearCache;
+    private NegativeCache negativeCache;
+    private TableTuning tableTuning;
 
     public static EntityMetaBuilder entityMetaBuilder(PropertyMeta idMeta) {
         return new EntityMetaBuilder(idMeta);
@@ -78,6 +86,9 @@ public class EntityMetaBuilder {
         meta.setConsistencyLevels(consistencyLevels);
         meta.setInsertStrategy(insertStrategy);
         meta.setSchemaUpdateEnabled(schemaUpdateEnabled);
+        meta.setNearCache(nearCache);
+        meta.setNegativeCache(negativeCache);
+        meta.setTableTuning(tableTuning);
 
         List<PropertyMeta> allMetasExceptId = new ArrayList<>(from(propertyMetas.values()).filter(EXCLUDE_ID_TYPES)
                 .toList());
@@ -91,6 +102,10 @@ public class EntityMetaBuilder {
                 EXCLUDE_COUNTER_TYPE).toList());
         meta.setAllMetasExceptCounters(allMetasExceptCounters);
 
+        List<PropertyMeta> allEagerMetasExceptCounters = new ArrayList<>(from(allMetasExceptCounters).filter(
+                not(LAZY_COLUMN_FILTER)).toList());
+        meta.setAllEagerMetasExceptCounters(allEagerMetasExceptCounters);
+
         boolean clusteredEntity = idMeta.structure().isCompoundPK() && idMeta.structure().isClustered();
         meta.setClusteredEntity(clusteredEntity);
 
@@ -170,6 +185,21 @@ public class EntityMetaBuilder {
         return this;
     }
 
+    public EntityMetaBuilder nearCache(NearCache nearCache) {
+        this.nearCache = nearCache;
+        return this;
+    }
+
+    public EntityMetaBuilder negativeCache(NegativeCache negativeCache) {
+        this.negativeCache = negativeCache;
+        return this;
+    }
+
+    public EntityMetaBuilder tableTuning(TableTuning tableTuning) {
+        this.tableTuning = tableTuning;
+        return this;
+    }
+
     public EntityMetaBuilder schemaUpdateEnabled(boolean value) {
         this.schemaUpdateEnabled = value;
         return this;
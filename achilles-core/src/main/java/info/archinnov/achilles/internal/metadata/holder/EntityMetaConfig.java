@@ -1,5 +1,8 @@
 package info.archinnov.achilles.internal.metadata.holder;
 
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+import info.archinnov.achilles.annotations.TableTuning;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.InsertStrategy;
 import info.archinnov.achilles.type.Pair;
@@ -29,6 +32,30 @@ public class EntityMetaConfig extends EntityMetaView {
         return meta.schemaUpdateEnabled;
     }
 
+    public boolean isNearCacheEnabled() {
+        return meta.nearCache != null;
+    }
+
+    public NearCache getNearCache() {
+        return meta.nearCache;
+    }
+
+    public boolean isNegativeCacheEnabled() {
+        return meta.negativeCache != null;
+    }
+
+    public NegativeCache getNegativeCache() {
+        return meta.negativeCache;
+    }
+
+    public boolean hasTableTuning() {
+        return meta.tableTuning != null;
+    }
+
+    public TableTuning getTableTuning() {
+        return meta.tableTuning;
+    }
+
     public String getTableName() {return meta.tableName;}
 
     public String getKeyspaceName() {return meta.keyspaceName;}
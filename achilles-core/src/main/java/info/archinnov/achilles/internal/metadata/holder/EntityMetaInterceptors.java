@@ -1,25 +1,33 @@
 package info.archinnov.achilles.internal.metadata.holder;
 
-import com.google.common.base.Predicate;
-import com.google.common.collect.FluentIterable;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.interceptor.Interceptor;
 import info.archinnov.achilles.internal.interceptor.AchillesInternalInterceptor;
 import info.archinnov.achilles.internal.persistence.operations.EntityProxifier;
 import info.archinnov.achilles.internal.validation.Validator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class EntityMetaInterceptors extends EntityMetaView{
 
+    private static final Interceptor<?>[] NO_INTERCEPTOR = new Interceptor<?>[0];
+
     protected EntityProxifier proxifier = EntityProxifier.Singleton.INSTANCE.get();
 
+    private volatile Map<Event, Interceptor<?>[]> interceptorsByEvent = buildInterceptorsByEvent(Collections.<Interceptor<?>>emptyList());
+
     protected EntityMetaInterceptors(EntityMeta meta) {
         super(meta);
     }
 
     public void addInterceptor(Interceptor<?> interceptor) {
         meta.getInterceptors().add(interceptor);
+        interceptorsByEvent = buildInterceptorsByEvent(meta.getInterceptors());
     }
 
     public List<Interceptor<?>> getInterceptors() {
@@ -27,11 +35,11 @@ public class EntityMetaInterceptors extends EntityMetaView{
     }
 
     public void intercept(Object entity, Event event) {
-        final Object realObject = proxifier.getRealObject(entity);
-        List<Interceptor<?>> interceptors = getInterceptorsForEvent(event);
-        if (interceptors.size() > 0) {
+        final Interceptor<?>[] interceptors = interceptorsByEvent.get(event);
+        if (interceptors.length > 0) {
+            final Object realObject = proxifier.getRealObject(entity);
             for (Interceptor interceptor : interceptors) {
-                if (AchillesInternalInterceptor.class.isAssignableFrom(interceptor.getClass())) {
+                if (interceptor instanceof AchillesInternalInterceptor) {
                     interceptor.onEvent(entity);
                 } else {
                     interceptor.onEvent(realObject);
@@ -43,15 +51,24 @@ public class EntityMetaInterceptors extends EntityMetaView{
     }
 
     protected List<Interceptor<?>> getInterceptorsForEvent(final Event event) {
-        return FluentIterable.from(meta.getInterceptors()).filter(getFilterForEvent(event)).toList();
-
+        return Arrays.asList(interceptorsByEvent.get(event));
     }
 
-    private Predicate<? super Interceptor<?>> getFilterForEvent(final Event event) {
-        return new Predicate<Interceptor<?>>() {
-            public boolean apply(Interceptor<?> interceptor) {
-                return interceptor != null && interceptor.events() != null && interceptor.events().contains(event);
+    /**
+     * Index the interceptors by event once at registration time, so that intercepting an event
+     * with no interceptor is a single array lookup
+     */
+    private static Map<Event, Interceptor<?>[]> buildInterceptorsByEvent(List<Interceptor<?>> interceptors) {
+        final Map<Event, Interceptor<?>[]> interceptorsByEvent = new EnumMap<>(Event.class);
+        for (Event event : Event.values()) {
+            final List<Interceptor<?>> interceptorsForEvent = new ArrayList<>();
+            for (Interceptor<?> interceptor : interceptors) {
+                if (interceptor != null && interceptor.events() != null && interceptor.events().contains(event)) {
+                    interceptorsForEvent.add(interceptor);
+                }
             }
-        };
+            interceptorsByEvent.put(event, interceptorsForEvent.isEmpty() ? NO_INTERCEPTOR : interceptorsForEvent.toArray(NO_INTERCEPTOR));
+        }
+        return Collections.unmodifiableMap(interceptorsByEvent);
     }
 }
@@ -1,9 +1,11 @@
 package info.archinnov.achilles.internal.metadata.holder;
 
 import info.archinnov.achilles.internal.reflection.ReflectionInvoker;
+import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.type.InsertStrategy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class EntityMetaOperations extends EntityMetaView {
@@ -28,10 +30,32 @@ public class EntityMetaOperations extends EntityMetaView {
         if (meta.structure().isClusteredCounter()) {
             return new ArrayList<>(meta.getPropertyMetas().values());
         } else {
-            return meta.getAllMetasExceptCounters();
+            return meta.getAllEagerMetasExceptCounters();
         }
     }
 
+    /**
+     * @return the primary key meta followed by the metas of the given properties
+     */
+    public List<PropertyMeta> getProjectionMetas(Collection<String> propertyNames) {
+        final String className = meta.getClassName();
+        Validator.validateNotEmpty(propertyNames, "The projection on entity '%s' should select at least one property", className);
+        Validator.validateFalse(meta.structure().isClusteredCounter(), "Cannot select a projection of the clustered counter entity '%s'", className);
+
+        final PropertyMeta idMeta = meta.getIdMeta();
+        final List<PropertyMeta> projection = new ArrayList<>();
+        projection.add(idMeta);
+        for (String propertyName : propertyNames) {
+            final PropertyMeta pm = meta.getPropertyMetas().get(propertyName);
+            Validator.validateNotNull(pm, "The property '%s' does not exist in entity '%s'", propertyName, className);
+            Validator.validateFalse(pm.structure().isCounter(), "The counter property '%s' of entity '%s' cannot be selected in a projection", propertyName, className);
+            if (pm != idMeta && !projection.contains(pm)) {
+                projection.add(pm);
+            }
+        }
+        return projection;
+    }
+
     public List<PropertyMeta> retrievePropertyMetasForInsert(Object entity) {
         if (meta.config().getInsertStrategy() == InsertStrategy.ALL_FIELDS) {
             return meta.getAllMetasExceptIdAndCounters();
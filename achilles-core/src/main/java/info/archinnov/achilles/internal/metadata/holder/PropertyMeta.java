@@ -41,6 +41,13 @@ public class PropertyMeta {
         }
     };
 
+    public static final Predicate<PropertyMeta> LAZY_COLUMN_FILTER = new Predicate<PropertyMeta>() {
+        @Override
+        public boolean apply(PropertyMeta pm) {
+            return pm.structure().isLazy();
+        }
+    };
+
     public static final Predicate<PropertyMeta> COUNTER_COLUMN_FILTER = new Predicate<PropertyMeta>() {
         @Override
         public boolean apply(PropertyMeta pm) {
@@ -82,6 +89,7 @@ public class PropertyMeta {
     private boolean timeUUID = false;
     private boolean emptyCollectionAndMapIfNull = false;
     private boolean staticColumn = false;
+    private boolean lazy = false;
     private Codec simpleCodec;
     private ListCodec listCodec;
     private SetCodec setCodec;
@@ -307,6 +315,14 @@ public class PropertyMeta {
         this.staticColumn = staticColumn;
     }
 
+    boolean isLazy() {
+        return lazy;
+    }
+
+    void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
     public String getCQLColumnName() {
         return cqlColumnName;
     }
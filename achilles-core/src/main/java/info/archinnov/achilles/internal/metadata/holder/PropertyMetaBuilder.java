@@ -46,6 +46,7 @@ public class PropertyMetaBuilder {
     private boolean timeUUID = false;
     private boolean emptyCollectionAndMapIfNull = false;
     private boolean staticColumn = false;
+    private boolean lazy = false;
     private Codec simpleCodec;
     private ListCodec listCodec;
     private SetCodec setCodec;
@@ -95,6 +96,7 @@ public class PropertyMetaBuilder {
         meta.setTimeUUID(timeUUID);
         meta.setEmptyCollectionAndMapIfNull(emptyCollectionAndMapIfNull);
         meta.setStaticColumn(staticColumn);
+        meta.setLazy(lazy);
         meta.setSimpleCodec(Optional.fromNullable(simpleCodec).orNull());
         meta.setListCodec(Optional.fromNullable(listCodec).orNull());
         meta.setSetCodec(Optional.fromNullable(setCodec).orNull());
@@ -145,6 +147,11 @@ public class PropertyMetaBuilder {
         return this;
     }
 
+    public PropertyMetaBuilder lazy(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
     public PropertyMetaBuilder emptyCollectionAndMapIfNull(boolean emptyCollectionAndMapIfNull) {
         this.emptyCollectionAndMapIfNull = emptyCollectionAndMapIfNull;
         return this;
@@ -73,6 +73,19 @@ public class PropertyMetaStatementGenerator extends PropertyMetaView{
         return where;
     }
 
+    /**
+     * @return token(...) of the partition key columns
+     */
+    public String generatePartitionToken() {
+        log.debug("Generate partition token for id meta {}", meta);
+        if (meta.structure().isCompoundPK()) {
+            final List<String> partitionComponents = meta.getCompoundPKProperties().getPartitionComponents().getCQLComponentNames();
+            return token(partitionComponents.toArray(new String[partitionComponents.size()]));
+        } else {
+            return token(meta.getCQLColumnName());
+        }
+    }
+
     public RegularStatement generateWhereClauseForDelete(boolean onlyStaticColumns, Delete mainFrom) {
         log.debug("Generate DELETE WHERE clause for property meta {} with static column ? {}", meta, onlyStaticColumns);
         if (meta.structure().isCompoundPK()) {
@@ -22,6 +22,10 @@ public class PropertyMetaStructure extends PropertyMetaView {
         return meta.isStaticColumn();
     }
 
+    public boolean isLazy() {
+        return meta.isLazy();
+    }
+
     public boolean isCounter() {
         return meta.type().isCounter();
     }
@@ -39,6 +39,9 @@ import org.slf4j.LoggerFactory;
 import com.google.common.collect.Lists;
 import info.archinnov.achilles.annotations.Consistency;
 import info.archinnov.achilles.annotations.Entity;
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+import info.archinnov.achilles.annotations.TableTuning;
 import info.archinnov.achilles.annotations.Strategy;
 import info.archinnov.achilles.exception.AchillesBeanMappingException;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
@@ -259,6 +262,18 @@ public class EntityIntrospector {
         return strategy != null ? strategy.insert() : parsingContext.getDefaultInsertStrategy();
     }
 
+    public NearCache getNearCache(Class<?> type) {
+        return type.getAnnotation(NearCache.class);
+    }
+
+    public NegativeCache getNegativeCache(Class<?> type) {
+        return type.getAnnotation(NegativeCache.class);
+    }
+
+    public TableTuning getTableTuning(Class<?> type) {
+        return type.getAnnotation(TableTuning.class);
+    }
+
     public NamingStrategy determineClassNamingStrategy(ConfigurationContext configContext, Class<?> currentEntityClass) {
         final Strategy strategy = currentEntityClass.getAnnotation(Strategy.class);
         return strategy != null ? strategy.naming() : configContext.getGlobalNamingStrategy();
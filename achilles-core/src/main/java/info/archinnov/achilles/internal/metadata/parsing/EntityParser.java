@@ -49,6 +49,9 @@ public class EntityParser {
         String tableName = context.getTableName();
         String tableComment = introspector.inferTableComment(entityClass, "Create table for entity \"" + entityClass.getName() + "\"");
         final InsertStrategy insertStrategy = introspector.getInsertStrategy(entityClass, context);
+        final NearCache nearCache = introspector.getNearCache(entityClass);
+        final NegativeCache negativeCache = introspector.getNegativeCache(entityClass);
+        final TableTuning tableTuning = introspector.getTableTuning(entityClass);
 
 
         PropertyMeta idMeta = null;
@@ -81,10 +84,15 @@ public class EntityParser {
                 .tableName(tableName).tableComment(tableComment)
                 .propertyMetas(context.getPropertyMetas()).consistencyLevels(context.getCurrentConsistencyLevels())
                 .insertStrategy(insertStrategy)
+                .nearCache(nearCache)
+                .negativeCache(negativeCache)
+                .tableTuning(tableTuning)
                 .schemaUpdateEnabled(context.isSchemaUpdateEnabled(keyspaceName, tableName))
                 .build();
 
         validator.validateStaticColumns(entityMeta,idMeta);
+        validator.validateNearCache(entityMeta);
+        validator.validateTableTuning(entityMeta);
         log.trace("Entity meta built for entity class {} : {}", context.getCurrentEntityClass().getCanonicalName(),entityMeta);
 
         return entityMeta;
@@ -176,6 +176,7 @@ public class PropertyParser {
 
         validator.validateNoDuplicatePropertyName(context);
         validator.validateIndexIfSet(context);
+        validator.validateLazyIfSet(context);
 
         Class<?> fieldType = field.getType();
         PropertyMeta propertyMeta;
@@ -266,6 +267,7 @@ public class PropertyParser {
         Class<?> entityClass = context.getCurrentEntityClass();
         Field field = context.getCurrentField();
         final boolean staticColumn = isStaticColumn(field);
+        final boolean lazy = isLazy(field);
         boolean timeUUID = isTimeUUID(context, field);
 
         Method[] accessors = entityIntrospector.findAccessors(entityClass, field);
@@ -277,7 +279,7 @@ public class PropertyParser {
                 .propertyName(context.getCurrentPropertyName()).cqlColumnName(context.getCurrentCQLColumnName())
                 .entityClassName(context.getCurrentEntityClass().getCanonicalName()).accessors(accessors)
                 .consistencyLevels(context.getCurrentConsistencyLevels()).field(field).timeuuid(timeUUID)
-                .staticColumn(staticColumn).simpleCodec(simpleCodec).cqlValueClass(cqlValueType)
+                .staticColumn(staticColumn).lazy(lazy).simpleCodec(simpleCodec).cqlValueClass(cqlValueType)
                 .build(Void.class, field.getType());
 
         log.trace("Built simple property meta for property {} of entity class {} : {}", propertyMeta.getPropertyName(),
@@ -326,6 +328,7 @@ public class PropertyParser {
         final boolean timeUUID = isTimeUUID(context, field);
         final boolean emptyCollectionIfNull = mapNullCollectionAndMapToEmpty(field);
         final boolean staticColumn = isStaticColumn(field);
+        final boolean lazy = isLazy(field);
         Class<V> valueClass;
         Type genericType = field.getGenericType();
         valueClass = TypeParser.inferValueClassForListOrSet(genericType, entityClass);
@@ -340,7 +343,7 @@ public class PropertyParser {
                 .propertyName(context.getCurrentPropertyName()).cqlColumnName(context.getCurrentCQLColumnName())
                 .entityClassName(context.getCurrentEntityClass().getCanonicalName())
                 .consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).field(field)
-                .timeuuid(timeUUID).emptyCollectionAndMapIfNull(emptyCollectionIfNull).staticColumn(staticColumn)
+                .timeuuid(timeUUID).emptyCollectionAndMapIfNull(emptyCollectionIfNull).staticColumn(staticColumn).lazy(lazy)
                 .listCodec(listCodec).cqlValueClass(cqlValueType)
                 .build(Void.class, valueClass);
 
@@ -360,6 +363,7 @@ public class PropertyParser {
         final boolean timeUUID = isTimeUUID(context, field);
         final boolean emptyCollectionIfNull = mapNullCollectionAndMapToEmpty(field);
         final boolean staticColumn = isStaticColumn(field);
+        final boolean lazy = isLazy(field);
         Class<V> valueClass;
         Type genericType = field.getGenericType();
 
@@ -374,7 +378,7 @@ public class PropertyParser {
                 .propertyName(context.getCurrentPropertyName()).cqlColumnName(context.getCurrentCQLColumnName())
                 .entityClassName(context.getCurrentEntityClass().getCanonicalName())
                 .consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).field(field)
-                .timeuuid(timeUUID).emptyCollectionAndMapIfNull(emptyCollectionIfNull).staticColumn(staticColumn)
+                .timeuuid(timeUUID).emptyCollectionAndMapIfNull(emptyCollectionIfNull).staticColumn(staticColumn).lazy(lazy)
                 .setCodec(setCodec).cqlValueClass(cqlValueType)
                 .build(Void.class, valueClass);
 
@@ -393,6 +397,7 @@ public class PropertyParser {
         final boolean timeUUID = isTimeUUID(context, field);
         final boolean emptyCollectionIfNull = mapNullCollectionAndMapToEmpty(field);
         final boolean staticColumn = isStaticColumn(field);
+        final boolean lazy = isLazy(field);
         validator.validateMapGenerics(field, entityClass);
 
         Pair<Class<K>, Class<V>> types = TypeParser.determineMapGenericTypes(field);
@@ -410,7 +415,7 @@ public class PropertyParser {
                 .propertyName(context.getCurrentPropertyName()).cqlColumnName(context.getCurrentCQLColumnName())
                 .entityClassName(context.getCurrentEntityClass().getCanonicalName())
                 .consistencyLevels(context.getCurrentConsistencyLevels()).accessors(accessors).field(field)
-                .timeuuid(timeUUID).emptyCollectionAndMapIfNull(emptyCollectionIfNull).staticColumn(staticColumn)
+                .timeuuid(timeUUID).emptyCollectionAndMapIfNull(emptyCollectionIfNull).staticColumn(staticColumn).lazy(lazy)
                 .mapCodec(mapCodec).cqlKeyClass(cqlKeyType).cqlValueClass(cqlValueType)
                 .build(keyClass, valueClass);
 
@@ -454,6 +459,10 @@ public class PropertyParser {
         return filter.hasAnnotation(field, EmptyCollectionIfNull.class) || filter.hasAnnotation(field, NotNull.class);
     }
 
+    private boolean isLazy(Field field) {
+        return filter.hasAnnotation(field, Lazy.class);
+    }
+
     private boolean isStaticColumn(Field field) {
         Column column = field.getAnnotation(Column.class);
         return column!= null && column.staticColumn();
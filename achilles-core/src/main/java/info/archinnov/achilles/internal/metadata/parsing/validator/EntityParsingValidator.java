@@ -19,6 +19,10 @@ import static info.archinnov.achilles.internal.metadata.holder.PropertyMeta.COUN
 import static info.archinnov.achilles.internal.metadata.holder.PropertyMeta.STATIC_COLUMN_FILTER;
 import static info.archinnov.achilles.internal.validation.Validator.validateBeanMappingTrue;
 import java.util.Collection;
+import java.util.regex.Pattern;
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+import info.archinnov.achilles.annotations.TableTuning;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.validation.Validator;
@@ -30,6 +34,8 @@ import com.google.common.collect.FluentIterable;
 public class EntityParsingValidator {
 	private static final Logger log = LoggerFactory.getLogger(EntityParsingValidator.class);
 
+    private static final Pattern SPECULATIVE_RETRY_PATTERN = Pattern.compile("NONE|ALWAYS|\\d+PERCENTILE|\\d+MS", Pattern.CASE_INSENSITIVE);
+
 	public void validateHasIdMeta(Class<?> entityClass, PropertyMeta idMeta) {
 		log.debug("Validate that entity class {} has an id meta", entityClass.getCanonicalName());
 
@@ -53,6 +59,51 @@ public class EntityParsingValidator {
         }
     }
 
+    public void validateNearCache(EntityMeta entityMeta) {
+        final String className = entityMeta.getClassName();
+        final boolean nearCacheEnabled = entityMeta.config().isNearCacheEnabled();
+        final boolean negativeCacheEnabled = entityMeta.config().isNegativeCacheEnabled();
+        if (nearCacheEnabled || negativeCacheEnabled) {
+            // A static column is shared by all the rows of the partition, updating it through one primary key would leave the other cached rows stale
+            Validator.validateBeanMappingFalse(entityMeta.structure().isClusteredCounter() || entityMeta.hasStaticColumns(),
+                    "The entity class '%s' cannot have a @NearCache or @NegativeCache because it is a clustered counter or has static columns", className);
+        }
+        if (nearCacheEnabled) {
+            final NearCache nearCache = entityMeta.config().getNearCache();
+            validateBeanMappingTrue(nearCache.maxSize() > 0 && nearCache.expireAfterWriteSeconds() > 0,
+                    "The @NearCache max size and time to live of entity class '%s' should be strictly positive", className);
+        }
+        if (negativeCacheEnabled) {
+            final NegativeCache negativeCache = entityMeta.config().getNegativeCache();
+            validateBeanMappingTrue(negativeCache.maxSize() > 0 && negativeCache.expireAfterWriteSeconds() > 0,
+                    "The @NegativeCache max size and time to live of entity class '%s' should be strictly positive", className);
+        }
+    }
+
+    public void validateTableTuning(EntityMeta entityMeta) {
+        if (!entityMeta.config().hasTableTuning()) {
+            return;
+        }
+        final String className = entityMeta.getClassName();
+        final TableTuning tableTuning = entityMeta.config().getTableTuning();
+        final TableTuning.Compaction compaction = tableTuning.compaction();
+        validateBeanMappingTrue(tableTuning.sstableSizeInMB() == 0 || compaction == TableTuning.Compaction.LEVELED,
+                "The @TableTuning sstableSizeInMB of entity class '%s' requires the LEVELED compaction", className);
+        validateBeanMappingTrue((tableTuning.baseTimeSeconds() == 0 && tableTuning.maxSSTableAgeDays() == 0) || compaction == TableTuning.Compaction.DATE_TIERED,
+                "The @TableTuning baseTimeSeconds and maxSSTableAgeDays of entity class '%s' require the DATE_TIERED compaction", className);
+        validateBeanMappingTrue((tableTuning.minThreshold() == 0 && tableTuning.maxThreshold() == 0) || compaction != TableTuning.Compaction.DEFAULT,
+                "The @TableTuning minThreshold and maxThreshold of entity class '%s' require an explicit compaction", className);
+        validateBeanMappingTrue(tableTuning.minThreshold() == 0 || compaction != TableTuning.Compaction.LEVELED,
+                "The @TableTuning minThreshold of entity class '%s' is not supported by the LEVELED compaction", className);
+        validateBeanMappingTrue(tableTuning.compressionChunkLengthInKb() == 0 ||
+                        (tableTuning.compression() != TableTuning.Compression.DEFAULT && tableTuning.compression() != TableTuning.Compression.NONE),
+                "The @TableTuning compressionChunkLengthInKb of entity class '%s' requires a compression algorithm", className);
+        validateBeanMappingTrue(tableTuning.bloomFilterFPChance() == -1 || (tableTuning.bloomFilterFPChance() >= 0 && tableTuning.bloomFilterFPChance() <= 1),
+                "The @TableTuning bloomFilterFPChance of entity class '%s' should be between 0 and 1", className);
+        validateBeanMappingTrue(tableTuning.speculativeRetry().isEmpty() || SPECULATIVE_RETRY_PATTERN.matcher(tableTuning.speculativeRetry()).matches(),
+                "The @TableTuning speculativeRetry '%s' of entity class '%s' should be NONE, ALWAYS, <n>percentile or <n>ms", tableTuning.speculativeRetry(), className);
+    }
+
     public static enum Singleton {
         INSTANCE;
 
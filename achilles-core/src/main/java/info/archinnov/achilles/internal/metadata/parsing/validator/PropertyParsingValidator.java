@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.FluentIterable;
+import info.archinnov.achilles.annotations.Lazy;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyType;
 import org.slf4j.Logger;
@@ -35,6 +36,7 @@ import info.archinnov.achilles.internal.metadata.parsing.PropertyParser;
 import info.archinnov.achilles.internal.metadata.parsing.context.PropertyParsingContext;
 import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Counter;
 import info.archinnov.achilles.type.Pair;
 
 public class PropertyParsingValidator {
@@ -128,6 +130,18 @@ public class PropertyParsingValidator {
         }
     }
 
+    public void validateLazyIfSet(PropertyParsingContext context) {
+        String fieldName = context.getCurrentPropertyName();
+        String className = context.getCurrentEntityClass().getCanonicalName();
+        log.debug("Validate that the property {} of entity class {} can be lazy, if set", fieldName, className);
+        if (context.getCurrentField().getAnnotation(Lazy.class) != null) {
+            Validator.validateBeanMappingFalse(context.isCompoundPrimaryKey() || context.isPrimaryKey(),
+                    "Property '%s' of entity '%s' is a primary key and therefore cannot be lazy", fieldName, className);
+            Validator.validateBeanMappingFalse(Counter.class.isAssignableFrom(context.getCurrentField().getType()),
+                    "Property '%s' of entity '%s' is a counter, which is always lazy loaded, and therefore cannot have @Lazy", fieldName, className);
+        }
+    }
+
 //    public static void validateAllowedTypes(Class<?> type, Set<Class<?>> allowedTypes, String message) {
 //        log.debug("Validate that type {} is supported", type);
 //        if (!allowedTypes.contains(type) && !type.isEnum()) {
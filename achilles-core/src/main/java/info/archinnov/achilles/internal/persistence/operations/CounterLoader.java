@@ -16,8 +16,11 @@
 
 package info.archinnov.achilles.internal.persistence.operations;
 
+import java.util.List;
+import java.util.Map;
 import com.datastax.driver.core.Row;
 import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.internal.async.AsyncUtils;
@@ -69,6 +72,53 @@ public class CounterLoader {
         mapper.setCounterToEntity(counterMeta, entity, initialCounterValue);
     }
 
+    /**
+     * Load the given simple counters of the entity, blocking until they are set
+     */
+    public void loadCounters(EntityOperations context, Object entity, List<PropertyMeta> counterMetas) {
+        asyncUtils.buildInterruptible(loadCountersAsync(context, entity, counterMetas)).getImmediately();
+    }
+
+    /**
+     * Load the given simple counters of the entity. When they share the same read consistency level, they are all
+     * read with one query on the entity partition of <em>achilles_counter_table</em>, otherwise with one query per counter
+     *
+     * @return future of the counters set into the entity
+     */
+    public ListenableFuture<List<PropertyMeta>> loadCountersAsync(EntityOperations context, final Object entity, final List<PropertyMeta> counterMetas) {
+        final ConsistencyLevel readLevel = getCommonReadLevel(context, counterMetas);
+        if (readLevel == null) {
+            for (PropertyMeta counterMeta : counterMetas) {
+                loadCounter(context, entity, counterMeta);
+            }
+            return Futures.immediateFuture(counterMetas);
+        }
+
+        final ListenableFuture<Map<String, Long>> futureCounters = context.getSimpleCounters(readLevel);
+        Function<Map<String, Long>, List<PropertyMeta>> countersToEntity = new Function<Map<String, Long>, List<PropertyMeta>>() {
+            @Override
+            public List<PropertyMeta> apply(Map<String, Long> counters) {
+                for (PropertyMeta counterMeta : counterMetas) {
+                    mapper.setCounterToEntity(counterMeta, entity, counters.get(counterMeta.getCQLColumnName()));
+                }
+                return counterMetas;
+            }
+        };
+        return asyncUtils.transformFuture(futureCounters, countersToEntity);
+    }
+
+    private ConsistencyLevel getCommonReadLevel(EntityOperations context, List<PropertyMeta> counterMetas) {
+        ConsistencyLevel commonLevel = null;
+        for (PropertyMeta counterMeta : counterMetas) {
+            final ConsistencyLevel readLevel = overrider.getReadLevel(context, counterMeta);
+            if (commonLevel != null && commonLevel != readLevel) {
+                return null;
+            }
+            commonLevel = readLevel;
+        }
+        return commonLevel;
+    }
+
     public static enum Singleton {
         INSTANCE;
 
@@ -15,16 +15,35 @@
  */
 package info.archinnov.achilles.internal.persistence.operations;
 
+import static com.google.common.util.concurrent.MoreExecutors.sameThreadExecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Semaphore;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.context.ConfigurationContext;
+import info.archinnov.achilles.internal.context.facade.EntityOperations;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.proxy.AchillesProxyInterceptor;
+import info.archinnov.achilles.internal.proxy.ProxyInterceptor;
 
 public class EntityInitializer {
 	private static final Logger log = LoggerFactory.getLogger(EntityInitializer.class);
 
+    private EntityProxifier proxifier = EntityProxifier.Singleton.INSTANCE.get();
+    private CounterLoader counterLoader = CounterLoader.Singleton.INSTANCE.get();
+    private EntityLoader loader = EntityLoader.Singleton.INSTANCE.get();
+    private AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
+
 	public <T> void initializeEntity(T entity, EntityMeta entityMeta) {
 
 		log.debug("Initializing lazy fields for entity {} of class {}", entity, entityMeta.getClassName());
@@ -32,8 +51,153 @@ public class EntityInitializer {
 		for (PropertyMeta propertyMeta : entityMeta.getAllCounterMetas()) {
 				propertyMeta.forValues().forceLoad(entity);
 		}
+        forceLoadLazyProperties(entity, entityMeta);
 	}
 
+    /**
+     * Call the getter of each @Lazy property on the proxy so that the not yet loaded ones are fetched
+     */
+    private void forceLoadLazyProperties(Object proxy, EntityMeta entityMeta) {
+        for (PropertyMeta lazyMeta : entityMeta.getAllLazyMetas()) {
+            lazyMeta.forValues().forceLoad(proxy);
+        }
+    }
+
+    /**
+     * Load the @Lazy properties of an entity managed without proxy and record them in its snapshot,
+     * the loaded values are not seen as dirty on the next update
+     */
+    public void initializeLazyProperties(EntityOperations context, Object entity) {
+        final EntityMeta entityMeta = context.getEntityMeta();
+        log.debug("Initializing lazy properties for entity {} of class {}", entity, entityMeta.getClassName());
+
+        final List<PropertyMeta> lazyMetas = entityMeta.getAllLazyMetas();
+        if (lazyMetas.isEmpty()) {
+            return;
+        }
+        for (PropertyMeta lazyMeta : lazyMetas) {
+            loader.loadPropertyIntoObject(context, entity, lazyMeta);
+        }
+        context.getConfigContext().getSnapshotRegistry().refresh(entity, entityMeta, lazyMetas);
+    }
+
+    /**
+     * Load the counters of an entity managed without proxy, all the simple counters are read with one query
+     */
+    public void initializeCounters(EntityOperations context, Object entity) {
+        log.debug("Initializing counters for entity {} of class {}", entity, context.getEntityMeta().getClassName());
+
+        final List<PropertyMeta> counterMetas = context.getAllCountersMeta();
+        if (counterMetas.isEmpty()) {
+            return;
+        }
+        if (context.isClusteredCounter()) {
+            for (PropertyMeta counterMeta : counterMetas) {
+                counterLoader.loadClusteredCounterColumn(context, entity, counterMeta);
+            }
+        } else {
+            counterLoader.loadCounters(context, entity, counterMetas);
+        }
+    }
+
+    /**
+     * Initialize the counters and @Lazy properties of all the entities, proxies or entities managed without proxy
+     * with snapshot dirty checking. For each entity, the simple counters are read with one query and the @Lazy properties
+     * with one projection query. The loads are all collected first then sent asynchronously, with the loads of at most
+     * <em>initializeMaxConcurrency</em> entities in-flight
+     *
+     * @param contextProvider builds the context of an entity managed without proxy
+     */
+    public void initializeEntities(Collection<?> entities, ConfigurationContext configContext, Function<Object, EntityOperations> contextProvider) {
+        final int maxConcurrency = configContext.getInitializeMaxConcurrency();
+        log.debug("Initializing lazy fields for {} entities with max concurrency {}", entities.size(), maxConcurrency);
+
+        final List<PendingLoad> pendingLoads = new ArrayList<>();
+        for (Object entity : entities) {
+            proxifier.ensureManaged(entity, configContext);
+            if (proxifier.isProxy(entity)) {
+                final AchillesProxyInterceptor<Object> interceptor = proxifier.getInterceptor(entity);
+                final EntityOperations context = interceptor.getEntityOperations();
+                if (interceptor instanceof ProxyInterceptor && !context.isClusteredCounter()) {
+                    final ProxyInterceptor<?> proxyInterceptor = (ProxyInterceptor<?>) interceptor;
+                    pendingLoads.add(new PendingLoad(context, proxyInterceptor.getTarget(), proxyInterceptor.getCountersNotLoaded(),
+                            proxyInterceptor.getLazyPropertiesNotLoaded(), proxyInterceptor));
+                } else {
+                    initializeEntity(entity, context.getEntityMeta());
+                }
+            } else {
+                // Without proxy, the counters and @Lazy properties cannot be lazy loaded by their getter
+                final EntityOperations context = contextProvider.apply(entity);
+                if (context.isClusteredCounter()) {
+                    initializeCounters(context, entity);
+                } else {
+                    pendingLoads.add(new PendingLoad(context, entity, context.getAllCountersMeta(),
+                            context.getEntityMeta().getAllLazyMetas(), null));
+                }
+            }
+        }
+
+        final Semaphore window = new Semaphore(maxConcurrency);
+        final Runnable releasePermit = new Runnable() {
+            @Override
+            public void run() {
+                window.release();
+            }
+        };
+        final List<ListenableFuture<List<List<PropertyMeta>>>> entityLoads = new ArrayList<>(pendingLoads.size());
+        for (PendingLoad pendingLoad : pendingLoads) {
+            window.acquireUninterruptibly();
+            final ListenableFuture<List<List<PropertyMeta>>> entityLoad = pendingLoad.start();
+            entityLoad.addListener(releasePermit, sameThreadExecutor());
+            entityLoads.add(entityLoad);
+        }
+
+        final List<List<List<PropertyMeta>>> loaded = asyncUtils.buildInterruptible(Futures.allAsList(entityLoads)).getImmediately();
+        for (int i = 0; i < pendingLoads.size(); i++) {
+            final PendingLoad pendingLoad = pendingLoads.get(i);
+            final List<PropertyMeta> loadedCounters = loaded.get(i).get(0);
+            final List<PropertyMeta> loadedLazyProperties = loaded.get(i).get(1);
+            if (pendingLoad.interceptor != null) {
+                pendingLoad.interceptor.markLoaded(loadedCounters);
+                pendingLoad.interceptor.markLoaded(loadedLazyProperties);
+            } else if (!loadedLazyProperties.isEmpty()) {
+                pendingLoad.context.getConfigContext().getSnapshotRegistry().refresh(pendingLoad.target,
+                        pendingLoad.context.getEntityMeta(), loadedLazyProperties);
+            }
+        }
+    }
+
+    private class PendingLoad {
+        private final EntityOperations context;
+        private final Object target;
+        private final List<PropertyMeta> counterMetas;
+        private final List<PropertyMeta> lazyMetas;
+        private final ProxyInterceptor<?> interceptor;
+
+        private PendingLoad(EntityOperations context, Object target, List<PropertyMeta> counterMetas, List<PropertyMeta> lazyMetas,
+                ProxyInterceptor<?> interceptor) {
+            this.context = context;
+            this.target = target;
+            this.counterMetas = counterMetas;
+            this.lazyMetas = lazyMetas;
+            this.interceptor = interceptor;
+        }
+
+        /**
+         * @return future of the loaded counters and @Lazy properties, in this order
+         */
+        @SuppressWarnings("unchecked")
+        private ListenableFuture<List<List<PropertyMeta>>> start() {
+            final ListenableFuture<List<PropertyMeta>> counterLoad = counterMetas.isEmpty()
+                    ? Futures.immediateFuture(counterMetas)
+                    : counterLoader.loadCountersAsync(context, target, counterMetas);
+            final ListenableFuture<List<PropertyMeta>> lazyLoad = lazyMetas.isEmpty()
+                    ? Futures.immediateFuture(lazyMetas)
+                    : loader.loadPropertiesIntoObjectAsync(context, target, lazyMetas);
+            return Futures.allAsList(counterLoad, lazyLoad);
+        }
+    }
+
     public static enum Singleton {
         INSTANCE;
 
@@ -15,6 +15,8 @@
  */
 package info.archinnov.achilles.internal.persistence.operations;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.Row;
@@ -36,6 +38,13 @@ public class EntityLoader {
     private AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
 
     public <T> AchillesFuture<T> load(EntityOperations context, Class<T> entityClass) {
+        return load(context, entityClass, false);
+    }
+
+    /**
+     * @param bypassRowCache read the entity from Cassandra even if its class has a near cache or a negative cache
+     */
+    public <T> AchillesFuture<T> load(EntityOperations context, Class<T> entityClass, boolean bypassRowCache) {
         log.debug("Loading entity of class {} using PersistenceContext {}", entityClass, context);
         final EntityMeta entityMeta = context.getEntityMeta();
         Object primaryKey = context.getPrimaryKey();
@@ -49,7 +58,7 @@ public class EntityLoader {
         if (entityMeta.structure().isClusteredCounter()) {
             achillesFuture = counterLoader.loadClusteredCounters(context);
         } else {
-            final ListenableFuture<Row> futureRow = context.loadEntity();
+            final ListenableFuture<Row> futureRow = context.loadEntity(bypassRowCache);
             Function<Row, T> rowToEntity = new Function<Row, T>() {
                 @Override
                 public T apply(Row row) {
@@ -69,6 +78,31 @@ public class EntityLoader {
         return achillesFuture;
     }
 
+    public <T> AchillesFuture<T> loadProjection(EntityOperations context, Class<T> entityClass, final List<PropertyMeta> projection) {
+        log.debug("Loading projection {} of entity class {} using PersistenceContext {}", projection, entityClass, context);
+        final EntityMeta entityMeta = context.getEntityMeta();
+
+        Validator.validateNotNull(context.getPrimaryKey(), "Entity '%s' key should not be null", entityClass.getCanonicalName());
+
+        final ListenableFuture<Row> futureRow = context.loadProjection(projection);
+        Function<Row, T> rowToEntity = new Function<Row, T>() {
+            @Override
+            public T apply(Row row) {
+                T entity = null;
+                if (row != null) {
+                    entity = entityMeta.forOperations().instanciate();
+                    for (PropertyMeta pm : projection) {
+                        mapper.setPropertyToEntity(row, entityMeta, pm, entity);
+                    }
+                }
+                return entity;
+            }
+        };
+
+        final ListenableFuture<T> futureEntity = asyncUtils.transformFuture(futureRow, rowToEntity);
+        return asyncUtils.buildInterruptible(futureEntity);
+    }
+
     public <T> T createEmptyEntity(EntityOperations context, Class<T> entityClass) {
         log.debug("Loading entity of class {} using PersistenceContext {}", entityClass, context);
         EntityMeta entityMeta = context.getEntityMeta();
@@ -84,6 +118,27 @@ public class EntityLoader {
         return entity;
     }
 
+    /**
+     * Load the given non counter properties of the entity with one query
+     *
+     * @return future of the properties set into the entity
+     */
+    public ListenableFuture<List<PropertyMeta>> loadPropertiesIntoObjectAsync(final EntityOperations context, final Object realObject, final List<PropertyMeta> pms) {
+        log.trace("Loading properties {} into object {}", pms, realObject);
+        final ListenableFuture<Row> futureRow = context.loadProjection(pms);
+        Function<Row, List<PropertyMeta>> rowToEntity = new Function<Row, List<PropertyMeta>>() {
+            @Override
+            public List<PropertyMeta> apply(Row row) {
+                for (PropertyMeta pm : pms) {
+                    final Row actualRow = row == null && pm.structure().isCollectionAndMap() ? new NullRow() : row;
+                    mapper.setPropertyToEntity(actualRow, context.getEntityMeta(), pm, realObject);
+                }
+                return pms;
+            }
+        };
+        return asyncUtils.transformFuture(futureRow, rowToEntity);
+    }
+
     public void loadPropertyIntoObject(EntityOperations context, Object realObject, PropertyMeta pm) {
         log.trace("Loading property {} into object {}", pm.getPropertyName(), realObject);
         if (pm.structure().isCounter()) {
@@ -38,7 +38,7 @@ public class EntityMapper {
 
     public void setNonCounterPropertiesToEntity(Row row, EntityMeta entityMeta, Object entity) {
         log.debug("Set non-counter properties to entity class {} from fetched CQL row", entityMeta.getClassName());
-        for (PropertyMeta pm : entityMeta.getAllMetasExceptCounters()) {
+        for (PropertyMeta pm : entityMeta.getAllEagerMetasExceptCounters()) {
             setPropertyToEntity(row, entityMeta, pm, entity);
         }
     }
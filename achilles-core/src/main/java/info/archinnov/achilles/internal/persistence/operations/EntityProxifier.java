@@ -15,6 +15,8 @@
  */
 package info.archinnov.achilles.internal.persistence.operations;
 
+import info.archinnov.achilles.internal.context.ConfigurationContext;
+import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.internal.context.facade.EntityOperations;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
@@ -59,13 +61,55 @@ public class EntityProxifier {
     }
 
     public <T> T buildProxyWithAllFieldsLoadedExceptCounters(T entity, EntityOperations context) {
-        return buildProxy(entity, context, context.getAllGettersExceptCounters());
+        if (context.getConfigContext().isSnapshotDirtyChecking()) {
+            return registerSnapshot(entity, context, context.getAllEagerGettersExceptCounters());
+        }
+        return buildProxy(entity, context, context.getAllEagerGettersExceptCounters());
     }
 
     public <T> T buildProxyWithAllFieldsLoaded(T entity, EntityOperations context) {
+        if (context.getConfigContext().isSnapshotDirtyChecking()) {
+            return registerSnapshot(entity, context, context.getAllGetters());
+        }
         return buildProxy(entity, context, context.getAllGetters());
     }
 
+    /**
+     * Build a proxy for a partially loaded entity, the other properties are lazy loaded by their getter.
+     * Not available with snapshot dirty checking since there is no proxy to lazy load them
+     */
+    public <T> T buildProxyWithFieldsLoaded(T entity, EntityOperations context, Set<Method> alreadyLoaded) {
+        Validator.validateFalse(context.getConfigContext().isSnapshotDirtyChecking(),
+                "Cannot manage a partially loaded entity '%s' with snapshot dirty checking since the other properties cannot be lazy loaded", context.getEntityMeta().getClassName());
+        return buildProxy(entity, context, alreadyLoaded);
+    }
+
+    public <T> T buildProxyWithFieldsLoaded(T entity, EntityOperations context, List<PropertyMeta> loadedMetas) {
+        final Set<Method> alreadyLoaded = new HashSet<>();
+        for (PropertyMeta pm : loadedMetas) {
+            alreadyLoaded.add(pm.getGetter());
+        }
+        return buildProxyWithFieldsLoaded(entity, context, alreadyLoaded);
+    }
+
+    /**
+     * Manage the entity without proxy, the dirty fields are found by comparison with a snapshot of the entity
+     */
+    public <T> T registerSnapshot(T entity, EntityOperations context, Set<Method> alreadyLoaded) {
+        if (entity == null) {
+            return null;
+        }
+
+        log.debug("Register snapshot for entity {} ", entity);
+
+        for (PropertyMeta counterMeta : context.getEntityMeta().getAllCounterMetas()) {
+            if (!alreadyLoaded.contains(counterMeta.getGetter())) {
+                counterMeta.forValues().setValueToField(entity, null);
+            }
+        }
+        return context.getConfigContext().getSnapshotRegistry().register(entity, context.getEntityMeta());
+    }
+
     public <T> T buildProxyWithNoFieldLoaded(T entity, EntityOperations context) {
         return buildProxy(entity, context, new HashSet<Method>());
     }
@@ -155,6 +199,19 @@ public class EntityProxifier {
         }
     }
 
+    /**
+     * @return whether the entity is a proxy or an entity tracked by the snapshot registry
+     */
+    public boolean isManaged(Object entity, ConfigurationContext configContext) {
+        return isProxy(entity) || (configContext.isSnapshotDirtyChecking() && configContext.getSnapshotRegistry().isManaged(entity));
+    }
+
+    public void ensureManaged(Object entity, ConfigurationContext configContext) {
+        if (!isManaged(entity, configContext)) {
+            throw new IllegalStateException("The entity '" + entity + "' is not in 'managed' state.");
+        }
+    }
+
     public void ensureNotProxy(Object rawEntity) {
         if (isProxy(rawEntity)) {
             throw new IllegalStateException("The entity is already in 'managed' state.");
@@ -19,14 +19,19 @@ import info.archinnov.achilles.internal.proxy.AchillesProxyInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.internal.context.facade.EntityOperations;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.proxy.ProxyInterceptor;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 public class EntityRefresher {
@@ -41,13 +46,26 @@ public class EntityRefresher {
         log.debug("Refreshing entity of class {} and primary key {}", context.getEntityClass().getCanonicalName(),
                 primaryKey);
 
-        final AchillesProxyInterceptor<T> interceptor = proxifier.getInterceptor(proxy);
         final Object entity = context.getEntity();
+        final Class<T> entityClass = context.getEntityClass();
+
+        if (!proxifier.isProxy(proxy)) {
+            // @Lazy columns are not loaded with the entity, the ones already initialized are reloaded alongside
+            final List<PropertyMeta> initializedLazyMetas = initializedLazyMetas(context.getEntityMeta(), proxy);
+            final AchillesFuture<T> entityFuture = loader.load(context, entityClass, true);
+            final ListenableFuture<List<PropertyMeta>> lazyReload = initializedLazyMetas.isEmpty()
+                    ? Futures.immediateFuture(initializedLazyMetas)
+                    : loader.loadPropertiesIntoObjectAsync(context, proxy, initializedLazyMetas);
+            final Function<List<Object>, T> updateSnapshot = updateSnapshot(context, proxy, primaryKey);
+            return asyncUtils.buildInterruptible(asyncUtils.transformFuture(Futures.<Object>allAsList(entityFuture, lazyReload), updateSnapshot));
+        }
+
+        final AchillesProxyInterceptor<T> interceptor = proxifier.getInterceptor(proxy);
 
         interceptor.getDirtyMap().clear();
 
-        final Class<T> entityClass = context.getEntityClass();
-        final AchillesFuture<T> entityFuture = loader.load(context, entityClass);
+        // A cached row or miss is what the refresh should replace, so the row cache is bypassed
+        final AchillesFuture<T> entityFuture = loader.load(context, entityClass, true);
 
         Function<T, T> updateInterceptor = updateProxyInterceptor(context, interceptor, entity, primaryKey);
         final ListenableFuture<T> triggerInterceptors = asyncUtils.transformFuture(entityFuture, updateInterceptor);
@@ -64,12 +82,43 @@ public class EntityRefresher {
                     interceptor.setTarget(freshEntity);
                     final Set<Method> alreadyLoaded = interceptor.getAlreadyLoaded();
                     alreadyLoaded.clear();
-                    alreadyLoaded.addAll(context.getAllGettersExceptCounters());
+                    alreadyLoaded.addAll(context.getAllEagerGettersExceptCounters());
                     return freshEntity;
                 }
             };
     }
 
+    /**
+     * @return function taking the fresh entity and the reloaded @Lazy properties, in this order
+     */
+    protected <T> Function<List<Object>, T> updateSnapshot(final EntityOperations context, final T entity, final Object primaryKey) {
+        return new Function<List<Object>, T>() {
+            @Override
+            public T apply(List<Object> loaded) {
+                @SuppressWarnings("unchecked")
+                final T freshEntity = (T) loaded.get(0);
+                if (freshEntity == null) {
+                    throw new AchillesStaleObjectStateException("The entity '" + entity + "' with primary_key '" + primaryKey + "' no longer exists in Cassandra");
+                }
+                final EntityMeta entityMeta = context.getEntityMeta();
+                for (PropertyMeta propertyMeta : entityMeta.getAllEagerMetasExceptCounters()) {
+                    propertyMeta.forValues().setValueToField(entity, propertyMeta.forValues().getValueFromField(freshEntity));
+                }
+                return proxifier.registerSnapshot(entity, context, context.getAllEagerGettersExceptCounters());
+            }
+        };
+    }
+
+    private List<PropertyMeta> initializedLazyMetas(EntityMeta entityMeta, Object entity) {
+        final List<PropertyMeta> initializedLazyMetas = new ArrayList<>();
+        for (PropertyMeta lazyMeta : entityMeta.getAllLazyMetas()) {
+            if (lazyMeta.forValues().getValueFromField(entity) != null) {
+                initializedLazyMetas.add(lazyMeta);
+            }
+        }
+        return initializedLazyMetas;
+    }
+
     public static enum Singleton {
         INSTANCE;
 
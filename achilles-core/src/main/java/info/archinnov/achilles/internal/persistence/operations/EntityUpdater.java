@@ -59,9 +59,14 @@ public class EntityUpdater {
         Object realObject = proxifier.getRealObject(entity);
         context.setEntity(realObject);
 
-        AchillesProxyInterceptor interceptor = proxifier.getInterceptor(entity);
-        Map<Method, DirtyChecker> dirtyMap = interceptor.getDirtyMap();
-        List<DirtyChecker> dirtyCheckers = new ArrayList<>(dirtyMap.values());
+        final boolean proxy = proxifier.isProxy(entity);
+        final List<DirtyChecker> dirtyCheckers;
+        if (proxy) {
+            Map<Method, DirtyChecker> dirtyMap = proxifier.getInterceptor(entity).getDirtyMap();
+            dirtyCheckers = new ArrayList<>(dirtyMap.values());
+        } else {
+            dirtyCheckers = context.getConfigContext().getSnapshotRegistry().findDirtyCheckers(realObject, entityMeta);
+        }
 
         if (dirtyCheckers.size() > 0) {
             pushDirtySimpleFields(context, dirtyCheckers);
@@ -74,8 +79,11 @@ public class EntityUpdater {
         } else {
             counterPersister.persistCounters(context, entityMeta.getAllCounterMetas());
         }
-        interceptor.setEntityOperations(context);
-        interceptor.setTarget(realObject);
+        if (proxy) {
+            AchillesProxyInterceptor interceptor = proxifier.getInterceptor(entity);
+            interceptor.setEntityOperations(context);
+            interceptor.setTarget(realObject);
+        }
     }
 
     private void pushCollectionAndMapUpdates(EntityOperations context, List<DirtyChecker> dirtyCheckers) {
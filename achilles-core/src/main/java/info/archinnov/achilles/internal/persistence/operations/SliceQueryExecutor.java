@@ -16,7 +16,9 @@
 package info.archinnov.achilles.internal.persistence.operations;
 
 import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ITERATOR;
+import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_PAGE;
 import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ROWS;
+import static info.archinnov.achilles.internal.async.AsyncUtils.TO_EMPTY;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -28,19 +30,25 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.async.BlockingCall;
+import info.archinnov.achilles.internal.async.CompletionPipeline;
 import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
+import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContext;
 import info.archinnov.achilles.internal.context.PersistenceContextFactory;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
 import info.archinnov.achilles.query.slice.SliceQueryProperties;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Page;
 
 public class SliceQueryExecutor {
 
@@ -51,22 +59,29 @@ public class SliceQueryExecutor {
     protected AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
     protected PersistenceContextFactory contextFactory;
     protected DaoContext daoContext;
+    protected ConfigurationContext configContext;
     protected ExecutorService executorService;
 
 
     public SliceQueryExecutor(PersistenceContextFactory contextFactory, ConfigurationContext configContext, DaoContext daoContext) {
         this.contextFactory = contextFactory;
         this.daoContext = daoContext;
-        this.executorService = configContext.getExecutorService();
+        this.configContext = configContext;
+        this.executorService = configContext.getCallbackExecutor();
     }
 
-    public <T> List<T> get(SliceQueryProperties<T> sliceQueryProperties) {
-        return asyncGet(sliceQueryProperties).getImmediately();
+    public <T> List<T> get(final SliceQueryProperties<T> sliceQueryProperties) {
+        return configContext.awaitBlocking(new BlockingCall<List<T>>() {
+            @Override
+            public AchillesFuture<List<T>> start() {
+                return asyncGet(sliceQueryProperties);
+            }
+        });
     }
 
     public <T> AchillesFuture<List<T>> asyncGet(SliceQueryProperties<T> sliceQueryProperties) {
         log.debug("Get slice query");
-        final ListenableFuture<List<T>> futureEntities = coreAsyncGet(sliceQueryProperties);
+        final ListenableFuture<List<T>> futureEntities = coreAsyncGet(sliceQueryProperties).build();
         return asyncUtils.buildInterruptible(futureEntities);
     }
 
@@ -84,46 +99,74 @@ public class SliceQueryExecutor {
             }
         };
 
-        final ListenableFuture<List<T>> futureEntities = coreAsyncGet(sliceQueryProperties);
-        final ListenableFuture<T> futureEntity = asyncUtils.transformFuture(futureEntities, takeFirstFunction);
+        final ListenableFuture<T> futureEntity = coreAsyncGet(sliceQueryProperties).then(takeFirstFunction).build();
         return asyncUtils.buildInterruptible(futureEntity);
     }
 
-    protected <T> ListenableFuture<List<T>> coreAsyncGet(SliceQueryProperties<T> sliceQueryProperties) {
+    protected <T> CompletionPipeline<List<T>> coreAsyncGet(SliceQueryProperties<T> sliceQueryProperties) {
         final EntityMeta meta = sliceQueryProperties.getEntityMeta();
+        final Optional<List<PropertyMeta>> projectionO = sliceQueryProperties.getProjection();
+        validateProjection(meta, projectionO);
 
         final BoundStatementWrapper bsWrapper = daoContext.bindForSliceQuerySelect(sliceQueryProperties);
 
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.executePaged(bsWrapper);
+        return asyncUtils.pipeline(resultSetFuture)
+                .then(RESULTSET_TO_ROWS)
+                .then(this.<T>getRowsToEntitiesTransformer(meta, projectionO))
+                .notify(sliceQueryProperties.getAsyncListeners())
+                .then(this.<T>getProxyListTransformer(projectionO));
+    }
+
+    public <T> Page<T> getPage(final SliceQueryProperties<T> sliceQueryProperties) {
+        return configContext.awaitBlocking(new BlockingCall<Page<T>>() {
+            @Override
+            public AchillesFuture<Page<T>> start() {
+                return asyncGetPage(sliceQueryProperties);
+            }
+        });
+    }
+
+    public <T> AchillesFuture<Page<T>> asyncGetPage(SliceQueryProperties<T> sliceQueryProperties) {
+        log.debug("Get page for slice query");
+        final EntityMeta meta = sliceQueryProperties.getEntityMeta();
+        final Optional<List<PropertyMeta>> projectionO = sliceQueryProperties.getProjection();
+        validateProjection(meta, projectionO);
+
+        final BoundStatementWrapper bsWrapper = daoContext.bindForSliceQuerySelect(sliceQueryProperties);
         final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(bsWrapper);
-        final ListenableFuture<List<Row>> futureRows = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ROWS);
-        Function<List<Row>, List<T>> rowsToEntities = new Function<List<Row>, List<T>>() {
+
+        final Function<List<Row>, List<T>> rowsToEntities = getRowsToEntitiesTransformer(meta, projectionO);
+        final Function<List<T>, List<T>> entitiesToProxies = getProxyListTransformer(projectionO);
+        Function<Page<Row>, Page<T>> rowsPageToEntitiesPage = new Function<Page<Row>, Page<T>>() {
             @Override
-            public List<T> apply(List<Row> rows) {
-                List<T> clusteredEntities = new ArrayList<>();
-                for (Row row : rows) {
-                    T clusteredEntity = meta.forOperations().instanciate();
-                    mapper.setNonCounterPropertiesToEntity(row, meta, clusteredEntity);
-                    meta.forInterception().intercept(clusteredEntity, Event.POST_LOAD);
-                    clusteredEntities.add(clusteredEntity);
-                }
-                return clusteredEntities;
+            public Page<T> apply(Page<Row> rowsPage) {
+                final List<T> entities = entitiesToProxies.apply(rowsToEntities.apply(rowsPage.getResults()));
+                return new Page<>(entities, rowsPage.getPagingState());
             }
         };
-        final ListenableFuture<List<T>> futureEntities = asyncUtils.transformFuture(futureRows, rowsToEntities);
-        asyncUtils.maybeAddAsyncListeners(futureEntities, sliceQueryProperties.getAsyncListeners());
-
-        return asyncUtils.transformFuture(futureEntities, this.<T>getProxyListTransformer());
+        final ListenableFuture<Page<T>> futurePage = asyncUtils.pipeline(resultSetFuture)
+                .then(RESULTSET_TO_PAGE)
+                .then(rowsPageToEntitiesPage)
+                .notify(sliceQueryProperties.getAsyncListeners())
+                .build();
+        return asyncUtils.buildInterruptible(futurePage);
     }
 
     public <T> Iterator<T> iterator(final SliceQueryProperties<T> sliceQueryProperties) {
         log.debug("Get iterator for slice query");
-        return asyncIterator(sliceQueryProperties).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<Iterator<T>>() {
+            @Override
+            public AchillesFuture<Iterator<T>> start() {
+                return asyncIterator(sliceQueryProperties);
+            }
+        });
     }
 
     public <T> AchillesFuture<Iterator<T>> asyncIterator(final SliceQueryProperties<T> sliceQueryProperties) {
         log.debug("Get iterator for slice query asynchronously");
         final BoundStatementWrapper bsWrapper = daoContext.bindForSliceQuerySelect(sliceQueryProperties);
-        final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(bsWrapper);
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.executePaged(bsWrapper);
         final ListenableFuture<Iterator<Row>> futureIterator = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ITERATOR);
 
         Function<Iterator<Row>, Iterator<T>> rowToIterator = new Function<Iterator<Row>, Iterator<T>>() {
@@ -139,15 +182,22 @@ public class SliceQueryExecutor {
     }
 
     public <T> void delete(final SliceQueryProperties<T> sliceQueryProperties) {
-        asyncDelete(sliceQueryProperties).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Empty>() {
+            @Override
+            public AchillesFuture<Empty> start() {
+                return asyncDelete(sliceQueryProperties);
+            }
+        });
     }
 
     public <T> AchillesFuture<Empty> asyncDelete(final SliceQueryProperties<T> sliceQueryProperties) {
         log.debug("Slice delete");
         final BoundStatementWrapper bsWrapper = daoContext.bindForSliceQueryDelete(sliceQueryProperties);
         final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(bsWrapper);
-        final ListenableFuture<Empty> listenableFuture = asyncUtils.transformFutureToEmpty(resultSetFuture, executorService);
-        asyncUtils.maybeAddAsyncListeners(listenableFuture, sliceQueryProperties.getAsyncListeners(), executorService);
+        final ListenableFuture<Empty> listenableFuture = asyncUtils.pipeline(resultSetFuture)
+                .then(TO_EMPTY)
+                .notify(sliceQueryProperties.getAsyncListeners())
+                .build(executorService);
         return asyncUtils.buildInterruptible(listenableFuture);
     }
 
@@ -161,14 +211,45 @@ public class SliceQueryExecutor {
         return executorService;
     }
 
-    private <T> Function<List<T>, List<T>> getProxyListTransformer() {
+    private void validateProjection(EntityMeta meta, Optional<List<PropertyMeta>> projectionO) {
+        Validator.validateFalse(projectionO.isPresent() && configContext.isSnapshotDirtyChecking(),
+                "Cannot select a projection of entity '%s' with snapshot dirty checking since the other properties cannot be lazy loaded", meta.getClassName());
+    }
+
+    private <T> Function<List<Row>, List<T>> getRowsToEntitiesTransformer(final EntityMeta meta, final Optional<List<PropertyMeta>> projectionO) {
+        return new Function<List<Row>, List<T>>() {
+            @Override
+            public List<T> apply(List<Row> rows) {
+                List<T> clusteredEntities = new ArrayList<>();
+                for (Row row : rows) {
+                    T clusteredEntity = meta.forOperations().instanciate();
+                    if (projectionO.isPresent()) {
+                        for (PropertyMeta pm : projectionO.get()) {
+                            mapper.setPropertyToEntity(row, meta, pm, clusteredEntity);
+                        }
+                    } else {
+                        mapper.setNonCounterPropertiesToEntity(row, meta, clusteredEntity);
+                    }
+                    meta.forInterception().intercept(clusteredEntity, Event.POST_LOAD);
+                    clusteredEntities.add(clusteredEntity);
+                }
+                return clusteredEntities;
+            }
+        };
+    }
+
+    private <T> Function<List<T>, List<T>> getProxyListTransformer(final Optional<List<PropertyMeta>> projectionO) {
         return new Function<List<T>, List<T>>() {
             @Override
             public List<T> apply(List<T> clusteredEntities) {
                 final List<T> proxies = new ArrayList<>();
                 for (T clusteredEntity : clusteredEntities) {
                     PersistenceContext context = contextFactory.newContext(clusteredEntity);
-                    proxies.add(proxifier.buildProxyWithAllFieldsLoadedExceptCounters(clusteredEntity, context.getEntityFacade()));
+                    if (projectionO.isPresent()) {
+                        proxies.add(proxifier.buildProxyWithFieldsLoaded(clusteredEntity, context.getEntityFacade(), projectionO.get()));
+                    } else {
+                        proxies.add(proxifier.buildProxyWithAllFieldsLoadedExceptCounters(clusteredEntity, context.getEntityFacade()));
+                    }
                 }
                 return proxies;
             }
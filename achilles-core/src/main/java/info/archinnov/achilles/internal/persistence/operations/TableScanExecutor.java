@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.persistence.operations;
+
+import static info.archinnov.achilles.internal.consistency.ConsistencyConverter.getCQLLevel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TokenRange;
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.base.Supplier;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.interceptor.Event;
+import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.async.BlockingCall;
+import info.archinnov.achilles.internal.context.ConfigurationContext;
+import info.archinnov.achilles.internal.context.DaoContext;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
+import info.archinnov.achilles.internal.validation.Validator;
+import info.archinnov.achilles.listener.LWTResultListener;
+import info.archinnov.achilles.query.scan.TableScanCheckpoint;
+import info.archinnov.achilles.query.scan.TableScanConsumer;
+import info.archinnov.achilles.query.scan.TableScanListener;
+import info.archinnov.achilles.query.scan.TableScanProperties;
+import info.archinnov.achilles.type.Empty;
+
+public class TableScanExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(TableScanExecutor.class);
+
+    private static final ThreadFactory SCAN_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("achilles-table-scan-%d")
+            .setDaemon(true)
+            .build();
+
+    private static final Comparator<TokenRange> BY_START_TOKEN = new Comparator<TokenRange>() {
+        @Override
+        public int compare(TokenRange range1, TokenRange range2) {
+            return range1.getStart().compareTo(range2.getStart());
+        }
+    };
+
+    protected EntityMapper mapper = EntityMapper.Singleton.INSTANCE.get();
+    protected AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
+    protected ConfigurationContext configContext;
+    protected DaoContext daoContext;
+
+    public TableScanExecutor(ConfigurationContext configContext, DaoContext daoContext) {
+        this.configContext = configContext;
+        this.daoContext = daoContext;
+    }
+
+    public <T> void scan(final TableScanProperties<T> tableScanProperties, final TableScanConsumer<T> consumer) {
+        configContext.awaitBlocking(new BlockingCall<Empty>() {
+            @Override
+            public AchillesFuture<Empty> start() {
+                return asyncScan(tableScanProperties, consumer);
+            }
+        });
+    }
+
+    public <T> AchillesFuture<Empty> asyncScan(final TableScanProperties<T> tableScanProperties, final TableScanConsumer<T> consumer) {
+        final EntityMeta meta = tableScanProperties.getEntityMeta();
+        log.debug("Scan table of entity {} with {} splits and parallelism {}", meta.getClassName(),
+                tableScanProperties.getSplitCount(), tableScanProperties.getParallelism());
+
+        final Session session = daoContext.getSession();
+        final List<TokenRange> splits = splitTokenRing(session.getCluster().getMetadata().getTokenRanges(), tableScanProperties.getSplitCount());
+
+        final long ringFingerprint = ringFingerprint(splits);
+        final TableScanCheckpoint initialCheckpoint = tableScanProperties.getCheckpoint().or(new TableScanCheckpoint(splits.size(), ringFingerprint));
+        Validator.validateTrue(initialCheckpoint.getSplitCount() == splits.size(),
+                "Cannot resume the scan of entity '%s' from a checkpoint of %s splits because the token ring is now divided into %s splits. The token ring or the split count changed",
+                meta.getClassName(), initialCheckpoint.getSplitCount(), splits.size());
+        Validator.validateTrue(initialCheckpoint.getRingFingerprint() == ringFingerprint,
+                "Cannot resume the scan of entity '%s' from the checkpoint because the token ring changed since it was taken",
+                meta.getClassName());
+
+        final PreparedStatement boundedPS = daoContext.getTokenRangeSelect(meta, true);
+        final PreparedStatement openPS = daoContext.getTokenRangeSelect(meta, false);
+        final AtomicReference<TableScanCheckpoint> checkpoint = new AtomicReference<>(initialCheckpoint);
+
+        final ListeningExecutorService scanExecutor = MoreExecutors.listeningDecorator(
+                Executors.newFixedThreadPool(tableScanProperties.getParallelism(), SCAN_THREAD_FACTORY));
+        final List<ListenableFuture<Empty>> splitFutures = new ArrayList<>();
+        for (int i = 0; i < splits.size(); i++) {
+            if (initialCheckpoint.isCompleted(i)) {
+                continue;
+            }
+            final int splitIndex = i;
+            final TokenRange split = splits.get(i);
+            splitFutures.add(scanExecutor.submit(new Callable<Empty>() {
+                @Override
+                public Empty call() {
+                    scanSplit(tableScanProperties, split, boundedPS, openPS, consumer);
+                    notifySplitCompleted(tableScanProperties.getListener(), checkpoint, splitIndex);
+                    return Empty.INSTANCE;
+                }
+            }));
+        }
+        // Already submitted splits keep running, the threads are released once the last one completes
+        scanExecutor.shutdown();
+
+        final ListenableFuture<List<Empty>> allSplits = Futures.allAsList(splitFutures);
+        Futures.addCallback(allSplits, new FutureCallback<List<Empty>>() {
+            @Override
+            public void onSuccess(List<Empty> result) {
+                log.debug("Scan of table of entity {} completed", meta.getClassName());
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                log.error("Scan of table of entity {} failed, cancelling the remaining splits", meta.getClassName(), throwable);
+                scanExecutor.shutdownNow();
+            }
+        });
+        return asyncUtils.buildInterruptible(asyncUtils.transformFutureToEmpty(allSplits, configContext.getExecutorService()));
+    }
+
+    /**
+     * Split every token range of the ring so that the whole ring is divided in at least splitCount
+     * sub-ranges. Wrapping sub-ranges are unwrapped so that each of them can be expressed as a single
+     * token(pk) > ? AND token(pk) <= ? restriction. The result is sorted so that a given ring always
+     * gives the same split indexes, which is required to resume from a checkpoint
+     */
+    List<TokenRange> splitTokenRing(Set<TokenRange> tokenRanges, int splitCount) {
+        Validator.validateNotEmpty(tokenRanges, "Cannot scan the table because the token ring of the cluster is unknown");
+        final int splitsPerRange = Math.max(1, (splitCount + tokenRanges.size() - 1) / tokenRanges.size());
+        final List<TokenRange> splits = new ArrayList<>();
+        for (TokenRange tokenRange : tokenRanges) {
+            for (TokenRange split : tokenRange.splitEvenly(splitsPerRange)) {
+                splits.addAll(split.unwrap());
+            }
+        }
+        Collections.sort(splits, BY_START_TOKEN);
+        log.trace("Token ring of {} ranges divided into {} splits", tokenRanges.size(), splits.size());
+        return splits;
+    }
+
+    /**
+     * The splits are sorted and contiguous, so their start tokens are enough to identify them
+     */
+    long ringFingerprint(List<TokenRange> splits) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (TokenRange split : splits) {
+            hasher.putString(split.getStart().toString(), Charsets.UTF_8);
+        }
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * An unwrapped sub-range whose start is not below its end can only end on the minimum token,
+     * meaning the end of the ring, so it is only bounded by its start
+     */
+    boolean isUpperBounded(TokenRange split) {
+        return split.getStart().compareTo(split.getEnd()) < 0;
+    }
+
+    private <T> void scanSplit(TableScanProperties<T> tableScanProperties, TokenRange split,
+            PreparedStatement boundedPS, PreparedStatement openPS, TableScanConsumer<T> consumer) {
+        log.trace("Scan split {} of entity {}", split, tableScanProperties.getEntityMeta().getClassName());
+
+        final EntityMeta meta = tableScanProperties.getEntityMeta();
+        final boolean upperBounded = isUpperBounded(split);
+        final PreparedStatement ps = upperBounded ? boundedPS : openPS;
+        final Object[] boundValues = upperBounded
+                ? new Object[] { split.getStart().getValue(), split.getEnd().getValue() }
+                : new Object[] { split.getStart().getValue() };
+
+        final BoundStatementWrapper bsWrapper = bindForSplit(tableScanProperties, ps, boundValues);
+
+        // Pages beyond the first one are fetched synchronously by this scan thread while iterating
+        final ResultSet resultSet = asyncUtils.buildInterruptible(daoContext.execute(bsWrapper)).getImmediately();
+        for (Row row : resultSet) {
+            T entity = meta.forOperations().instanciate();
+            mapper.setNonCounterPropertiesToEntity(row, meta, entity);
+            meta.forInterception().intercept(entity, Event.POST_LOAD);
+            consumer.accept(entity);
+        }
+    }
+
+    private <T> BoundStatementWrapper bindForSplit(final TableScanProperties<T> tableScanProperties, final PreparedStatement ps, final Object[] boundValues) {
+        Supplier<BoundStatement> bs = new Supplier<BoundStatement>() {
+            @Override
+            public BoundStatement get() {
+                BoundStatement bs = ps.bind(boundValues);
+                tableScanProperties.setFetchSizeToStatement(bs);
+                return bs;
+            }
+        };
+        return new BoundStatementWrapper(tableScanProperties.getEntityClass(), bs, boundValues, getCQLLevel(tableScanProperties.getReadConsistencyLevel()),
+                Optional.<LWTResultListener>absent(), Optional.<com.datastax.driver.core.ConsistencyLevel>absent());
+    }
+
+    private void notifySplitCompleted(Optional<TableScanListener> listenerO, AtomicReference<TableScanCheckpoint> checkpoint, int splitIndex) {
+        // Serialized so that the listener always receives checkpoints in increasing order
+        synchronized (checkpoint) {
+            final TableScanCheckpoint updated = checkpoint.get().withCompletedSplit(splitIndex);
+            checkpoint.set(updated);
+            if (listenerO.isPresent()) {
+                listenerO.get().onSplitCompleted(updated);
+            }
+        }
+    }
+}
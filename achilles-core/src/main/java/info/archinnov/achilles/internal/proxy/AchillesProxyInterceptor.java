@@ -19,5 +19,7 @@ public interface AchillesProxyInterceptor<T> {
 
     void setEntityOperations(EntityOperations context);
 
+    EntityOperations getEntityOperations();
+
     Set<Method> getAlreadyLoaded();
 }
@@ -16,6 +16,8 @@
 package info.archinnov.achilles.internal.proxy;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +56,7 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
     private transient Map<Method, DirtyChecker> dirtyMap;
     private transient Set<Method> alreadyLoaded;
     private transient EntityOperations context;
+    private transient Map<Method, CachedWrapper> wrappers = new HashMap<>();
 
     @Override
     public Object getTarget() {
@@ -90,6 +93,14 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
             log.trace("Loading property {}", propertyMeta.getPropertyName());
             if (context.isClusteredCounter()) {
                 counterLoader.loadClusteredCounterColumn(context, target, propertyMeta);
+            } else if (propertyMeta.structure().isCounter()) {
+                // Load all the counters of the entity with one query, they are in the same partition
+                final List<PropertyMeta> counterMetas = getCountersNotLoaded();
+                if (!counterMetas.contains(propertyMeta)) {
+                    counterMetas.add(propertyMeta);
+                }
+                counterLoader.loadCounters(context, target, counterMetas);
+                markLoaded(counterMetas);
             } else {
                 loader.loadPropertyIntoObject(context, target, propertyMeta);
             }
@@ -113,10 +124,14 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
                     log.trace("Build list wrapper for property {} of entity of class {} ", propertyMeta.getPropertyName(),
                             propertyMeta.getEntityClassName());
 
-                    @SuppressWarnings("unchecked")
-                    List<Object> list = (List<Object>) rawValue;
-                    result = ListWrapperBuilder.builder(list).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
-                            .propertyMeta(this.getPropertyMetaByProperty(method)).build();
+                    result = getCachedWrapper(method, rawValue);
+                    if (result == null) {
+                        @SuppressWarnings("unchecked")
+                        List<Object> list = (List<Object>) rawValue;
+                        result = ListWrapperBuilder.builder(list).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
+                                .propertyMeta(this.getPropertyMetaByProperty(method)).build();
+                        wrappers.put(method, new CachedWrapper(rawValue, result));
+                    }
                 }
                 break;
             case SET:
@@ -124,10 +139,14 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
                     log.trace("Build set wrapper for property {} of entity of class {} ", propertyMeta.getPropertyName(),
                             propertyMeta.getEntityClassName());
 
-                    @SuppressWarnings("unchecked")
-                    Set<Object> set = (Set<Object>) rawValue;
-                    result = SetWrapperBuilder.builder(set).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
-                            .propertyMeta(this.getPropertyMetaByProperty(method)).build();
+                    result = getCachedWrapper(method, rawValue);
+                    if (result == null) {
+                        @SuppressWarnings("unchecked")
+                        Set<Object> set = (Set<Object>) rawValue;
+                        result = SetWrapperBuilder.builder(set).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
+                                .propertyMeta(this.getPropertyMetaByProperty(method)).build();
+                        wrappers.put(method, new CachedWrapper(rawValue, result));
+                    }
                 }
                 break;
             case MAP:
@@ -135,10 +154,14 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
                     log.trace("Build map wrapper for property {} of entity of class {} ", propertyMeta.getPropertyName(),
                             propertyMeta.getEntityClassName());
 
-                    @SuppressWarnings("unchecked")
-                    Map<Object, Object> map = (Map<Object, Object>) rawValue;
-                    result = MapWrapperBuilder.builder(map).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
-                            .propertyMeta(this.getPropertyMetaByProperty(method)).build();
+                    result = getCachedWrapper(method, rawValue);
+                    if (result == null) {
+                        @SuppressWarnings("unchecked")
+                        Map<Object, Object> map = (Map<Object, Object>) rawValue;
+                        result = MapWrapperBuilder.builder(map).dirtyMap(dirtyMap).setter(propertyMeta.getSetter())
+                                .propertyMeta(this.getPropertyMetaByProperty(method)).build();
+                        wrappers.put(method, new CachedWrapper(rawValue, result));
+                    }
                 }
                 break;
             default:
@@ -194,6 +217,7 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
         log.trace("Flagging property {}", propertyMeta.getPropertyName());
 
         dirtyMap.put(method, dirtyChecker);
+        wrappers.remove(propertyMeta.getGetter());
         Object value = null;
         if (args.length > 0) {
             value = args[0];
@@ -201,6 +225,35 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
         propertyMeta.forValues().setValueToField(target, value);
     }
 
+    /**
+     * @return simple counters of the entity whose getter has not been called yet
+     */
+    public List<PropertyMeta> getCountersNotLoaded() {
+        final List<PropertyMeta> counterMetas = new ArrayList<>();
+        for (PropertyMeta counterMeta : context.getAllCountersMeta()) {
+            if (!alreadyLoaded.contains(counterMeta.getGetter())) {
+                counterMetas.add(counterMeta);
+            }
+        }
+        return counterMetas;
+    }
+
+    public List<PropertyMeta> getLazyPropertiesNotLoaded() {
+        final List<PropertyMeta> lazyMetas = new ArrayList<>();
+        for (PropertyMeta lazyMeta : context.getEntityMeta().getAllLazyMetas()) {
+            if (!alreadyLoaded.contains(lazyMeta.getGetter())) {
+                lazyMetas.add(lazyMeta);
+            }
+        }
+        return lazyMetas;
+    }
+
+    public void markLoaded(List<PropertyMeta> propertyMetas) {
+        for (PropertyMeta propertyMeta : propertyMetas) {
+            alreadyLoaded.add(propertyMeta.getGetter());
+        }
+    }
+
     @Override
     public Object writeReplace() {
         return this.target;
@@ -222,6 +275,9 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
 
     @Override
     public void setTarget(T target) {
+        if (this.target != target) {
+            wrappers.clear();
+        }
         this.target = target;
     }
 
@@ -247,6 +303,7 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
 
     @Override
     public void setDirtyMap(Map<Method, DirtyChecker> dirtyMap) {
+        wrappers.clear();
         this.dirtyMap = dirtyMap;
     }
 
@@ -254,6 +311,7 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
         this.alreadyLoaded = lazyLoaded;
     }
 
+    @Override
     public EntityOperations getEntityOperations() {
         return context;
     }
@@ -265,4 +323,25 @@ public class ProxyInterceptor<T> implements MethodInterceptor, ProxySerializable
     private PropertyMeta getPropertyMetaByProperty(Method method) {
         return getterMetas.get(method);
     }
+
+    /**
+     * @return the wrapper built by a previous call to the getter, as long as the field still holds the same collection/map
+     */
+    private Object getCachedWrapper(Method getter, Object rawValue) {
+        final CachedWrapper cachedWrapper = wrappers.get(getter);
+        if (cachedWrapper != null && cachedWrapper.rawValue == rawValue) {
+            return cachedWrapper.wrapper;
+        }
+        return null;
+    }
+
+    private static class CachedWrapper {
+        private final Object rawValue;
+        private final Object wrapper;
+
+        private CachedWrapper(Object rawValue, Object wrapper) {
+            this.rawValue = rawValue;
+            this.wrapper = wrapper;
+        }
+    }
 }
@@ -201,6 +201,7 @@ public class UpdateProxyInterceptor<T> implements MethodInterceptor, ProxySerial
         this.dirtyMap = dirtyMap;
     }
 
+    @Override
     public EntityOperations getEntityOperations() {
         return context;
     }
@@ -41,6 +41,7 @@ public class DirtyCheckChangeSet {
     protected ElementAtIndex listChangeAtIndex = null;
     protected Set<Object> setChanges = new HashSet<>();
     protected Map<Object, Object> mapChanges = new HashMap<>();
+    private boolean compacted = false;
 
     public DirtyCheckChangeSet(PropertyMeta propertyMeta, CollectionAndMapChangeType changeType) {
         this.propertyMeta = propertyMeta;
@@ -147,6 +148,58 @@ public class DirtyCheckChangeSet {
         this.mapChanges = mapChanges;
     }
 
+    void mergeListChanges(List<Object> elements) {
+        ownChanges();
+        listChanges.addAll(elements);
+    }
+
+    void prependListChanges(List<Object> elements) {
+        ownChanges();
+        listChanges.addAll(0, elements);
+    }
+
+    void removeListChanges(List<Object> elements) {
+        ownChanges();
+        listChanges.removeAll(elements);
+    }
+
+    void mergeSetChanges(Set<Object> elements) {
+        ownChanges();
+        setChanges.addAll(elements);
+    }
+
+    void removeSetChanges(Set<Object> elements) {
+        ownChanges();
+        setChanges.removeAll(elements);
+    }
+
+    void mergeMapChanges(Map<Object, Object> entries) {
+        ownChanges();
+        mapChanges.putAll(entries);
+    }
+
+    void removeMapChange(Object key) {
+        ownChanges();
+        mapChanges.remove(key);
+    }
+
+    boolean hasNoChange() {
+        return listChanges.isEmpty() && setChanges.isEmpty() && mapChanges.isEmpty();
+    }
+
+    /*
+     * The changes handed over by the wrappers may be fixed size (Arrays.asList) or shared with the entity
+     * (setter argument) so they are copied once before the first merge
+     */
+    private void ownChanges() {
+        if (!compacted) {
+            listChanges = new ArrayList<>(listChanges);
+            setChanges = new HashSet<>(setChanges);
+            mapChanges = new HashMap<>(mapChanges);
+            compacted = true;
+        }
+    }
+
     public List<Object> getRawListChanges() {
         return listChanges;
     }
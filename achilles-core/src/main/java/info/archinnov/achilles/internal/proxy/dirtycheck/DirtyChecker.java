@@ -17,8 +17,10 @@
 package info.archinnov.achilles.internal.proxy.dirtycheck;
 
 import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.base.Predicate;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -85,59 +87,105 @@ public class DirtyChecker {
     public void assignValue(List<Object> elements) {
         final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, ASSIGN_VALUE_TO_LIST);
         changeSet.setListChanges(elements);
-        changeSets.add(changeSet);
+        supersedeChangeSets(changeSet);
     }
 
     public void assignValue(Set<Object> elements) {
         final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, ASSIGN_VALUE_TO_SET);
         changeSet.setSetChanges(elements);
-        changeSets.add(changeSet);
+        supersedeChangeSets(changeSet);
     }
 
     public void assignValue(Map<Object, Object> entries) {
         final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, ASSIGN_VALUE_TO_MAP);
         changeSet.setMapChanges(entries);
-        changeSets.add(changeSet);
+        supersedeChangeSets(changeSet);
     }
 
     public void removeAllElements() {
         final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, REMOVE_COLLECTION_OR_MAP);
-        changeSets.add(changeSet);
+        supersedeChangeSets(changeSet);
     }
 
     public void addElements(Set<Object> elements) {
-        final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, ADD_TO_SET);
-        changeSet.setSetChanges(elements);
-        changeSets.add(changeSet);
-        
+        final DirtyCheckChangeSet lastChangeSet = lastChangeSet(ASSIGN_VALUE_TO_SET);
+        if (lastChangeSet != null) {
+            lastChangeSet.mergeSetChanges(elements);
+            return;
+        }
+        final DirtyCheckChangeSet pendingRemoval = pendingChangeSet(REMOVE_FROM_SET, ADD_TO_SET);
+        if (pendingRemoval != null) {
+            pendingRemoval.removeSetChanges(elements);
+            discardIfNoChange(pendingRemoval);
+        }
+        final DirtyCheckChangeSet pendingAddition = pendingChangeSet(ADD_TO_SET, REMOVE_FROM_SET);
+        if (pendingAddition != null) {
+            pendingAddition.mergeSetChanges(elements);
+        } else {
+            final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, ADD_TO_SET);
+            changeSet.setSetChanges(elements);
+            changeSets.add(changeSet);
+        }
     }
 
     public void removeElements(Set<Object> elements) {
-        final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, REMOVE_FROM_SET);
-        changeSet.setSetChanges(elements);
-        changeSets.add(changeSet);
-        
+        final DirtyCheckChangeSet lastChangeSet = lastChangeSet(ASSIGN_VALUE_TO_SET);
+        if (lastChangeSet != null) {
+            lastChangeSet.removeSetChanges(elements);
+            return;
+        }
+        final DirtyCheckChangeSet pendingAddition = pendingChangeSet(ADD_TO_SET, REMOVE_FROM_SET);
+        if (pendingAddition != null) {
+            pendingAddition.removeSetChanges(elements);
+            discardIfNoChange(pendingAddition);
+        }
+        final DirtyCheckChangeSet pendingRemoval = pendingChangeSet(REMOVE_FROM_SET, ADD_TO_SET);
+        if (pendingRemoval != null) {
+            pendingRemoval.mergeSetChanges(elements);
+        } else {
+            final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, REMOVE_FROM_SET);
+            changeSet.setSetChanges(elements);
+            changeSets.add(changeSet);
+        }
     }
 
     public void appendListElements(List<Object> elements) {
-        final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, APPEND_TO_LIST);
-        changeSet.setListChanges(elements);
-        changeSets.add(changeSet);
-        
+        DirtyCheckChangeSet lastChangeSet = lastChangeSet(ASSIGN_VALUE_TO_LIST);
+        if (lastChangeSet == null) {
+            lastChangeSet = lastChangeSet(APPEND_TO_LIST);
+        }
+        if (lastChangeSet != null) {
+            lastChangeSet.mergeListChanges(elements);
+        } else {
+            final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, APPEND_TO_LIST);
+            changeSet.setListChanges(elements);
+            changeSets.add(changeSet);
+        }
     }
 
     public void prependListElements(List<Object> elements) {
-        final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, PREPEND_TO_LIST);
-        changeSet.setListChanges(elements);
-        changeSets.add(changeSet);
-        
+        final DirtyCheckChangeSet lastChangeSet = lastChangeSet(ASSIGN_VALUE_TO_LIST);
+        if (lastChangeSet != null) {
+            lastChangeSet.prependListChanges(elements);
+        } else {
+            final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, PREPEND_TO_LIST);
+            changeSet.setListChanges(elements);
+            changeSets.add(changeSet);
+        }
     }
 
     public void removeElements(List<Object> elements) {
-        final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, REMOVE_FROM_LIST);
-        changeSet.setListChanges(elements);
-        changeSets.add(changeSet);
-        
+        final DirtyCheckChangeSet assignment = lastChangeSet(ASSIGN_VALUE_TO_LIST);
+        final DirtyCheckChangeSet pendingRemoval = lastChangeSet(REMOVE_FROM_LIST);
+        if (assignment != null) {
+            assignment.removeListChanges(elements);
+        } else if (pendingRemoval != null) {
+            pendingRemoval.mergeListChanges(elements);
+        } else {
+            final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, REMOVE_FROM_LIST);
+            changeSet.setListChanges(elements);
+            changeSets.add(changeSet);
+        }
     }
 
     public void setListElementAtIndex(int index,Object element) {
@@ -155,13 +203,46 @@ public class DirtyChecker {
     }
 
     public void addElements(Map<Object, Object> entries) {
-        final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, ADD_TO_MAP);
-        changeSet.setMapChanges(entries);
-        changeSets.add(changeSet);
-        
+        final DirtyCheckChangeSet lastChangeSet = lastChangeSet(ASSIGN_VALUE_TO_MAP);
+        if (lastChangeSet != null) {
+            lastChangeSet.mergeMapChanges(entries);
+            return;
+        }
+        // A key put again is no longer removed
+        for (int i = changeSets.size() - 1; i >= 0 && isMapEntryChange(changeSets.get(i)); i--) {
+            final DirtyCheckChangeSet changeSet = changeSets.get(i);
+            if (changeSet.getChangeType() == REMOVE_FROM_MAP && entries.containsKey(removedKey(changeSet))) {
+                changeSets.remove(i);
+            }
+        }
+        final DirtyCheckChangeSet pendingPuts = pendingChangeSet(ADD_TO_MAP, REMOVE_FROM_MAP);
+        if (pendingPuts != null) {
+            pendingPuts.mergeMapChanges(entries);
+        } else {
+            final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, ADD_TO_MAP);
+            changeSet.setMapChanges(entries);
+            changeSets.add(changeSet);
+        }
     }
 
     public void removeMapEntry(Object key) {
+        final DirtyCheckChangeSet lastChangeSet = lastChangeSet(ASSIGN_VALUE_TO_MAP);
+        if (lastChangeSet != null) {
+            lastChangeSet.removeMapChange(key);
+            return;
+        }
+        // A removed key is no longer put, each key removal stays a distinct statement
+        for (int i = changeSets.size() - 1; i >= 0 && isMapEntryChange(changeSets.get(i)); i--) {
+            final DirtyCheckChangeSet changeSet = changeSets.get(i);
+            if (changeSet.getChangeType() == REMOVE_FROM_MAP && Objects.equal(removedKey(changeSet), key)) {
+                return;
+            }
+        }
+        final DirtyCheckChangeSet pendingPuts = pendingChangeSet(ADD_TO_MAP, REMOVE_FROM_MAP);
+        if (pendingPuts != null) {
+            pendingPuts.removeMapChange(key);
+            discardIfNoChange(pendingPuts);
+        }
         final DirtyCheckChangeSet changeSet = new DirtyCheckChangeSet(propertyMeta, REMOVE_FROM_MAP);
         HashMap<Object, Object> map = new HashMap<>();
         map.put(key,null);
@@ -169,4 +250,56 @@ public class DirtyChecker {
         changeSets.add(changeSet);
 
     }
+
+    /*
+     * Compaction of the change sets, so that a loop of wrapper mutations produces one statement
+     * per kind of change instead of one statement per call:
+     *
+     *  - an assignment or a removal of the whole collection/map supersedes all previous changes
+     *    and any following element change is applied to the assigned value
+     *  - consecutive appends (or removals) of list elements are merged together
+     *  - consecutive additions/removals of set elements are merged into one addition and one removal,
+     *    an element added then removed (or the opposite) only keeps the last operation
+     *  - consecutive map puts are merged into one put, a removed key is discarded from the pending puts
+     *
+     * Operations by index are never merged since their outcome depends on the current state of the list
+     */
+    private void supersedeChangeSets(DirtyCheckChangeSet changeSet) {
+        changeSets.clear();
+        changeSets.add(changeSet);
+    }
+
+    private DirtyCheckChangeSet lastChangeSet(CollectionAndMapChangeType changeType) {
+        if (changeSets.isEmpty()) {
+            return null;
+        }
+        final DirtyCheckChangeSet lastChangeSet = changeSets.get(changeSets.size() - 1);
+        return lastChangeSet.getChangeType() == changeType ? lastChangeSet : null;
+    }
+
+    private DirtyCheckChangeSet pendingChangeSet(CollectionAndMapChangeType changeType, CollectionAndMapChangeType commutingChangeType) {
+        for (int i = changeSets.size() - 1; i >= 0; i--) {
+            final CollectionAndMapChangeType currentType = changeSets.get(i).getChangeType();
+            if (currentType == changeType) {
+                return changeSets.get(i);
+            } else if (currentType != commutingChangeType) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private void discardIfNoChange(DirtyCheckChangeSet changeSet) {
+        if (changeSet.hasNoChange()) {
+            changeSets.remove(changeSet);
+        }
+    }
+
+    private boolean isMapEntryChange(DirtyCheckChangeSet changeSet) {
+        return changeSet.getChangeType() == ADD_TO_MAP || changeSet.getChangeType() == REMOVE_FROM_MAP;
+    }
+
+    private Object removedKey(DirtyCheckChangeSet changeSet) {
+        return changeSet.getRawMapChanges().keySet().iterator().next();
+    }
 }
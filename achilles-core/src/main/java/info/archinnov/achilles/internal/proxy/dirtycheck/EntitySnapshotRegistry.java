@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.proxy.dirtycheck;
+
+import static org.apache.commons.collections.CollectionUtils.isEmpty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.collections.MapUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Sets;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.validation.Validator;
+
+/**
+ * Keeps track of the entities managed without proxy. For each entity, the values of its fields encoded for Cassandra
+ * are copied when the entity is loaded or saved. The dirty fields are found by comparing the entity to this snapshot.
+ * <br/>
+ * Entities are weakly referenced and compared by identity, an entity no longer used by the application is simply
+ * dropped from the registry
+ */
+public class EntitySnapshotRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(EntitySnapshotRegistry.class);
+
+    private final Cache<Object, Object[]> snapshots = CacheBuilder.newBuilder().weakKeys().build();
+
+    public <T> T register(T entity, EntityMeta entityMeta) {
+        if (entity != null) {
+            log.trace("Take snapshot of entity {}", entity);
+            snapshots.put(entity, takeSnapshot(entity, entityMeta));
+        }
+        return entity;
+    }
+
+    /**
+     * Update the snapshot of the given properties only, after they have been loaded into the entity
+     */
+    public void refresh(Object entity, EntityMeta entityMeta, List<PropertyMeta> loadedMetas) {
+        final Object[] snapshot = snapshots.getIfPresent(entity);
+        if (snapshot != null) {
+            final List<PropertyMeta> propertyMetas = entityMeta.getAllMetasExceptIdAndCounters();
+            for (PropertyMeta loadedMeta : loadedMetas) {
+                final int index = propertyMetas.indexOf(loadedMeta);
+                if (index >= 0) {
+                    snapshot[index] = loadedMeta.forTranscoding().getAndEncodeValueForCassandra(entity);
+                }
+            }
+        }
+    }
+
+    public boolean isManaged(Object entity) {
+        return entity != null && snapshots.getIfPresent(entity) != null;
+    }
+
+    public void ensureManaged(Object entity) {
+        if (!isManaged(entity)) {
+            throw new IllegalStateException("The entity '" + entity + "' is not in 'managed' state.");
+        }
+    }
+
+    /**
+     * @return the names of the properties whose value differs from the snapshot, without computing the collection diffs
+     */
+    public List<String> findDirtyPropertyNames(Object entity, EntityMeta entityMeta) {
+        final Object[] snapshot = snapshots.getIfPresent(entity);
+        Validator.validateNotNull(snapshot, "No snapshot found for entity '%s'", entity);
+
+        final List<PropertyMeta> propertyMetas = entityMeta.getAllMetasExceptIdAndCounters();
+        final List<String> dirtyPropertyNames = new ArrayList<>();
+        for (int i = 0; i < propertyMetas.size(); i++) {
+            final PropertyMeta propertyMeta = propertyMetas.get(i);
+            final Object rawValue = propertyMeta.forValues().getValueFromField(entity);
+            final Object encodedValue = rawValue != null ? propertyMeta.forTranscoding().encodeToCassandra(rawValue) : null;
+            if (!Objects.equal(snapshot[i], encodedValue)) {
+                dirtyPropertyNames.add(propertyMeta.getPropertyName());
+            }
+        }
+        return dirtyPropertyNames;
+    }
+
+    /**
+     * @return one dirty checker per field whose value differs from the snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public List<DirtyChecker> findDirtyCheckers(Object entity, EntityMeta entityMeta) {
+        final Object[] snapshot = snapshots.getIfPresent(entity);
+        Validator.validateNotNull(snapshot, "No snapshot found for entity '%s'", entity);
+
+        final List<PropertyMeta> propertyMetas = entityMeta.getAllMetasExceptIdAndCounters();
+        final List<DirtyChecker> dirtyCheckers = new ArrayList<>();
+        for (int i = 0; i < propertyMetas.size(); i++) {
+            final PropertyMeta propertyMeta = propertyMetas.get(i);
+            final Object rawValue = propertyMeta.forValues().getValueFromField(entity);
+            final Object encodedValue = rawValue != null ? propertyMeta.forTranscoding().encodeToCassandra(rawValue) : null;
+            if (Objects.equal(snapshot[i], encodedValue)) {
+                continue;
+            }
+            log.trace("Property {} of entity {} is dirty", propertyMeta.getPropertyName(), entity);
+            final DirtyChecker dirtyChecker;
+            switch (propertyMeta.type()) {
+                case LIST:
+                    dirtyChecker = diffList(propertyMeta, (List<Object>) snapshot[i], (List<Object>) encodedValue, (List<Object>) rawValue);
+                    break;
+                case SET:
+                    dirtyChecker = diffSet(propertyMeta, (Set<Object>) snapshot[i], (Set<Object>) encodedValue);
+                    break;
+                case MAP:
+                    dirtyChecker = diffMap(propertyMeta, (Map<Object, Object>) snapshot[i], (Map<Object, Object>) encodedValue, (Map<Object, Object>) rawValue);
+                    break;
+                default:
+                    dirtyChecker = new SimpleDirtyChecker(propertyMeta);
+                    break;
+            }
+            if (dirtyChecker != null) {
+                dirtyCheckers.add(dirtyChecker);
+            }
+        }
+        return dirtyCheckers;
+    }
+
+    private Object[] takeSnapshot(Object entity, EntityMeta entityMeta) {
+        final List<PropertyMeta> propertyMetas = entityMeta.getAllMetasExceptIdAndCounters();
+        final Object[] snapshot = new Object[propertyMetas.size()];
+        for (int i = 0; i < propertyMetas.size(); i++) {
+            // Encoding copies the collections and maps, and serializes the JSON values which may be mutated in place
+            snapshot[i] = propertyMetas.get(i).forTranscoding().getAndEncodeValueForCassandra(entity);
+        }
+        return snapshot;
+    }
+
+    private DirtyChecker diffList(PropertyMeta propertyMeta, List<Object> before, List<Object> after, List<Object> rawAfter) {
+        final DirtyChecker dirtyChecker = new DirtyChecker(propertyMeta);
+        if (isEmpty(after)) {
+            if (isEmpty(before)) {
+                return null;
+            }
+            dirtyChecker.removeAllElements();
+        } else if (before != null && after.size() > before.size() && after.subList(0, before.size()).equals(before)) {
+            dirtyChecker.appendListElements(new ArrayList<>(rawAfter.subList(before.size(), rawAfter.size())));
+        } else {
+            dirtyChecker.assignValue(new ArrayList<>(rawAfter));
+        }
+        return dirtyChecker;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DirtyChecker diffSet(PropertyMeta propertyMeta, Set<Object> before, Set<Object> after) {
+        final DirtyChecker dirtyChecker = new DirtyChecker(propertyMeta);
+        if (isEmpty(after)) {
+            if (isEmpty(before)) {
+                return null;
+            }
+            dirtyChecker.removeAllElements();
+        } else {
+            final Set<Object> previous = before != null ? before : new HashSet<>();
+            final Set<Object> removed = new HashSet<>(Sets.difference(previous, after));
+            final Set<Object> added = new HashSet<>(Sets.difference(after, previous));
+            if (!removed.isEmpty()) {
+                dirtyChecker.removeElements((Set<Object>) propertyMeta.forTranscoding().decodeFromCassandra(removed));
+            }
+            if (!added.isEmpty()) {
+                dirtyChecker.addElements((Set<Object>) propertyMeta.forTranscoding().decodeFromCassandra(added));
+            }
+        }
+        return dirtyChecker;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DirtyChecker diffMap(PropertyMeta propertyMeta, Map<Object, Object> before, Map<Object, Object> after, Map<Object, Object> rawAfter) {
+        final DirtyChecker dirtyChecker = new DirtyChecker(propertyMeta);
+        if (MapUtils.isEmpty(after)) {
+            if (MapUtils.isEmpty(before)) {
+                return null;
+            }
+            dirtyChecker.removeAllElements();
+        } else if (before != null && after.keySet().containsAll(before.keySet())) {
+            final Map<Object, Object> changedEntries = new HashMap<>();
+            for (Map.Entry<Object, Object> entry : after.entrySet()) {
+                if (!Objects.equal(entry.getValue(), before.get(entry.getKey()))) {
+                    changedEntries.put(entry.getKey(), entry.getValue());
+                }
+            }
+            dirtyChecker.addElements((Map<Object, Object>) propertyMeta.forTranscoding().decodeFromCassandra(changedEntries));
+        } else {
+            // Some keys were removed, a whole assignment costs one statement instead of one per removed key
+            dirtyChecker.assignValue(new HashMap<>(rawAfter));
+        }
+        return dirtyChecker;
+    }
+}
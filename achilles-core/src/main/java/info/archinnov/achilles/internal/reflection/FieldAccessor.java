@@ -39,11 +39,10 @@ public class FieldAccessor {
         }
     }
 
+    // setAccessible() is idempotent, no need to lock the shared Field instance (and pin virtual threads)
     private void makeFieldAccessibleIfNeeded(Field field) {
         if (!field.isAccessible()) {
-            synchronized (field) {
-                field.setAccessible(true);
-            }
+            field.setAccessible(true);
         }
     }
 
@@ -1,8 +1,13 @@
 package info.archinnov.achilles.internal.statement;
 
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.PagingStateException;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 
 import java.util.List;
@@ -33,4 +38,69 @@ public class StatementHelper {
         }
         return onlyStaticColumns;
     }
+
+    /**
+     * Set the paging state returned with a previous page, or reset it when null so that the query starts from the first page
+     */
+    public static void setPagingState(Statement statement, String pagingState) {
+        if (pagingState == null) {
+            statement.setPagingState(null);
+            return;
+        }
+        try {
+            statement.setPagingState(PagingState.fromString(pagingState));
+        } catch (PagingStateException ex) {
+            throw new AchillesException(String.format("The paging state '%s' is invalid or was not obtained from the query '%s'",
+                    pagingState, maybeGetQueryString(statement)), ex);
+        }
+    }
+
+    /**
+     * Copy a simple or bound statement with its bound values and execution settings, so that per-execution settings
+     * like the fetch size or the paging state can be changed without altering the original statement.
+     * The values of a simple statement are copied in their serialized form, which must be the one of the protocol
+     * version in use since collections are not encoded the same way from one version to another
+     */
+    public static Statement copyStatement(Statement statement, ProtocolVersion protocolVersion) {
+        final Statement copy;
+        if (statement instanceof BoundStatement) {
+            final BoundStatement boundStatement = (BoundStatement) statement;
+            final BoundStatement boundCopy = new BoundStatement(boundStatement.preparedStatement());
+            final int variablesCount = boundStatement.preparedStatement().getVariables().size();
+            for (int i = 0; i < variablesCount; i++) {
+                if (boundStatement.isSet(i)) {
+                    boundCopy.setBytesUnsafe(i, boundStatement.getBytesUnsafe(i));
+                }
+            }
+            copy = boundCopy;
+        } else if (statement instanceof RegularStatement) {
+            final RegularStatement regularStatement = (RegularStatement) statement;
+            final Object[] values = regularStatement.getValues(protocolVersion);
+            final SimpleStatement simpleCopy = values == null
+                    ? new SimpleStatement(regularStatement.getQueryString())
+                    : new SimpleStatement(regularStatement.getQueryString(), values);
+            simpleCopy.setKeyspace(regularStatement.getKeyspace());
+            if (regularStatement.getRoutingKey() != null) {
+                simpleCopy.setRoutingKey(regularStatement.getRoutingKey());
+            }
+            copy = simpleCopy;
+        } else {
+            throw new AchillesException(String.format("Cannot copy the statement '%s', only simple and bound statements can be paged",
+                    maybeGetQueryString(statement)));
+        }
+
+        copy.setFetchSize(statement.getFetchSize());
+        copy.setDefaultTimestamp(statement.getDefaultTimestamp());
+        copy.setRetryPolicy(statement.getRetryPolicy());
+        if (statement.getConsistencyLevel() != null) {
+            copy.setConsistencyLevel(statement.getConsistencyLevel());
+        }
+        if (statement.getSerialConsistencyLevel() != null) {
+            copy.setSerialConsistencyLevel(statement.getSerialConsistencyLevel());
+        }
+        if (statement.isTracing()) {
+            copy.enableTracing();
+        }
+        return copy;
+    }
 }
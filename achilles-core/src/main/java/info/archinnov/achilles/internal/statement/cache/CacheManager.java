@@ -42,6 +42,8 @@ public class CacheManager {
     private static final Logger log = LoggerFactory.getLogger(CacheManager.class);
 
     static final Set<String> ALL_FIELDS = new HashSet<>();
+    static final Set<String> UPPER_BOUNDED_TOKEN_RANGE = Sets.newHashSet("start", "end");
+    static final Set<String> OPEN_TOKEN_RANGE = Sets.newHashSet("start");
 
     private final int maxLRUCacheSize;
 
@@ -76,6 +78,40 @@ public class CacheManager {
         return ps;
     }
 
+    public PreparedStatement getCacheForProjectionSelect(Session session, Cache<StatementCacheKey, PreparedStatement> dynamicPSCache,
+            PersistentStateHolder context, List<PropertyMeta> pms) {
+
+        log.trace("Get cache for SELECT projection {} from entity class {}", pms, context.getEntityClass());
+
+        Class<?> entityClass = context.getEntityClass();
+        EntityMeta entityMeta = context.getEntityMeta();
+        Set<String> fields = new HashSet<>(transform(pms, propertyExtractor));
+        StatementCacheKey cacheKey = new StatementCacheKey(CacheType.SELECT_PROJECTION, fields, entityClass, noOptions());
+        PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+        if (ps == null) {
+            ps = generator.prepareSelectProjection(session, entityMeta, pms);
+            dynamicPSCache.put(cacheKey, ps);
+            displayCacheStatistics(dynamicPSCache);
+        }
+        return ps;
+    }
+
+    public PreparedStatement getCacheForTokenRangeSelect(Session session, Cache<StatementCacheKey, PreparedStatement> dynamicPSCache,
+            EntityMeta entityMeta, boolean upperBounded) {
+
+        log.trace("Get cache for SELECT by token range of entity class {}", entityMeta.getEntityClass());
+
+        final Set<String> bounds = upperBounded ? UPPER_BOUNDED_TOKEN_RANGE : OPEN_TOKEN_RANGE;
+        StatementCacheKey cacheKey = new StatementCacheKey(CacheType.SELECT_TOKEN_RANGE, bounds, entityMeta.getEntityClass(), noOptions());
+        PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+        if (ps == null) {
+            ps = generator.prepareSelectTokenRange(session, entityMeta, upperBounded);
+            dynamicPSCache.put(cacheKey, ps);
+            displayCacheStatistics(dynamicPSCache);
+        }
+        return ps;
+    }
+
     public PreparedStatement getCacheForEntityInsert(Session session, Cache<StatementCacheKey, PreparedStatement> dynamicPSCache,
             PersistentStateHolder context, List<PropertyMeta> pms) {
 
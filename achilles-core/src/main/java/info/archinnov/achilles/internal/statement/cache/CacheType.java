@@ -30,6 +30,8 @@ public enum CacheType {
     ADD_TO_MAP,
     REMOVE_FROM_MAP,
     SELECT_FIELD,
+    SELECT_PROJECTION,
+    SELECT_TOKEN_RANGE,
     UPDATE_FIELDS,
     INSERT,
     SLICE_QUERY_SELECT,
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.statement.prepared;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+
+/**
+ * Binding layout of a cached prepared statement, computed once at its first use: the property metas in the order
+ * of the bound variables and one typed setter per bound variable. Values are written by index straight into the
+ * BoundStatement instead of going through the driver generic <em>bind(Object...)</em>, which looks up the codec of each value.
+ *
+ * Statements having a variable type without typed setter fall back to <em>bind(Object...)</em>
+ */
+public class BindingPlan {
+
+    private final PropertyMeta[] propertyMetas;
+    private final boolean onlyStaticColumns;
+    private final ValueSetter[] setters;
+    private final boolean typed;
+
+    public BindingPlan(PreparedStatement ps, List<PropertyMeta> pms, boolean onlyStaticColumns) {
+        this.propertyMetas = pms.toArray(new PropertyMeta[pms.size()]);
+        this.onlyStaticColumns = onlyStaticColumns;
+
+        final ColumnDefinitions variables = ps.getVariables();
+        this.setters = new ValueSetter[variables.size()];
+        boolean allTyped = true;
+        for (int i = 0; i < setters.length; i++) {
+            setters[i] = ValueSetter.forType(variables.getType(i));
+            allTyped = allTyped && setters[i] != null;
+        }
+        this.typed = allTyped;
+    }
+
+    public PropertyMeta[] getPropertyMetas() {
+        return propertyMetas;
+    }
+
+    public boolean isOnlyStaticColumns() {
+        return onlyStaticColumns;
+    }
+
+    public Object[] newValues() {
+        return new Object[setters.length];
+    }
+
+    public BoundStatement bind(PreparedStatement ps, Object[] values) {
+        if (!typed) {
+            return ps.bind(values);
+        }
+        final BoundStatement bs = ps.bind();
+        for (int i = 0; i < setters.length; i++) {
+            final Object value = values[i];
+            if (value == null) {
+                bs.setBytesUnsafe(i, null);
+            } else {
+                setters[i].set(bs, i, value);
+            }
+        }
+        return bs;
+    }
+
+    static enum ValueSetter {
+        STRING {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setString(i, (String) value);
+            }
+        },
+        LONG {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setLong(i, (Long) value);
+            }
+        },
+        INT {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setInt(i, (Integer) value);
+            }
+        },
+        BOOLEAN {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setBool(i, (Boolean) value);
+            }
+        },
+        DOUBLE {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setDouble(i, (Double) value);
+            }
+        },
+        FLOAT {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setFloat(i, (Float) value);
+            }
+        },
+        DATE {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setDate(i, (Date) value);
+            }
+        },
+        UUID {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setUUID(i, (java.util.UUID) value);
+            }
+        },
+        BYTES {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setBytes(i, (ByteBuffer) value);
+            }
+        },
+        VARINT {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setVarint(i, (BigInteger) value);
+            }
+        },
+        DECIMAL {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setDecimal(i, (BigDecimal) value);
+            }
+        },
+        INET {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setInet(i, (InetAddress) value);
+            }
+        },
+        LIST {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setList(i, (List<?>) value);
+            }
+        },
+        SET {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setSet(i, (Set<?>) value);
+            }
+        },
+        MAP {
+            @Override
+            void set(BoundStatement bs, int i, Object value) {
+                bs.setMap(i, (Map<?, ?>) value);
+            }
+        };
+
+        abstract void set(BoundStatement bs, int i, Object value);
+
+        static ValueSetter forType(DataType type) {
+            switch (type.getName()) {
+                case ASCII:
+                case TEXT:
+                case VARCHAR:
+                    return STRING;
+                case BIGINT:
+                case COUNTER:
+                    return LONG;
+                case INT:
+                    return INT;
+                case BOOLEAN:
+                    return BOOLEAN;
+                case DOUBLE:
+                    return DOUBLE;
+                case FLOAT:
+                    return FLOAT;
+                case TIMESTAMP:
+                    return DATE;
+                case UUID:
+                case TIMEUUID:
+                    return UUID;
+                case BLOB:
+                    return BYTES;
+                case VARINT:
+                    return VARINT;
+                case DECIMAL:
+                    return DECIMAL;
+                case INET:
+                    return INET;
+                case LIST:
+                    return LIST;
+                case SET:
+                    return SET;
+                case MAP:
+                    return MAP;
+                default:
+                    return null;
+            }
+        }
+    }
+}
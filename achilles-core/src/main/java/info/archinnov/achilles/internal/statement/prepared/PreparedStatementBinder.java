@@ -31,6 +31,8 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.FluentIterable;
 import info.archinnov.achilles.internal.consistency.ConsistencyOverrider;
 import info.archinnov.achilles.internal.context.facade.PersistentStateHolder;
@@ -51,6 +53,9 @@ public class PreparedStatementBinder {
 
     private ConsistencyOverrider overrider = ConsistencyOverrider.Singleton.INSTANCE.get();
 
+    // Weak keys compare prepared statements by identity and let the plan go with its evicted statement
+    private final Cache<PreparedStatement, BindingPlan> bindingPlans = CacheBuilder.newBuilder().weakKeys().build();
+
     public BoundStatementWrapper bindForInsert(PersistentStateHolder context, final PreparedStatement ps, List<PropertyMeta> pms) {
 
         EntityMeta entityMeta = context.getEntityMeta();
@@ -60,13 +65,18 @@ public class PreparedStatementBinder {
 
         ConsistencyLevel consistencyLevel = overrider.getWriteLevel(context);
 
-        List<Object> values = new ArrayList<>();
-        values.addAll(fetchPrimaryKeyValues(entityMeta, entity, StatementHelper.hasOnlyStaticColumns(pms)));
-        values.addAll(fetchPropertiesValues(pms, entity));
-        values.addAll(fetchTTLAndTimestampValues(context));
+        BindingPlan plan = bindingPlans.getIfPresent(ps);
+        if (plan == null) {
+            plan = new BindingPlan(ps, pms, StatementHelper.hasOnlyStaticColumns(pms));
+            bindingPlans.put(ps, plan);
+        }
 
-        final Object[] valuesAsArray = values.toArray();
-        Supplier<BoundStatement> bs = getBoundStatementSupplier(ps, valuesAsArray);
+        final Object[] valuesAsArray = plan.newValues();
+        int index = fetchPrimaryKeyValues(valuesAsArray, 0, entityMeta, entity, plan.isOnlyStaticColumns());
+        index = fetchPropertiesValues(valuesAsArray, index, plan.getPropertyMetas(), entity);
+        fetchTTLAndTimestampValues(valuesAsArray, index, context);
+
+        Supplier<BoundStatement> bs = getBoundStatementSupplier(ps, plan, valuesAsArray);
         return new BoundStatementWrapper(context.getEntityClass(), bs, valuesAsArray, getCQLLevel(consistencyLevel),
                 context.getLWTResultListener(), context.getSerialConsistencyLevel());
     }
@@ -82,18 +92,21 @@ public class PreparedStatementBinder {
 
         ConsistencyLevel consistencyLevel = overrider.getWriteLevel(context);
 
-        List<Object> values = new ArrayList<>();
+        BindingPlan plan = bindingPlans.getIfPresent(ps);
+        if (plan == null) {
+            final int staticColumnsCount = FluentIterable.from(pms).filter(PropertyMeta.STATIC_COLUMN_FILTER).size();
+            final boolean onlyStaticColumns = staticColumnsCount>0 && pms.size()==staticColumnsCount;
+            plan = new BindingPlan(ps, pms, onlyStaticColumns);
+            bindingPlans.put(ps, plan);
+        }
 
-        final int staticColumnsCount = FluentIterable.from(pms).filter(PropertyMeta.STATIC_COLUMN_FILTER).size();
-        final boolean onlyStaticColumns = staticColumnsCount>0 && pms.size()==staticColumnsCount;
+        final Object[] valuesAsArray = plan.newValues();
+        int index = fetchTTLAndTimestampValues(valuesAsArray, 0, context);
+        index = fetchPropertiesValues(valuesAsArray, index, plan.getPropertyMetas(), entity);
+        index = fetchPrimaryKeyValues(valuesAsArray, index, entityMeta, entity, plan.isOnlyStaticColumns());
+        fetchLWTConditionsValues(valuesAsArray, index, context, entityMeta);
 
-        values.addAll(fetchTTLAndTimestampValues(context));
-        values.addAll(fetchPropertiesValues(pms, entity));
-        values.addAll(fetchPrimaryKeyValues(entityMeta, entity, onlyStaticColumns));
-        values.addAll(fetchLWTConditionsValues(context, entityMeta));
-
-        final Object[] valuesAsArray = values.toArray();
-        Supplier<BoundStatement> bs = getBoundStatementSupplier(ps, valuesAsArray);
+        Supplier<BoundStatement> bs = getBoundStatementSupplier(ps, plan, valuesAsArray);
 
         return new BoundStatementWrapper(context.getEntityClass(), bs, valuesAsArray, getCQLLevel(consistencyLevel),
                 context.getLWTResultListener(), context.getSerialConsistencyLevel());
@@ -213,6 +226,21 @@ public class PreparedStatementBinder {
         return new BoundStatementWrapper(context.getEntityClass(), bs, boundValues, getCQLLevel(consistencyLevel), NO_LISTENER, NO_SERIAL_CONSISTENCY);
     }
 
+    public BoundStatementWrapper bindForSimpleCountersSelect(PersistentStateHolder context, final PreparedStatement ps, ConsistencyLevel consistencyLevel) {
+        EntityMeta entityMeta = context.getEntityMeta();
+        Object primaryKey = context.getPrimaryKey();
+
+        if (log.isTraceEnabled()) {
+            log.trace("Bind prepared statement {} for all simple counters read using primary key {}", ps.getQueryString(), primaryKey);
+        }
+
+        final String primaryKeyAsString = entityMeta.getIdMeta().forTranscoding().forceEncodeToJSONForCounter(primaryKey);
+        final Object[] boundValues = new Object[] { entityMeta.getClassName(), primaryKeyAsString };
+        Supplier<BoundStatement> bs = getBoundStatementSupplier(ps, boundValues);
+
+        return new BoundStatementWrapper(context.getEntityClass(), bs, boundValues, getCQLLevel(consistencyLevel), NO_LISTENER, NO_SERIAL_CONSISTENCY);
+    }
+
     public BoundStatementWrapper bindForSimpleCounterSelect(PersistentStateHolder context, final PreparedStatement ps, PropertyMeta pm, ConsistencyLevel consistencyLevel) {
         EntityMeta entityMeta = context.getEntityMeta();
         Object primaryKey = context.getPrimaryKey();
@@ -295,11 +323,43 @@ public class PreparedStatementBinder {
         return new BoundStatementWrapper(context.getEntityClass(), bs, boundValues, getCQLLevel(consistencyLevel), NO_LISTENER, NO_SERIAL_CONSISTENCY);
     }
 
-    private List<Object> fetchPrimaryKeyValues(EntityMeta entityMeta, Object entity, boolean onlyStaticColumns) {
-        List<Object> values = new ArrayList<>();
+    private int fetchPrimaryKeyValues(Object[] values, int index, EntityMeta entityMeta, Object entity, boolean onlyStaticColumns) {
         Object primaryKey = entityMeta.forOperations().getPrimaryKey(entity);
-        values.addAll(bindPrimaryKey(primaryKey, entityMeta.getIdMeta(),onlyStaticColumns));
-        return values;
+        PropertyMeta idMeta = entityMeta.getIdMeta();
+        if (idMeta.structure().isCompoundPK()) {
+            for (Object component : idMeta.forTranscoding().encodeToComponents(primaryKey, onlyStaticColumns)) {
+                values[index++] = component;
+            }
+        } else {
+            values[index++] = idMeta.forTranscoding().encodeToCassandra(primaryKey);
+        }
+        return index;
+    }
+
+    private int fetchTTLAndTimestampValues(Object[] values, int index, PersistentStateHolder context) {
+        if (context.hasTTL()) {
+            values[index++] = context.getTtl().get();
+        }
+        if (context.hasTimestamp()) {
+            values[index++] = context.getTimestamp().get();
+        }
+        return index;
+    }
+
+    private int fetchPropertiesValues(Object[] values, int index, PropertyMeta[] pms, Object entity) {
+        for (PropertyMeta pm : pms) {
+            values[index++] = pm.forTranscoding().getAndEncodeValueForCassandra(entity);
+        }
+        return index;
+    }
+
+    private int fetchLWTConditionsValues(Object[] values, int index, PersistentStateHolder context, EntityMeta entityMeta) {
+        if (context.hasLWTConditions()) {
+            for (LWTCondition LWTCondition : context.getLWTConditions()) {
+                values[index++] = entityMeta.forTranscoding().encodeCasConditionValue(LWTCondition);
+            }
+        }
+        return index;
     }
 
     private List<Object> fetchTTLAndTimestampValues(PersistentStateHolder context) {
@@ -317,16 +377,6 @@ public class PreparedStatementBinder {
         return values;
     }
 
-    private List<Object> fetchPropertiesValues(List<PropertyMeta> pms, Object entity) {
-        List<Object> values = new ArrayList<>();
-        for (PropertyMeta pm : pms) {
-            Object value = pm.forTranscoding().getAndEncodeValueForCassandra(entity);
-            values.add(value);
-        }
-
-        return values;
-    }
-
     private List<Object> fetchLWTConditionsValues(PersistentStateHolder context, EntityMeta entityMeta) {
         List<Object> values = new ArrayList<>();
         if (context.hasLWTConditions()) {
@@ -357,6 +407,15 @@ public class PreparedStatementBinder {
         return new Object[] { fqcn, primaryKeyAsString, cqlColumnName };
     }
 
+    private Supplier<BoundStatement> getBoundStatementSupplier(final PreparedStatement ps, final BindingPlan plan, final Object[] valuesAsArray) {
+        return new Supplier<BoundStatement>() {
+            @Override
+            public BoundStatement get() {
+                return plan.bind(ps, valuesAsArray);
+            }
+        };
+    }
+
     private Supplier<BoundStatement> getBoundStatementSupplier(final PreparedStatement ps, final Object[] valuesAsArray) {
         return new Supplier<BoundStatement>() {
             @Override
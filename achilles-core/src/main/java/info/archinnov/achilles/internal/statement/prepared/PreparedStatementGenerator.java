@@ -19,8 +19,10 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.bindMarker;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.decr;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.delete;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.gt;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.incr;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.insertInto;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.lte;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.select;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.timestamp;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.ttl;
@@ -30,6 +32,7 @@ import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.DECR;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.DELETE;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.INCR;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.SELECT;
+import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.SELECT_ENTITY;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_FQCN;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_PRIMARY_KEY;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_PROPERTY_NAME;
@@ -166,6 +169,49 @@ public class PreparedStatementGenerator {
         return session.prepare(statement.getQueryString());
     }
 
+    public PreparedStatement prepareSelectProjection(Session session, EntityMeta entityMeta, List<PropertyMeta> pms) {
+        log.trace("Generate prepared statement for SELECT projection {} of {}", pms, entityMeta);
+
+        PropertyMeta idMeta = entityMeta.getIdMeta();
+        final EntityMetaConfig metaConfig = entityMeta.config();
+        Selection select = select();
+
+        for (PropertyMeta pm : pms) {
+            select = pm.forStatementGeneration().prepareSelectField(select);
+        }
+        Select from = select.from(metaConfig.getKeyspaceName(), metaConfig.getTableName());
+
+        // Same WHERE clause as the full row SELECT so that the primary key is bound the same way
+        Optional<PropertyMeta> staticMeta = Optional.absent();
+        if (entityMeta.structure().hasOnlyStaticColumns()) {
+            staticMeta = Optional.fromNullable(entityMeta.getAllMetasExceptId().get(0));
+        }
+
+        RegularStatement statement = idMeta.forStatementGeneration().generateWhereClauseForSelect(staticMeta, from);
+        return session.prepare(statement.getQueryString());
+    }
+
+    /**
+     * SELECT of the rows whose partition token is in (start, end], or above start when the range is not upper bounded
+     */
+    public PreparedStatement prepareSelectTokenRange(Session session, EntityMeta entityMeta, boolean upperBounded) {
+        log.trace("Generate prepared statement for SELECT by token range of {}", entityMeta);
+
+        final EntityMetaConfig metaConfig = entityMeta.config();
+        Selection select = select();
+
+        for (PropertyMeta pm : entityMeta.forOperations().getColumnsMetaToLoad()) {
+            select = pm.forStatementGeneration().prepareSelectField(select);
+        }
+        final String partitionToken = entityMeta.getIdMeta().forStatementGeneration().generatePartitionToken();
+        final Select.Where where = select.from(metaConfig.getKeyspaceName(), metaConfig.getTableName())
+                .where(gt(partitionToken, bindMarker()));
+        if (upperBounded) {
+            where.and(lte(partitionToken, bindMarker()));
+        }
+        return session.prepare(where.getQueryString());
+    }
+
     public Map<CQLQueryType, PreparedStatement> prepareSimpleCounterQueryMap(Session session) {
 
         final String incr = update(ACHILLES_COUNTER_TABLE)
@@ -185,6 +231,10 @@ public class PreparedStatementGenerator {
                 .and(eq(ACHILLES_COUNTER_PRIMARY_KEY, bindMarker()))
                 .and(eq(ACHILLES_COUNTER_PROPERTY_NAME, bindMarker())).getQueryString();
 
+        final String selectEntity = select(ACHILLES_COUNTER_PROPERTY_NAME, ACHILLES_COUNTER_VALUE).from(ACHILLES_COUNTER_TABLE)
+                .where(eq(ACHILLES_COUNTER_FQCN, bindMarker()))
+                .and(eq(ACHILLES_COUNTER_PRIMARY_KEY, bindMarker())).getQueryString();
+
         final String delete = delete().from(ACHILLES_COUNTER_TABLE)
                 .where(eq(ACHILLES_COUNTER_FQCN, bindMarker()))
                 .and(eq(ACHILLES_COUNTER_PRIMARY_KEY, bindMarker()))
@@ -194,6 +244,7 @@ public class PreparedStatementGenerator {
         counterPSMap.put(INCR, session.prepare(incr));
         counterPSMap.put(DECR, session.prepare(decr));
         counterPSMap.put(SELECT, session.prepare(select));
+        counterPSMap.put(SELECT_ENTITY, session.prepare(selectEntity));
         counterPSMap.put(DELETE, session.prepare(delete));
 
         return counterPSMap;
@@ -350,7 +401,7 @@ public class PreparedStatementGenerator {
 
         Selection select = select();
 
-        for (PropertyMeta pm : entityMeta.forOperations().getColumnsMetaToLoad()) {
+        for (PropertyMeta pm : sliceQueryProperties.getColumnsMetaToLoad()) {
             select = pm.forStatementGeneration().prepareSelectField(select);
         }
 
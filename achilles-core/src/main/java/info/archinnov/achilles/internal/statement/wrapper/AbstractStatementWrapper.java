@@ -70,8 +70,10 @@ public abstract class AbstractStatementWrapper {
     protected boolean traceQueryForEntity = false;
     protected boolean displayDMLForEntity = false;
     protected Logger entityLogger;
+    protected Class<?> entityClass;
 
     protected AbstractStatementWrapper(Class<?> entityClass, Object[] values) {
+        this.entityClass = entityClass;
         if (ArrayUtils.isNotEmpty(values)) {
             this.values = values;
         }
@@ -87,6 +89,10 @@ public abstract class AbstractStatementWrapper {
         return values;
     }
 
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
     public abstract String getQueryString();
 
     public abstract ListenableFuture<ResultSet> executeAsync(Session session, ExecutorService executorService);
@@ -136,6 +136,10 @@ public class BatchStatementWrapper extends AbstractStatementWrapper {
         return consistencyLevelO.get();
     }
 
+    public List<AbstractStatementWrapper> getStatementWrappers() {
+        return statementWrappers;
+    }
+
     static class CompositeLWTResultListener implements LWTResultListener {
 
         private final Set<LWTResultListener> delegates = new HashSet<>();
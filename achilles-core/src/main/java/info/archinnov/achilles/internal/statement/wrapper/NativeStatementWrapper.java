@@ -82,6 +82,19 @@ public class NativeStatementWrapper extends AbstractStatementWrapper {
         // no op
     }
 
+    /**
+     * Build a wrapper around a copy of the statement holding the fetch size and paging state of one page,
+     * leaving the statement of this wrapper untouched for the other executions of the query
+     *
+     * @param protocolVersion protocol version of the session, used to copy the values of a simple statement
+     */
+    public NativeStatementWrapper copyForPage(int pageSize, String pagingState, ProtocolVersion protocolVersion) {
+        final Statement pageStatement = StatementHelper.copyStatement(getStatement(), protocolVersion);
+        pageStatement.setFetchSize(pageSize);
+        StatementHelper.setPagingState(pageStatement, pagingState);
+        return new NativeStatementWrapper(entityClass, pageStatement, values, lwtResultListener);
+    }
+
     public Statement buildParameterizedStatement() {
         if (statement instanceof RegularStatement) {
             final RegularStatement regularStatement = (RegularStatement) statement;
@@ -24,14 +24,19 @@ import static info.archinnov.achilles.internal.cql.TypeMapper.toCQLDataType;
 import static info.archinnov.achilles.schemabuilder.Create.Options.ClusteringOrder;
 import static java.lang.String.format;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.exception.AchillesInvalidTableException;
+import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
@@ -44,6 +49,9 @@ public class TableCreator {
     private static final Logger log = LoggerFactory.getLogger(TableCreator.class);
     private static final Logger DML_LOG = LoggerFactory.getLogger(ACHILLES_DDL_SCRIPT);
 
+    private TableTuningMapper tableTuningMapper = TableTuningMapper.Singleton.INSTANCE.get();
+    protected AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
+
     public void createTableForEntity(Session session, EntityMeta entityMeta, ConfigurationContext configContext) {
 
         log.debug("Create table for entity {}", entityMeta);
@@ -57,12 +65,56 @@ public class TableCreator {
         }
     }
 
+    /**
+     * Create all the missing tables in one pass: every CREATE TABLE is sent asynchronously, then
+     * the secondary indexes once all the tables exist. Intended for a single node cluster (embedded
+     * server, tests) where concurrent schema changes cannot end up in schema disagreement
+     */
+    public void createTablesForEntities(Session session, Collection<EntityMeta> entityMetas, ConfigurationContext configContext) {
+        log.debug("Create tables in parallel for entities {}", entityMetas);
+
+        if (!configContext.isForceColumnFamilyCreation() && !entityMetas.isEmpty()) {
+            final EntityMeta entityMeta = entityMetas.iterator().next();
+            throw new AchillesInvalidTableException(format("The required table '%s' does not exist for entity '%s'", entityMeta.config().getQualifiedTableName(), entityMeta.getClassName()));
+        }
+
+        final List<String> indexScripts = new LinkedList<>();
+        final List<ListenableFuture<ResultSet>> tableCreations = new ArrayList<>(entityMetas.size());
+        for (EntityMeta entityMeta : entityMetas) {
+            final String createTableScript = buildCreateTableScript(entityMeta, indexScripts);
+            tableCreations.add(session.executeAsync(createTableScript));
+            DML_LOG.debug(createTableScript);
+        }
+        asyncUtils.buildInterruptible(asyncUtils.mergeResultSetFutures(tableCreations)).getImmediately();
+
+        if (!indexScripts.isEmpty()) {
+            final List<ListenableFuture<ResultSet>> indexCreations = new ArrayList<>(indexScripts.size());
+            for (String indexScript : indexScripts) {
+                indexCreations.add(session.executeAsync(indexScript));
+                DML_LOG.debug(indexScript);
+            }
+            asyncUtils.buildInterruptible(asyncUtils.mergeResultSetFutures(indexCreations)).getImmediately();
+        }
+    }
+
     private void createTableForEntity(Session session, EntityMeta entityMeta) {
+        final List<String> indexScripts = new LinkedList<>();
+        final String createTableScript = buildCreateTableScript(entityMeta, indexScripts);
+        session.execute(createTableScript);
+        DML_LOG.debug(createTableScript);
+
+        for (String indexScript : indexScripts) {
+            session.execute(indexScript);
+            DML_LOG.debug(indexScript);
+        }
+    }
+
+    private String buildCreateTableScript(EntityMeta entityMeta, List<String> indexScripts) {
         log.debug("Creating table for entityMeta {}", entityMeta.getClassName());
         if (entityMeta.structure().isClusteredCounter()) {
-            createTableForClusteredCounter(session, entityMeta);
+            return buildClusteredCounterTableScript(entityMeta);
         } else {
-            createTable(session, entityMeta);
+            return buildTableScript(entityMeta, indexScripts);
         }
     }
 
@@ -84,9 +136,8 @@ public class TableCreator {
         }
     }
 
-    private void createTable(Session session, EntityMeta entityMeta) {
+    private String buildTableScript(EntityMeta entityMeta, List<String> indexes) {
         String qualifiedTableName = entityMeta.config().getQualifiedTableName();
-        final List<String> indexes = new LinkedList<>();
         final Create createTable = SchemaBuilder.createTable(qualifiedTableName);
         for (PropertyMeta pm : entityMeta.getAllMetasExceptIdAndCounters()) {
             String cqlColumnName = pm.getCQLColumnName();
@@ -121,21 +172,14 @@ public class TableCreator {
         if (StringUtils.isNotBlank(tableComment)) {
             tableOptions.comment(tableComment);
         }
-
-        final String createTableScript = tableOptions.build();
-        session.execute(createTableScript);
-        DML_LOG.debug(createTableScript);
-
-        if (!indexes.isEmpty()) {
-            for (String indexScript : indexes) {
-                session.execute(indexScript);
-                DML_LOG.debug(indexScript);
-            }
+        if (entityMeta.config().hasTableTuning()) {
+            tableTuningMapper.addTableOptions(entityMeta.config().getTableTuning(), tableOptions);
         }
 
+        return tableOptions.build();
     }
 
-    private void createTableForClusteredCounter(Session session, EntityMeta meta) {
+    private String buildClusteredCounterTableScript(EntityMeta meta) {
         log.debug("Creating table for clustered counter entity {}", meta.getClassName());
 
         final Create createTable = SchemaBuilder.createTable(meta.config().getQualifiedTableName());
@@ -148,10 +192,11 @@ public class TableCreator {
         final Create.Options tableOptions = createTable.withOptions();
         idMeta.forTableCreation().addClusteringOrder(tableOptions);
         tableOptions.comment(meta.config().getTableComment());
+        if (meta.config().hasTableTuning()) {
+            tableTuningMapper.addTableOptions(meta.config().getTableTuning(), tableOptions);
+        }
 
-        final String createTableScript = tableOptions.build();
-        session.execute(createTableScript);
-        DML_LOG.debug(createTableScript);
+        return tableOptions.build();
     }
 
     private List<ClusteringOrder> buildPrimaryKey(PropertyMeta pm, Create createTable) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.table;
+
+import java.util.Map;
+import com.datastax.driver.core.TableMetadata;
+import info.archinnov.achilles.annotations.TableTuning;
+import info.archinnov.achilles.schemabuilder.TableOptions;
+import info.archinnov.achilles.schemabuilder.TableOptions.CompactionOptions;
+import info.archinnov.achilles.schemabuilder.TableOptions.CompactionOptions.DateTieredCompactionStrategyOptions;
+import info.archinnov.achilles.schemabuilder.TableOptions.CompactionOptions.LeveledCompactionStrategyOptions;
+import info.archinnov.achilles.schemabuilder.TableOptions.CompactionOptions.SizeTieredCompactionStrategyOptions;
+import info.archinnov.achilles.schemabuilder.TableOptions.CompressionOptions;
+import info.archinnov.achilles.schemabuilder.TableOptions.SpeculativeRetryValue;
+
+/**
+ * Translate the {@link info.archinnov.achilles.annotations.TableTuning} of an entity into table options,
+ * and compare it with the options of an existing table
+ */
+public class TableTuningMapper {
+
+    private static final String PERCENTILE = "PERCENTILE";
+    private static final String MILLISECS = "MS";
+
+    public void addTableOptions(TableTuning tableTuning, TableOptions<?> tableOptions) {
+        final CompactionOptions<?> compactionOptions = buildCompactionOptions(tableTuning);
+        if (compactionOptions != null) {
+            tableOptions.compactionOptions(compactionOptions);
+        }
+        final CompressionOptions compressionOptions = buildCompressionOptions(tableTuning);
+        if (compressionOptions != null) {
+            tableOptions.compressionOptions(compressionOptions);
+        }
+        if (tableTuning.caching() != TableTuning.Caching.DEFAULT) {
+            tableOptions.caching(TableOptions.Caching.valueOf(tableTuning.caching().name()));
+        }
+        if (tableTuning.bloomFilterFPChance() != -1) {
+            tableOptions.bloomFilterFPChance(tableTuning.bloomFilterFPChance());
+        }
+        if (!tableTuning.speculativeRetry().isEmpty()) {
+            tableOptions.speculativeRetry(buildSpeculativeRetry(tableTuning.speculativeRetry()));
+        }
+    }
+
+    /**
+     * Options which are not reported by the table metadata of the running Cassandra version are considered up to date
+     */
+    public boolean isUpToDate(TableTuning tableTuning, TableMetadata.Options currentOptions) {
+        final CompactionOptions<?> compactionOptions = buildCompactionOptions(tableTuning);
+        if (compactionOptions != null) {
+            final Map<String, String> compaction = currentOptions.getCompaction();
+            final String strategyClass = unquote(strategyOf(tableTuning).strategyClass());
+            if (compaction.get("class") == null || !compaction.get("class").endsWith(strategyClass)
+                    || !sameOption(compaction, "min_threshold", tableTuning.minThreshold())
+                    || !sameOption(compaction, "max_threshold", tableTuning.maxThreshold())
+                    || !sameOption(compaction, "sstable_size_in_mb", tableTuning.sstableSizeInMB())
+                    || !sameOption(compaction, "base_time_seconds", tableTuning.baseTimeSeconds())
+                    || !sameOption(compaction, "max_sstable_age_days", tableTuning.maxSSTableAgeDays())) {
+                return false;
+            }
+        }
+        if (tableTuning.compression() != TableTuning.Compression.DEFAULT) {
+            final Map<String, String> compression = currentOptions.getCompression();
+            final String algorithm = unquote(CompressionOptions.Algorithm.valueOf(tableTuning.compression().name()).value());
+            final String currentAlgorithm = compression.get("sstable_compression") == null ? "" : compression.get("sstable_compression");
+            if (!currentAlgorithm.endsWith(algorithm) || (algorithm.isEmpty() && !currentAlgorithm.isEmpty())
+                    || !sameOption(compression, "chunk_length_kb", tableTuning.compressionChunkLengthInKb())) {
+                return false;
+            }
+        }
+        if (tableTuning.caching() != TableTuning.Caching.DEFAULT && !sameCaching(currentOptions.getCaching(), tableTuning.caching())) {
+            return false;
+        }
+        if (tableTuning.bloomFilterFPChance() != -1 && Math.abs(currentOptions.getBloomFilterFalsePositiveChance() - tableTuning.bloomFilterFPChance()) > 1e-9) {
+            return false;
+        }
+        if (!tableTuning.speculativeRetry().isEmpty()
+                && !normalizeSpeculativeRetry(currentOptions.getSpeculativeRetry()).equals(normalizeSpeculativeRetry(tableTuning.speculativeRetry()))) {
+            return false;
+        }
+        return true;
+    }
+
+    private CompactionOptions<?> buildCompactionOptions(TableTuning tableTuning) {
+        final CompactionOptions<?> compactionOptions;
+        switch (tableTuning.compaction()) {
+            case SIZE_TIERED:
+                final SizeTieredCompactionStrategyOptions sizeTiered = CompactionOptions.sizedTieredStategy();
+                if (tableTuning.minThreshold() > 0) {
+                    sizeTiered.minThreshold(tableTuning.minThreshold());
+                }
+                compactionOptions = sizeTiered;
+                break;
+            case LEVELED:
+                final LeveledCompactionStrategyOptions leveled = CompactionOptions.leveledStrategy();
+                if (tableTuning.sstableSizeInMB() > 0) {
+                    leveled.ssTableSizeInMB(tableTuning.sstableSizeInMB());
+                }
+                compactionOptions = leveled;
+                break;
+            case DATE_TIERED:
+                final DateTieredCompactionStrategyOptions dateTiered = CompactionOptions.dateTieredStrategy();
+                if (tableTuning.minThreshold() > 0) {
+                    dateTiered.minThreshold(tableTuning.minThreshold());
+                }
+                if (tableTuning.baseTimeSeconds() > 0) {
+                    dateTiered.baseTimeSeconds(tableTuning.baseTimeSeconds());
+                }
+                if (tableTuning.maxSSTableAgeDays() > 0) {
+                    dateTiered.maxSSTableAgeDays(tableTuning.maxSSTableAgeDays());
+                }
+                compactionOptions = dateTiered;
+                break;
+            default:
+                return null;
+        }
+        if (tableTuning.maxThreshold() > 0) {
+            compactionOptions.maxThreshold(tableTuning.maxThreshold());
+        }
+        return compactionOptions;
+    }
+
+    private CompactionOptions.Strategy strategyOf(TableTuning tableTuning) {
+        switch (tableTuning.compaction()) {
+            case LEVELED:
+                return CompactionOptions.Strategy.LEVELED;
+            case DATE_TIERED:
+                return CompactionOptions.Strategy.DATE_TIERED;
+            default:
+                return CompactionOptions.Strategy.SIZED_TIERED;
+        }
+    }
+
+    private CompressionOptions buildCompressionOptions(TableTuning tableTuning) {
+        switch (tableTuning.compression()) {
+            case NONE:
+                return CompressionOptions.none();
+            case LZ4:
+                return withChunkLength(CompressionOptions.lz4(), tableTuning);
+            case SNAPPY:
+                return withChunkLength(CompressionOptions.snappy(), tableTuning);
+            case DEFLATE:
+                return withChunkLength(CompressionOptions.deflate(), tableTuning);
+            default:
+                return null;
+        }
+    }
+
+    private CompressionOptions withChunkLength(CompressionOptions compressionOptions, TableTuning tableTuning) {
+        if (tableTuning.compressionChunkLengthInKb() > 0) {
+            compressionOptions.withChunkLengthInKb(tableTuning.compressionChunkLengthInKb());
+        }
+        return compressionOptions;
+    }
+
+    private SpeculativeRetryValue buildSpeculativeRetry(String speculativeRetry) {
+        final String value = speculativeRetry.toUpperCase();
+        if (value.endsWith(PERCENTILE)) {
+            return SpeculativeRetryValue.percentile(Integer.parseInt(value.substring(0, value.length() - PERCENTILE.length())));
+        } else if (value.endsWith(MILLISECS)) {
+            return SpeculativeRetryValue.millisecs(Integer.parseInt(value.substring(0, value.length() - MILLISECS.length())));
+        } else if ("ALWAYS".equals(value)) {
+            return SpeculativeRetryValue.always();
+        } else {
+            return SpeculativeRetryValue.none();
+        }
+    }
+
+    private String normalizeSpeculativeRetry(String speculativeRetry) {
+        return String.valueOf(speculativeRetry).toUpperCase().replace(".0" + PERCENTILE, PERCENTILE);
+    }
+
+    /**
+     * Cassandra 2.0 reports the caching as <em>keys_only</em>, Cassandra 2.1 as <em>{"keys":"ALL", "rows_per_partition":"NONE"}</em>
+     */
+    private boolean sameCaching(Object currentCaching, TableTuning.Caching caching) {
+        final String current = String.valueOf(currentCaching).replaceAll("[\\s\"']", "").replace(':', '=').toUpperCase();
+        if (current.equals(caching.name())) {
+            return true;
+        }
+        final String keys = caching == TableTuning.Caching.ALL || caching == TableTuning.Caching.KEYS_ONLY ? "ALL" : "NONE";
+        final String rows = caching == TableTuning.Caching.ALL || caching == TableTuning.Caching.ROWS_ONLY ? "ALL" : "NONE";
+        return current.contains("KEYS=" + keys) && current.contains("ROWS_PER_PARTITION=" + rows);
+    }
+
+    private boolean sameOption(Map<String, String> currentOptions, String option, long expectedValue) {
+        final String currentValue = currentOptions.get(option);
+        return expectedValue <= 0 || currentValue == null || currentValue.equals(String.valueOf(expectedValue));
+    }
+
+    private String unquote(String value) {
+        return value.replace("'", "");
+    }
+
+    public static enum Singleton {
+        INSTANCE;
+
+        private final TableTuningMapper instance = new TableTuningMapper();
+
+        public TableTuningMapper get() {
+            return instance;
+        }
+    }
+}
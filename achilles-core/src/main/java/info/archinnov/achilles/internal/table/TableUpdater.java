@@ -18,11 +18,14 @@ import com.datastax.driver.core.TableMetadata;
 import com.google.common.base.Function;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.schemabuilder.Alter;
 
 public class TableUpdater {
     private static final Logger log = LoggerFactory.getLogger(TableUpdater.class);
     private static final Logger DML_LOG = LoggerFactory.getLogger(TableCreator.ACHILLES_DDL_SCRIPT);
 
+    private TableTuningMapper tableTuningMapper = TableTuningMapper.Singleton.INSTANCE.get();
+
     private static final Function<ColumnMetadata, String> COLUMN_NAME_EXTRACTOR = new Function<ColumnMetadata, String>() {
         @Override
         public String apply(ColumnMetadata columnMetadata) {
@@ -42,6 +45,19 @@ public class TableUpdater {
         List<PropertyMeta> propertyMetas = entityMeta.getAllMetasExceptId();
         Set<String> columnNames = from(existingColumns).transform(COLUMN_NAME_EXTRACTOR).toSet();
         addNewPropertiesToBuilder(session, entityMeta,propertyMetas, columnNames);
+        updateTableTuning(session, entityMeta, tableMetadata);
+    }
+
+    private void updateTableTuning(Session session, EntityMeta entityMeta, TableMetadata tableMetadata) {
+        if (!entityMeta.config().hasTableTuning() || tableTuningMapper.isUpToDate(entityMeta.config().getTableTuning(), tableMetadata.getOptions())) {
+            return;
+        }
+        log.debug("Updating table options for entityMeta {}", entityMeta.getClassName());
+        final Alter.Options tableOptions = alterTable(entityMeta.config().getQualifiedTableName()).withOptions();
+        tableTuningMapper.addTableOptions(entityMeta.config().getTableTuning(), tableOptions);
+        final String alterTableScript = tableOptions.build();
+        session.execute(alterTableScript);
+        DML_LOG.debug(alterTableScript);
     }
 
     private void addNewPropertiesToBuilder(Session session,EntityMeta entityMeta,List<PropertyMeta> propertyMetas, Set<String> columnNames) {
@@ -27,6 +27,7 @@ import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -41,7 +42,7 @@ public class UUIDGen
     // placement of this singleton is important.  It needs to be instantiated *AFTER* the other statics.
     private static final UUIDGen instance = new UUIDGen();
 
-    private long lastNanos;
+    private final AtomicLong lastNanos = new AtomicLong();
 
     private UUIDGen()
     {
@@ -90,15 +91,17 @@ public class UUIDGen
 
     // needs to return two different values for the same when.
     // we can generate at most 10k UUIDs per ms.
-    private synchronized long createTimeSafe()
+    // lock-free: threads racing on the same tick retry the CAS and each get a distinct, increasing value
+    private long createTimeSafe()
     {
-        long nanosSince = (System.currentTimeMillis() - START_EPOCH) * 10000;
-        if (nanosSince > lastNanos)
-            lastNanos = nanosSince;
-        else
-            nanosSince = ++lastNanos;
-
-        return createTime(nanosSince);
+        final long nanosNow = (System.currentTimeMillis() - START_EPOCH) * 10000;
+        while (true)
+        {
+            final long last = lastNanos.get();
+            final long nanosSince = nanosNow > last ? nanosNow : last + 1;
+            if (lastNanos.compareAndSet(last, nanosSince))
+                return createTime(nanosSince);
+        }
     }
 
 
@@ -35,16 +35,21 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.Select;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Function;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContextFactory;
+import info.archinnov.achilles.internal.context.facade.EntityOperations;
 import info.archinnov.achilles.internal.context.facade.PersistenceManagerOperations;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.persistence.operations.EntityInitializer;
 import info.archinnov.achilles.internal.persistence.operations.EntityProxifier;
 import info.archinnov.achilles.internal.persistence.operations.EntityValidator;
 import info.archinnov.achilles.internal.persistence.operations.OptionsValidator;
 import info.archinnov.achilles.internal.persistence.operations.SliceQueryExecutor;
+import info.archinnov.achilles.internal.persistence.operations.TableScanExecutor;
 import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.query.typed.TypedQueryValidator;
 import info.archinnov.achilles.type.IndexCondition;
@@ -61,12 +66,22 @@ abstract class AbstractPersistenceManager {
     protected EntityProxifier proxifier = EntityProxifier.Singleton.INSTANCE.get();
     protected OptionsValidator optionsValidator = OptionsValidator.Singleton.INSTANCE.get();
     protected EntityValidator entityValidator = EntityValidator.Singleton.INSTANCE.get();
+    protected EntityInitializer initializer = EntityInitializer.Singleton.INSTANCE.get();
     protected TypedQueryValidator typedQueryValidator = TypedQueryValidator.Singleton.INSTANCE.get();
 
     protected SliceQueryExecutor sliceQueryExecutor;
 
+    protected TableScanExecutor tableScanExecutor;
+
     protected DaoContext daoContext;
 
+    private final Function<Object, EntityOperations> entityOperationsProvider = new Function<Object, EntityOperations>() {
+        @Override
+        public EntityOperations apply(Object entity) {
+            return contextFactory.newContext(entity).getEntityFacade();
+        }
+    };
+
     protected AbstractPersistenceManager(Map<Class<?>, EntityMeta> entityMetaMap, //
             PersistenceContextFactory contextFactory, DaoContext daoContext, ConfigurationContext configContext) {
         this.entityMetaMap = entityMetaMap;
@@ -74,6 +89,7 @@ abstract class AbstractPersistenceManager {
         this.daoContext = daoContext;
         this.contextFactory = contextFactory;
         this.sliceQueryExecutor = new SliceQueryExecutor(contextFactory, configContext, daoContext);
+        this.tableScanExecutor = new TableScanExecutor(configContext, daoContext);
     }
 
     protected <T> AchillesFuture<T> asyncInsert(final T entity, Options options) {
@@ -85,7 +101,7 @@ abstract class AbstractPersistenceManager {
     }
 
     protected <T> AchillesFuture<T> asyncUpdate(T entity, Options options) {
-        proxifier.ensureProxy(entity);
+        proxifier.ensureManaged(entity, configContext);
         Object realObject = proxifier.getRealObject(entity);
         entityValidator.validateEntity(realObject, entityMetaMap);
         optionsValidator.validateOptionsForUpsert(entity, entityMetaMap, options);
@@ -95,7 +111,7 @@ abstract class AbstractPersistenceManager {
 
     protected <T> AchillesFuture<T> asyncInsertOrUpdate(T entity, Options options) {
         entityValidator.validateEntity(entity, entityMetaMap);
-        if (proxifier.isProxy(entity)) {
+        if (proxifier.isManaged(entity, configContext)) {
             return this.asyncUpdate(entity, options);
         } else {
             return this.asyncInsert(entity, options);
@@ -130,6 +146,18 @@ abstract class AbstractPersistenceManager {
         return context.find(entityClass);
     }
 
+    protected <T> AchillesFuture<T> asyncFindProjection(final Class<T> entityClass, final Object primaryKey, Options options, List<String> propertyNames) {
+        Validator.validateNotNull(entityClass, "Entity class should not be null for find by id");
+        Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by id");
+        Validator.validateTrue(entityMetaMap.containsKey(entityClass), "The entity class '%s' is not managed by Achilles", entityClass.getCanonicalName());
+        Validator.validateFalse(configContext.isSnapshotDirtyChecking(),
+                "Cannot select a projection of entity '%s' with snapshot dirty checking since the other properties cannot be lazy loaded", entityClass.getCanonicalName());
+        final List<PropertyMeta> projection = entityMetaMap.get(entityClass).forOperations().getProjectionMetas(propertyNames);
+        PersistenceManagerOperations context = initPersistenceContext(entityClass, primaryKey, options);
+        entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+        return context.findProjection(entityClass, projection);
+    }
+
     protected <T> T getProxyInternal(final Class<T> entityClass, final Object primaryKey, Options options) {
         Validator.validateNotNull(entityClass, "Entity class should not be null for get proxy");
         Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for get proxy");
@@ -152,7 +180,7 @@ abstract class AbstractPersistenceManager {
     }
 
     protected <T> AchillesFuture<T> asyncRefresh(final T entity, Options options) throws AchillesStaleObjectStateException {
-        proxifier.ensureProxy(entity);
+        proxifier.ensureManaged(entity, configContext);
         Object realObject = proxifier.getRealObject(entity);
         entityValidator.validateEntity(realObject, entityMetaMap);
         PersistenceManagerOperations context = initPersistenceContext(realObject, options);
@@ -160,12 +188,22 @@ abstract class AbstractPersistenceManager {
     }
 
     protected <T> T initialize(final T entity) {
-        proxifier.ensureProxy(entity);
+        proxifier.ensureManaged(entity, configContext);
         T realObject = proxifier.getRealObject(entity);
         PersistenceManagerOperations context = initPersistenceContext(realObject, noOptions());
         return context.initialize(entity);
     }
 
+    protected <T> List<T> initialize(final List<T> entities) {
+        initializer.initializeEntities(entities, configContext, entityOperationsProvider);
+        return entities;
+    }
+
+    protected <T> Set<T> initialize(final Set<T> entities) {
+        initializer.initializeEntities(entities, configContext, entityOperationsProvider);
+        return entities;
+    }
+
     protected <T> T removeProxy(T proxy) {
         return proxifier.removeProxy(proxy);
     }
@@ -186,6 +224,14 @@ abstract class AbstractPersistenceManager {
         return meta;
     }
 
+    protected <T> EntityMeta validateTableScanInternal(Class<T> entityClass) {
+        Validator.validateNotNull(entityClass,"The entityClass should be provided for table scan");
+        EntityMeta meta = entityMetaMap.get(entityClass);
+        Validator.validateNotNull(meta, "The entity '%s' is not managed by achilles", entityClass.getName());
+        Validator.validateFalse(meta.structure().isClusteredCounter(),"Cannot perform table scan on entity type '%s' because it is " + "a clustered counter",meta.getClassName());
+        return meta;
+    }
+
     protected <T> EntityMeta typedQueryInternal(Class<T> entityClass, Statement statement, Object... boundValues) {
         log.debug("Execute typed query for entity class {}", entityClass);
         Validator.validateNotNull(entityClass, "The entityClass for typed query should not be null");
@@ -197,6 +243,13 @@ abstract class AbstractPersistenceManager {
         return meta;
     }
 
+    protected <T> EntityMeta typedProjectionQueryInternal(Class<T> entityClass, Statement statement, Object... boundValues) {
+        Validator.validateFalse(configContext.isSnapshotDirtyChecking(),
+                "Cannot select a projection of entity '%s' with snapshot dirty checking since the other properties cannot be lazy loaded",
+                entityClass == null ? null : entityClass.getCanonicalName());
+        return typedQueryInternal(entityClass, statement, boundValues);
+    }
+
     protected <T> EntityMeta rawTypedQueryInternal(Class<T> entityClass, Statement statement, Object... boundValues) {
         Validator.validateNotNull(entityClass, "The entityClass for typed query should not be null");
         Validator.validateNotNull(statement, "The regularStatement for typed query should not be null");
@@ -107,7 +107,7 @@ public class AsyncBatch extends CommonBatch {
     public AchillesFuture<Empty> asyncEndBatch(FutureCallback<Object>... asyncListeners) {
         log.debug("Flushing batch asynchronously");
         try {
-            final ExecutorService executorService = configContext.getExecutorService();
+            final ExecutorService executorService = configContext.getCallbackExecutor();
             AchillesFuture<Empty> emptyFuture = flushContext.flushBatch();
             asyncUtils.maybeAddAsyncListeners(emptyFuture, asyncListeners, executorService);
             return asyncUtils.buildInterruptible(emptyFuture);
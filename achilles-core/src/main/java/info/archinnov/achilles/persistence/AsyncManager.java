@@ -25,6 +25,7 @@ import info.archinnov.achilles.internal.context.PersistenceContextFactory;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.query.cql.AsyncNativeQuery;
+import info.archinnov.achilles.query.scan.AsyncTableScan;
 import info.archinnov.achilles.query.slice.AsyncSliceQueryBuilder;
 import info.archinnov.achilles.query.typed.AsyncTypedQuery;
 import info.archinnov.achilles.type.IndexCondition;
@@ -40,6 +41,7 @@ import java.util.Set;
 import static info.archinnov.achilles.internal.metadata.holder.EntityMeta.EntityState.MANAGED;
 import static info.archinnov.achilles.internal.metadata.holder.EntityMeta.EntityState.NOT_MANAGED;
 import static info.archinnov.achilles.type.OptionsBuilder.noOptions;
+import static java.util.Arrays.asList;
 
 /**
  * <p>
@@ -192,6 +194,26 @@ public class AsyncManager extends CommonAsyncManager {
     }
 
 
+    /**
+     * Find an entity reading only the given properties, asynchronously.
+     * The primary key is always loaded, the other properties are lazy loaded upon call on their getter.
+     * Not available with snapshot dirty checking.
+     *
+     * @param entityClass
+     *            Entity type
+     * @param primaryKey
+     *            Primary key (Cassandra row key) of the entity to load
+     * @param propertyNames
+     *            names of the entity properties to read, counters excluded
+     *
+     * @return AchillesFuture&lt;T&gt; future managed entity
+     */
+    public <T> AchillesFuture<T> findProjection(Class<T> entityClass, Object primaryKey, String... propertyNames) {
+        log.debug("Find projection {} of entity class '{}' with primary key '{}'", asList(propertyNames), entityClass, primaryKey);
+        return super.asyncFindProjection(entityClass, primaryKey, noOptions(), asList(propertyNames));
+    }
+
+
     /**
      * This method is deprecated, use {@link info.archinnov.achilles.persistence.AsyncManager}.forUpdate() instead
      *
@@ -446,6 +468,28 @@ public class AsyncManager extends CommonAsyncManager {
         return new AsyncSliceQueryBuilder<>(sliceQueryExecutor, entityClass, meta);
     }
 
+    /**
+     * Create a builder to scan the whole table of an entity in parallel. The token ring of the cluster
+     * is divided into sub-ranges which are read concurrently, each entity being passed to the consumer.
+     * The provided entity class <strong>must</strong> be:
+     *
+     * <ul>
+     *     <li>a entity type managed by <strong>Achilles</strong></li>
+     *     <li>not a clustered counter entity</li>
+     * </ul>
+     *
+     * The scanned entities are raw entities, not proxies. Counters and @Lazy columns are not loaded
+     *
+     * @param entityClass type of the entity
+     * @param <T>: type of the entity
+     * @return AsyncTableScan&lt;T&gt;
+     */
+    public <T> AsyncTableScan<T> scan(Class<T> entityClass) {
+        log.debug("Execute table scan for entity class {}", entityClass);
+        final EntityMeta meta = super.validateTableScanInternal(entityClass);
+        return new AsyncTableScan<>(tableScanExecutor, entityClass, meta);
+    }
+
     /**
      * Return a CQL native query DSL
      *
@@ -530,7 +574,8 @@ public class AsyncManager extends CommonAsyncManager {
     /**
      * Return an asynchronous CQL typed query
      *
-     * All found entities will be in <strong>managed</strong> state
+     * All found entities will be in <strong>managed</strong> state. The properties not selected by the statement
+     * are left null, use a typed projection query to lazy load them
      *
      * <br/>
      * <br/>
@@ -569,6 +614,35 @@ public class AsyncManager extends CommonAsyncManager {
         return new AsyncTypedQuery<>(entityClass, daoContext, configContext, statement, meta, contextFactory, MANAGED, boundValues);
     }
 
+    /**
+     * Return an asynchronous CQL typed query for a projection of the entity
+     *
+     * All found entities will be in <strong>managed</strong> state. The primary key and the columns selected by the
+     * statement are loaded, the other properties are lazy loaded upon call on their getter, with one SELECT per entity
+     * and per property. Not available with snapshot dirty checking.
+     *
+     *  <pre class="code"><code class="java">
+     *      RegularStatement statement = select("id","login").from("User").where(eq("id",bindMarker()));
+     *      AchillesFuture&lt;List&lt;User&gt;&gt; actual = asyncManager.typedProjectionQuery(User.class, statement, 10L).get();
+     *  </code></pre>
+     *
+     * @param entityClass
+     *            type of entity to be returned
+     *
+     * @param statement
+     *            native CQL regularStatement, including limit, ttl and consistency
+     *            options
+     *
+     * @param boundValues
+     *            values to be bind to the parameterized query, if any
+     *
+     * @return AsyncTypedQuery&lt;T&gt;
+     */
+    public <T> AsyncTypedQuery<T> typedProjectionQuery(Class<T> entityClass, Statement statement, Object... boundValues) {
+        final EntityMeta meta = super.typedProjectionQueryInternal(entityClass, statement, boundValues);
+        return new AsyncTypedQuery<>(entityClass, daoContext, configContext, statement, meta, contextFactory, MANAGED, boundValues, true);
+    }
+
     /**
      * Return an asynchronous CQL indexed query
      *
@@ -18,10 +18,13 @@ package info.archinnov.achilles.persistence;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.internal.async.BlockingCall;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContextFactory;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.type.Empty;
 
 /**
  * <p>
@@ -81,7 +84,12 @@ public class Batch extends CommonBatch {
     public void endBatch() {
         log.debug("Flushing batch");
         try {
-            flushContext.flushBatch().getImmediately();
+            configContext.awaitBlocking(new BlockingCall<Empty>() {
+                @Override
+                public AchillesFuture<Empty> start() {
+                    return flushContext.flushBatch();
+                }
+            });
         } finally {
             flushContext = flushContext.duplicateWithNoData(defaultConsistencyLevel);
         }
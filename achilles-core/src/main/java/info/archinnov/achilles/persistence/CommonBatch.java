@@ -18,7 +18,9 @@ package info.archinnov.achilles.persistence;
 import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.Statement;
 import com.google.common.base.Optional;
+import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internal.async.BlockingCall;
 import info.archinnov.achilles.internal.context.BatchingFlushContext;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
@@ -32,6 +34,7 @@ import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.listener.LWTResultListener;
 import info.archinnov.achilles.query.cql.NativeQueryValidator;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.type.Options;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -139,8 +142,13 @@ abstract class CommonBatch extends CommonPersistenceManager {
     @Override
     public <T> T insert(final T entity, Options options) {
         log.debug("Inserting entity '{}' and options '{}'", entity, options);
-        Options modifiedOptions = adaptOptionsForBatch(options);
-        return super.asyncInsert(entity, modifiedOptions).getImmediately();
+        final Options modifiedOptions = adaptOptionsForBatch(options);
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncInsert(entity, modifiedOptions);
+            }
+        });
     }
 
     /**
@@ -187,10 +195,15 @@ abstract class CommonBatch extends CommonPersistenceManager {
      * @param options options
      */
     @Override
-    public void update(Object entity, Options options) {
+    public void update(final Object entity, Options options) {
         log.debug("Updating entity '{}' with options {} ", proxifier.getRealObject(entity), options);
-        Options modifiedOptions = adaptOptionsForBatch(options);
-        super.asyncUpdate(entity, modifiedOptions).getImmediately();
+        final Options modifiedOptions = adaptOptionsForBatch(options);
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncUpdate(entity, modifiedOptions);
+            }
+        });
     }
 
     /**
@@ -264,8 +277,13 @@ abstract class CommonBatch extends CommonPersistenceManager {
     @Override
     public void delete(final Object entity, Options options) {
         log.debug("Removing entity '{}' with options {}", proxifier.getRealObject(entity), options);
-        Options modifiedOptions = adaptOptionsForBatch(options);
-        super.asyncDelete(entity, modifiedOptions).getImmediately();
+        final Options modifiedOptions = adaptOptionsForBatch(options);
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncDelete(entity, modifiedOptions);
+            }
+        });
     }
 
     /**
@@ -307,10 +325,15 @@ abstract class CommonBatch extends CommonPersistenceManager {
      * @param primaryKey  Primary key
      */
     @Override
-    public void deleteById(Class<?> entityClass, Object primaryKey, Options options) {
+    public void deleteById(final Class<?> entityClass, final Object primaryKey, Options options) {
         log.debug("Deleting entity of type '{}' by its id '{}'", entityClass, primaryKey);
-        Options modifiedOptions = maybeAddTimestampToStatement(options);
-        super.asyncDeleteById(entityClass, primaryKey, modifiedOptions).getImmediately();
+        final Options modifiedOptions = maybeAddTimestampToStatement(options);
+        configContext.awaitBlocking(new BlockingCall<Empty>() {
+            @Override
+            public AchillesFuture<Empty> start() {
+                return asyncDeleteById(entityClass, primaryKey, modifiedOptions);
+            }
+        });
     }
 
     /**
@@ -20,10 +20,13 @@ import static info.archinnov.achilles.type.OptionsBuilder.noOptions;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.internal.async.BlockingCall;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContextFactory;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.type.Options;
 
 import javax.annotation.PreDestroy;
@@ -49,9 +52,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      *            Entity to be inserted
      * @return proxified entity
      */
-    public <T> T insert(T entity) {
+    public <T> T insert(final T entity) {
         log.debug("Inserting entity '{}'", entity);
-        return super.asyncInsert(entity, noOptions()).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncInsert(entity, noOptions());
+            }
+        });
     }
 
     /**
@@ -68,9 +76,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      *            options
      * @return proxified entity
      */
-    public <T> T insert(final T entity, Options options) {
+    public <T> T insert(final T entity, final Options options) {
         log.debug("Inserting entity '{}' with options {} ", entity, options);
-        return super.asyncInsert(entity, options).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncInsert(entity, options);
+            }
+        });
     }
 
     /**
@@ -86,9 +99,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      * @param entity
      *            Managed entity to be updated
      */
-    public void update(Object entity) {
+    public void update(final Object entity) {
         log.debug("Updating entity '{}'", proxifier.getRealObject(entity));
-        super.asyncUpdate(entity, noOptions()).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncUpdate(entity, noOptions());
+            }
+        });
     }
 
     /**
@@ -106,9 +124,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      * @param options
      *            options
      */
-    public void update(Object entity, Options options) {
+    public void update(final Object entity, final Options options) {
         log.debug("Updating entity '{}' with options {} ", proxifier.getRealObject(entity), options);
-        super.asyncUpdate(entity, options).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncUpdate(entity, options);
+            }
+        });
     }
 
 
@@ -122,9 +145,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      *
      * @return proxified entity
      */
-    public <T> T insertOrUpdate(T entity) {
+    public <T> T insertOrUpdate(final T entity) {
         log.debug("Inserting or updating entity '{}'", proxifier.getRealObject(entity));
-        return this.asyncInsertOrUpdate(entity,noOptions()).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncInsertOrUpdate(entity,noOptions());
+            }
+        });
     }
 
     /**
@@ -137,9 +165,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      * @param options
      *            options
      */
-    public <T> T insertOrUpdate(T entity, Options options) {
+    public <T> T insertOrUpdate(final T entity, final Options options) {
         log.debug("Inserting or updating entity '{}' with options {}", proxifier.getRealObject(entity), options);
-        return this.asyncInsertOrUpdate(entity,options).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncInsertOrUpdate(entity,options);
+            }
+        });
     }
 
     /**
@@ -154,9 +187,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      * @param entity
      *            Entity to be deleted
      */
-    public void delete(Object entity) {
+    public void delete(final Object entity) {
         log.debug("Deleting entity '{}'", proxifier.getRealObject(entity));
-        super.asyncDelete(entity, noOptions()).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncDelete(entity, noOptions());
+            }
+        });
     }
 
     /**
@@ -173,9 +211,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      * @param options
      *            options for consistency level and timestamp
      */
-    public void delete(final Object entity, Options options) {
+    public void delete(final Object entity, final Options options) {
         log.debug("Deleting entity '{}' with options {}", proxifier.getRealObject(entity), options);
-        super.asyncDelete(entity,options).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncDelete(entity,options);
+            }
+        });
     }
 
     /**
@@ -192,9 +235,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      * @param primaryKey
      *            Primary key
      */
-    public void deleteById(Class<?> entityClass, Object primaryKey) {
+    public void deleteById(final Class<?> entityClass, final Object primaryKey) {
         log.debug("Deleting  entity of type '{}' by its id '{}'", entityClass, primaryKey);
-        super.asyncDeleteById(entityClass, primaryKey, noOptions()).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Empty>() {
+            @Override
+            public AchillesFuture<Empty> start() {
+                return asyncDeleteById(entityClass, primaryKey, noOptions());
+            }
+        });
     }
 
     /**
@@ -211,9 +259,14 @@ public class CommonPersistenceManager extends AbstractPersistenceManager {
      * @param primaryKey
      *            Primary key
      */
-    public void deleteById(Class<?> entityClass, Object primaryKey, Options options) {
+    public void deleteById(final Class<?> entityClass, final Object primaryKey, final Options options) {
         log.debug("Deleting  entity of type '{}' by its id '{}'", entityClass, primaryKey);
-        super.asyncDeleteById(entityClass, primaryKey, options).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Empty>() {
+            @Override
+            public AchillesFuture<Empty> start() {
+                return asyncDeleteById(entityClass, primaryKey, options);
+            }
+        });
     }
 
     /**
@@ -19,12 +19,15 @@ import static info.archinnov.achilles.internal.metadata.holder.EntityMeta.Entity
 import static info.archinnov.achilles.internal.metadata.holder.EntityMeta.EntityState.NOT_MANAGED;
 import static info.archinnov.achilles.type.OptionsBuilder.noOptions;
 import static info.archinnov.achilles.type.OptionsBuilder.withConsistency;
+import static java.util.Arrays.asList;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.datastax.driver.core.Statement;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.internal.async.BlockingCall;
 import info.archinnov.achilles.internal.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +38,7 @@ import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContextFactory;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.query.cql.NativeQuery;
+import info.archinnov.achilles.query.scan.TableScan;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.query.typed.TypedQuery;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -171,12 +175,46 @@ public class PersistenceManager extends CommonPersistenceManager {
      *
      * @return T managed entity
      */
-    public <T> T find(Class<T> entityClass, Object primaryKey) {
+    public <T> T find(final Class<T> entityClass, final Object primaryKey) {
         log.debug("Find entity class '{}' with primary key '{}'", entityClass, primaryKey);
-        return super.asyncFind(entityClass, primaryKey, noOptions()).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncFind(entityClass, primaryKey, noOptions());
+            }
+        });
     }
 
 
+    /**
+     * Find an entity, reading only the given properties.
+     * The primary key is always loaded, the other properties are lazy loaded upon call on their getter.
+     * Not available with snapshot dirty checking.
+     *
+     *  <pre class="code"><code class="java">
+     *      // Read only the login and email columns from Cassandra
+     *      User managedUser = manager.findProjection(User.class,1L,"login","email");
+     *  </code></pre>
+     *
+     * @param entityClass
+     *            Entity type
+     * @param primaryKey
+     *            Primary key (Cassandra row key) of the entity to load
+     * @param propertyNames
+     *            names of the entity properties to read, counters excluded
+     *
+     * @return T managed entity
+     */
+    public <T> T findProjection(final Class<T> entityClass, final Object primaryKey, final String... propertyNames) {
+        log.debug("Find projection {} of entity class '{}' with primary key '{}'", asList(propertyNames), entityClass, primaryKey);
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncFindProjection(entityClass, primaryKey, noOptions(), asList(propertyNames));
+            }
+        });
+    }
+
     /**
      * Find an entity with the given Consistency Level for read
      *
@@ -194,11 +232,16 @@ public class PersistenceManager extends CommonPersistenceManager {
      *
      * @return T managed entity
      */
-    public <T> T find(final Class<T> entityClass, final Object primaryKey, ConsistencyLevel readLevel) {
+    public <T> T find(final Class<T> entityClass, final Object primaryKey, final ConsistencyLevel readLevel) {
          if (log.isDebugEnabled()) {
             log.debug("Find entity class '{}' with primary key {} and read consistency level {}", entityClass, primaryKey, readLevel);
         }
-        return super.asyncFind(entityClass, primaryKey, withConsistency(readLevel)).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncFind(entityClass, primaryKey, withConsistency(readLevel));
+            }
+        });
     }
 
     /**
@@ -277,9 +320,14 @@ public class PersistenceManager extends CommonPersistenceManager {
      * @param entity
      *            Entity to be refreshed
      */
-    public void refresh(Object entity) throws AchillesStaleObjectStateException {
+    public void refresh(final Object entity) throws AchillesStaleObjectStateException {
         log.debug("Refreshing entity '{}'", proxifier.removeProxy(entity));
-        super.asyncRefresh(entity, noOptions()).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncRefresh(entity, noOptions());
+            }
+        });
     }
 
 
@@ -301,9 +349,14 @@ public class PersistenceManager extends CommonPersistenceManager {
      * @param readLevel
      *            Consistency Level for read
      */
-    public void refresh(final Object entity, ConsistencyLevel readLevel) throws AchillesStaleObjectStateException {
+    public void refresh(final Object entity, final ConsistencyLevel readLevel) throws AchillesStaleObjectStateException {
         log.debug("Refreshing entity '{}' with consistency level '{}'", proxifier.removeProxy(entity));
-        super.asyncRefresh(entity, withConsistency(readLevel)).getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Object>() {
+            @Override
+            public AchillesFuture<Object> start() {
+                return asyncRefresh(entity, withConsistency(readLevel));
+            }
+        });
     }
 
     /**
@@ -476,6 +529,28 @@ public class PersistenceManager extends CommonPersistenceManager {
         return new SliceQueryBuilder<>(sliceQueryExecutor, entityClass, meta);
     }
 
+    /**
+     * Create a builder to scan the whole table of an entity in parallel. The token ring of the cluster
+     * is divided into sub-ranges which are read concurrently, each entity being passed to the consumer.
+     * The provided entity class <strong>must</strong> be:
+     *
+     * <ul>
+     *     <li>a entity type managed by <strong>Achilles</strong></li>
+     *     <li>not a clustered counter entity</li>
+     * </ul>
+     *
+     * The scanned entities are raw entities, not proxies. Counters and @Lazy columns are not loaded
+     *
+     * @param entityClass type of the entity
+     * @param <T>: type of the entity
+     * @return TableScan&lt;T&gt;
+     */
+    public <T> TableScan<T> scan(Class<T> entityClass) {
+        log.debug("Execute table scan for entity class {}", entityClass);
+        final EntityMeta meta = super.validateTableScanInternal(entityClass);
+        return new TableScan<>(tableScanExecutor, entityClass, meta);
+    }
+
     /**
      * Return a CQL native query
      *
@@ -560,7 +635,8 @@ public class PersistenceManager extends CommonPersistenceManager {
     /**
      * Return a CQL typed query builder
      *
-     * All found entities will be in <strong>managed</strong> state
+     * All found entities will be in <strong>managed</strong> state. The properties not selected by the statement
+     * are left null, use a typed projection query to lazy load them
      *
      * <br/>
      * <br/>
@@ -600,6 +676,36 @@ public class PersistenceManager extends CommonPersistenceManager {
         return new TypedQuery<>(entityClass, daoContext, configContext, statement, meta, contextFactory, MANAGED, boundValues);
     }
 
+    /**
+     * Return a CQL typed query builder for a projection of the entity
+     *
+     * All found entities will be in <strong>managed</strong> state. The primary key and the columns selected by the
+     * statement are loaded, the other properties are lazy loaded upon call on their getter, with one SELECT per entity
+     * and per property. Not available with snapshot dirty checking.
+     *
+     *  <pre class="code"><code class="java">
+     *      RegularStatement statement = select("id","login").from("User").where(eq("id",bindMarker()));
+     *      List&lt;User&gt; actual = manager.typedProjectionQuery(User.class, statement, 10L).get();
+     *  </code></pre>
+     *
+     * @param entityClass
+     *            type of entity to be returned
+     *
+     * @param statement
+     *            native CQL regularStatement, including limit, ttl and consistency
+     *            options
+     *
+     * @param boundValues
+     *            values to be bind to the parameterized query, if any
+     *
+     * @return TypedQuery<T>
+     */
+    public <T> TypedQuery<T> typedProjectionQuery(Class<T> entityClass, Statement statement, Object... boundValues) {
+        log.debug("Execute typed projection query {}", statement);
+        final EntityMeta meta = super.typedProjectionQueryInternal(entityClass, statement, boundValues);
+        return new TypedQuery<>(entityClass, daoContext, configContext, statement, meta, contextFactory, MANAGED, boundValues, true);
+    }
+
     /**
      * Return a CQL typed query builder
      *
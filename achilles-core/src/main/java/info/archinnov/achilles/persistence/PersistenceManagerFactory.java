@@ -27,9 +27,15 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Session;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.CacheStats;
+import info.archinnov.achilles.async.ExecutorMetrics;
+import info.archinnov.achilles.async.InFlightMetrics;
+import info.archinnov.achilles.async.StatementStatistics;
+import info.archinnov.achilles.counter.CounterWriteBehindMetrics;
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
 import info.archinnov.achilles.interceptor.Interceptor;
+import info.archinnov.achilles.internal.cache.RowCache;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContextFactory;
@@ -42,6 +48,8 @@ import info.archinnov.achilles.internal.utils.ConfigMap;
 import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.json.JacksonMapperFactory;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.ExecutionPolicy;
+import info.archinnov.achilles.type.InFlightLimitStrategy;
 import info.archinnov.achilles.type.InsertStrategy;
 
 import javax.annotation.PreDestroy;
@@ -103,6 +111,10 @@ public class PersistenceManagerFactory {
         daoContext = bootstrapper.buildDaoContext(session, parsingResult, configContext);
         contextFactory = new PersistenceContextFactory(daoContext, configContext, parsingResult.getMetaMap());
 
+        if (argumentExtractor.initStatementStatisticsJMX(configurationMap)) {
+            daoContext.getStatementStatistics().registerMBean(configContext.getCurrentKeyspace().or("none"));
+        }
+
         warmUpProxies();
 
         return this;
@@ -391,6 +403,19 @@ public class PersistenceManagerFactory {
             return this;
         }
 
+        /**
+         * Whether Achilles should send the CREATE TABLE statements of all missing tables
+         * at once instead of one after the other. Only meant for single node clusters
+         * like the embedded server, concurrent schema changes on a real cluster
+         * may end up in schema disagreement
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder parallelTableCreation(boolean parallelTableCreation) {
+            configMap.put(PARALLEL_TABLE_CREATION, parallelTableCreation);
+            return this;
+        }
+
         /**
          * Whether Achilles should force update table if entities have new fields and table not.
          * This flag is useful for dev only. <strong>It is strongly advised to disable this feature in production</strong>
@@ -506,6 +531,20 @@ public class PersistenceManagerFactory {
             return this;
         }
 
+        /**
+         * Whether to return plain entities tracked by a snapshot of their field values instead of proxies.
+         * Default = false
+         *
+         * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Configuration-Parameters#proxies" target="_blank">Proxies</a>
+         * @param snapshotDirtyChecking
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withSnapshotDirtyChecking(boolean snapshotDirtyChecking) {
+            configMap.put(SNAPSHOT_DIRTY_CHECKING, snapshotDirtyChecking);
+            return this;
+        }
+
 
         /**
          * Define the global insert strategy
@@ -552,6 +591,176 @@ public class PersistenceManagerFactory {
             return this;
         }
 
+        /**
+         * Define where the post-processing of asynchronous operations (tracing, LWT checks, entity mapping,
+         * interceptors and async listeners) is run.
+         * <br/>
+         * <ul>
+         *     <li>ExecutionPolicy.EXECUTOR (default): hand-off to the executor service</li>
+         *     <li>ExecutionPolicy.DIRECT: run on the thread completing the driver future, usually a driver I/O thread</li>
+         * </ul>
+         * Queries returning a list or an iterator fetch their next pages synchronously, they always hand off to the
+         * executor service.
+         * The policy can be overriden per operation with <em>OptionsBuilder.withExecutionPolicy()</em>
+         *
+         * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a>
+         * @param executionPolicy execution policy for asynchronous post-processing
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withExecutionPolicy(ExecutionPolicy executionPolicy) {
+            configMap.put(EXECUTION_POLICY, executionPolicy);
+            return this;
+        }
+
+        /**
+         * Run the post-processing of blocking calls (entity mapping, interceptors, async listeners...) on the
+         * calling thread once the driver result is available, without any hand-off to the executor service.
+         * <br/>
+         * Recommended when <em>PersistenceManager</em> is called from virtual threads
+         *
+         * @param blockingCallerRuns whether blocking calls run their post-processing on the calling thread
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withBlockingCallerRuns(boolean blockingCallerRuns) {
+            configMap.put(BLOCKING_CALLER_RUNS, blockingCallerRuns);
+            return this;
+        }
+
+        /**
+         * Define the max number of requests sent to Cassandra and not completed yet. Default = 0 (no limit)
+         *
+         * @param maxInFlightRequests max number of in-flight requests
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withMaxInFlightRequests(int maxInFlightRequests) {
+            configMap.put(MAX_IN_FLIGHT_REQUESTS, maxInFlightRequests);
+            return this;
+        }
+
+        /**
+         * Define the max number of requests sent to Cassandra and not completed yet, per entity class
+         *
+         * @param maxInFlightRequestsPerEntity map of entity class -&gt; max number of in-flight requests
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withMaxInFlightRequestsPerEntity(Map<Class<?>, Integer> maxInFlightRequestsPerEntity) {
+            configMap.put(MAX_IN_FLIGHT_REQUESTS_PER_ENTITY, maxInFlightRequestsPerEntity);
+            return this;
+        }
+
+        /**
+         * Define what happens to a request when an in-flight limit is reached
+         * <br/>
+         * <ul>
+         *     <li>InFlightLimitStrategy.BLOCK (default): wait for a request to complete. Requests sent from asynchronous
+         *     post-processing are queued instead</li>
+         *     <li>InFlightLimitStrategy.FAIL_FAST: fail immediately with an AchillesInFlightLimitException</li>
+         *     <li>InFlightLimitStrategy.QUEUE: queue the request without blocking, up to <em>withInFlightQueueSize()</em> requests</li>
+         * </ul>
+         *
+         * @param inFlightLimitStrategy in-flight limit strategy
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withInFlightLimitStrategy(InFlightLimitStrategy inFlightLimitStrategy) {
+            configMap.put(IN_FLIGHT_LIMIT_STRATEGY, inFlightLimitStrategy);
+            return this;
+        }
+
+        /**
+         * Define the max number of queued requests with the InFlightLimitStrategy.QUEUE strategy. Default = 1000
+         *
+         * @param inFlightQueueSize max number of queued requests
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withInFlightQueueSize(int inFlightQueueSize) {
+            configMap.put(IN_FLIGHT_QUEUE_SIZE, inFlightQueueSize);
+            return this;
+        }
+
+        /**
+         * Aggregate in memory the simple counter increments of managed entities and flush them as batched counter
+         * statements every <em>flushIntervalMillis</em>, or as soon as <em>withCounterWriteBehindFlushThreshold()</em> increments are pending.
+         * The pending increments are also flushed by <em>PersistenceManagerFactory.shutDown()</em>.
+         * <br/>
+         * Increments not flushed yet are lost if the JVM crashes. Default = 0 (disabled)
+         *
+         * @param flushIntervalMillis flush interval in milliseconds
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withCounterWriteBehind(long flushIntervalMillis) {
+            configMap.put(COUNTER_WRITE_BEHIND_FLUSH_INTERVAL, flushIntervalMillis);
+            return this;
+        }
+
+        /**
+         * Define the number of aggregated counter increments triggering a flush before the flush interval elapses. Default = 10000
+         *
+         * @param flushThreshold number of pending increments
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withCounterWriteBehindFlushThreshold(int flushThreshold) {
+            configMap.put(COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD, flushThreshold);
+            return this;
+        }
+
+        /**
+         * Account the execution count, error count, latency histogram, rows returned and bound values size of the statements,
+         * per statement shape. The statistics are available with <em>PersistenceManagerFactory.getStatementStatistics()</em>. Default = false
+         *
+         * @param enabled whether statement statistics are accounted
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withStatementStatistics(boolean enabled) {
+            configMap.put(STATEMENT_STATISTICS_ENABLED, enabled);
+            return this;
+        }
+
+        /**
+         * Define the max number of statement shapes accounted separately by the statement statistics. Default = 1000
+         *
+         * @param maxStatements max number of statement shapes
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withStatementStatisticsMaxStatements(int maxStatements) {
+            configMap.put(STATEMENT_STATISTICS_MAX_STATEMENTS, maxStatements);
+            return this;
+        }
+
+        /**
+         * Register the statement statistics in the platform MBean server. Requires <em>withStatementStatistics(true)</em>. Default = false
+         *
+         * @param jmxEnabled whether statement statistics are exposed in JMX
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withStatementStatisticsJMX(boolean jmxEnabled) {
+            configMap.put(STATEMENT_STATISTICS_JMX_ENABLED, jmxEnabled);
+            return this;
+        }
+
+        /**
+         * Define the max number of entities whose counters are read concurrently by <em>PersistenceManager.initialize(List)</em>
+         * and <em>PersistenceManager.initialize(Set)</em>. Default = 64
+         *
+         * @param maxConcurrency max number of concurrent counter reads
+         *
+         * @return PersistenceManagerFactoryBuilder
+         */
+        public PersistenceManagerFactoryBuilder withInitializeMaxConcurrency(int maxConcurrency) {
+            configMap.put(INITIALIZE_MAX_CONCURRENCY, maxConcurrency);
+            return this;
+        }
+
         /**
          * Define the min thread count for the ExecutorService (ThreadPool) to be used internally for asynchronous operations.
          * <br/>
@@ -675,11 +884,83 @@ public class PersistenceManagerFactory {
         }
     }
 
+    /**
+     * Return gauges on the hand-offs of asynchronous post-processing to the executor service
+     *
+     * @return ExecutorMetrics
+     */
+    public ExecutorMetrics getExecutorMetrics() {
+        return configContext.getExecutorMetrics();
+    }
+
+    /**
+     * Return gauges on the in-flight requests when a max number of in-flight requests is configured
+     *
+     * @return InFlightMetrics
+     */
+    public InFlightMetrics getInFlightMetrics() {
+        return configContext.getInFlightLimiter();
+    }
+
+    /**
+     * Return gauges on the counter increments aggregated by the counter write-behind mode
+     *
+     * @return CounterWriteBehindMetrics
+     */
+    public CounterWriteBehindMetrics getCounterWriteBehindMetrics() {
+        return daoContext.getCounterAggregator();
+    }
+
+    /**
+     * Return the execution count, error count, latency histogram, rows returned and bound values size of the
+     * statements sent to Cassandra, per statement shape. Nothing is accounted unless
+     * <strong>ConfigurationParameters.STATEMENT_STATISTICS_ENABLED</strong> is true
+     *
+     * @return StatementStatistics
+     */
+    public StatementStatistics getStatementStatistics() {
+        return daoContext.getStatementStatistics();
+    }
+
+    /**
+     * Return hit, miss and eviction statistics of the near cache of each entity class annotated with
+     * {@link info.archinnov.achilles.annotations.NearCache}
+     *
+     * @return Map&lt;Class&lt;?&gt;, CacheStats&gt;
+     */
+    public Map<Class<?>, CacheStats> getNearCacheStats() {
+        final Map<Class<?>, CacheStats> stats = new HashMap<>();
+        for (Map.Entry<Class<?>, RowCache> entry : daoContext.getRowCaches().entrySet()) {
+            if (entry.getValue().hasRows()) {
+                stats.put(entry.getKey(), entry.getValue().stats());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Return hit, miss and eviction statistics of the negative cache of each entity class annotated with
+     * {@link info.archinnov.achilles.annotations.NegativeCache}. A hit is a find answered without querying Cassandra
+     *
+     * @return Map&lt;Class&lt;?&gt;, CacheStats&gt;
+     */
+    public Map<Class<?>, CacheStats> getNegativeCacheStats() {
+        final Map<Class<?>, CacheStats> stats = new HashMap<>();
+        for (Map.Entry<Class<?>, RowCache> entry : daoContext.getRowCaches().entrySet()) {
+            if (entry.getValue().hasMisses()) {
+                stats.put(entry.getKey(), entry.getValue().missesStats());
+            }
+        }
+        return stats;
+    }
+
     /**
      * Call shutdown on Achilles, especially shutdown the internal thread pool handling asynchronous tasks
      */
     @PreDestroy
     public void shutDown() {
+        daoContext.shutDownCounterAggregation();
+        daoContext.getStatementStatistics().unregisterMBean();
         if(this.configurationMap.getTyped(EXECUTOR_SERVICE) == null) {
             this.configContext.getExecutorService().shutdown();
         }
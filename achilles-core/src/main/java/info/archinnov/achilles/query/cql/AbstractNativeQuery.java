@@ -15,8 +15,10 @@ import info.archinnov.achilles.internal.persistence.operations.NativeQueryMapper
 import info.archinnov.achilles.internal.persistence.operations.TypedMapIterator;
 import info.archinnov.achilles.internal.statement.wrapper.NativeQueryLog;
 import info.archinnov.achilles.internal.statement.wrapper.NativeStatementWrapper;
+import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.type.Options;
+import info.archinnov.achilles.type.Page;
 import info.archinnov.achilles.type.TypedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +27,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_PAGE;
 import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ROWS;
 
 public abstract class AbstractNativeQuery {
@@ -34,6 +37,7 @@ public abstract class AbstractNativeQuery {
     protected NativeStatementWrapper nativeStatementWrapper;
 
     protected DaoContext daoContext;
+    protected ConfigurationContext configContext;
     protected AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
     protected NativeQueryMapper mapper = NativeQueryMapper.Singleton.INSTANCE.get();
 
@@ -41,14 +45,15 @@ public abstract class AbstractNativeQuery {
 
     protected AbstractNativeQuery(DaoContext daoContext, ConfigurationContext configContext, Statement statement, Options options, Object... boundValues) {
         this.daoContext = daoContext;
+        this.configContext = configContext;
         this.nativeStatementWrapper = new NativeStatementWrapper(NativeQueryLog.class, statement, boundValues, options.getLWTResultListener());
-        this.executorService = configContext.getExecutorService();
+        this.executorService = configContext.getCallbackExecutor();
     }
 
     protected AchillesFuture<List<TypedMap>> asyncGetInternal(FutureCallback<Object>... asyncListeners) {
         log.debug("Get results for native query '{}' asynchronously", nativeStatementWrapper.getStatement());
 
-        final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(nativeStatementWrapper);
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.executePaged(nativeStatementWrapper);
 
         final ListenableFuture<List<Row>> futureRows = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ROWS);
 
@@ -68,7 +73,7 @@ public abstract class AbstractNativeQuery {
 
     protected AchillesFuture<TypedMap> asyncGetFirstInternal(FutureCallback<Object>... asyncListeners) {
         log.debug("Get first result for native query '{}' asynchronously", nativeStatementWrapper.getStatement());
-        final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(nativeStatementWrapper);
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.executePaged(nativeStatementWrapper);
         final ListenableFuture<List<Row>> futureRows = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ROWS);
 
         Function<List<Row>, TypedMap> rowsToTypedMap = new Function<List<Row>, TypedMap>() {
@@ -89,6 +94,28 @@ public abstract class AbstractNativeQuery {
         return asyncUtils.buildInterruptible(futureTypedMap);
     }
 
+    protected AchillesFuture<Page<TypedMap>> asyncGetPageInternal(int pageSize, String pagingState, FutureCallback<Object>... asyncListeners) {
+        final Statement statement = nativeStatementWrapper.getStatement();
+        log.debug("Get page for native query '{}' asynchronously", statement);
+
+        Validator.validateTrue(pageSize > 0, "The page size '%s' should be strictly positive", pageSize);
+        final NativeStatementWrapper pageStatementWrapper = nativeStatementWrapper.copyForPage(pageSize, pagingState, daoContext.getProtocolVersion());
+
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(pageStatementWrapper);
+        final ListenableFuture<Page<Row>> futureRowsPage = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_PAGE);
+
+        Function<Page<Row>, Page<TypedMap>> rowsPageToTypedMapsPage = new Function<Page<Row>, Page<TypedMap>>() {
+            @Override
+            public Page<TypedMap> apply(Page<Row> rowsPage) {
+                return new Page<>(mapper.mapRows(rowsPage.getResults()), rowsPage.getPagingState());
+            }
+        };
+
+        final ListenableFuture<Page<TypedMap>> futurePage = asyncUtils.transformFuture(futureRowsPage, rowsPageToTypedMapsPage);
+        asyncUtils.maybeAddAsyncListeners(futurePage, asyncListeners);
+        return asyncUtils.buildInterruptible(futurePage);
+    }
+
     protected AchillesFuture<Empty> asyncExecuteInternal(FutureCallback<Object>... asyncListeners) {
         log.debug("Execute native query '{}' asynchronously", nativeStatementWrapper.getStatement());
         final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(nativeStatementWrapper);
@@ -106,7 +133,7 @@ public abstract class AbstractNativeQuery {
             statement.setFetchSize(fetchSizeO.get());
         }
 
-        final ListenableFuture<ResultSet> futureResultSet = daoContext.execute(nativeStatementWrapper);
+        final ListenableFuture<ResultSet> futureResultSet = daoContext.executePaged(nativeStatementWrapper);
 
         final Function<ResultSet, Iterator<TypedMap>> toTypedMap = new Function<ResultSet, Iterator<TypedMap>>() {
             @Override
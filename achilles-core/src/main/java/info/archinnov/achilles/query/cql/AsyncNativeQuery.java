@@ -23,6 +23,7 @@ import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.type.Options;
+import info.archinnov.achilles.type.Page;
 import info.archinnov.achilles.type.TypedMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -98,4 +99,27 @@ public class AsyncNativeQuery extends AbstractNativeQuery {
     public AchillesFuture<Iterator<TypedMap>> iterator(int fetchSize, FutureCallback<Object>... asyncListeners) {
         return super.asyncIterator(Optional.fromNullable(fetchSize), asyncListeners);
     }
+
+    /**
+     * Return asynchronously the first page of rows. The page holds at most pageSize {@link info.archinnov.achilles.type.TypedMap}
+     * and the paging state to fetch the next page with getPage(pageSize, pagingState)
+     *
+     * @param pageSize max number of rows of the page
+     * @return AchillesFuture&lt;Page&lt;TypedMap&gt;&gt;
+     */
+    public AchillesFuture<Page<TypedMap>> getPage(int pageSize, FutureCallback<Object>... asyncListeners) {
+        return super.asyncGetPageInternal(pageSize, null, asyncListeners);
+    }
+
+    /**
+     * Return asynchronously the page of rows right after the page which returned the provided paging state.
+     * The statement and its bound values should be the same as for the previous page
+     *
+     * @param pageSize max number of rows of the page
+     * @param pagingState paging state of the previous page
+     * @return AchillesFuture&lt;Page&lt;TypedMap&gt;&gt;
+     */
+    public AchillesFuture<Page<TypedMap>> getPage(int pageSize, String pagingState, FutureCallback<Object>... asyncListeners) {
+        return super.asyncGetPageInternal(pageSize, pagingState, asyncListeners);
+    }
 }
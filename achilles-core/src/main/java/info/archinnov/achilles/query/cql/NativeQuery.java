@@ -22,11 +22,14 @@ import com.datastax.driver.core.Statement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.ResultSet;
-import com.google.common.util.concurrent.ListenableFuture;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.internal.async.BlockingCall;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.persistence.operations.TypedMapIterator;
+import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.type.Options;
+import info.archinnov.achilles.type.Page;
 import info.archinnov.achilles.type.TypedMap;
 
 /**
@@ -59,7 +62,12 @@ public class NativeQuery extends AbstractNativeQuery {
      */
     public List<TypedMap> get() {
         log.debug("Get results for native query '{}'", nativeStatementWrapper.getStatement());
-        return asyncGetInternal().getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<List<TypedMap>>() {
+            @Override
+            public AchillesFuture<List<TypedMap>> start() {
+                return asyncGetInternal();
+            }
+        });
     }
 
 
@@ -72,7 +80,12 @@ public class NativeQuery extends AbstractNativeQuery {
      */
     public TypedMap getFirst() {
         log.debug("Get first result for native query {}", nativeStatementWrapper.getStatement());
-        return asyncGetFirstInternal().getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<TypedMap>() {
+            @Override
+            public AchillesFuture<TypedMap> start() {
+                return asyncGetFirstInternal();
+            }
+        });
     }
 
     /**
@@ -81,7 +94,12 @@ public class NativeQuery extends AbstractNativeQuery {
      */
     public void execute() {
         log.debug("Execute native query '{}'", nativeStatementWrapper.getStatement());
-        asyncExecuteInternal().getImmediately();
+        configContext.awaitBlocking(new BlockingCall<Empty>() {
+            @Override
+            public AchillesFuture<Empty> start() {
+                return asyncExecuteInternal();
+            }
+        });
     }
 
     /**
@@ -90,8 +108,7 @@ public class NativeQuery extends AbstractNativeQuery {
      */
     public Iterator<TypedMap> iterator() {
         log.debug("Execute native query {} and return iterator", nativeStatementWrapper.getStatement());
-        final ListenableFuture<ResultSet> future = daoContext.execute(nativeStatementWrapper);
-        return new TypedMapIterator(asyncUtils.buildInterruptible(future).getImmediately().iterator());
+        return blockingIterator();
     }
 
     /**
@@ -104,7 +121,45 @@ public class NativeQuery extends AbstractNativeQuery {
         final Statement statement = nativeStatementWrapper.getStatement();
         log.debug("Execute native query {} and return iterator", statement);
         statement.setFetchSize(fetchSize);
-        final ListenableFuture<ResultSet> future = daoContext.execute(nativeStatementWrapper);
-        return new TypedMapIterator(asyncUtils.buildInterruptible(future).getImmediately().iterator());
+        return blockingIterator();
+    }
+
+    /**
+     * Return the first page of rows. The page holds at most pageSize {@link info.archinnov.achilles.type.TypedMap}
+     * and the paging state to fetch the next page with getPage(pageSize, pagingState)
+     *
+     * @param pageSize max number of rows of the page
+     * @return Page&lt;TypedMap&gt;
+     */
+    public Page<TypedMap> getPage(int pageSize) {
+        return getPage(pageSize, null);
+    }
+
+    /**
+     * Return the page of rows right after the page which returned the provided paging state.
+     * The statement and its bound values should be the same as for the previous page
+     *
+     * @param pageSize max number of rows of the page
+     * @param pagingState paging state of the previous page
+     * @return Page&lt;TypedMap&gt;
+     */
+    public Page<TypedMap> getPage(final int pageSize, final String pagingState) {
+        log.debug("Get page for native query '{}'", nativeStatementWrapper.getStatement());
+        return configContext.awaitBlocking(new BlockingCall<Page<TypedMap>>() {
+            @Override
+            public AchillesFuture<Page<TypedMap>> start() {
+                return asyncGetPageInternal(pageSize, pagingState);
+            }
+        });
+    }
+
+    private Iterator<TypedMap> blockingIterator() {
+        final ResultSet resultSet = configContext.awaitBlocking(new BlockingCall<ResultSet>() {
+            @Override
+            public AchillesFuture<ResultSet> start() {
+                return asyncUtils.buildInterruptible(daoContext.execute(nativeStatementWrapper));
+            }
+        });
+        return new TypedMapIterator(resultSet.iterator());
     }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.persistence.operations.TableScanExecutor;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+public abstract class AbstractTableScan<TYPE, T extends AbstractTableScan<TYPE, T>> {
+
+    protected final TableScanExecutor tableScanExecutor;
+    protected final TableScanProperties<TYPE> properties;
+
+    protected AbstractTableScan(TableScanExecutor tableScanExecutor, Class<TYPE> entityClass, EntityMeta meta) {
+        this.tableScanExecutor = tableScanExecutor;
+        this.properties = TableScanProperties.builder(meta, entityClass);
+    }
+
+    protected abstract T getThis();
+
+    /**
+     *
+     * Split the token ring into at least <em>splitCount</em> sub-ranges, each of them being read by one query.
+     * Default value = 64
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  manager.scan(User.class)
+     *      .withSplitCount(256)
+     *      .forEach(consumer);
+     *
+     * </code></pre>
+     *
+     * @param splitCount minimum number of token ring sub-ranges
+     * @return Table scan DSL
+     */
+    public T withSplitCount(int splitCount) {
+        properties.splitCount(splitCount);
+        return getThis();
+    }
+
+    /**
+     *
+     * Maximum number of sub-ranges scanned concurrently. Default value = 4
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  manager.scan(User.class)
+     *      .withParallelism(16)
+     *      .forEach(consumer);
+     *
+     * </code></pre>
+     *
+     * @param parallelism maximum number of queries in flight
+     * @return Table scan DSL
+     */
+    public T withParallelism(int parallelism) {
+        properties.parallelism(parallelism);
+        return getThis();
+    }
+
+    /**
+     *
+     * Set the page size of the sub-range queries
+     *
+     * @param fetchSize page size
+     * @return Table scan DSL
+     */
+    public T withFetchSize(int fetchSize) {
+        properties.fetchSize(fetchSize);
+        return getThis();
+    }
+
+    /**
+     *
+     * Set the read consistency level of the sub-range queries. Default value = read consistency level of the entity
+     *
+     * @param consistencyLevel read consistency level
+     * @return Table scan DSL
+     */
+    public T withConsistency(ConsistencyLevel consistencyLevel) {
+        properties.readConsistency(consistencyLevel);
+        return getThis();
+    }
+
+    /**
+     *
+     * Resume an interrupted scan, the sub-ranges already completed in the checkpoint are skipped.
+     * The split count should be the same as the one of the interrupted scan
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  manager.scan(User.class)
+     *      .resumeFrom(lastCheckpoint)
+     *      .withCheckpointListener(listener)
+     *      .forEach(consumer);
+     *
+     * </code></pre>
+     *
+     * @param checkpoint last checkpoint received by the {@link TableScanListener}
+     * @return Table scan DSL
+     */
+    public T resumeFrom(TableScanCheckpoint checkpoint) {
+        properties.checkpoint(checkpoint);
+        return getThis();
+    }
+
+    /**
+     *
+     * Be notified with a new checkpoint each time a sub-range has been completely scanned
+     *
+     * @param listener checkpoint listener
+     * @return Table scan DSL
+     */
+    public T withCheckpointListener(TableScanListener listener) {
+        properties.listener(listener);
+        return getThis();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.persistence.operations.TableScanExecutor;
+import info.archinnov.achilles.type.Empty;
+
+/**
+ * Builder for the asynchronous scan of a whole entity table
+ *
+ * @param <TYPE>: type of the entity
+ */
+public class AsyncTableScan<TYPE> extends AbstractTableScan<TYPE, AsyncTableScan<TYPE>> {
+
+    public AsyncTableScan(TableScanExecutor tableScanExecutor, Class<TYPE> entityClass, EntityMeta meta) {
+        super(tableScanExecutor, entityClass, meta);
+    }
+
+    @Override
+    protected AsyncTableScan<TYPE> getThis() {
+        return this;
+    }
+
+    /**
+     *
+     * Scan the table asynchronously and pass each entity to the consumer
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  AchillesFuture&lt;Empty&gt; scanDone = asyncManager.scan(User.class)
+     *      .withSplitCount(256)
+     *      .withParallelism(8)
+     *      .forEach(consumer);
+     *
+     * </code></pre>
+     *
+     * @param consumer thread-safe consumer of the entities
+     * @return future completed when all the sub-ranges are scanned, or failed as soon as one sub-range scan fails
+     */
+    public AchillesFuture<Empty> forEach(TableScanConsumer<TYPE> consumer) {
+        return tableScanExecutor.asyncScan(properties, consumer);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.persistence.operations.TableScanExecutor;
+
+/**
+ * Builder for the scan of a whole entity table
+ *
+ * @param <TYPE>: type of the entity
+ */
+public class TableScan<TYPE> extends AbstractTableScan<TYPE, TableScan<TYPE>> {
+
+    public TableScan(TableScanExecutor tableScanExecutor, Class<TYPE> entityClass, EntityMeta meta) {
+        super(tableScanExecutor, entityClass, meta);
+    }
+
+    @Override
+    protected TableScan<TYPE> getThis() {
+        return this;
+    }
+
+    /**
+     *
+     * Scan the table and pass each entity to the consumer. This call blocks until all the sub-ranges are scanned
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  manager.scan(User.class)
+     *      .withSplitCount(256)
+     *      .withParallelism(8)
+     *      .forEach(new TableScanConsumer&lt;User&gt;() {
+     *          public void accept(User user) {
+     *              exporter.write(user);
+     *          }
+     *      });
+     *
+     * </code></pre>
+     *
+     * Generated CQL query, for each sub-range:
+     *
+     * <br/>
+     *  SELECT * FROM users WHERE token(user_id) > ? AND token(user_id) <= ?
+     *
+     * @param consumer thread-safe consumer of the entities
+     */
+    public void forEach(TableScanConsumer<TYPE> consumer) {
+        tableScanExecutor.scan(properties, consumer);
+    }
+}
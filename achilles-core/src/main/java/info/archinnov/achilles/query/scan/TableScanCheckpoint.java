@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.common.base.Objects;
+
+/**
+ * Progress of a table scan: the indexes of the token ring sub-ranges already scanned.
+ * <br/>
+ * <br/>
+ * The sub-ranges are computed from the token ring and the requested split count, a checkpoint
+ * can only be resumed with the same split count and an unchanged token ring. The ring is identified
+ * by a fingerprint of the start tokens of the sub-ranges
+ */
+public class TableScanCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int splitCount;
+    private final long ringFingerprint;
+    private final Set<Integer> completedSplits;
+
+    public TableScanCheckpoint(int splitCount, long ringFingerprint) {
+        this(splitCount, ringFingerprint, Collections.<Integer>emptySet());
+    }
+
+    private TableScanCheckpoint(int splitCount, long ringFingerprint, Set<Integer> completedSplits) {
+        this.splitCount = splitCount;
+        this.ringFingerprint = ringFingerprint;
+        this.completedSplits = Collections.unmodifiableSet(completedSplits);
+    }
+
+    public int getSplitCount() {
+        return splitCount;
+    }
+
+    public long getRingFingerprint() {
+        return ringFingerprint;
+    }
+
+    public Set<Integer> getCompletedSplits() {
+        return completedSplits;
+    }
+
+    public boolean isCompleted(int splitIndex) {
+        return completedSplits.contains(splitIndex);
+    }
+
+    public boolean isFinished() {
+        return completedSplits.size() == splitCount;
+    }
+
+    /**
+     * @return a new checkpoint, this instance is left unchanged
+     */
+    public TableScanCheckpoint withCompletedSplit(int splitIndex) {
+        final Set<Integer> completed = new HashSet<>(completedSplits);
+        completed.add(splitIndex);
+        return new TableScanCheckpoint(splitCount, ringFingerprint, completed);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        TableScanCheckpoint that = (TableScanCheckpoint) o;
+        return splitCount == that.splitCount && ringFingerprint == that.ringFingerprint
+                && completedSplits.equals(that.completedSplits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(splitCount, ringFingerprint, completedSplits);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this.getClass()).add("splitCount", splitCount)
+                .add("ringFingerprint", ringFingerprint)
+                .add("completedSplits", completedSplits.size()).toString();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+/**
+ * Receive the entities read by a table scan.
+ * <br/>
+ * <br/>
+ * The sub-ranges of the token ring are scanned concurrently so this consumer <strong>must</strong> be thread-safe
+ *
+ * @param <T>: type of the entity
+ */
+public interface TableScanConsumer<T> {
+
+    /**
+     * @param entity raw entity mapped from a row, not managed by Achilles
+     */
+    void accept(T entity);
+}
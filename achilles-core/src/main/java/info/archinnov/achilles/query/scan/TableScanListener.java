@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+/**
+ * Notified each time a sub-range of the token ring has been completely scanned. Saving the provided
+ * checkpoint allows to resume an interrupted scan without reading again the completed sub-ranges.
+ * The listener is called from the scanning threads, one sub-range at a time
+ */
+public interface TableScanListener {
+
+    /**
+     * @param checkpoint checkpoint including the sub-range just completed
+     */
+    void onSplitCompleted(TableScanCheckpoint checkpoint);
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import com.datastax.driver.core.Statement;
+import com.google.common.base.Optional;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.validation.Validator;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+public class TableScanProperties<T> {
+
+    public static final int DEFAULT_SPLIT_COUNT = 64;
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private final EntityMeta entityMeta;
+    private final Class<T> entityClass;
+
+    private int splitCount = DEFAULT_SPLIT_COUNT;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private Optional<Integer> fetchSizeO = Optional.absent();
+    private ConsistencyLevel readConsistencyLevel;
+    private Optional<TableScanCheckpoint> checkpointO = Optional.absent();
+    private Optional<TableScanListener> listenerO = Optional.absent();
+
+    private TableScanProperties(EntityMeta entityMeta, Class<T> entityClass) {
+        this.entityMeta = entityMeta;
+        this.entityClass = entityClass;
+        this.readConsistencyLevel = entityMeta.config().getReadConsistencyLevel();
+    }
+
+    public static <T> TableScanProperties<T> builder(EntityMeta entityMeta, Class<T> entityClass) {
+        return new TableScanProperties<>(entityMeta, entityClass);
+    }
+
+    protected TableScanProperties<T> splitCount(int splitCount) {
+        Validator.validateTrue(splitCount > 0, "The split count of the table scan should be strictly positive");
+        this.splitCount = splitCount;
+        return this;
+    }
+
+    protected TableScanProperties<T> parallelism(int parallelism) {
+        Validator.validateTrue(parallelism > 0, "The parallelism of the table scan should be strictly positive");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    protected TableScanProperties<T> fetchSize(int fetchSize) {
+        this.fetchSizeO = Optional.fromNullable(fetchSize);
+        return this;
+    }
+
+    protected TableScanProperties<T> readConsistency(ConsistencyLevel readConsistencyLevel) {
+        Validator.validateNotNull(readConsistencyLevel, "The consistency level of the table scan should not be null");
+        this.readConsistencyLevel = readConsistencyLevel;
+        return this;
+    }
+
+    protected TableScanProperties<T> checkpoint(TableScanCheckpoint checkpoint) {
+        this.checkpointO = Optional.fromNullable(checkpoint);
+        return this;
+    }
+
+    protected TableScanProperties<T> listener(TableScanListener listener) {
+        this.listenerO = Optional.fromNullable(listener);
+        return this;
+    }
+
+    public void setFetchSizeToStatement(Statement statement) {
+        if (fetchSizeO.isPresent()) {
+            statement.setFetchSize(fetchSizeO.get());
+        }
+    }
+
+    public EntityMeta getEntityMeta() {
+        return entityMeta;
+    }
+
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    public int getSplitCount() {
+        return splitCount;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public ConsistencyLevel getReadConsistencyLevel() {
+        return readConsistencyLevel;
+    }
+
+    public Optional<TableScanCheckpoint> getCheckpoint() {
+        return checkpointO;
+    }
+
+    public Optional<TableScanListener> getListener() {
+        return listenerO;
+    }
+}
@@ -17,9 +17,13 @@
 package info.archinnov.achilles.query.slice;
 
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.persistence.operations.SliceQueryExecutor;
 
+import java.util.List;
+
 import static info.archinnov.achilles.query.slice.SliceQueryProperties.SliceType;
+import static java.util.Arrays.asList;
 
 public class AsyncSelectDSL<TYPE> {
 
@@ -27,6 +31,7 @@ public class AsyncSelectDSL<TYPE> {
     private final Class<TYPE> entityClass;
     private final EntityMeta meta;
     private final SliceType sliceType;
+    private List<PropertyMeta> projection;
 
     protected AsyncSelectDSL(SliceQueryExecutor sliceQueryExecutor, Class<TYPE> entityClass, EntityMeta meta, SliceType sliceType) {
         this.sliceQueryExecutor = sliceQueryExecutor;
@@ -35,6 +40,33 @@ public class AsyncSelectDSL<TYPE> {
         this.sliceType = sliceType;
     }
 
+    /**
+     *
+     * Select only the provided properties. The primary key is always selected,
+     * the other properties of the returned entities are lazy loaded upon call on their getter.
+     * Not available with snapshot dirty checking
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  asyncManager.sliceQuery(ArticleRating.class)
+     *      .forSelect()
+     *      .withProjection("rating")
+     *      .withPartitionComponents(articleId)
+     *
+     * </code></pre>
+     *
+     * Generated CQL  query:
+     *
+     * <br/>
+     *  SELECT article_id,rating,... FROM article_rating WHERE article_id=...
+     *
+     * @return slice DSL
+     */
+    public AsyncSelectDSL<TYPE> withProjection(String... propertyNames) {
+        this.projection = meta.forOperations().getProjectionMetas(asList(propertyNames));
+        return this;
+    }
+
     /**
      *
      * Start the Select DSL with provided partition components
@@ -57,6 +89,7 @@ public class AsyncSelectDSL<TYPE> {
     public AsyncSelectFromPartition<TYPE> withPartitionComponents(Object... partitionKeyComponents) {
         final AsyncSelectFromPartition<TYPE> selectFromPartition = new AsyncSelectFromPartition<>(sliceQueryExecutor, entityClass, meta, sliceType);
         selectFromPartition.withPartitionComponentsInternal(partitionKeyComponents);
+        selectFromPartition.properties.projection(projection);
         return selectFromPartition;
     }
 
@@ -83,6 +116,7 @@ public class AsyncSelectDSL<TYPE> {
     public AsyncSelectWithPartition<TYPE> withPartitionComponentsIN(Object... partitionKeyComponents) {
         final AsyncSelectWithPartition<TYPE> selectWithPartition = new AsyncSelectWithPartition<>(sliceQueryExecutor, entityClass, meta, sliceType);
         selectWithPartition.withPartitionComponentsINInternal(partitionKeyComponents);
+        selectWithPartition.properties.projection(projection);
         return selectWithPartition;
     }
 
@@ -21,6 +21,7 @@ import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.persistence.operations.SliceQueryExecutor;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Page;
 
 import java.util.List;
 
@@ -313,6 +314,50 @@ public abstract class AsyncSelectPartitionRoot<TYPE, T extends AsyncSelectPartit
         return new SelectWithClusteringsAsync<>();
     }
 
+    /**
+     *
+     * Get the first page of selected entities asynchronously. The page holds at most pageSize entities and
+     * the paging state to fetch the next page with getPage(pageSize, pagingState)
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  asyncManager.sliceQuery(ArticleRating.class)
+     *      .forSelect()
+     *      .withPartitionComponents(articleId)
+     *      .getPage(20);
+     *
+     * </code></pre>
+     *
+     * @param pageSize max number of entities of the page
+     * @return AchillesFuture&lt;Page&lt;TYPE&gt;&gt;
+     */
+    public AchillesFuture<Page<TYPE>> getPage(int pageSize) {
+        return super.asyncGetPageInternal(pageSize, null);
+    }
+
+    /**
+     *
+     * Get the page of selected entities asynchronously right after the page which returned the provided paging state.
+     * The query should be exactly the same as the one of the previous page, otherwise an exception is raised.
+     * The prepared statement is reused and the previous pages are not read again
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  asyncManager.sliceQuery(ArticleRating.class)
+     *      .forSelect()
+     *      .withPartitionComponents(articleId)
+     *      .getPage(20, previousPage.getPagingState());
+     *
+     * </code></pre>
+     *
+     * @param pageSize max number of entities of the page
+     * @param pagingState paging state of the previous page
+     * @return AchillesFuture&lt;Page&lt;TYPE&gt;&gt;
+     */
+    public AchillesFuture<Page<TYPE>> getPage(int pageSize, String pagingState) {
+        return super.asyncGetPageInternal(pageSize, pagingState);
+    }
+
     public abstract class SelectClusteringsRootWithLimitationAsync<ENTITY_TYPE, T extends SelectClusteringsRootWithLimitationAsync<ENTITY_TYPE, T>> {
         /**
          *
@@ -413,6 +458,52 @@ public abstract class AsyncSelectPartitionRoot<TYPE, T extends AsyncSelectPartit
             return getThis();
         }
 
+        /**
+         *
+         * Get the first page of selected entities asynchronously. The page holds at most pageSize entities and
+         * the paging state to fetch the next page with getPage(pageSize, pagingState)
+         *
+         * <pre class="code"><code class="java">
+         *
+         *  asyncManager.sliceQuery(ArticleRating.class)
+         *      .forSelect()
+         *      .withPartitionComponents(articleId)
+         *      .fromClusterings(2)
+         *      .getPage(20);
+         *
+         * </code></pre>
+         *
+         * @param pageSize max number of entities of the page
+         * @return AchillesFuture&lt;Page&lt;TYPE&gt;&gt;
+         */
+        public AchillesFuture<Page<TYPE>> getPage(int pageSize) {
+            return AsyncSelectPartitionRoot.super.asyncGetPageInternal(pageSize, null);
+        }
+
+        /**
+         *
+         * Get the page of selected entities asynchronously right after the page which returned the provided paging state.
+         * The query should be exactly the same as the one of the previous page, otherwise an exception is raised.
+         * The prepared statement is reused and the previous pages are not read again
+         *
+         * <pre class="code"><code class="java">
+         *
+         *  asyncManager.sliceQuery(ArticleRating.class)
+         *      .forSelect()
+         *      .withPartitionComponents(articleId)
+         *      .fromClusterings(2)
+         *      .getPage(20, previousPage.getPagingState());
+         *
+         * </code></pre>
+         *
+         * @param pageSize max number of entities of the page
+         * @param pagingState paging state of the previous page
+         * @return AchillesFuture&lt;Page&lt;TYPE&gt;&gt;
+         */
+        public AchillesFuture<Page<TYPE>> getPage(int pageSize, String pagingState) {
+            return AsyncSelectPartitionRoot.super.asyncGetPageInternal(pageSize, pagingState);
+        }
+
         protected abstract T getThis();
 
         /**
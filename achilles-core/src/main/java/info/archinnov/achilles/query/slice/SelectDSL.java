@@ -17,7 +17,10 @@
 package info.archinnov.achilles.query.slice;
 
 import static info.archinnov.achilles.query.slice.SliceQueryProperties.SliceType;
+import static java.util.Arrays.asList;
+import java.util.List;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.persistence.operations.SliceQueryExecutor;
 
 public class SelectDSL<TYPE> {
@@ -26,6 +29,7 @@ public class SelectDSL<TYPE> {
     private final Class<TYPE> entityClass;
     private final EntityMeta meta;
     private final SliceType sliceType;
+    private List<PropertyMeta> projection;
 
     protected SelectDSL(SliceQueryExecutor sliceQueryExecutor, Class<TYPE> entityClass, EntityMeta meta, SliceType sliceType) {
         this.sliceQueryExecutor = sliceQueryExecutor;
@@ -34,6 +38,33 @@ public class SelectDSL<TYPE> {
         this.sliceType = sliceType;
     }
 
+    /**
+     *
+     * Select only the provided properties. The primary key is always selected,
+     * the other properties of the returned entities are lazy loaded upon call on their getter.
+     * Not available with snapshot dirty checking
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  manager.sliceQuery(ArticleRating.class)
+     *      .forSelect()
+     *      .withProjection("rating")
+     *      .withPartitionComponents(articleId)
+     *
+     * </code></pre>
+     *
+     * Generated CQL  query:
+     *
+     * <br/>
+     *  SELECT article_id,rating,... FROM article_rating WHERE article_id=...
+     *
+     * @return slice DSL
+     */
+    public SelectDSL<TYPE> withProjection(String... propertyNames) {
+        this.projection = meta.forOperations().getProjectionMetas(asList(propertyNames));
+        return this;
+    }
+
     /**
      *
      * Start the Select DSL with provided partition components
@@ -56,6 +87,7 @@ public class SelectDSL<TYPE> {
     public SelectFromPartition<TYPE> withPartitionComponents(Object... partitionKeyComponents) {
         final SelectFromPartition<TYPE> selectFromPartition = new SelectFromPartition<>(sliceQueryExecutor, entityClass, meta, sliceType);
         selectFromPartition.withPartitionComponentsInternal(partitionKeyComponents);
+        selectFromPartition.properties.projection(projection);
         return selectFromPartition;
     }
 
@@ -82,6 +114,7 @@ public class SelectDSL<TYPE> {
     public SelectWithPartition<TYPE> withPartitionComponentsIN(Object... partitionKeyComponents) {
         final SelectWithPartition<TYPE> selectWithPartition = new SelectWithPartition<>(sliceQueryExecutor, entityClass, meta, sliceType);
         selectWithPartition.withPartitionComponentsINInternal(partitionKeyComponents);
+        selectWithPartition.properties.projection(projection);
         return selectWithPartition;
     }
 
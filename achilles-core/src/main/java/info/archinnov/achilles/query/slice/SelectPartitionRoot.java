@@ -30,6 +30,7 @@ import com.google.common.util.concurrent.FutureCallback;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.persistence.operations.SliceQueryExecutor;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Page;
 
 public abstract class SelectPartitionRoot<TYPE, T extends SelectPartitionRoot<TYPE,T>> extends SliceQueryRootExtended<TYPE, T> {
 
@@ -314,6 +315,50 @@ public abstract class SelectPartitionRoot<TYPE, T extends SelectPartitionRoot<TY
         return new SelectWithClusterings<>();
     }
 
+    /**
+     *
+     * Get the first page of selected entities. The page holds at most pageSize entities and
+     * the paging state to fetch the next page with getPage(pageSize, pagingState)
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  manager.sliceQuery(ArticleRating.class)
+     *      .forSelect()
+     *      .withPartitionComponents(articleId)
+     *      .getPage(20);
+     *
+     * </code></pre>
+     *
+     * @param pageSize max number of entities of the page
+     * @return Page&lt;TYPE&gt;
+     */
+    public Page<TYPE> getPage(int pageSize) {
+        return super.getPageInternal(pageSize, null);
+    }
+
+    /**
+     *
+     * Get the page of selected entities right after the page which returned the provided paging state.
+     * The query should be exactly the same as the one of the previous page, otherwise an exception is raised.
+     * The prepared statement is reused and the previous pages are not read again
+     *
+     * <pre class="code"><code class="java">
+     *
+     *  manager.sliceQuery(ArticleRating.class)
+     *      .forSelect()
+     *      .withPartitionComponents(articleId)
+     *      .getPage(20, previousPage.getPagingState());
+     *
+     * </code></pre>
+     *
+     * @param pageSize max number of entities of the page
+     * @param pagingState paging state of the previous page
+     * @return Page&lt;TYPE&gt;
+     */
+    public Page<TYPE> getPage(int pageSize, String pagingState) {
+        return super.getPageInternal(pageSize, pagingState);
+    }
+
     public abstract class SelectClusteringsRootWithLimitation<ENTITY_TYPE, T extends SelectClusteringsRootWithLimitation<ENTITY_TYPE, T>> {
 
 
@@ -416,6 +461,52 @@ public abstract class SelectPartitionRoot<TYPE, T extends SelectPartitionRoot<TY
             return getThis();
         }
 
+        /**
+         *
+         * Get the first page of selected entities. The page holds at most pageSize entities and
+         * the paging state to fetch the next page with getPage(pageSize, pagingState)
+         *
+         * <pre class="code"><code class="java">
+         *
+         *  manager.sliceQuery(ArticleRating.class)
+         *      .forSelect()
+         *      .withPartitionComponents(articleId)
+         *      .fromClusterings(2)
+         *      .getPage(20);
+         *
+         * </code></pre>
+         *
+         * @param pageSize max number of entities of the page
+         * @return Page&lt;TYPE&gt;
+         */
+        public Page<TYPE> getPage(int pageSize) {
+            return SelectPartitionRoot.super.getPageInternal(pageSize, null);
+        }
+
+        /**
+         *
+         * Get the page of selected entities right after the page which returned the provided paging state.
+         * The query should be exactly the same as the one of the previous page, otherwise an exception is raised.
+         * The prepared statement is reused and the previous pages are not read again
+         *
+         * <pre class="code"><code class="java">
+         *
+         *  manager.sliceQuery(ArticleRating.class)
+         *      .forSelect()
+         *      .withPartitionComponents(articleId)
+         *      .fromClusterings(2)
+         *      .getPage(20, previousPage.getPagingState());
+         *
+         * </code></pre>
+         *
+         * @param pageSize max number of entities of the page
+         * @param pagingState paging state of the previous page
+         * @return Page&lt;TYPE&gt;
+         */
+        public Page<TYPE> getPage(int pageSize, String pagingState) {
+            return SelectPartitionRoot.super.getPageInternal(pageSize, pagingState);
+        }
+
         protected abstract T getThis();
 
         /**
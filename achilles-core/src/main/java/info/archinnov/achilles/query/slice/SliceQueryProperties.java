@@ -43,6 +43,8 @@ import com.datastax.driver.core.querybuilder.Select;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.FutureCallback;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.statement.StatementHelper;
 import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
@@ -57,6 +59,7 @@ public class SliceQueryProperties<T> {
 
     private Optional<Integer> limitO = Optional.absent();
     protected Optional<Integer> fetchSizeO = Optional.absent();
+    private Optional<String> pagingStateO = Optional.absent();
     private BoundingMode boundingMode = BoundingMode.INCLUSIVE_BOUNDS;
     private Optional<OrderingMode> orderingModeO = Optional.absent();
 
@@ -78,6 +81,8 @@ public class SliceQueryProperties<T> {
 
     private ClusteringOrder clusteringOrder;
 
+    private Optional<List<PropertyMeta>> projectionO = Optional.absent();
+
     private FutureCallback<Object>[] asyncListeners;
 
     private SliceQueryProperties(EntityMeta entityMeta, Class<T> entityClass, SliceType sliceType) {
@@ -109,6 +114,46 @@ public class SliceQueryProperties<T> {
         return this;
     }
 
+    protected SliceQueryProperties<T> pagingState(String pagingState) {
+        this.pagingStateO = Optional.fromNullable(pagingState);
+        return this;
+    }
+
+    /**
+     * Copy these properties with the fetch size and paging state of a single page so that
+     * neither leak into the following executions of the query
+     */
+    protected SliceQueryProperties<T> copyForPage(int pageSize, String pagingState) {
+        final SliceQueryProperties<T> copy = new SliceQueryProperties<>(entityMeta, entityClass, sliceType);
+        copy.limitO = limitO;
+        copy.fetchSizeO = fetchSizeO;
+        copy.boundingMode = boundingMode;
+        copy.orderingModeO = orderingModeO;
+        copy.readConsistencyLevel = readConsistencyLevel;
+        copy.writeConsistencyLevel = writeConsistencyLevel;
+        copy.partitionKeys = new LinkedList<>(partitionKeys);
+        copy.partitionKeysName = new LinkedList<>(partitionKeysName);
+        copy.partitionKeysIn = new LinkedList<>(partitionKeysIn);
+        copy.lastPartitionKeyName = lastPartitionKeyName;
+        copy.fromClusteringKeys = new LinkedList<>(fromClusteringKeys);
+        copy.fromClusteringKeysName = new LinkedList<>(fromClusteringKeysName);
+        copy.toClusteringKeys = new LinkedList<>(toClusteringKeys);
+        copy.toClusteringKeysName = new LinkedList<>(toClusteringKeysName);
+        copy.withClusteringKeys = new LinkedList<>(withClusteringKeys);
+        copy.withClusteringKeysName = new LinkedList<>(withClusteringKeysName);
+        copy.clusteringsKeysIn = new LinkedList<>(clusteringsKeysIn);
+        copy.lastClusteringKeyName = lastClusteringKeyName;
+        copy.clusteringOrder = clusteringOrder;
+        copy.projectionO = projectionO;
+        copy.asyncListeners = asyncListeners;
+        return copy.fetchSize(pageSize).pagingState(pagingState);
+    }
+
+    protected SliceQueryProperties<T> projection(List<PropertyMeta> projection) {
+        this.projectionO = Optional.fromNullable(projection);
+        return this;
+    }
+
     protected SliceQueryProperties<T>  bounding(BoundingMode boundingMode) {
         this.boundingMode = boundingMode;
         return this;
@@ -318,6 +363,12 @@ public class SliceQueryProperties<T> {
         }
     }
 
+    public void setPagingStateToStatement(Statement statement) {
+        if (pagingStateO.isPresent()) {
+            StatementHelper.setPagingState(statement, pagingStateO.get());
+        }
+    }
+
     public ConsistencyLevel getReadConsistencyLevel() {
         return readConsistencyLevel;
     }
@@ -334,6 +385,17 @@ public class SliceQueryProperties<T> {
         return entityMeta;
     }
 
+    public Optional<List<PropertyMeta>> getProjection() {
+        return projectionO;
+    }
+
+    /**
+     * @return the metas of the projection if any, otherwise the metas of all the columns of the entity
+     */
+    public List<PropertyMeta> getColumnsMetaToLoad() {
+        return projectionO.isPresent() ? projectionO.get() : entityMeta.forOperations().getColumnsMetaToLoad();
+    }
+
     public List<Object> getPartitionKeys() {
         return partitionKeys;
     }
@@ -367,7 +429,8 @@ public class SliceQueryProperties<T> {
                 Objects.equals(this.lastClusteringKeyName, that.lastClusteringKeyName) &&
                 Objects.equals(this.boundingMode, that.boundingMode) &&
                 Objects.equals(this.orderingModeO, that.orderingModeO) &&
-                Objects.equals(this.limitO, that.limitO);
+                Objects.equals(this.limitO, that.limitO) &&
+                Objects.equals(this.projectionO, that.projectionO);
     }
 
     @Override
@@ -382,7 +445,8 @@ public class SliceQueryProperties<T> {
                 this.lastClusteringKeyName,
                 this.boundingMode,
                 this.orderingModeO,
-                this.limitO);
+                this.limitO,
+                this.projectionO);
     }
 
     public static enum SliceType {
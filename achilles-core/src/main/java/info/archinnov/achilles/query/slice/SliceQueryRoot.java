@@ -29,6 +29,7 @@ import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.persistence.operations.SliceQueryExecutor;
 import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Page;
 
 public abstract class SliceQueryRoot<TYPE, T extends SliceQueryRoot<TYPE, T>> {
 
@@ -146,6 +147,14 @@ public abstract class SliceQueryRoot<TYPE, T extends SliceQueryRoot<TYPE, T>> {
         return this.sliceQueryExecutor.asyncGetOne(this.properties);
     }
 
+    protected Page<TYPE> getPageInternal(int pageSize, String pagingState) {
+        return this.sliceQueryExecutor.getPage(this.properties.copyForPage(pageSize, pagingState));
+    }
+
+    protected AchillesFuture<Page<TYPE>> asyncGetPageInternal(int pageSize, String pagingState) {
+        return this.sliceQueryExecutor.asyncGetPage(this.properties.copyForPage(pageSize, pagingState));
+    }
+
     protected Iterator<TYPE> iteratorInternal() {
         return this.sliceQueryExecutor.iterator(this.properties);
     }
@@ -1,5 +1,6 @@
 package info.archinnov.achilles.query.typed;
 
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
@@ -19,19 +20,23 @@ import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.persistence.operations.EntityMapper;
 import info.archinnov.achilles.internal.persistence.operations.EntityProxifier;
 import info.archinnov.achilles.internal.statement.wrapper.NativeStatementWrapper;
+import info.archinnov.achilles.internal.validation.Validator;
 import info.archinnov.achilles.iterator.AchillesIterator;
 import info.archinnov.achilles.listener.LWTResultListener;
 import info.archinnov.achilles.query.slice.SliceQueryProperties;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Page;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 
 import static com.google.common.base.Predicates.notNull;
 import static com.google.common.collect.FluentIterable.from;
 import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ITERATOR;
+import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_PAGE;
 import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ROW;
 import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ROWS;
 
@@ -43,6 +48,7 @@ public abstract class AbstractTypedQuery<T> {
     protected final NativeStatementWrapper nativeStatementWrapper;
 
     protected DaoContext daoContext;
+    protected ConfigurationContext configContext;
     protected ExecutorService executorService;
     protected Map<String, PropertyMeta> propertiesMap;
     protected EntityMeta meta;
@@ -50,26 +56,37 @@ public abstract class AbstractTypedQuery<T> {
     protected EntityMeta.EntityState entityState;
     protected Object[] boundValues;
 
+    // For a projection query, getters of the columns selected by the statement, the other properties are lazy loaded by the proxies
+    protected final boolean projection;
+    protected volatile Set<Method> selectedGetters;
+
     protected EntityMapper mapper = EntityMapper.Singleton.INSTANCE.get();
     protected EntityProxifier proxifier = EntityProxifier.Singleton.INSTANCE.get();
     protected AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
 
     public AbstractTypedQuery(Class<T> entityClass, DaoContext daoContext, ConfigurationContext configContext, Statement statement, EntityMeta meta,
                       PersistenceContextFactory contextFactory, EntityMeta.EntityState entityState, Object[] boundValues) {
+        this(entityClass, daoContext, configContext, statement, meta, contextFactory, entityState, boundValues, false);
+    }
+
+    public AbstractTypedQuery(Class<T> entityClass, DaoContext daoContext, ConfigurationContext configContext, Statement statement, EntityMeta meta,
+                      PersistenceContextFactory contextFactory, EntityMeta.EntityState entityState, Object[] boundValues, boolean projection) {
         this.daoContext = daoContext;
-        this.executorService = configContext.getExecutorService();
+        this.configContext = configContext;
+        this.executorService = configContext.getCallbackExecutor();
         this.boundValues = boundValues;
         this.nativeStatementWrapper = new NativeStatementWrapper(entityClass, statement, this.boundValues, Optional.<LWTResultListener>absent());
         this.meta = meta;
         this.contextFactory = contextFactory;
         this.entityState = entityState;
         this.propertiesMap = transformPropertiesMap(meta);
+        this.projection = projection;
     }
 
     protected AchillesFuture<List<T>> asyncGetInternal(FutureCallback<Object>... asyncListeners) {
         log.debug("Get results asynchronously for typed query '{}'", nativeStatementWrapper.getStatement());
 
-        final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(nativeStatementWrapper);
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.executePaged(nativeStatementWrapper);
         final ListenableFuture<List<Row>> futureRows = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ROWS);
 
         Function<List<Row>, List<T>> rowsToEntities = rowsToEntities();
@@ -115,7 +132,7 @@ public abstract class AbstractTypedQuery<T> {
         }
         final PersistenceContext persistenceContext = contextFactory.newContextForTypedQuery(meta.getEntityClass());
 
-        final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(nativeStatementWrapper);
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.executePaged(nativeStatementWrapper);
         final ListenableFuture<Iterator<Row>> futureIterator = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_ITERATOR, executorService);
 
         Function<Iterator<Row>, Iterator<T>> rowToIterator = new Function<Iterator<Row>, Iterator<T>>() {
@@ -129,6 +146,32 @@ public abstract class AbstractTypedQuery<T> {
         return asyncUtils.buildInterruptible(listenableFuture);
     }
 
+    protected AchillesFuture<Page<T>> asyncGetPageInternal(int pageSize, String pagingState, FutureCallback<Object>... asyncListeners) {
+        final Statement statement = nativeStatementWrapper.getStatement();
+        log.debug("Get page asynchronously for typed query '{}'", statement);
+
+        Validator.validateTrue(pageSize > 0, "The page size '%s' should be strictly positive", pageSize);
+        final NativeStatementWrapper pageStatementWrapper = nativeStatementWrapper.copyForPage(pageSize, pagingState, daoContext.getProtocolVersion());
+
+        final ListenableFuture<ResultSet> resultSetFuture = daoContext.execute(pageStatementWrapper);
+        final ListenableFuture<Page<Row>> futureRowsPage = asyncUtils.transformFuture(resultSetFuture, RESULTSET_TO_PAGE);
+
+        final Function<List<Row>, List<T>> rowsToEntities = rowsToEntities();
+        final Function<List<T>, List<T>> applyTriggers = applyTriggersToEntities();
+        final Function<List<T>, List<T>> maybeCreateProxy = proxifyEntities();
+        Function<Page<Row>, Page<T>> rowsPageToEntitiesPage = new Function<Page<Row>, Page<T>>() {
+            @Override
+            public Page<T> apply(Page<Row> rowsPage) {
+                final List<T> entities = maybeCreateProxy.apply(applyTriggers.apply(rowsToEntities.apply(rowsPage.getResults())));
+                return new Page<>(entities, rowsPage.getPagingState());
+            }
+        };
+
+        final ListenableFuture<Page<T>> futurePage = asyncUtils.transformFuture(futureRowsPage, rowsPageToEntitiesPage);
+        asyncUtils.maybeAddAsyncListeners(futurePage, asyncListeners);
+        return asyncUtils.buildInterruptible(futurePage);
+    }
+
     protected Function<Row, T> rowToEntity() {
         return new Function<Row, T>() {
             @Override
@@ -136,6 +179,9 @@ public abstract class AbstractTypedQuery<T> {
                 T entity = null;
                 if (row != null) {
                     entity = mapper.mapRowToEntityWithPrimaryKey(meta, row, propertiesMap, entityState);
+                    if (projection && selectedGetters == null) {
+                        selectedGetters = extractSelectedGetters(row);
+                    }
                 }
                 return entity;
             }
@@ -216,9 +262,34 @@ public abstract class AbstractTypedQuery<T> {
         }
         return propertiesMap;
     }
+    private Set<Method> extractSelectedGetters(Row row) {
+        final ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
+        if (columnDefinitions == null) {
+            return null;
+        }
+        final Set<Method> getters = new HashSet<>();
+        getters.add(meta.getIdMeta().getGetter());
+        for (ColumnDefinitions.Definition column : columnDefinitions) {
+            final PropertyMeta pm = propertiesMap.get(column.getName());
+            if (pm != null && !pm.structure().isCounter()) {
+                getters.add(pm.getGetter());
+            }
+        }
+        return getters;
+    }
+
+    /**
+     * For a projection query, each proxy lazy loads the properties left out of the statement upon call on their getter,
+     * with one query per entity and per property
+     */
     private T buildProxy(T entity) {
         PersistenceContext context = contextFactory.newContext(entity);
-        entity = proxifier.buildProxyWithAllFieldsLoadedExceptCounters(entity, context.getEntityFacade());
+        if (projection && selectedGetters != null) {
+            // Each proxy marks its lazy loaded properties in its own set
+            entity = proxifier.buildProxyWithFieldsLoaded(entity, context.getEntityFacade(), new HashSet<>(selectedGetters));
+        } else {
+            entity = proxifier.buildProxyWithAllFieldsLoadedExceptCounters(entity, context.getEntityFacade());
+        }
         return entity;
     }
 }
@@ -23,6 +23,7 @@ import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContextFactory;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.type.Page;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +52,11 @@ public class AsyncTypedQuery<T> extends AbstractTypedQuery<T> {
         super(entityClass, daoContext, configContext, statement, meta, contextFactory, entityState, boundValues);
     }
 
+    public AsyncTypedQuery(Class<T> entityClass, DaoContext daoContext, ConfigurationContext configContext, Statement statement, EntityMeta meta,
+                           PersistenceContextFactory contextFactory, EntityState entityState, Object[] boundValues, boolean projection) {
+        super(entityClass, daoContext, configContext, statement, meta, contextFactory, entityState, boundValues, projection);
+    }
+
     /**
      * Executes the query and returns entities asynchronously
      *
@@ -110,6 +116,28 @@ public class AsyncTypedQuery<T> extends AbstractTypedQuery<T> {
         return asyncIteratorInternal(Optional.fromNullable(fetchSize),NO_CALLBACKS);
     }
 
+    /**
+     * Executes the query and returns asynchronously the first page of entities. The page holds at most pageSize
+     * entities and the paging state to fetch the next page with getPage(pageSize, pagingState)
+     *
+     * @param pageSize max number of entities of the page
+     * @return AchillesFuture&lt;Page&lt;T&gt;&gt; future of the first page of found entities
+     *
+     */
+    public AchillesFuture<Page<T>> getPage(int pageSize, FutureCallback<Object>... asyncListeners) {
+        return super.asyncGetPageInternal(pageSize, null, asyncListeners);
+    }
 
-
+    /**
+     * Executes the query and returns asynchronously the page of entities right after the page which returned
+     * the provided paging state. The statement and its bound values should be the same as for the previous page
+     *
+     * @param pageSize max number of entities of the page
+     * @param pagingState paging state of the previous page
+     * @return AchillesFuture&lt;Page&lt;T&gt;&gt; future of the next page of found entities
+     *
+     */
+    public AchillesFuture<Page<T>> getPage(int pageSize, String pagingState, FutureCallback<Object>... asyncListeners) {
+        return super.asyncGetPageInternal(pageSize, pagingState, asyncListeners);
+    }
 }
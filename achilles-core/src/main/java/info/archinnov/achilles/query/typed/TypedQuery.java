@@ -38,6 +38,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.async.BlockingCall;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContext;
@@ -47,6 +48,7 @@ import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.persistence.operations.EntityMapper;
 import info.archinnov.achilles.internal.persistence.operations.EntityProxifier;
 import info.archinnov.achilles.internal.statement.wrapper.NativeStatementWrapper;
+import info.archinnov.achilles.type.Page;
 
 /**
  * Class to perform native Cassandra query and let <strong>Achilles</strong> map back the result set into list of entities.
@@ -69,6 +71,11 @@ public class TypedQuery<T> extends AbstractTypedQuery<T> {
         super(entityClass, daoContext, configContext, statement, meta, contextFactory, entityState, boundValues);
     }
 
+    public TypedQuery(Class<T> entityClass, DaoContext daoContext, ConfigurationContext configContext, Statement statement, EntityMeta meta,
+            PersistenceContextFactory contextFactory, EntityState entityState, Object[] boundValues, boolean projection) {
+        super(entityClass, daoContext, configContext, statement, meta, contextFactory, entityState, boundValues, projection);
+    }
+
     /**
      * Executes the query and returns entities
      * <p/>
@@ -83,7 +90,12 @@ public class TypedQuery<T> extends AbstractTypedQuery<T> {
      */
     public List<T> get() {
         log.debug("Get results for typed query '{}'", nativeStatementWrapper.getStatement());
-        return asyncGetInternal().getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<List<T>>() {
+            @Override
+            public AchillesFuture<List<T>> start() {
+                return asyncGetInternal();
+            }
+        });
     }
 
 
@@ -98,7 +110,12 @@ public class TypedQuery<T> extends AbstractTypedQuery<T> {
      */
     public T getFirst() {
         log.debug("Get first result for typed query '{}'", nativeStatementWrapper.getStatement());
-        return asyncGetFirstInternal().getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<T>() {
+            @Override
+            public AchillesFuture<T> start() {
+                return asyncGetFirstInternal();
+            }
+        });
     }
 
     /**
@@ -112,7 +129,12 @@ public class TypedQuery<T> extends AbstractTypedQuery<T> {
      */
     public Iterator<T> iterator() {
         log.debug("Get iterator for typed query '{}'", nativeStatementWrapper.getStatement());
-        return asyncIteratorInternal(Optional.<Integer>absent(),NO_CALLBACKS).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<Iterator<T>>() {
+            @Override
+            public AchillesFuture<Iterator<T>> start() {
+                return asyncIteratorInternal(Optional.<Integer>absent(),NO_CALLBACKS);
+            }
+        });
     }
 
     /**
@@ -125,8 +147,44 @@ public class TypedQuery<T> extends AbstractTypedQuery<T> {
      * @return an iterator of entities
      *
      */
-    public Iterator<T> iterator(int fetchSize) {
+    public Iterator<T> iterator(final int fetchSize) {
         log.debug("Get iterator for typed query '{}'", nativeStatementWrapper.getStatement());
-        return asyncIteratorInternal(Optional.fromNullable(fetchSize),NO_CALLBACKS).getImmediately();
+        return configContext.awaitBlocking(new BlockingCall<Iterator<T>>() {
+            @Override
+            public AchillesFuture<Iterator<T>> start() {
+                return asyncIteratorInternal(Optional.fromNullable(fetchSize),NO_CALLBACKS);
+            }
+        });
+    }
+
+    /**
+     * Executes the query and returns the first page of entities. The page holds at most pageSize entities
+     * and the paging state to fetch the next page with getPage(pageSize, pagingState)
+     *
+     * @param pageSize max number of entities of the page
+     * @return Page&lt;T&gt; first page of found entities
+     *
+     */
+    public Page<T> getPage(int pageSize) {
+        return getPage(pageSize, null);
+    }
+
+    /**
+     * Executes the query and returns the page of entities right after the page which returned the provided
+     * paging state. The statement and its bound values should be the same as for the previous page
+     *
+     * @param pageSize max number of entities of the page
+     * @param pagingState paging state of the previous page
+     * @return Page&lt;T&gt; next page of found entities
+     *
+     */
+    public Page<T> getPage(final int pageSize, final String pagingState) {
+        log.debug("Get page for typed query '{}'", nativeStatementWrapper.getStatement());
+        return configContext.awaitBlocking(new BlockingCall<Page<T>>() {
+            @Override
+            public AchillesFuture<Page<T>> start() {
+                return asyncGetPageInternal(pageSize, pagingState, NO_CALLBACKS);
+            }
+        });
     }
 }
@@ -387,8 +387,9 @@ public abstract class TableOptions<T extends TableOptions> {
     /**
      * Compaction options
      * <p>
-     *      This is an abstract class. Concrete classes are {@link TableOptions.CompactionOptions.SizeTieredCompactionStrategyOptions}
-     *      and {@link TableOptions.CompactionOptions.LeveledCompactionStrategyOptions}
+     *      This is an abstract class. Concrete classes are {@link TableOptions.CompactionOptions.SizeTieredCompactionStrategyOptions},
+     *      {@link TableOptions.CompactionOptions.LeveledCompactionStrategyOptions}
+     *      and {@link TableOptions.CompactionOptions.DateTieredCompactionStrategyOptions}
      * </p>
      * <p>
      *      The parameter type &lt;T&gt; allows the usage of <strong>covariant return type</strong> to make the builder work
@@ -423,6 +424,10 @@ public abstract class TableOptions<T extends TableOptions> {
 
         private Optional<Double> tombstoneThreshold = Optional.absent();
 
+        private Optional<Long> baseTimeSeconds = Optional.absent();
+
+        private Optional<Integer> maxSSTableAgeDays = Optional.absent();
+
 
         private CompactionOptions(Strategy compactionStrategy) {
             this.strategy = compactionStrategy;
@@ -444,6 +449,14 @@ public abstract class TableOptions<T extends TableOptions> {
             return new LeveledCompactionStrategyOptions();
         }
 
+        /**
+         * Compaction options for DateTiered strategy
+         * @return a {@link TableOptions.CompactionOptions.DateTieredCompactionStrategyOptions} instance
+         */
+        public static DateTieredCompactionStrategyOptions dateTieredStrategy() {
+            return new DateTieredCompactionStrategyOptions();
+        }
+
         /**
          * Enables or disables background compaction
          * <p>
@@ -678,10 +691,79 @@ public abstract class TableOptions<T extends TableOptions> {
         }
 
         /**
-         * Compaction strategies. Possible values: SIZED_TIERED & LEVELED
+         * Compaction options specific to DateTiered strategy, available since Cassandra 2.0.11
+         */
+        public static class DateTieredCompactionStrategyOptions extends CompactionOptions<DateTieredCompactionStrategyOptions> {
+
+            private DateTieredCompactionStrategyOptions() {
+                super(Strategy.DATE_TIERED);
+            }
+
+            /**
+             * The size of the first time window. SSTables whose data are written within the same window are compacted together
+             * <p>
+             *     If not set, default = 3600 (1 hour)
+             * </p>
+             * @param baseTimeSeconds size of the first time window in seconds
+             * @return
+             */
+            public DateTieredCompactionStrategyOptions baseTimeSeconds(Long baseTimeSeconds) {
+                super.baseTimeSeconds = Optional.fromNullable(baseTimeSeconds);
+                return this;
+            }
+
+            /**
+             * SSTables whose most recent data is older than this age are no longer compacted
+             * <p>
+             *     If not set, default = 365
+             * </p>
+             * @param maxSSTableAgeDays max SSTable age in days
+             * @return
+             */
+            public DateTieredCompactionStrategyOptions maxSSTableAgeDays(Integer maxSSTableAgeDays) {
+                super.maxSSTableAgeDays = Optional.fromNullable(maxSSTableAgeDays);
+                return this;
+            }
+
+            /**
+             * Minimum number of SSTables in a time window to trigger a minor compaction
+             * <p>
+             *     If not set, default = 4
+             * </p>
+             * @param minThreshold min threshold
+             * @return
+             */
+            public DateTieredCompactionStrategyOptions minThreshold(Integer minThreshold) {
+                super.minThreshold = Optional.fromNullable(minThreshold);
+                return this;
+            }
+
+            @Override
+            public String build() {
+                final List<String> generalOptions = super.buildCommonOptions();
+
+                List<String> options = new ArrayList<String>(generalOptions);
+
+                if (super.baseTimeSeconds.isPresent()) {
+                    options.add(new StringBuilder("'base_time_seconds'").append(VALUE_SEPARATOR).append(super.baseTimeSeconds.get()).toString());
+                }
+
+                if (super.maxSSTableAgeDays.isPresent()) {
+                    options.add(new StringBuilder("'max_sstable_age_days'").append(VALUE_SEPARATOR).append(super.maxSSTableAgeDays.get()).toString());
+                }
+
+                if (super.minThreshold.isPresent()) {
+                    options.add(new StringBuilder("'min_threshold'").append(VALUE_SEPARATOR).append(super.minThreshold.get()).toString());
+                }
+                return new StringBuilder(START_SUB_OPTIONS).append(Joiner.on(SUB_OPTION_SEPARATOR).join(options)).append(END_SUB_OPTIONS).toString();
+            }
+        }
+
+        /**
+         * Compaction strategies. Possible values: SIZED_TIERED, LEVELED & DATE_TIERED
          */
         public static enum Strategy {
-            SIZED_TIERED("'SizeTieredCompactionStrategy'"), LEVELED("'LeveledCompactionStrategy'");
+            SIZED_TIERED("'SizeTieredCompactionStrategy'"), LEVELED("'LeveledCompactionStrategy'"), DATE_TIERED("'DateTieredCompactionStrategy'");
 
             private String strategyClass;
 
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.type;
+
+/**
+ * <p>
+ * Define where <strong>Achilles</strong> runs the post-processing of asynchronous operations
+ * (tracing, LWT checks, entity mapping, interceptors and async listeners). Available values are :
+ * <ul>
+ *     <li>{@code info.archinnov.achilles.type.ExecutionPolicy.EXECUTOR}: hand-off to the executor service configured
+ *     with <strong>ConfigurationParameters.EXECUTOR_SERVICE</strong> or the default thread pool</li>
+ *     <li>{@code info.archinnov.achilles.type.ExecutionPolicy.DIRECT}: run directly on the thread completing the
+ *     driver future, usually a driver I/O thread. Only use it when interceptors and async listeners are cheap
+ *     and never block</li>
+ * </ul>
+ * <br/>
+ * Blocking on a driver I/O thread can stall or deadlock the connection it serves, and listeners are not the only
+ * code that blocks: reading a result set spanning several pages makes the driver fetch the next pages synchronously.
+ * For this reason the slice, typed and native queries returning a list or an iterator always hand their
+ * post-processing off to the executor service, whatever the policy. Their page variants only read the page already
+ * fetched and follow the policy. An iterator returned by a query still fetches its next pages on the thread
+ * iterating over it, so never iterate from an async listener running with {@code DIRECT}
+ * <br/>
+ * Default value = {@code info.archinnov.achilles.type.ExecutionPolicy.EXECUTOR}.
+ * The global policy can be overriden per operation:
+ *
+ * <pre class="code"><code class="java">
+ *
+ *   asyncManager.insert(entity, OptionsBuilder.withExecutionPolicy(ExecutionPolicy.DIRECT));
+ *
+ * </code></pre>
+ * </p>
+ */
+public enum ExecutionPolicy {
+    EXECUTOR, DIRECT;
+}
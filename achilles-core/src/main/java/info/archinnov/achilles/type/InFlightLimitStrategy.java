@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.type;
+
+/**
+ * <p>
+ * Define what happens to a request when the max number of in-flight requests (global or for its entity) is reached.
+ * Available values are :
+ * <ul>
+ *     <li>{@code info.archinnov.achilles.type.InFlightLimitStrategy.BLOCK}: the calling thread waits until a request completes.
+ *     Requests sent from asynchronous post-processing (async listeners, <em>DIRECT</em> execution policy) are queued instead,
+ *     never blocking an executor or driver I/O thread. This queue is unbounded, <em>BLOCK</em> never rejects a request</li>
+ *     <li>{@code info.archinnov.achilles.type.InFlightLimitStrategy.FAIL_FAST}: the request fails immediately with an
+ *     <em>AchillesInFlightLimitException</em></li>
+ *     <li>{@code info.archinnov.achilles.type.InFlightLimitStrategy.QUEUE}: the request is queued, without blocking the calling thread,
+ *     and sent as soon as a request completes. It fails with an <em>AchillesInFlightLimitException</em> when the queue is full</li>
+ * </ul>
+ * <br/>
+ * Default value = {@code info.archinnov.achilles.type.InFlightLimitStrategy.BLOCK}
+ * </p>
+ */
+public enum InFlightLimitStrategy {
+    BLOCK, FAIL_FAST, QUEUE;
+}
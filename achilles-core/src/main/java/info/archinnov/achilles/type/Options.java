@@ -55,6 +55,8 @@ public class Options {
 
     Optional<com.datastax.driver.core.ConsistencyLevel> serialConsistencyO = Optional.absent();
 
+    Optional<ExecutionPolicy> executionPolicyO = Optional.absent();
+
     Options() {}
 
     public Optional<ConsistencyLevel> getConsistencyLevel() {
@@ -118,6 +120,10 @@ public class Options {
        return serialConsistencyO;
     }
 
+    public Optional<ExecutionPolicy> getExecutionPolicy() {
+        return executionPolicyO;
+    }
+
     @Override
     public String toString() {
         return Objects.toStringHelper(Options.class)
@@ -130,6 +136,7 @@ public class Options {
                 .add("CAS result listener optional", this.lwtResultListenerO)
                 .add("Async listeners", this.asyncListeners)
 				.add("Serial consistency", this.serialConsistencyO)
+                .add("Execution policy", this.executionPolicyO)
                 .toString();
     }
 
@@ -138,7 +145,8 @@ public class Options {
                 .lwtPredicates(lwtPredicates)
                 .lwtResultListener(lwtResultListenerO.orNull())
                 .lwtLocalSerial(serialConsistencyO.isPresent())
-                .withAsyncListeners(asyncListeners);
+                .withAsyncListeners(asyncListeners)
+                .withExecutionPolicyO(executionPolicyO);
     }
 
     public Options duplicateWithNewConsistencyLevel(ConsistencyLevel consistencyLevel) {
@@ -147,7 +155,8 @@ public class Options {
                 .lwtPredicates(lwtPredicates)
                 .lwtResultListener(lwtResultListenerO.orNull())
                 .lwtLocalSerial(serialConsistencyO.isPresent())
-                .withAsyncListeners(asyncListeners);
+                .withAsyncListeners(asyncListeners)
+                .withExecutionPolicyO(executionPolicyO);
     }
 
     public Options duplicateWithNewTimestamp(Long timestamp) {
@@ -156,7 +165,8 @@ public class Options {
                 .lwtPredicates(lwtPredicates)
                 .lwtResultListener(lwtResultListenerO.orNull())
                 .lwtLocalSerial(serialConsistencyO.isPresent())
-                .withAsyncListeners(asyncListeners);
+                .withAsyncListeners(asyncListeners)
+                .withExecutionPolicyO(executionPolicyO);
     }
 
     public static abstract class LWTPredicate {
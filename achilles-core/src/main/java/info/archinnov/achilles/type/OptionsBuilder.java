@@ -55,6 +55,9 @@ import info.archinnov.achilles.listener.LWTResultListener;
  * // LWT LOCAL_SERIAL instead of the default SERIAL value
  * options = OptionsBuilder.lwtLocalSerial();
  *
+ * // Run post-processing directly on the driver I/O thread
+ * options = OptionsBuilder.withExecutionPolicy(ExecutionPolicy.DIRECT);
+ *
  * // Multiple options at a time
  * options = OptionsBuilder.withTtl(11)
  *                 .withConsistency(ANY)
@@ -189,6 +192,16 @@ public class OptionsBuilder {
         return new BuiltOptions(listeners);
     }
 
+    /**
+     * Override the global execution policy for the post-processing of this operation
+     *
+     * @param executionPolicy ExecutionPolicy
+     * @return BuiltOptions
+     */
+    public static BuiltOptions withExecutionPolicy(ExecutionPolicy executionPolicy) {
+        return new BuiltOptions(executionPolicy);
+    }
+
     /**
      * Force LOCAL_SERIAL consistency for all LWT operations.
      * By default LWT operations are performed using SERIAL serial consistency level
@@ -247,6 +260,10 @@ public class OptionsBuilder {
             super.asyncListeners = Arrays.asList(listeners);
         }
 
+        protected BuiltOptions(ExecutionPolicy executionPolicy) {
+            super.executionPolicyO = Optional.fromNullable(executionPolicy);
+        }
+
         /**
          * Use provided consistency level
          * @param consistencyLevel
@@ -471,6 +488,22 @@ public class OptionsBuilder {
             super.asyncListeners = listeners;
             return this;
         }
+
+        /**
+         * Override the global execution policy for the post-processing of this operation
+         *
+         * @param executionPolicy ExecutionPolicy
+         * @return BuiltOptions
+         */
+        public BuiltOptions withExecutionPolicy(ExecutionPolicy executionPolicy) {
+            super.executionPolicyO = Optional.fromNullable(executionPolicy);
+            return this;
+        }
+
+        BuiltOptions withExecutionPolicyO(Optional<ExecutionPolicy> executionPolicyO) {
+            super.executionPolicyO = executionPolicyO;
+            return this;
+        }
     }
 
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.type;
+
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.common.base.Objects;
+
+/**
+ * One page of results of a query, with the opaque paging state to resume the query right after this page.
+ * <br/>
+ * <br/>
+ * The paging state is a plain string which can be handed over to a client (e.g. a web page) and passed
+ * back later to fetch the next page, without re-reading the previous ones. It is only valid for the exact
+ * same query with the same bound values
+ *
+ * @param <T> type of the results
+ */
+public class Page<T> implements Iterable<T> {
+
+    private final List<T> results;
+    private final String pagingState;
+
+    public Page(List<T> results, String pagingState) {
+        this.results = results;
+        this.pagingState = pagingState;
+    }
+
+    /**
+     * @return results of this page
+     */
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the paging state to fetch the next page, or null if this page is the last one
+     */
+    public String getPagingState() {
+        return pagingState;
+    }
+
+    public boolean hasMorePages() {
+        return pagingState != null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return results.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this.getClass()).add("results", results.size())
+                .add("hasMorePages", hasMorePages()).toString();
+    }
+}
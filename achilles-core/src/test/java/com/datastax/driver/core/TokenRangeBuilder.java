@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.datastax.driver.core;
+
+public class TokenRangeBuilder {
+
+    private static final Token.Factory MURMUR3_FACTORY = Token.getFactory("org.apache.cassandra.dht.Murmur3Partitioner");
+
+    public static TokenRange murmur3Range(long start, long end) {
+        return new TokenRange(murmur3Token(start), murmur3Token(end), MURMUR3_FACTORY);
+    }
+
+    public static Token murmur3Token(long value) {
+        return MURMUR3_FACTORY.fromString(Long.toString(value));
+    }
+
+    public static Token murmur3MinToken() {
+        return MURMUR3_FACTORY.minToken();
+    }
+}
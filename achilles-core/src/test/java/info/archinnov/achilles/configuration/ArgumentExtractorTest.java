@@ -18,27 +18,39 @@ package info.archinnov.achilles.configuration;
 import static info.archinnov.achilles.configuration.ArgumentExtractor.DEFAULT_LRU_CACHE_SIZE;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.BEAN_VALIDATION_ENABLE;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.BEAN_VALIDATION_VALIDATOR;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.BLOCKING_CALLER_RUNS;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.CONSISTENCY_LEVEL_READ_DEFAULT;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.CONSISTENCY_LEVEL_READ_MAP;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.CONSISTENCY_LEVEL_WRITE_DEFAULT;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.CONSISTENCY_LEVEL_WRITE_MAP;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.COUNTER_WRITE_BEHIND_FLUSH_INTERVAL;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.ENABLE_SCHEMA_UPDATE;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.ENABLE_SCHEMA_UPDATE_FOR_TABLES;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.ENTITIES_LIST;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.INITIALIZE_MAX_CONCURRENCY;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.ENTITY_PACKAGES;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.EVENT_INTERCEPTORS;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.EXECUTION_POLICY;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.EXECUTOR_SERVICE;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.FORCE_TABLE_CREATION;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.GLOBAL_NAMING_STRATEGY;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.GLOBAL_INSERT_STRATEGY;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.IN_FLIGHT_LIMIT_STRATEGY;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.KEYSPACE_NAME;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.NATIVE_SESSION;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.JACKSON_MAPPER;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.JACKSON_MAPPER_FACTORY;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.MAX_IN_FLIGHT_REQUESTS;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.MAX_IN_FLIGHT_REQUESTS_PER_ENTITY;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.OSGI_CLASS_LOADER;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.PARALLEL_TABLE_CREATION;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.PREPARED_STATEMENTS_CACHE_SIZE;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.PROXIES_WARM_UP_DISABLED;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.RELAX_INDEX_VALIDATION;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.STATEMENT_STATISTICS_ENABLED;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.STATEMENT_STATISTICS_JMX_ENABLED;
+import static info.archinnov.achilles.configuration.ConfigurationParameters.STATEMENT_STATISTICS_MAX_STATEMENTS;
 import static info.archinnov.achilles.type.ConsistencyLevel.ALL;
 import static info.archinnov.achilles.type.ConsistencyLevel.ANY;
 import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
@@ -85,6 +97,8 @@ import com.google.common.collect.ImmutableMap;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.interceptor.Interceptor;
 import info.archinnov.achilles.internal.bean.validation.FakeValidator;
+import info.archinnov.achilles.internal.async.InFlightLimiter;
+import info.archinnov.achilles.internal.async.StatementStatisticsRegistry;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.utils.ConfigMap;
 import info.archinnov.achilles.json.JacksonMapperFactory;
@@ -92,6 +106,8 @@ import info.archinnov.achilles.test.more.entity.Entity3;
 import info.archinnov.achilles.test.sample.entity.Entity1;
 import info.archinnov.achilles.test.sample.entity.Entity2;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.ExecutionPolicy;
+import info.archinnov.achilles.type.InFlightLimitStrategy;
 import info.archinnov.achilles.type.InsertStrategy;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -189,6 +205,22 @@ public class ArgumentExtractorTest {
         assertThat(actual).isTrue();
     }
 
+    @Test
+    public void should_init_parallel_table_creation_to_default_value() throws Exception {
+        boolean actual = extractor.initParallelTableCreation(configMap);
+
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void should_init_parallel_table_creation() throws Exception {
+        configMap.put(PARALLEL_TABLE_CREATION, true);
+
+        boolean actual = extractor.initParallelTableCreation(configMap);
+
+        assertThat(actual).isTrue();
+    }
+
     @Test
     public void should_init_default_object_factory_mapper() throws Exception {
         JacksonMapperFactory actual = extractor.initObjectMapperFactory(configMap);
@@ -406,6 +438,7 @@ public class ArgumentExtractorTest {
 
         // Then
         assertThat(configContext.isForceColumnFamilyCreation()).isTrue();
+        assertThat(configContext.isParallelTableCreation()).isFalse();
         assertThat(configContext.getJacksonMapperFactory()).isSameAs(factory);
         assertThat(configContext.getDefaultReadConsistencyLevel()).isEqualTo(ANY);
         assertThat(configContext.getDefaultWriteConsistencyLevel()).isEqualTo(ALL);
@@ -416,6 +449,13 @@ public class ArgumentExtractorTest {
         assertThat(configContext.getGlobalNamingStrategy()).isEqualTo(NamingStrategy.LOWER_CASE);
         assertThat(configContext.getCurrentKeyspace().isPresent()).isFalse();
         assertThat(configContext.getExecutorService()).isNotNull().isInstanceOf(ThreadPoolExecutor.class);
+        assertThat(configContext.getExecutionPolicy()).isEqualTo(ExecutionPolicy.EXECUTOR);
+        assertThat(configContext.isBlockingCallerRuns()).isFalse();
+        assertThat(configContext.getInFlightLimiter()).isSameAs(InFlightLimiter.UNLIMITED);
+        assertThat(configContext.getStatementStatistics()).isSameAs(StatementStatisticsRegistry.DISABLED);
+        assertThat(configContext.getCounterFlushIntervalMillis()).isEqualTo(0L);
+        assertThat(configContext.getCounterFlushThreshold()).isEqualTo(10000);
+        assertThat(configContext.getInitializeMaxConcurrency()).isEqualTo(64);
     }
 
     @Test
@@ -581,4 +621,154 @@ public class ArgumentExtractorTest {
         //Then
         assertThat(executorService).isNotNull().isEqualTo(this.executorService);
     }
+
+    @Test
+    public void should_init_execution_policy() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(EXECUTION_POLICY, ExecutionPolicy.DIRECT);
+
+        //When
+        final ExecutionPolicy actual = extractor.initExecutionPolicy(params);
+
+        //Then
+        assertThat(actual).isSameAs(ExecutionPolicy.DIRECT);
+        assertThat(extractor.initExecutionPolicy(new ConfigMap())).isSameAs(ExecutionPolicy.EXECUTOR);
+    }
+
+    @Test
+    public void should_init_blocking_caller_runs() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(BLOCKING_CALLER_RUNS, true);
+
+        //When
+        final boolean actual = extractor.initBlockingCallerRuns(params);
+
+        //Then
+        assertThat(actual).isTrue();
+        assertThat(extractor.initBlockingCallerRuns(new ConfigMap())).isFalse();
+    }
+
+    @Test
+    public void should_init_unlimited_in_flight_limiter_by_default() throws Exception {
+        //When
+        final InFlightLimiter actual = extractor.initInFlightLimiter(new ConfigMap());
+
+        //Then
+        assertThat(actual).isSameAs(InFlightLimiter.UNLIMITED);
+    }
+
+    @Test
+    public void should_init_in_flight_limiter() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(MAX_IN_FLIGHT_REQUESTS, 10);
+        params.put(MAX_IN_FLIGHT_REQUESTS_PER_ENTITY, ImmutableMap.<Class<?>, Integer>of(String.class, 2));
+        params.put(IN_FLIGHT_LIMIT_STRATEGY, InFlightLimitStrategy.FAIL_FAST);
+
+        //When
+        final InFlightLimiter actual = extractor.initInFlightLimiter(params);
+
+        //Then
+        assertThat(actual).isNotSameAs(InFlightLimiter.UNLIMITED);
+        assertThat(actual.getInFlightCount()).isEqualTo(0L);
+        assertThat(actual.getInFlightCount(String.class)).isEqualTo(0L);
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_negative_max_in_flight_requests() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(MAX_IN_FLIGHT_REQUESTS, -1);
+
+        //When
+        extractor.initInFlightLimiter(params);
+    }
+
+    @Test
+    public void should_init_disabled_statement_statistics_by_default() throws Exception {
+        //When
+        final StatementStatisticsRegistry actual = extractor.initStatementStatistics(new ConfigMap());
+
+        //Then
+        assertThat(actual).isSameAs(StatementStatisticsRegistry.DISABLED);
+        assertThat(extractor.initStatementStatisticsJMX(new ConfigMap())).isFalse();
+    }
+
+    @Test
+    public void should_init_statement_statistics() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(STATEMENT_STATISTICS_ENABLED, true);
+        params.put(STATEMENT_STATISTICS_MAX_STATEMENTS, 10);
+        params.put(STATEMENT_STATISTICS_JMX_ENABLED, true);
+
+        //When
+        final StatementStatisticsRegistry actual = extractor.initStatementStatistics(params);
+
+        //Then
+        assertThat(actual).isNotSameAs(StatementStatisticsRegistry.DISABLED);
+        assertThat(actual.isEnabled()).isTrue();
+        assertThat(extractor.initStatementStatisticsJMX(params)).isTrue();
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_statement_statistics_jmx_without_statistics() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(STATEMENT_STATISTICS_JMX_ENABLED, true);
+
+        //When
+        extractor.initStatementStatisticsJMX(params);
+    }
+
+    @Test
+    public void should_init_counter_write_behind() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(COUNTER_WRITE_BEHIND_FLUSH_INTERVAL, 500L);
+        params.put(COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD, 100);
+
+        //When
+        final long flushInterval = extractor.initCounterWriteBehindFlushInterval(params);
+        final int flushThreshold = extractor.initCounterWriteBehindFlushThreshold(params);
+
+        //Then
+        assertThat(flushInterval).isEqualTo(500L);
+        assertThat(flushThreshold).isEqualTo(100);
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_zero_counter_write_behind_flush_threshold() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(COUNTER_WRITE_BEHIND_FLUSH_THRESHOLD, 0);
+
+        //When
+        extractor.initCounterWriteBehindFlushThreshold(params);
+    }
+
+    @Test
+    public void should_init_initialize_max_concurrency() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(INITIALIZE_MAX_CONCURRENCY, 16);
+
+        //When
+        final int maxConcurrency = extractor.initInitializeMaxConcurrency(params);
+
+        //Then
+        assertThat(maxConcurrency).isEqualTo(16);
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_zero_initialize_max_concurrency() throws Exception {
+        //Given
+        ConfigMap params = new ConfigMap();
+        params.put(INITIALIZE_MAX_CONCURRENCY, 0);
+
+        //When
+        extractor.initInitializeMaxConcurrency(params);
+    }
 }
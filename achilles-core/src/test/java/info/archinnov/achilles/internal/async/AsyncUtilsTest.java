@@ -1,6 +1,11 @@
 package info.archinnov.achilles.internal.async;
 
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.concurrent.ExecutorService;
@@ -11,10 +16,13 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.google.common.base.Function;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.type.Options;
+import info.archinnov.achilles.type.Page;
 import info.archinnov.achilles.type.OptionsBuilder;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -72,4 +80,24 @@ public class AsyncUtilsTest {
         verify(callBack).onSuccess("test");
     }
 
+    @Test
+    public void should_read_only_fetched_rows_into_page() throws Exception {
+        //Given
+        Row row1 = mock(Row.class);
+        Row row2 = mock(Row.class);
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(2);
+        when(resultSet.one()).thenReturn(row1, row2);
+        when(resultSet.getExecutionInfo().getPagingState()).thenReturn(null);
+
+        //When
+        final Page<Row> actual = AsyncUtils.RESULTSET_TO_PAGE.apply(resultSet);
+
+        //Then
+        assertThat(actual.getResults()).containsExactly(row1, row2);
+        assertThat(actual.getPagingState()).isNull();
+        assertThat(actual.hasMorePages()).isFalse();
+        verify(resultSet, times(2)).one();
+        verify(resultSet, never()).all();
+    }
 }
@@ -0,0 +1,106 @@
+package info.archinnov.achilles.internal.async;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.async.AchillesFuture;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BlockingCallExecutorTest {
+
+    private AsyncUtils asyncUtils = new AsyncUtils();
+
+    @Mock
+    private ExecutorService executorService;
+
+    @Mock
+    private Runnable task;
+
+    @After
+    public void tearDown() {
+        assertThat(BlockingCallExecutor.currentOr(executorService)).isSameAs(executorService);
+    }
+
+    @Test
+    public void should_run_post_processing_on_calling_thread() throws Exception {
+        //Given
+        final SettableFuture<String> source = SettableFuture.create();
+        final AtomicReference<Thread> stageThread = new AtomicReference<>();
+        final Function<String, String> stage = new Function<String, String>() {
+            @Override
+            public String apply(String input) {
+                stageThread.set(Thread.currentThread());
+                return input + "_processed";
+            }
+        };
+
+        //When
+        final BlockingCallExecutor blockingCall = BlockingCallExecutor.open(true);
+        final AchillesFuture<String> future = new AchillesFuture<>(asyncUtils.pipeline(source).then(stage).build(executorService));
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                source.set("result");
+            }
+        }).start();
+
+        final String actual = blockingCall.await(future);
+
+        //Then
+        assertThat(actual).isEqualTo("result_processed");
+        assertThat(stageThread.get()).isSameAs(Thread.currentThread());
+        verifyZeroInteractions(executorService);
+    }
+
+    @Test
+    public void should_only_wait_for_result_when_caller_runs_disabled() throws Exception {
+        //Given
+        final SettableFuture<String> source = SettableFuture.create();
+        source.set("result");
+
+        //When
+        final BlockingCallExecutor blockingCall = BlockingCallExecutor.open(false);
+
+        //Then
+        assertThat(BlockingCallExecutor.currentOr(executorService)).isSameAs(executorService);
+        assertThat(blockingCall.await(new AchillesFuture<>(source))).isEqualTo("result");
+    }
+
+    @Test
+    public void should_restore_enclosing_blocking_call_when_closed() throws Exception {
+        //Given
+        final BlockingCallExecutor outer = BlockingCallExecutor.open(true);
+        final BlockingCallExecutor inner = BlockingCallExecutor.open(true);
+        assertThat(BlockingCallExecutor.currentOr(executorService)).isSameAs(inner);
+
+        //When
+        inner.close();
+
+        //Then
+        assertThat(BlockingCallExecutor.currentOr(executorService)).isSameAs(outer);
+        outer.close();
+    }
+
+    @Test
+    public void should_run_late_tasks_on_submitting_thread_once_closed() throws Exception {
+        //Given
+        final BlockingCallExecutor blockingCall = BlockingCallExecutor.open(true);
+        blockingCall.close();
+
+        //When
+        blockingCall.execute(task);
+
+        //Then
+        verify(task).run();
+        assertThat(blockingCall.isTerminated()).isTrue();
+    }
+}
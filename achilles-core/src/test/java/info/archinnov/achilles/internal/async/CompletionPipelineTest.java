@@ -0,0 +1,171 @@
+package info.archinnov.achilles.internal.async;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.type.OptionsBuilder;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CompletionPipelineTest {
+
+    private AsyncUtils asyncUtils = new AsyncUtils();
+
+    @Mock
+    private ExecutorService executorService;
+
+    @Mock
+    private FutureCallback<Object> callBack;
+
+    @Mock
+    private Function<Object, Object> function;
+
+    @Captor
+    private ArgumentCaptor<Runnable> runnableCaptor;
+
+    @Test
+    public void should_run_all_stages_in_order_with_single_listener() throws Exception {
+        //Given
+        final SettableFuture<Object> source = SettableFuture.create();
+        when(function.apply("test")).thenReturn("transformed");
+
+        //When
+        final ListenableFuture<Object> future = asyncUtils.pipeline(source)
+                .notify(new FutureCallback[] { callBack })
+                .then(function)
+                .notify(OptionsBuilder.withAsyncListeners(callBack))
+                .build();
+
+        source.set("test");
+
+        //Then
+        assertThat(future.get()).isEqualTo("transformed");
+        InOrder inOrder = inOrder(callBack, function);
+        inOrder.verify(callBack).onSuccess("test");
+        inOrder.verify(function).apply("test");
+        inOrder.verify(callBack).onSuccess("transformed");
+    }
+
+    @Test
+    public void should_run_stages_on_executor() throws Exception {
+        //Given
+        final SettableFuture<Object> source = SettableFuture.create();
+        when(function.apply("test")).thenReturn("transformed");
+
+        //When
+        final ListenableFuture<Object> future = asyncUtils.pipeline(source).then(function).build(executorService);
+        source.set("test");
+
+        //Then
+        assertThat(future.isDone()).isFalse();
+        verify(executorService).execute(runnableCaptor.capture());
+
+        runnableCaptor.getValue().run();
+        assertThat(future.get()).isEqualTo("transformed");
+    }
+
+    @Test
+    public void should_notify_listeners_of_source_failure() throws Exception {
+        //Given
+        final SettableFuture<Object> source = SettableFuture.create();
+        final RuntimeException exception = new RuntimeException("test");
+
+        //When
+        final ListenableFuture<Object> future = asyncUtils.pipeline(source)
+                .then(function)
+                .notify(new FutureCallback[] { callBack })
+                .build();
+        source.setException(exception);
+
+        //Then
+        verifyZeroInteractions(function);
+        verify(callBack).onFailure(exception);
+        try {
+            future.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isSameAs(exception);
+        }
+    }
+
+    @Test
+    public void should_only_notify_listeners_after_failing_stage() throws Exception {
+        //Given
+        final SettableFuture<Object> source = SettableFuture.create();
+        final RuntimeException exception = new RuntimeException("test");
+        final FutureCallback<Object> laterCallBack = mock(FutureCallback.class);
+        when(function.apply("test")).thenThrow(exception);
+
+        //When
+        asyncUtils.pipeline(source)
+                .notify(new FutureCallback[] { callBack })
+                .then(function)
+                .notify(new FutureCallback[] { laterCallBack })
+                .build();
+        source.set("test");
+
+        //Then
+        verify(callBack).onSuccess("test");
+        verify(callBack, never()).onFailure(any(Throwable.class));
+        verify(laterCallBack).onFailure(exception);
+    }
+
+    @Test
+    public void should_not_fail_pipeline_when_listener_throws() throws Exception {
+        //Given
+        final SettableFuture<Object> source = SettableFuture.create();
+        doThrow(new RuntimeException("listener")).when(callBack).onSuccess("test");
+
+        //When
+        final ListenableFuture<Object> future = asyncUtils.pipeline(source)
+                .notify(new FutureCallback[] { callBack })
+                .build();
+        source.set("test");
+
+        //Then
+        assertThat(future.get()).isEqualTo("test");
+    }
+
+    @Test
+    public void should_propagate_cancellation_to_source() throws Exception {
+        //Given
+        final SettableFuture<Object> source = SettableFuture.create();
+
+        //When
+        final ListenableFuture<Object> future = asyncUtils.pipeline(source).then(function).build();
+        future.cancel(false);
+
+        //Then
+        assertThat(source.isCancelled()).isTrue();
+        verifyZeroInteractions(function);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void should_exception_when_adding_stage_after_build() throws Exception {
+        //Given
+        final CompletionPipeline<Object> pipeline = asyncUtils.pipeline(SettableFuture.create());
+        pipeline.build();
+
+        //When
+        pipeline.then(function);
+    }
+}
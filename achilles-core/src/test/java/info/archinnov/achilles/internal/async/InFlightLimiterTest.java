@@ -0,0 +1,273 @@
+package info.archinnov.achilles.internal.async;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.exception.AchillesInFlightLimitException;
+import info.archinnov.achilles.type.InFlightLimitStrategy;
+
+public class InFlightLimiterTest {
+
+    @Test
+    public void should_send_request_directly_when_unlimited() throws Exception {
+        //Given
+        final RequestSupplier request = new RequestSupplier();
+
+        //When
+        final ListenableFuture<String> future = InFlightLimiter.UNLIMITED.submit(String.class, request);
+
+        //Then
+        assertThat(future).isSameAs(request.future);
+        assertThat(request.calls).isEqualTo(1);
+        assertThat(InFlightLimiter.UNLIMITED.getInFlightCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_release_permit_when_request_completes() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(1, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.BLOCK, 0);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+
+        //When
+        limiter.submit(String.class, first);
+        assertThat(limiter.getInFlightCount()).isEqualTo(1L);
+        first.future.set("first");
+        limiter.submit(String.class, second);
+
+        //Then
+        assertThat(second.calls).isEqualTo(1);
+        assertThat(limiter.getInFlightCount()).isEqualTo(1L);
+        assertThat(limiter.getMaxWaitNanos()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_fail_fast_when_limit_reached() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(1, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.FAIL_FAST, 0);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+        limiter.submit(String.class, first);
+
+        //When
+        final ListenableFuture<String> rejected = limiter.submit(String.class, second);
+
+        //Then
+        assertThat(second.calls).isEqualTo(0);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1L);
+        try {
+            rejected.get();
+            fail("Expected AchillesInFlightLimitException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(AchillesInFlightLimitException.class);
+        }
+    }
+
+    @Test
+    public void should_queue_request_until_a_permit_is_released() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(1, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.QUEUE, 1);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+        final RequestSupplier third = new RequestSupplier();
+        limiter.submit(String.class, first);
+
+        //When
+        final ListenableFuture<String> queued = limiter.submit(String.class, second);
+        final ListenableFuture<String> rejected = limiter.submit(String.class, third);
+
+        //Then
+        assertThat(second.calls).isEqualTo(0);
+        assertThat(limiter.getPendingCount()).isEqualTo(1L);
+        assertThat(rejected.isDone()).isTrue();
+        assertThat(limiter.getRejectedCount()).isEqualTo(1L);
+
+        first.future.set("first");
+
+        assertThat(second.calls).isEqualTo(1);
+        assertThat(limiter.getPendingCount()).isEqualTo(0L);
+        assertThat(queued.isDone()).isFalse();
+
+        second.future.set("second");
+
+        assertThat(queued.get()).isEqualTo("second");
+        assertThat(limiter.getInFlightCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_limit_in_flight_requests_per_entity() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(0, ImmutableMap.<Class<?>, Integer>of(String.class, 1), InFlightLimitStrategy.FAIL_FAST, 0);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+        final RequestSupplier other = new RequestSupplier();
+        limiter.submit(String.class, first);
+
+        //When
+        limiter.submit(String.class, second);
+        limiter.submit(Long.class, other);
+
+        //Then
+        assertThat(second.calls).isEqualTo(0);
+        assertThat(other.calls).isEqualTo(1);
+        assertThat(limiter.getInFlightCount(String.class)).isEqualTo(1L);
+        assertThat(limiter.getInFlightCount()).isEqualTo(2L);
+
+        first.future.setException(new RuntimeException("timeout"));
+
+        assertThat(limiter.getInFlightCount(String.class)).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_start_queued_requests_in_order() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(1, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.QUEUE, 2);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+        final RequestSupplier third = new RequestSupplier();
+        limiter.submit(String.class, first);
+        limiter.submit(String.class, second);
+        limiter.submit(String.class, third);
+
+        //When
+        first.future.set("first");
+
+        //Then
+        assertThat(second.calls).isEqualTo(1);
+        assertThat(third.calls).isEqualTo(0);
+
+        second.future.set("second");
+
+        assertThat(third.calls).isEqualTo(1);
+        assertThat(limiter.getPendingCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_not_let_saturated_entity_hold_back_queued_requests_of_other_entities() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(2, ImmutableMap.<Class<?>, Integer>of(String.class, 1), InFlightLimitStrategy.QUEUE, 10);
+        final RequestSupplier firstString = new RequestSupplier();
+        final RequestSupplier firstLong = new RequestSupplier();
+        final RequestSupplier secondString = new RequestSupplier();
+        final RequestSupplier secondLong = new RequestSupplier();
+        limiter.submit(String.class, firstString);
+        limiter.submit(Long.class, firstLong);
+        limiter.submit(String.class, secondString);
+        limiter.submit(Long.class, secondLong);
+        assertThat(limiter.getPendingCount()).isEqualTo(2L);
+
+        //When
+        firstLong.future.set("firstLong");
+
+        //Then
+        assertThat(secondString.calls).isEqualTo(0);
+        assertThat(secondLong.calls).isEqualTo(1);
+        assertThat(limiter.getPendingCount()).isEqualTo(1L);
+
+        firstString.future.set("firstString");
+
+        assertThat(secondString.calls).isEqualTo(1);
+        assertThat(limiter.getPendingCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_queue_instead_of_blocking_when_running_callback() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(1, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.BLOCK, 10);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+        final List<ListenableFuture<String>> fromCallback = new ArrayList<>();
+        limiter.submit(String.class, first);
+
+        //When
+        CallbackThreads.runAsCallback(new Runnable() {
+            @Override
+            public void run() {
+                fromCallback.add(limiter.submit(String.class, second));
+            }
+        });
+
+        //Then
+        assertThat(second.calls).isEqualTo(0);
+        assertThat(limiter.getPendingCount()).isEqualTo(1L);
+        assertThat(fromCallback.get(0).isDone()).isFalse();
+
+        first.future.set("first");
+        second.future.set("second");
+
+        assertThat(fromCallback.get(0).get()).isEqualTo("second");
+        assertThat(CallbackThreads.isRunningCallback()).isFalse();
+    }
+
+    @Test
+    public void should_skip_cancelled_queued_request() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(1, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.QUEUE, 10);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier cancelled = new RequestSupplier();
+        final RequestSupplier third = new RequestSupplier();
+        limiter.submit(String.class, first);
+        final ListenableFuture<String> cancelledFuture = limiter.submit(String.class, cancelled);
+        limiter.submit(String.class, third);
+        cancelledFuture.cancel(false);
+
+        //When
+        first.future.set("first");
+
+        //Then
+        assertThat(cancelled.calls).isEqualTo(0);
+        assertThat(third.calls).isEqualTo(1);
+        assertThat(limiter.getPendingCount()).isEqualTo(0L);
+        assertThat(limiter.getInFlightCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_not_reject_requests_of_callback_threads_with_block_strategy() throws Exception {
+        //Given
+        final InFlightLimiter limiter = new InFlightLimiter(1, Collections.<Class<?>, Integer>emptyMap(), InFlightLimitStrategy.BLOCK, 1);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+        final RequestSupplier third = new RequestSupplier();
+        final List<ListenableFuture<String>> fromCallback = new ArrayList<>();
+        limiter.submit(String.class, first);
+
+        //When
+        CallbackThreads.runAsCallback(new Runnable() {
+            @Override
+            public void run() {
+                fromCallback.add(limiter.submit(String.class, second));
+                fromCallback.add(limiter.submit(String.class, third));
+            }
+        });
+
+        //Then
+        assertThat(limiter.getPendingCount()).isEqualTo(2L);
+        assertThat(limiter.getRejectedCount()).isEqualTo(0L);
+        assertThat(fromCallback.get(1).isDone()).isFalse();
+
+        first.future.set("first");
+        second.future.set("second");
+
+        assertThat(third.calls).isEqualTo(1);
+    }
+
+    private static class RequestSupplier implements Supplier<ListenableFuture<String>> {
+
+        private final SettableFuture<String> future = SettableFuture.create();
+        private int calls;
+
+        @Override
+        public ListenableFuture<String> get() {
+            calls++;
+            return future;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package info.archinnov.achilles.internal.async;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InstrumentedExecutorServiceTest {
+
+    private InstrumentedExecutorService instrumented;
+
+    @Mock
+    private ExecutorService delegate;
+
+    @Mock
+    private Runnable task;
+
+    @Captor
+    private ArgumentCaptor<Runnable> runnableCaptor;
+
+    @Before
+    public void setUp() {
+        instrumented = new InstrumentedExecutorService(delegate);
+    }
+
+    @Test
+    public void should_record_queue_depth_until_task_starts() throws Exception {
+        //When
+        instrumented.execute(task);
+        instrumented.execute(task);
+
+        //Then
+        assertThat(instrumented.getQueueDepth()).isEqualTo(2L);
+        assertThat(instrumented.getMaxQueueDepth()).isEqualTo(2L);
+        assertThat(instrumented.getHandoffCount()).isEqualTo(0L);
+
+        verify(delegate, times(2)).execute(runnableCaptor.capture());
+        runnableCaptor.getAllValues().get(0).run();
+
+        assertThat(instrumented.getQueueDepth()).isEqualTo(1L);
+        assertThat(instrumented.getMaxQueueDepth()).isEqualTo(2L);
+        assertThat(instrumented.getHandoffCount()).isEqualTo(1L);
+        assertThat(instrumented.getMaxHandoffLatencyNanos()).isGreaterThanOrEqualTo(instrumented.getMeanHandoffLatencyNanos());
+        verify(task).run();
+    }
+
+    @Test
+    public void should_count_rejected_tasks() throws Exception {
+        //Given
+        final RejectedExecutionException exception = new RejectedExecutionException("full");
+        doThrow(exception).when(delegate).execute(any(Runnable.class));
+
+        //When
+        try {
+            instrumented.execute(task);
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            assertThat(e).isSameAs(exception);
+        }
+
+        //Then
+        assertThat(instrumented.getRejectedCount()).isEqualTo(1L);
+        assertThat(instrumented.getQueueDepth()).isEqualTo(0L);
+        assertThat(instrumented.getMeanHandoffLatencyNanos()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_delegate_shutdown() throws Exception {
+        //When
+        instrumented.shutdown();
+
+        //Then
+        verify(delegate).shutdown();
+    }
+}
@@ -0,0 +1,178 @@
+package info.archinnov.achilles.internal.async;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import com.datastax.driver.core.ResultSet;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.async.StatementMetrics;
+import info.archinnov.achilles.async.StatementStatistics.SortBy;
+import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
+import info.archinnov.achilles.internal.statement.wrapper.BatchStatementWrapper;
+
+public class StatementStatisticsRegistryTest {
+
+    @Test
+    public void should_return_request_as_is_when_disabled() throws Exception {
+        //Given
+        final RequestSupplier request = new RequestSupplier();
+
+        //When
+        final Supplier<ListenableFuture<ResultSet>> actual = StatementStatisticsRegistry.DISABLED.instrument(wrapper("SELECT * FROM table"), request);
+
+        //Then
+        assertThat(actual).isSameAs(request);
+        assertThat(StatementStatisticsRegistry.DISABLED.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void should_account_executions_per_statement_shape() throws Exception {
+        //Given
+        final StatementStatisticsRegistry registry = new StatementStatisticsRegistry(10);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(3);
+        final RequestSupplier first = new RequestSupplier();
+        final RequestSupplier second = new RequestSupplier();
+
+        //When
+        registry.instrument(wrapper("SELECT * FROM table WHERE id=?", 10L), first).get();
+        registry.instrument(wrapper("SELECT * FROM table WHERE id=?", 11L), second).get();
+        first.future.set(resultSet);
+        second.future.setException(new RuntimeException("timeout"));
+
+        //Then
+        final List<StatementMetrics> statements = registry.getStatements();
+        assertThat(statements).hasSize(1);
+        final StatementMetrics metrics = statements.get(0);
+        assertThat(metrics.getQueryString()).isEqualTo("SELECT * FROM table WHERE id=?");
+        assertThat(metrics.getExecutionCount()).isEqualTo(2L);
+        assertThat(metrics.getErrorCount()).isEqualTo(1L);
+        assertThat(metrics.getRowsReturned()).isEqualTo(3L);
+        assertThat(metrics.getBoundValuesBytes()).isEqualTo(16L);
+        assertThat(metrics.getMaxLatencyNanos()).isGreaterThanOrEqualTo(metrics.getMeanLatencyNanos());
+        long histogramCount = 0;
+        for (long count : metrics.getLatencyHistogram()) {
+            histogramCount += count;
+        }
+        assertThat(histogramCount).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_rank_top_statements() throws Exception {
+        //Given
+        final StatementStatisticsRegistry registry = new StatementStatisticsRegistry(10);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(100);
+
+        execute(registry, "INSERT INTO table(id) VALUES (?)", null);
+        execute(registry, "INSERT INTO table(id) VALUES (?)", null);
+        execute(registry, "INSERT INTO table(id) VALUES (?)", null);
+        execute(registry, "SELECT * FROM table", resultSet);
+
+        //When
+        final List<StatementMetrics> byCount = registry.getTopStatements(SortBy.EXECUTION_COUNT, 1);
+        final List<StatementMetrics> byRows = registry.topStatements("rows_returned", 5);
+
+        //Then
+        assertThat(byCount).hasSize(1);
+        assertThat(byCount.get(0).getQueryString()).isEqualTo("INSERT INTO table(id) VALUES (?)");
+        assertThat(byRows).hasSize(2);
+        assertThat(byRows.get(0).getQueryString()).isEqualTo("SELECT * FROM table");
+        assertThat(registry.getStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_aggregate_statements_beyond_max_shapes() throws Exception {
+        //Given
+        final StatementStatisticsRegistry registry = new StatementStatisticsRegistry(1);
+
+        //When
+        execute(registry, "SELECT * FROM table WHERE id=1", null);
+        execute(registry, "SELECT * FROM table WHERE id=2", null);
+        execute(registry, "SELECT * FROM table WHERE id=3", null);
+
+        //Then
+        final List<StatementMetrics> top = registry.getTopStatements(SortBy.EXECUTION_COUNT, 5);
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).getQueryString()).isEqualTo(StatementStatisticsRegistry.OTHER_STATEMENTS);
+        assertThat(top.get(0).getExecutionCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_use_distinct_query_strings_as_batch_shape() throws Exception {
+        //Given
+        final AbstractStatementWrapper insert1 = wrapper("INSERT INTO table(id) VALUES (?)", 1L);
+        final AbstractStatementWrapper insert2 = wrapper("INSERT INTO table(id) VALUES (?)", 2L);
+        final AbstractStatementWrapper delete = wrapper("DELETE FROM table WHERE id=?", UUID.randomUUID());
+        final BatchStatementWrapper batch = mock(BatchStatementWrapper.class);
+        when(batch.getStatementWrappers()).thenReturn(Arrays.asList(insert1, insert2, delete));
+
+        //When
+        final String shape = StatementStatisticsRegistry.statementShape(batch);
+        final long bytes = StatementStatisticsRegistry.boundValuesBytes(batch);
+
+        //Then
+        assertThat(shape).isEqualTo("INSERT INTO table(id) VALUES (?)\nDELETE FROM table WHERE id=?");
+        assertThat(bytes).isEqualTo(32L);
+    }
+
+    @Test
+    public void should_estimate_bound_values_size() throws Exception {
+        assertThat(StatementStatisticsRegistry.estimateSize(null)).isEqualTo(0L);
+        assertThat(StatementStatisticsRegistry.estimateSize("test")).isEqualTo(4L);
+        assertThat(StatementStatisticsRegistry.estimateSize(ByteBuffer.allocate(12))).isEqualTo(12L);
+        assertThat(StatementStatisticsRegistry.estimateSize(Arrays.asList(1, 2, 3))).isEqualTo(12L);
+    }
+
+    @Test
+    public void should_find_latency_bucket() throws Exception {
+        assertThat(StatementStats.bucketOf(TimeUnit.MICROSECONDS.toNanos(500))).isEqualTo(0);
+        assertThat(StatementStats.bucketOf(TimeUnit.MILLISECONDS.toNanos(1))).isEqualTo(1);
+        assertThat(StatementStats.bucketOf(TimeUnit.MILLISECONDS.toNanos(15))).isEqualTo(4);
+        assertThat(StatementStats.bucketOf(TimeUnit.SECONDS.toNanos(10))).isEqualTo(StatementStats.LATENCY_BUCKET_BOUNDS_MILLIS.length);
+    }
+
+    @Test
+    public void should_reset_statistics() throws Exception {
+        //Given
+        final StatementStatisticsRegistry registry = new StatementStatisticsRegistry(10);
+        execute(registry, "SELECT * FROM table", null);
+
+        //When
+        registry.reset();
+
+        //Then
+        assertThat(registry.getStatements()).isEmpty();
+    }
+
+    private void execute(StatementStatisticsRegistry registry, String queryString, ResultSet resultSet) {
+        final RequestSupplier request = new RequestSupplier();
+        registry.instrument(wrapper(queryString), request).get();
+        request.future.set(resultSet);
+    }
+
+    private AbstractStatementWrapper wrapper(String queryString, Object... values) {
+        final AbstractStatementWrapper wrapper = mock(AbstractStatementWrapper.class);
+        when(wrapper.getQueryString()).thenReturn(queryString);
+        when(wrapper.getValues()).thenReturn(values);
+        return wrapper;
+    }
+
+    private static class RequestSupplier implements Supplier<ListenableFuture<ResultSet>> {
+
+        private final SettableFuture<ResultSet> future = SettableFuture.create();
+
+        @Override
+        public ListenableFuture<ResultSet> get() {
+            return future;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package info.archinnov.achilles.internal.cache;
+
+import static java.util.Arrays.asList;
+import static org.fest.assertions.api.Assertions.assertThat;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.Row;
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+import info.archinnov.achilles.test.mapping.entity.NearCachedBean;
+import info.archinnov.achilles.test.mapping.entity.NegativeCachedBean;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RowCacheTest {
+
+    private RowCache rowCache = new RowCache(NearCachedBean.class.getAnnotation(NearCache.class), null);
+
+    @Mock
+    private Row row;
+
+    @Test
+    public void should_cache_loaded_row() throws Exception {
+        //When
+        assertThat(rowCache.getIfPresent(10L)).isNull();
+        rowCache.loaded(10L, row, rowCache.loadStarted());
+
+        //Then
+        assertThat(rowCache.getIfPresent(10L)).isSameAs(row);
+        assertThat(rowCache.stats().hitCount()).isEqualTo(1L);
+        assertThat(rowCache.stats().missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_not_cache_missing_row() throws Exception {
+        //When
+        rowCache.loaded(10L, null, rowCache.loadStarted());
+
+        //Then
+        assertThat(rowCache.size()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_not_cache_row_loaded_before_an_invalidation() throws Exception {
+        //Given
+        final long loadToken = rowCache.loadStarted();
+
+        //When
+        rowCache.invalidate(10L);
+        rowCache.loaded(10L, row, loadToken);
+
+        //Then
+        assertThat(rowCache.getIfPresent(10L)).isNull();
+    }
+
+    @Test
+    public void should_key_rows_by_primary_key_components() throws Exception {
+        //Given
+        rowCache.loaded(asList((Object) 10L, "name"), row, rowCache.loadStarted());
+
+        //When
+        rowCache.invalidate(asList((Object) 10L, "name"));
+
+        //Then
+        assertThat(rowCache.size()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_invalidate_all_rows() throws Exception {
+        //Given
+        rowCache.loaded(10L, row, rowCache.loadStarted());
+        rowCache.loaded(11L, row, rowCache.loadStarted());
+
+        //When
+        rowCache.invalidateAll();
+
+        //Then
+        assertThat(rowCache.size()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_remember_miss_until_invalidated() throws Exception {
+        //Given
+        final RowCache negativeCache = new RowCache(null, NegativeCachedBean.class.getAnnotation(NegativeCache.class));
+        negativeCache.loaded(10L, null, negativeCache.loadStarted());
+        assertThat(negativeCache.isKnownMiss(10L)).isTrue();
+        assertThat(negativeCache.hasRows()).isFalse();
+
+        //When
+        negativeCache.invalidate(10L);
+
+        //Then
+        assertThat(negativeCache.isKnownMiss(10L)).isFalse();
+        assertThat(negativeCache.missesStats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_not_remember_miss_without_negative_cache() throws Exception {
+        //When
+        rowCache.loaded(10L, null, rowCache.loadStarted());
+
+        //Then
+        assertThat(rowCache.isKnownMiss(10L)).isFalse();
+        assertThat(rowCache.missesSize()).isEqualTo(0L);
+    }
+}
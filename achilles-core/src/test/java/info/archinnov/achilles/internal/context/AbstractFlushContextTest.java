@@ -20,6 +20,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -27,6 +28,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import com.datastax.driver.core.ResultSet;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.interceptor.Event;
+import info.archinnov.achilles.internal.cache.RowCache;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
 import info.archinnov.achilles.type.Empty;
@@ -50,12 +52,16 @@ public class AbstractFlushContextTest {
             super(daoContext, null, null);
         }
     
+        @Override
+        public void invalidateRowCacheOnWrite(RowCache rowCache, Object cacheKey) {
+        }
+
         @Override
         public void startBatch() {
         }
     
         @Override
-        public ListenableFuture<List<ResultSet>> flush() {
+        public ListenableFuture<List<ResultSet>> flush(ExecutorService callbackExecutor) {
             return null;
         }
     
@@ -41,14 +41,19 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.annotations.NearCache;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.internal.async.EmptyFutureResultSets;
+import info.archinnov.achilles.internal.cache.RowCache;
 import info.archinnov.achilles.internal.context.AbstractFlushContext.FlushType;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
 import info.archinnov.achilles.internal.interceptor.EventHolder;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
@@ -56,6 +61,7 @@ import info.archinnov.achilles.internal.statement.wrapper.BatchStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.RegularStatementWrapper;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.mapping.entity.NearCachedBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -122,7 +128,7 @@ public class BatchingFlushContextTest {
     public void should_do_nothing_when_flush_is_called() throws Exception {
         context.statementWrappers.add(bsWrapper);
 
-        final ListenableFuture<List<ResultSet>> actual = context.flush();
+        final ListenableFuture<List<ResultSet>> actual = context.flush(executorService);
 
         assertThat(actual).isInstanceOf(EmptyFutureResultSets.class);
         assertThat(context.statementWrappers).containsExactly(bsWrapper);
@@ -169,6 +175,102 @@ public class BatchingFlushContextTest {
         verify(eventHolder).triggerInterception();
     }
 
+    @Test
+    public void should_evict_cached_rows_once_batch_is_written() throws Exception {
+        //Given
+        RowCache rowCache = new RowCache(NearCachedBean.class.getAnnotation(NearCache.class), null);
+        Row row = mock(Row.class);
+        rowCache.loaded(10L, row, rowCache.loadStarted());
+        SettableFuture<List<ResultSet>> batchWritten = SettableFuture.create();
+        context.statementWrappers.add(bsWrapper);
+
+        when(daoContext.execute(statementWrapperCaptor.capture())).thenReturn(futureResultSet1);
+        when(asyncUtils.mergeResultSetFutures(futureResultSetsCaptor.capture())).thenReturn(batchWritten);
+        when(asyncUtils.transformFuture(eq(batchWritten), applyTriggersCaptor.capture())).thenReturn(futureEmpty);
+        when(asyncUtils.buildInterruptible(futureEmpty)).thenReturn(achillesEmpty);
+
+        //When
+        context.invalidateRowCacheOnWrite(rowCache, 10L);
+        context.flushBatch();
+
+        //Then
+        assertThat(rowCache.getIfPresent(10L)).isSameAs(row);
+
+        batchWritten.set(asList(mock(ResultSet.class)));
+        assertThat(rowCache.getIfPresent(10L)).isNull();
+    }
+
+    @Test
+    public void should_drop_pending_evictions_when_duplicating_with_no_data() throws Exception {
+        //Given
+        RowCache rowCache = new RowCache(NearCachedBean.class.getAnnotation(NearCache.class), null);
+        context.invalidateRowCacheOnWrite(rowCache, 10L);
+
+        //When
+        BatchingFlushContext duplicate = context.duplicateWithNoData(EACH_QUORUM);
+
+        //Then
+        assertThat(duplicate.rowCacheInvalidations).isEmpty();
+        assertThat(context.rowCacheInvalidations).hasSize(1);
+    }
+
+    @Test
+    public void should_aggregate_counter_deltas_once_batch_is_written() throws Exception {
+        //Given
+        CounterKey counterKey = new CounterKey(CompleteBean.class.getName(), "10", "count", EACH_QUORUM);
+        SettableFuture<List<ResultSet>> batchWritten = SettableFuture.create();
+        context.statementWrappers.add(bsWrapper);
+
+        when(daoContext.execute(statementWrapperCaptor.capture())).thenReturn(futureResultSet1);
+        when(asyncUtils.mergeResultSetFutures(futureResultSetsCaptor.capture())).thenReturn(batchWritten);
+        when(asyncUtils.transformFuture(eq(batchWritten), applyTriggersCaptor.capture())).thenReturn(futureEmpty);
+        when(asyncUtils.buildInterruptible(futureEmpty)).thenReturn(achillesEmpty);
+
+        //When
+        context.aggregateCounterOnWrite(counterKey, 5L);
+        context.flushBatch();
+
+        //Then
+        verify(daoContext, never()).aggregateCounterDelta(counterKey, 5L);
+
+        batchWritten.set(asList(mock(ResultSet.class)));
+        verify(daoContext).aggregateCounterDelta(counterKey, 5L);
+    }
+
+    @Test
+    public void should_drop_counter_deltas_when_batch_fails() throws Exception {
+        //Given
+        CounterKey counterKey = new CounterKey(CompleteBean.class.getName(), "10", "count", EACH_QUORUM);
+        SettableFuture<List<ResultSet>> batchWritten = SettableFuture.create();
+        context.statementWrappers.add(bsWrapper);
+
+        when(daoContext.execute(statementWrapperCaptor.capture())).thenReturn(futureResultSet1);
+        when(asyncUtils.mergeResultSetFutures(futureResultSetsCaptor.capture())).thenReturn(batchWritten);
+        when(asyncUtils.transformFuture(eq(batchWritten), applyTriggersCaptor.capture())).thenReturn(futureEmpty);
+        when(asyncUtils.buildInterruptible(futureEmpty)).thenReturn(achillesEmpty);
+
+        //When
+        context.aggregateCounterOnWrite(counterKey, 5L);
+        context.flushBatch();
+        batchWritten.setException(new RuntimeException("test"));
+
+        //Then
+        verify(daoContext, never()).aggregateCounterDelta(counterKey, 5L);
+    }
+
+    @Test
+    public void should_drop_pending_counter_deltas_when_duplicating_with_no_data() throws Exception {
+        //Given
+        context.aggregateCounterOnWrite(new CounterKey(CompleteBean.class.getName(), "10", "count", EACH_QUORUM), 5L);
+
+        //When
+        BatchingFlushContext duplicate = context.duplicateWithNoData(EACH_QUORUM);
+
+        //Then
+        assertThat(duplicate.counterDeltas).isEmpty();
+        assertThat(context.counterDeltas).hasSize(1);
+    }
+
     @Test
     public void should_get_type() throws Exception {
         assertThat(context.type()).isSameAs(FlushType.BATCH);
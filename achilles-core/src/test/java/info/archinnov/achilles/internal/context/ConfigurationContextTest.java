@@ -17,7 +17,12 @@
 package info.archinnov.achilles.internal.context;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.validation.Validator;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,6 +30,11 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Futures;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internal.async.BlockingCall;
+import info.archinnov.achilles.internal.async.BlockingCallExecutor;
 import info.archinnov.achilles.json.JacksonMapperFactory;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.parser.entity.BeanWithFieldLevelConstraint;
@@ -119,4 +129,51 @@ public class ConfigurationContextTest {
         //Then
         assertThat(actual).isSameAs(this.getClass().getClassLoader());
     }
+
+    @Test
+    public void should_start_call_once_blocking_call_is_open() throws Exception {
+        //Given
+        ConfigurationContext context = new ConfigurationContext();
+        context.setBlockingCallerRuns(true);
+        final ExecutorService executorService = mock(ExecutorService.class);
+        final AtomicReference<Executor> handOffExecutor = new AtomicReference<>();
+
+        //When
+        final String actual = context.awaitBlocking(new BlockingCall<String>() {
+            @Override
+            public AchillesFuture<String> start() {
+                handOffExecutor.set(BlockingCallExecutor.currentOr(executorService));
+                return new AchillesFuture<>(Futures.immediateFuture("result"));
+            }
+        });
+
+        //Then
+        assertThat(actual).isEqualTo("result");
+        assertThat(handOffExecutor.get()).isInstanceOf(BlockingCallExecutor.class);
+        assertThat(BlockingCallExecutor.currentOr(executorService)).isSameAs(executorService);
+    }
+
+    @Test
+    public void should_close_blocking_call_when_call_fails_to_start() throws Exception {
+        //Given
+        ConfigurationContext context = new ConfigurationContext();
+        context.setBlockingCallerRuns(true);
+        final ExecutorService executorService = mock(ExecutorService.class);
+
+        //When
+        try {
+            context.awaitBlocking(new BlockingCall<String>() {
+                @Override
+                public AchillesFuture<String> start() {
+                    throw new AchillesException("invalid entity");
+                }
+            });
+            fail("Expected AchillesException");
+        } catch (AchillesException ex) {
+            assertThat(ex.getMessage()).isEqualTo("invalid entity");
+        }
+
+        //Then
+        assertThat(BlockingCallExecutor.currentOr(executorService)).isSameAs(executorService);
+    }
 }
@@ -18,6 +18,7 @@ package info.archinnov.achilles.internal.context;
 import static com.datastax.driver.core.querybuilder.QueryBuilder.update;
 import static com.google.common.base.Optional.fromNullable;
 import static com.google.common.collect.ImmutableMap.of;
+import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_PROPERTY_NAME;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_VALUE;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.DELETE;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.INCR;
@@ -34,11 +35,16 @@ import static info.archinnov.achilles.type.ConsistencyLevel.LOCAL_QUORUM;
 import static info.archinnov.achilles.type.ConsistencyLevel.ONE;
 import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -71,10 +77,17 @@ import com.datastax.driver.core.querybuilder.Using;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.annotations.NearCache;
+import info.archinnov.achilles.annotations.NegativeCache;
+import info.archinnov.achilles.internal.cache.RowCache;
 import info.archinnov.achilles.internal.consistency.ConsistencyOverrider;
+import info.archinnov.achilles.internal.counter.CounterAggregator;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.proxy.dirtycheck.DirtyCheckChangeSet;
@@ -82,12 +95,16 @@ import info.archinnov.achilles.internal.statement.StatementGenerator;
 import info.archinnov.achilles.internal.statement.cache.CacheManager;
 import info.archinnov.achilles.internal.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.internal.statement.prepared.PreparedStatementBinder;
+import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
+import info.archinnov.achilles.internal.statement.wrapper.BatchStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.RegularStatementWrapper;
 import info.archinnov.achilles.query.slice.SliceQueryProperties;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.mapping.entity.NearCachedBean;
+import info.archinnov.achilles.test.mapping.entity.NegativeCachedBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Pair;
 
@@ -345,6 +362,94 @@ public class DaoContextTest {
         assertThat(actual).isSameAs(futureRow);
     }
 
+    @Test
+    public void should_load_entity_from_row_cache() throws Exception {
+        // Given
+        final RowCache rowCache = new RowCache(NearCachedBean.class.getAnnotation(NearCache.class), null);
+        final Row row = mock(Row.class);
+        rowCache.loaded(10L, row, rowCache.loadStarted());
+        daoContext.rowCaches = ImmutableMap.<Class<?>, RowCache>of(CompleteBean.class, rowCache);
+
+        when(context.getIdMeta().structure().isCompoundPK()).thenReturn(false);
+        when(context.getPrimaryKey()).thenReturn(10L);
+        when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel>absent());
+
+        // When
+        final ListenableFuture<Row> actual = daoContext.loadEntity(context);
+
+        // Then
+        assertThat(actual.get()).isSameAs(row);
+        verify(context, never()).executeImmediate(any(AbstractStatementWrapper.class));
+        assertThat(rowCache.stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_bypass_row_cache_when_asked() throws Exception {
+        // Given
+        final RowCache rowCache = new RowCache(NearCachedBean.class.getAnnotation(NearCache.class), null);
+        final Row cachedRow = mock(Row.class);
+        rowCache.loaded(10L, cachedRow, rowCache.loadStarted());
+        daoContext.rowCaches = ImmutableMap.<Class<?>, RowCache>of(CompleteBean.class, rowCache);
+
+        when(context.<CompleteBean>getEntityClass()).thenReturn(CompleteBean.class);
+        when(context.getIdMeta().structure().isCompoundPK()).thenReturn(false);
+        when(context.getPrimaryKey()).thenReturn(10L);
+        when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel>absent());
+        when(selectEagerPSs.get(CompleteBean.class)).thenReturn(ps);
+        when(overrider.getReadLevel(context)).thenReturn(LOCAL_QUORUM);
+        when(binder.bindStatementWithOnlyPKInWhereClause(context, ps, false, LOCAL_QUORUM)).thenReturn(bsWrapper);
+        when(context.executeImmediate(bsWrapper)).thenReturn(futureResultSet);
+        when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ROW)).thenReturn(futureRow);
+
+        // When
+        final ListenableFuture<Row> actual = daoContext.loadEntity(context, true);
+
+        // Then
+        assertThat(actual).isSameAs(futureRow);
+        assertThat(rowCache.getIfPresent(10L)).isSameAs(cachedRow);
+        assertThat(rowCache.stats().hitCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_return_known_miss_without_querying() throws Exception {
+        // Given
+        final RowCache negativeCache = new RowCache(null, NegativeCachedBean.class.getAnnotation(NegativeCache.class));
+        negativeCache.loaded(10L, null, negativeCache.loadStarted());
+        daoContext.rowCaches = ImmutableMap.<Class<?>, RowCache>of(CompleteBean.class, negativeCache);
+
+        when(context.getIdMeta().structure().isCompoundPK()).thenReturn(false);
+        when(context.getPrimaryKey()).thenReturn(10L);
+        when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel>absent());
+
+        // When
+        final ListenableFuture<Row> actual = daoContext.loadEntity(context);
+
+        // Then
+        assertThat(actual.get()).isNull();
+        verify(context, never()).executeImmediate(any(AbstractStatementWrapper.class));
+    }
+
+    @Test
+    public void should_invalidate_row_cache_when_pushing_insert() throws Exception {
+        // Given
+        final RowCache rowCache = new RowCache(NearCachedBean.class.getAnnotation(NearCache.class), null);
+        rowCache.loaded(10L, mock(Row.class), rowCache.loadStarted());
+        daoContext.rowCaches = ImmutableMap.<Class<?>, RowCache>of(CompleteBean.class, rowCache);
+        List<PropertyMeta> pms = new ArrayList<>();
+
+        when(context.getIdMeta().structure().isCompoundPK()).thenReturn(false);
+        when(context.getPrimaryKey()).thenReturn(10L);
+        when(cacheManager.getCacheForEntityInsert(session, dynamicPSCache, context, pms)).thenReturn(ps);
+        when(binder.bindForInsert(context, ps, pms)).thenReturn(bsWrapper);
+
+        // When
+        daoContext.pushInsertStatement(context, pms);
+
+        // Then
+        verify(context).invalidateRowCacheOnWrite(rowCache, 10L);
+        verify(context).pushStatement(bsWrapper);
+    }
+
     @Test
     public void should_load_property() throws Exception {
         // Given
@@ -380,6 +485,35 @@ public class DaoContextTest {
         assertThat(actual).isSameAs(futureResultSet);
     }
 
+    @Test
+    public void should_execute_query_with_executor_of_operation() throws Exception {
+        // Given
+        final ExecutorService directExecutor = MoreExecutors.sameThreadExecutor();
+        when(bsWrapper.executeAsync(session, directExecutor)).thenReturn(futureResultSet);
+
+        // When
+        final ListenableFuture<ResultSet> actual = daoContext.execute(bsWrapper, directExecutor);
+
+        // Then
+        assertThat(actual).isSameAs(futureResultSet);
+        verify(bsWrapper, never()).executeAsync(session, executorService);
+    }
+
+    @Test
+    public void should_hand_off_post_processing_of_paged_query_whatever_the_execution_policy() throws Exception {
+        // Given
+        final ExecutorService handoffExecutor = mock(ExecutorService.class);
+        daoContext.executorService = MoreExecutors.sameThreadExecutor();
+        daoContext.handoffExecutorService = handoffExecutor;
+        when(bsWrapper.executeAsync(session, handoffExecutor)).thenReturn(futureResultSet);
+
+        // When
+        final ListenableFuture<ResultSet> actual = daoContext.executePaged(bsWrapper);
+
+        // Then
+        assertThat(actual).isSameAs(futureResultSet);
+    }
+
     // Simple counter
     @Test
     public void should_bind_simple_counter_increment() throws Exception {
@@ -397,6 +531,68 @@ public class DaoContextTest {
         verify(context).pushCounterStatement(bsWrapper);
     }
 
+    @Test
+    public void should_aggregate_simple_counter_increments_on_write_when_write_behind_enabled() throws Exception {
+        // Given
+        final CounterAggregator counterAggregator = new CounterAggregator(1000, 10000);
+        daoContext.counterAggregator = counterAggregator;
+        PropertyMeta pm = mock(PropertyMeta.class);
+        final CounterKey counterKey = new CounterKey(CompleteBean.class.getName(), "10", "count", EACH_QUORUM);
+
+        when(pm.getCQLColumnName()).thenReturn("count");
+        when(overrider.getWriteLevel(context, pm)).thenReturn(EACH_QUORUM);
+        when(context.getEntityMeta().getClassName()).thenReturn(CompleteBean.class.getName());
+        when(context.getIdMeta().forTranscoding().forceEncodeToJSONForCounter(any())).thenReturn("10");
+
+        // When
+        daoContext.bindForSimpleCounterIncrement(context, pm, 2L);
+        daoContext.bindForSimpleCounterIncrement(context, pm, 3L);
+
+        // Then
+        verify(context, never()).pushCounterStatement(any(AbstractStatementWrapper.class));
+        verify(context).aggregateCounterOnWrite(counterKey, 2L);
+        verify(context).aggregateCounterOnWrite(counterKey, 3L);
+        assertThat(counterAggregator.getPendingCounters()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_aggregate_counter_delta() throws Exception {
+        // Given
+        final CounterAggregator counterAggregator = new CounterAggregator(1000, 10000);
+        daoContext.counterAggregator = counterAggregator;
+        final CounterKey counterKey = new CounterKey(CompleteBean.class.getName(), "10", "count", EACH_QUORUM);
+
+        // When
+        daoContext.aggregateCounterDelta(counterKey, 2L);
+        daoContext.aggregateCounterDelta(counterKey, 3L);
+
+        // Then
+        assertThat(counterAggregator.getPendingCounters()).isEqualTo(1L);
+        assertThat(counterAggregator.getPendingIncrements()).isEqualTo(2L);
+        assertThat(counterAggregator.drain().get(counterKey)).isEqualTo(5L);
+    }
+
+    @Test
+    public void should_send_counter_delta_immediately_once_aggregation_stopped() throws Exception {
+        // Given
+        final CounterAggregator counterAggregator = new CounterAggregator(1000, 10000);
+        counterAggregator.stop();
+        daoContext.counterAggregator = counterAggregator;
+        final DaoContext spyContext = spy(daoContext);
+        final CounterKey counterKey = new CounterKey(CompleteBean.class.getName(), "10", "count", EACH_QUORUM);
+
+        when(counterQueryMap.get(INCR)).thenReturn(ps);
+        doReturn(Futures.immediateFuture(mock(ResultSet.class))).when(spyContext).execute(any(BatchStatementWrapper.class));
+
+        // When
+        spyContext.aggregateCounterDelta(counterKey, 2L);
+
+        // Then
+        verify(spyContext).execute(any(BatchStatementWrapper.class));
+        assertThat(counterAggregator.getPendingCounters()).isEqualTo(0L);
+        assertThat(counterAggregator.getFlushedStatements()).isEqualTo(1L);
+    }
+
     @Test
     public void should_increment_simple_counter() throws Exception {
         // Given
@@ -429,6 +625,41 @@ public class DaoContextTest {
         verify(context).executeImmediate(bsWrapper);
     }
 
+    @Test
+    public void should_get_all_simple_counters() throws Exception {
+        // Given
+        final ListenableFuture<Map<String, Long>> futureCounters = mock(ListenableFuture.class);
+        when(counterQueryMap.get(CQLQueryType.SELECT_ENTITY)).thenReturn(ps);
+        when(binder.bindForSimpleCountersSelect(context, ps, EACH_QUORUM)).thenReturn(bsWrapper);
+        when(context.executeImmediate(bsWrapper)).thenReturn(futureResultSet);
+        when(asyncUtils.transformFuture(futureResultSet, DaoContext.RESULTSET_TO_COUNTERS)).thenReturn(futureCounters);
+
+        // When
+        final ListenableFuture<Map<String, Long>> actual = daoContext.getSimpleCounters(context, EACH_QUORUM);
+
+        // Then
+        assertThat(actual).isSameAs(futureCounters);
+    }
+
+    @Test
+    public void should_map_all_simple_counters_by_column_name() throws Exception {
+        // Given
+        final ResultSet resultSet = mock(ResultSet.class);
+        final Row row = mock(Row.class);
+        final Row nullRow = mock(Row.class);
+        when(resultSet.iterator()).thenReturn(Arrays.asList(row, nullRow).iterator());
+        when(row.getString(ACHILLES_COUNTER_PROPERTY_NAME)).thenReturn("count");
+        when(row.getLong(ACHILLES_COUNTER_VALUE)).thenReturn(11L);
+        when(nullRow.isNull(ACHILLES_COUNTER_VALUE)).thenReturn(true);
+
+        // When
+        final Map<String, Long> actual = DaoContext.RESULTSET_TO_COUNTERS.apply(resultSet);
+
+        // Then
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get("count")).isEqualTo(11L);
+    }
+
     @Test
     public void should_get_simple_counter() throws Exception {
         // Given
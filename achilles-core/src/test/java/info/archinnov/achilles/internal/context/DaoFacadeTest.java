@@ -17,14 +17,20 @@
 package info.archinnov.achilles.internal.context;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.datastax.driver.core.ResultSet;
@@ -35,6 +41,7 @@ import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.ExecutionPolicy;
 import info.archinnov.achilles.type.OptionsBuilder;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,6 +66,9 @@ public class DaoFacadeTest {
     @Mock
     private ListenableFuture<ResultSet> futureResultSet;
 
+    @Mock
+    private ExecutorService executorService;
+
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private PropertyMeta idMeta;
 
@@ -100,7 +110,8 @@ public class DaoFacadeTest {
         BoundStatementWrapper bsWrapper = mock(BoundStatementWrapper.class);
 
         // When
-        when(flushContext.execute(bsWrapper)).thenReturn(futureResultSet);
+        when(configurationContext.getCallbackExecutor(context.options)).thenReturn(executorService);
+        when(flushContext.execute(bsWrapper, executorService)).thenReturn(futureResultSet);
 
         ListenableFuture<ResultSet> actual = facade.executeImmediate(bsWrapper);
 
@@ -108,4 +119,33 @@ public class DaoFacadeTest {
         assertThat(actual).isSameAs(futureResultSet);
     }
 
+    @Test
+    public void should_execute_immediate_on_calling_thread_with_direct_execution_policy() throws Exception {
+        // Given
+        final ExecutorService achillesExecutor = Executors.newSingleThreadExecutor();
+        final ConfigurationContext configContext = new ConfigurationContext();
+        configContext.setExecutorService(achillesExecutor);
+        final PersistenceContext directContext = new PersistenceContext(meta, configContext, daoContext, flushContext, CompleteBean.class,
+                primaryKey, OptionsBuilder.withExecutionPolicy(ExecutionPolicy.DIRECT));
+        BoundStatementWrapper bsWrapper = mock(BoundStatementWrapper.class);
+        ArgumentCaptor<ExecutorService> executorCaptor = ArgumentCaptor.forClass(ExecutorService.class);
+        when(flushContext.execute(eq(bsWrapper), executorCaptor.capture())).thenReturn(futureResultSet);
+
+        // When
+        directContext.daoFacade.executeImmediate(bsWrapper);
+
+        // Then
+        final Thread callingThread = Thread.currentThread();
+        final Future<Thread> callbackThread = executorCaptor.getValue().submit(new Callable<Thread>() {
+            @Override
+            public Thread call() throws Exception {
+                return Thread.currentThread();
+            }
+        });
+        try {
+            assertThat(callbackThread.get()).isSameAs(callingThread);
+        } finally {
+            achillesExecutor.shutdownNow();
+        }
+    }
 }
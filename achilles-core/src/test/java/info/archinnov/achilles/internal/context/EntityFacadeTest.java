@@ -90,6 +90,13 @@ public class EntityFacadeTest {
         assertThat(facade.loadEntity()).isSameAs(futureRow);
     }
 
+    @Test
+    public void should_load_entity_bypassing_row_cache() throws Exception {
+        when(daoContext.loadEntity(context.daoFacade, true)).thenReturn(futureRow);
+
+        assertThat(facade.loadEntity(true)).isSameAs(futureRow);
+    }
+
     @Test
     public void should_load_property() throws Exception {
         Row row = mock(Row.class);
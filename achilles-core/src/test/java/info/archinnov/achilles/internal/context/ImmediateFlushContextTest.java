@@ -15,15 +15,19 @@
  */
 package info.archinnov.achilles.internal.context;
 
+import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
 import static info.archinnov.achilles.type.ConsistencyLevel.LOCAL_QUORUM;
 import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import info.archinnov.achilles.listener.LWTResultListener;
 import org.junit.Before;
@@ -41,9 +45,11 @@ import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.internal.context.AbstractFlushContext.FlushType;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.statement.wrapper.AbstractStatementWrapper;
 import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
@@ -66,6 +72,9 @@ public class ImmediateFlushContextTest {
     @Mock
     private AsyncUtils asyncUtils;
 
+    @Mock
+    private ExecutorService executorService;
+
     @Mock
     private Statement statement;
 
@@ -138,18 +147,38 @@ public class ImmediateFlushContextTest {
         context.statementWrappers = asList(wrapper1);
         context.counterStatementWrappers = asList(wrapper2);
 
-        when(daoContext.execute(statementWrapperCaptor.capture())).thenReturn(futureResultSet1, futureResultSet2);
+        when(daoContext.execute(statementWrapperCaptor.capture(), eq(executorService))).thenReturn(futureResultSet1, futureResultSet2);
         when(asyncUtils.mergeResultSetFutures(futureResultSetsCaptor.capture())).thenReturn(futureAsList);
 
 
         // When
-        final ListenableFuture<List<ResultSet>> futureResultSets = context.flush();
+        final ListenableFuture<List<ResultSet>> futureResultSets = context.flush(executorService);
 
         // Then
         assertThat(futureResultSets).isSameAs(futureAsList);
         assertThat(futureResultSetsCaptor.getValue()).containsExactly(futureResultSet1, futureResultSet2);
     }
 
+    @Test
+    public void should_aggregate_counter_deltas_once_flushed() throws Exception {
+        // Given
+        CounterKey counterKey = new CounterKey(CompleteBean.class.getName(), "10", "count", EACH_QUORUM);
+        SettableFuture<List<ResultSet>> flushed = SettableFuture.create();
+        context.statementWrappers = asList((AbstractStatementWrapper) bsWrapper);
+
+        when(daoContext.execute(statementWrapperCaptor.capture(), eq(executorService))).thenReturn(futureResultSet1);
+        when(asyncUtils.mergeResultSetFutures(futureResultSetsCaptor.capture())).thenReturn(flushed);
+
+        // When
+        context.aggregateCounterOnWrite(counterKey, 5L);
+        context.flush(executorService);
+
+        // Then
+        verify(daoContext, never()).aggregateCounterDelta(counterKey, 5L);
+
+        flushed.set(asList(mock(ResultSet.class)));
+        verify(daoContext).aggregateCounterDelta(counterKey, 5L);
+    }
 
     @Test(expected = UnsupportedOperationException.class)
     public void should_exception_when_calling_start_batch() throws Exception {
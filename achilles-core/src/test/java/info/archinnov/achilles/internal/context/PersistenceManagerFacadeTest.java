@@ -36,6 +36,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
 import info.archinnov.achilles.internal.proxy.dirtycheck.DirtyChecker;
+import info.archinnov.achilles.internal.proxy.dirtycheck.EntitySnapshotRegistry;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Before;
 import org.junit.Test;
@@ -45,10 +46,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import com.datastax.driver.core.ResultSet;
 import com.google.common.base.Function;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.internal.async.AsyncUtils;
@@ -119,8 +124,14 @@ public class PersistenceManagerFacadeTest {
     @Mock
     private AchillesFuture<CompleteBean> achillesFutureEntity;
 
+    @Mock
+    private List<ResultSet> resultSets;
+
+    @Mock
+    private FutureCallback<Object> asyncListener;
+
     @Captor
-    private ArgumentCaptor<Function<List<ResultSet>, CompleteBean>> resultSetsToEntityCaptor;
+    private ArgumentCaptor<ListenableFuture<CompleteBean>> futureEntityCaptor;
 
     @Captor
     private ArgumentCaptor<Function<CompleteBean, CompleteBean>> isoEntityCaptor;
@@ -143,8 +154,15 @@ public class PersistenceManagerFacadeTest {
         when(meta.getIdMeta()).thenReturn(idMeta);
         when(meta.<CompleteBean>getEntityClass()).thenReturn(CompleteBean.class);
         when(configurationContext.getDefaultWriteConsistencyLevel()).thenReturn(ConsistencyLevel.ONE);
-        when(configurationContext.getExecutorService()).thenReturn(executorService);
-        when(flushContext.flush()).thenReturn(futureResultSets);
+        when(configurationContext.getCallbackExecutor(options)).thenReturn(executorService);
+        when(flushContext.flush(executorService)).thenReturn(futureResultSets);
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                ((Runnable) invocation.getArguments()[0]).run();
+                return null;
+            }
+        }).when(executorService).execute(any(Runnable.class));
 
         context = new PersistenceContext(meta, configurationContext, daoContext, flushContext, CompleteBean.class, primaryKey, options);
         facade = context.persistenceManagerFacade;
@@ -165,27 +183,29 @@ public class PersistenceManagerFacadeTest {
     @Test
     public void should_persist() throws Exception {
         //Given
+        when(flushContext.flush(executorService)).thenReturn(new ImmediateValue<>(resultSets));
         when(proxifier.buildProxyWithAllFieldsLoadedExceptCounters(entity, context.entityFacade)).thenReturn(entity);
-        when(asyncUtils.transformFuture(eq(futureResultSets), resultSetsToEntityCaptor.capture(), eq(executorService))).thenReturn(futureEntity);
-        when(asyncUtils.transformFuture(eq(futureEntity), isoEntityCaptor.capture())).thenReturn(futureEntity);
-        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEntityCaptor.capture())).thenReturn(achillesFutureEntity);
+        when(options.hasAsyncListeners()).thenReturn(true);
+        when(options.getAsyncListeners()).thenReturn(asList(asyncListener));
 
         //When
         final AchillesFuture<CompleteBean> actual = facade.persist(entity);
 
         //Then
         assertThat(actual).isSameAs(achillesFutureEntity);
+        assertThat(futureEntityCaptor.getValue().get()).isSameAs(entity);
 
-        assertThat(resultSetsToEntityCaptor.getValue().apply(null)).isSameAs(entity);
-        assertThat(isoEntityCaptor.getValue().apply(null)).isSameAs(entity);
-
-        InOrder inOrder = inOrder(flushContext, persister, asyncUtils);
+        InOrder inOrder = inOrder(flushContext, persister, executorService, asyncListener, proxifier);
 
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, PRE_INSERT);
         inOrder.verify(persister).persist(context.entityFacade);
-        inOrder.verify(flushContext).flush();
-        inOrder.verify(asyncUtils).maybeAddAsyncListeners(futureEntity, options);
+        inOrder.verify(flushContext).flush(executorService);
+        inOrder.verify(executorService).execute(any(Runnable.class));
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, POST_INSERT);
+        inOrder.verify(asyncListener).onSuccess(entity);
+        inOrder.verify(proxifier).buildProxyWithAllFieldsLoadedExceptCounters(entity, context.entityFacade);
     }
 
     @Test
@@ -206,7 +226,7 @@ public class PersistenceManagerFacadeTest {
 
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, PRE_INSERT);
         inOrder.verify(persister).persist(context.entityFacade);
-        inOrder.verify(flushContext).flush();
+        inOrder.verify(flushContext).flush(executorService);
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, POST_INSERT);
 
     }
@@ -214,9 +234,13 @@ public class PersistenceManagerFacadeTest {
     @Test
     public void should_update() throws Exception {
         //Given
-        when(asyncUtils.transformFuture(eq(futureResultSets), resultSetsToEntityCaptor.capture(), eq(executorService))).thenReturn(futureEntity);
-        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+        when(flushContext.flush(executorService)).thenReturn(new ImmediateValue<>(resultSets));
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEntityCaptor.capture())).thenReturn(achillesFutureEntity);
+        when(options.hasAsyncListeners()).thenReturn(true);
+        when(options.getAsyncListeners()).thenReturn(asList(asyncListener));
         Map<Method, DirtyChecker> dirtyMap = mock(Map.class);
+        when(proxifier.isProxy(entity)).thenReturn(true);
         when(proxifier.getInterceptor(entity).getDirtyMap()).thenReturn(dirtyMap);
 
         //When
@@ -224,62 +248,108 @@ public class PersistenceManagerFacadeTest {
 
         //Then
         assertThat(actual).isSameAs(achillesFutureEntity);
-        assertThat(resultSetsToEntityCaptor.getValue().apply(null)).isSameAs(entity);
+        assertThat(futureEntityCaptor.getValue().get()).isSameAs(entity);
 
-        InOrder inOrder = inOrder(flushContext, updater, dirtyMap, asyncUtils);
+        InOrder inOrder = inOrder(flushContext, updater, dirtyMap, asyncListener);
 
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, PRE_UPDATE);
         inOrder.verify(updater).update(context.entityFacade, entity);
-        inOrder.verify(flushContext).flush();
-        inOrder.verify(asyncUtils).maybeAddAsyncListeners(futureEntity, options);
+        inOrder.verify(flushContext).flush(executorService);
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, POST_UPDATE);
         inOrder.verify(dirtyMap).clear();
+        inOrder.verify(asyncListener).onSuccess(entity);
+    }
+
+    @Test
+    public void should_take_new_snapshot_after_update_of_entity_managed_without_proxy() throws Exception {
+        //Given
+        EntitySnapshotRegistry snapshotRegistry = mock(EntitySnapshotRegistry.class);
+        when(flushContext.flush(executorService)).thenReturn(new ImmediateValue<>(resultSets));
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEntityCaptor.capture())).thenReturn(achillesFutureEntity);
+        when(proxifier.isProxy(entity)).thenReturn(false);
+        when(configurationContext.getSnapshotRegistry()).thenReturn(snapshotRegistry);
+
+        //When
+        final AchillesFuture<CompleteBean> actual = facade.update(entity);
+
+        //Then
+        assertThat(actual).isSameAs(achillesFutureEntity);
+        assertThat(futureEntityCaptor.getValue().get()).isSameAs(entity);
+
+        InOrder inOrder = inOrder(flushContext, updater, snapshotRegistry);
+
+        inOrder.verify(updater).update(context.entityFacade, entity);
+        inOrder.verify(flushContext).flush(executorService);
+        inOrder.verify(flushContext).triggerInterceptor(meta, entity, POST_UPDATE);
+        inOrder.verify(snapshotRegistry).register(entity, meta);
     }
 
     @Test
     public void should_delete() throws Exception {
         //Given
-        when(asyncUtils.transformFuture(eq(futureResultSets), resultSetsToEntityCaptor.capture(), eq(executorService))).thenReturn(futureEntity);
-        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+        when(flushContext.flush(executorService)).thenReturn(new ImmediateValue<>(resultSets));
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEntityCaptor.capture())).thenReturn(achillesFutureEntity);
+        when(options.hasAsyncListeners()).thenReturn(true);
+        when(options.getAsyncListeners()).thenReturn(asList(asyncListener));
 
         //When
         final AchillesFuture<CompleteBean> actual = facade.delete();
 
         //Then
         assertThat(actual).isSameAs(achillesFutureEntity);
-        assertThat(resultSetsToEntityCaptor.getValue().apply(null)).isSameAs(entity);
+        assertThat(futureEntityCaptor.getValue().get()).isSameAs(entity);
 
-        InOrder inOrder = inOrder(flushContext, persister, asyncUtils);
+        InOrder inOrder = inOrder(flushContext, persister, asyncListener);
 
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, PRE_DELETE);
         inOrder.verify(persister).delete(context.entityFacade);
-        inOrder.verify(flushContext).flush();
-        inOrder.verify(asyncUtils).maybeAddAsyncListeners(futureEntity, options);
+        inOrder.verify(flushContext).flush(executorService);
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, POST_DELETE);
+        inOrder.verify(asyncListener).onSuccess(entity);
+    }
+
+    @Test
+    public void should_notify_listeners_of_failure_on_delete() throws Exception {
+        //Given
+        final RuntimeException exception = new RuntimeException("test");
+        when(flushContext.flush(executorService)).thenReturn(Futures.<List<ResultSet>>immediateFailedFuture(exception));
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEntityCaptor.capture())).thenReturn(achillesFutureEntity);
+        when(options.hasAsyncListeners()).thenReturn(true);
+        when(options.getAsyncListeners()).thenReturn(asList(asyncListener));
+
+        //When
+        facade.delete();
+
+        //Then
+        assertThat(futureEntityCaptor.getValue().isDone()).isTrue();
+        verify(asyncListener).onFailure(exception);
+        verify(flushContext, never()).triggerInterceptor(meta, entity, POST_DELETE);
     }
 
     @Test
     public void should_find() throws Exception {
         //Given
-        when(loader.load(context.entityFacade, CompleteBean.class)).thenReturn(achillesFutureEntity);
+        when(loader.load(context.entityFacade, CompleteBean.class)).thenReturn(new AchillesFuture<>(new ImmediateValue<>(entity)));
         when(proxifier.buildProxyWithAllFieldsLoadedExceptCounters(entity, context.entityFacade)).thenReturn(entity);
-
-        when(asyncUtils.transformFuture(eq(achillesFutureEntity), isoEntityCaptor.capture())).thenReturn(futureEntity);
-        when(asyncUtils.transformFuture(eq(futureEntity), isoEntityCaptor.capture())).thenReturn(futureEntity);
-        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEntityCaptor.capture())).thenReturn(achillesFutureEntity);
+        when(options.hasAsyncListeners()).thenReturn(true);
+        when(options.getAsyncListeners()).thenReturn(asList(asyncListener));
 
         //When
         final AchillesFuture<CompleteBean> actual = facade.find(CompleteBean.class);
 
         //Then
         assertThat(actual).isSameAs(achillesFutureEntity);
+        assertThat(futureEntityCaptor.getValue().get()).isSameAs(entity);
 
-        assertThat(isoEntityCaptor.getAllValues().get(0).apply(entity)).isSameAs(entity);
-        assertThat(isoEntityCaptor.getAllValues().get(1).apply(entity)).isSameAs(entity);
-
-        InOrder inOrder = inOrder(flushContext, updater, asyncUtils);
-        inOrder.verify(asyncUtils).maybeAddAsyncListeners(futureEntity, options);
+        InOrder inOrder = inOrder(flushContext, asyncListener, proxifier);
         inOrder.verify(flushContext).triggerInterceptor(meta, entity, POST_LOAD);
+        inOrder.verify(asyncListener).onSuccess(entity);
+        inOrder.verify(proxifier).buildProxyWithAllFieldsLoadedExceptCounters(entity, context.entityFacade);
     }
 
     @Test
@@ -325,6 +395,8 @@ public class PersistenceManagerFacadeTest {
 
     @Test
     public void should_initialize() throws Exception {
+        when(proxifier.isProxy(entity)).thenReturn(true);
+
         CompleteBean actual = facade.initialize(entity);
 
         assertThat(actual).isSameAs(entity);
@@ -333,21 +405,35 @@ public class PersistenceManagerFacadeTest {
     }
 
 
+    @Test
+    public void should_initialize_counters_of_entity_managed_without_proxy() throws Exception {
+        when(proxifier.isProxy(entity)).thenReturn(false);
+
+        CompleteBean actual = facade.initialize(entity);
+
+        assertThat(actual).isSameAs(entity);
+
+        verify(initializer).initializeCounters(context.entityFacade, entity);
+        verify(initializer, never()).initializeEntity(entity, meta);
+    }
+
     @Test
     public void should_initialize_list() throws Exception {
-        List<CompleteBean> actual = facade.initialize(asList(entity));
+        final List<CompleteBean> entities = asList(entity);
+        List<CompleteBean> actual = facade.initialize(entities);
 
         assertThat(actual).containsExactly(entity);
 
-        verify(initializer).initializeEntity(entity, meta);
+        verify(initializer).initializeEntities(eq(entities), eq(configurationContext), any(Function.class));
     }
 
     @Test
     public void should_initialize_set() throws Exception {
-        Set<CompleteBean> actual = facade.initialize(Sets.newHashSet(entity));
+        final Set<CompleteBean> entities = Sets.newHashSet(entity);
+        Set<CompleteBean> actual = facade.initialize(entities);
 
         assertThat(actual).containsExactly(entity);
 
-        verify(initializer).initializeEntity(entity, meta);
+        verify(initializer).initializeEntities(eq(entities), eq(configurationContext), any(Function.class));
     }
 }
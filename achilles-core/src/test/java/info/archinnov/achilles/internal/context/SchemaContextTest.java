@@ -173,6 +173,30 @@ public class SchemaContextTest {
         verify(tableCreator).createTableForEntity(session, entityMeta, configContext);
     }
 
+    @Test
+    public void should_create_tables_for_entities() throws Exception {
+        // Given
+        List<EntityMeta> entityMetas = Arrays.asList(mock(EntityMeta.class), mock(EntityMeta.class));
+
+        // When
+        context.createTablesForEntities(entityMetas);
+
+        // Then
+        verify(tableCreator).createTablesForEntities(session, entityMetas, configContext);
+    }
+
+    @Test
+    public void should_get_parallel_table_creation_from_config() throws Exception {
+        // Given
+        when(configContext.isParallelTableCreation()).thenReturn(true);
+
+        // When
+        final boolean actual = context.isParallelTableCreation();
+
+        // Then
+        assertThat(actual).isTrue();
+    }
+
     @Test
 	public void should_update_table_for_entity() throws Exception {
 		// Given
@@ -87,7 +87,7 @@ public class StateHolderFacadeTest {
 
         when(meta.structure().isClusteredCounter()).thenReturn(true);
         when(meta.getAllCounterMetas()).thenReturn(asList(counterMeta));
-        when(meta.getAllMetasExceptCounters()).thenReturn(asList(nameMeta));
+        when(meta.getAllEagerMetasExceptCounters()).thenReturn(asList(nameMeta));
 
         Options.LWTCondition LWTCondition = new Options.LWTCondition("test", "test");
         LWTResultListener listener = mock(LWTResultListener.class);
@@ -119,7 +119,7 @@ public class StateHolderFacadeTest {
         assertThat(facade.getLWTResultListener().get()).isSameAs(listener);
 
         assertThat(facade.getAllCountersMeta()).containsExactly(counterMeta);
-        assertThat(facade.getAllGettersExceptCounters()).containsExactly(nameMeta.getGetter());
+        assertThat(facade.getAllEagerGettersExceptCounters()).containsExactly(nameMeta.getGetter());
     }
 
 
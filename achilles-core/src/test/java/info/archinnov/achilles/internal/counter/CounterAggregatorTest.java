@@ -0,0 +1,224 @@
+package info.archinnov.achilles.internal.counter;
+
+import static info.archinnov.achilles.type.ConsistencyLevel.ONE;
+import static info.archinnov.achilles.type.ConsistencyLevel.QUORUM;
+import static org.fest.assertions.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
+
+public class CounterAggregatorTest {
+
+    private final CounterKey views = new CounterKey("PageView", "10", "views", ONE);
+
+    @Test
+    public void should_be_disabled_without_flush_interval() throws Exception {
+        assertThat(CounterAggregator.DISABLED.isEnabled()).isFalse();
+        assertThat(new CounterAggregator(100, 10).isEnabled()).isTrue();
+    }
+
+    @Test
+    public void should_aggregate_deltas_per_counter() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(100, 1000);
+        final CounterKey quorumViews = new CounterKey("PageView", "10", "views", QUORUM);
+
+        //When
+        aggregator.add(views, 2L);
+        aggregator.add(views, 3L);
+        aggregator.add(quorumViews, -1L);
+
+        //Then
+        assertThat(aggregator.getPendingCounters()).isEqualTo(2L);
+        assertThat(aggregator.getPendingIncrements()).isEqualTo(3L);
+
+        final Map<CounterKey, Long> deltas = aggregator.drain();
+        assertThat(deltas).hasSize(2);
+        assertThat(deltas.get(views)).isEqualTo(5L);
+        assertThat(deltas.get(quorumViews)).isEqualTo(-1L);
+        assertThat(aggregator.getPendingCounters()).isEqualTo(0L);
+        assertThat(aggregator.getPendingIncrements()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_skip_deltas_adding_up_to_zero() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(100, 1000);
+        aggregator.add(views, 2L);
+        aggregator.add(views, -2L);
+
+        //When
+        final Map<CounterKey, Long> deltas = aggregator.drain();
+
+        //Then
+        assertThat(deltas).isEmpty();
+    }
+
+    @Test
+    public void should_keep_deltas_added_after_drain_for_next_flush() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(100, 1000);
+        aggregator.add(views, 2L);
+        aggregator.drain();
+
+        //When
+        aggregator.add(views, 4L);
+
+        //Then
+        assertThat(aggregator.drain().get(views)).isEqualTo(4L);
+    }
+
+    @Test
+    public void should_request_flush_once_threshold_reached() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(60000, 2);
+        final CountDownLatch flushed = new CountDownLatch(1);
+        aggregator.start(new Runnable() {
+            @Override
+            public void run() {
+                aggregator.flushed(aggregator.drain().size());
+                flushed.countDown();
+            }
+        });
+
+        //When
+        aggregator.add(views, 1L);
+        aggregator.add(views, 1L);
+
+        //Then
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        aggregator.stop();
+        assertThat(aggregator.getFlushedStatements()).isEqualTo(1L);
+        assertThat(aggregator.getPendingIncrements()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_subtract_drained_increments() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(100, 1000);
+        aggregator.add(views, 1L);
+        aggregator.add(views, 1L);
+        aggregator.drain();
+
+        //When
+        aggregator.add(views, 1L);
+
+        //Then
+        assertThat(aggregator.getPendingIncrements()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_reject_deltas_once_stopped() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(60000, 1);
+        aggregator.start(new Runnable() {
+            @Override
+            public void run() {
+                aggregator.flushed(aggregator.drain().size());
+            }
+        });
+        aggregator.stop();
+
+        //When
+        final boolean accepted = aggregator.add(views, 1L);
+        aggregator.requestFlush();
+
+        //Then
+        assertThat(accepted).isFalse();
+        assertThat(aggregator.getPendingCounters()).isEqualTo(0L);
+        assertThat(aggregator.drain()).isEmpty();
+    }
+
+    @Test
+    public void should_flush_on_request() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(60000, 0);
+        final CountDownLatch flushed = new CountDownLatch(1);
+        aggregator.start(new Runnable() {
+            @Override
+            public void run() {
+                aggregator.flushed(aggregator.drain().size());
+                flushed.countDown();
+            }
+        });
+
+        //When
+        aggregator.add(views, 1L);
+        aggregator.requestFlush();
+
+        //Then
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        aggregator.stop();
+        assertThat(aggregator.getFlushCount()).isEqualTo(1L);
+        assertThat(aggregator.getFlushedStatements()).isEqualTo(1L);
+        assertThat(aggregator.getPendingCounters()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_count_failed_statements() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(100, 1000);
+
+        //When
+        aggregator.flushFailed(3, new RuntimeException("timeout"));
+
+        //Then
+        assertThat(aggregator.getFlushCount()).isEqualTo(1L);
+        assertThat(aggregator.getFailedStatements()).isEqualTo(3L);
+        assertThat(aggregator.getFlushedStatements()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_not_lose_increments_with_concurrent_drains() throws Exception {
+        //Given
+        final CounterAggregator aggregator = new CounterAggregator(100, 0);
+        final int threads = 4;
+        final int incrementsPerThread = 10000;
+        final AtomicLong drained = new AtomicLong(0);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        final List<Callable<Void>> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            writers.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        aggregator.add(views, 1L);
+                    }
+                    done.countDown();
+                    return null;
+                }
+            });
+        }
+
+        //When
+        final Future<?> flusher = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                while (done.getCount() > 0) {
+                    final Long delta = aggregator.drain().get(views);
+                    drained.addAndGet(delta == null ? 0L : delta);
+                }
+            }
+        });
+        for (Future<Void> writer : executor.invokeAll(writers)) {
+            writer.get();
+        }
+        flusher.get();
+        final Long remaining = aggregator.drain().get(views);
+        drained.addAndGet(remaining == null ? 0L : remaining);
+        executor.shutdown();
+
+        //Then
+        assertThat(drained.get()).isEqualTo((long) threads * incrementsPerThread);
+    }
+}
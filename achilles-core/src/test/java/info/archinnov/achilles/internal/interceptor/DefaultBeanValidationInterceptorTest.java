@@ -23,9 +23,11 @@ import static org.mockito.Mockito.*;
 
 import com.google.common.collect.ImmutableMap;
 import info.archinnov.achilles.exception.AchillesBeanValidationException;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.persistence.operations.EntityProxifier;
 import info.archinnov.achilles.internal.proxy.ProxyInterceptor;
 import info.archinnov.achilles.internal.proxy.dirtycheck.DirtyChecker;
+import info.archinnov.achilles.internal.proxy.dirtycheck.EntitySnapshotRegistry;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
 import java.lang.reflect.Method;
@@ -33,11 +35,15 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ElementKind;
 import javax.validation.Path;
 import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -127,6 +133,112 @@ public class DefaultBeanValidationInterceptorTest {
         when(dirtyChecker.getPropertyMeta().getPropertyName()).thenReturn("field");
         when(proxifier.getInterceptor(entity).getDirtyMap()).thenReturn(of(method, dirtyChecker));
         when(proxifier.getRealObject(entity)).thenReturn(entity);
+        mockBeanDescriptor(CompleteBean.class, false, "field", "otherField");
+
+        when(validator.validateProperty(entity, "field")).thenReturn(Sets.newHashSet(violation));
+
+        Path propertyPath = mock(Path.class,RETURNS_DEEP_STUBS);
+        when(violation.getLeafBean().getClass().getCanonicalName()).thenReturn("className");
+        when(violation.getPropertyPath()).thenReturn(propertyPath);
+        when(propertyPath.toString()).thenReturn("field");
+        when(violation.getMessage()).thenReturn("violation");
+
+        try {
+            // When
+            interceptor.onEvent(entity);
+        } catch (AchillesBeanValidationException ex) {
+            // Then
+            assertThat(ex.getMessage()).isEqualTo(
+                    "Bean validation error : \n\tproperty 'field' of class 'java.lang.String' violation\n");
+            exceptionRaised = true;
+        }
+
+        assertThat(exceptionRaised).isTrue();
+        verify(validator, never()).validateProperty(entity, "otherField");
+        verify(validator, never()).validate(entity);
+    }
+
+    @Test
+    public void should_validate_only_dirty_fields_of_entity_managed_by_snapshot() throws Exception {
+        //Given
+        EntitySnapshotRegistry snapshotRegistry = mock(EntitySnapshotRegistry.class);
+        EntityMeta meta = mock(EntityMeta.class);
+        when(meta.getEntityClass()).thenReturn((Class) CompleteBean.class);
+        interceptor = new DefaultBeanValidationInterceptor(validator, snapshotRegistry);
+        interceptor.proxifier = proxifier;
+        interceptor.addEntityMeta(meta);
+
+        CompleteBean entity = new CompleteBean();
+        when(proxifier.isProxy(entity)).thenReturn(false);
+        when(proxifier.getRealObject(entity)).thenReturn(entity);
+        when(snapshotRegistry.isManaged(entity)).thenReturn(true);
+        when(snapshotRegistry.findDirtyPropertyNames(entity, meta)).thenReturn(Arrays.asList("field"));
+        mockBeanDescriptor(CompleteBean.class, false, "field", "otherField");
+
+        //When
+        interceptor.onEvent(entity);
+
+        //Then
+        verify(validator).validateProperty(entity, "field");
+        verify(validator, never()).validateProperty(entity, "otherField");
+        verify(validator, never()).validate(entity);
+    }
+
+    @Test
+    public void should_validate_whole_entity_not_managed_by_snapshot() throws Exception {
+        //Given
+        EntitySnapshotRegistry snapshotRegistry = mock(EntitySnapshotRegistry.class);
+        EntityMeta meta = mock(EntityMeta.class);
+        when(meta.getEntityClass()).thenReturn((Class) CompleteBean.class);
+        interceptor = new DefaultBeanValidationInterceptor(validator, snapshotRegistry);
+        interceptor.proxifier = proxifier;
+        interceptor.addEntityMeta(meta);
+
+        CompleteBean entity = new CompleteBean();
+        when(proxifier.isProxy(entity)).thenReturn(false);
+        when(proxifier.getRealObject(entity)).thenReturn(entity);
+        when(snapshotRegistry.isManaged(entity)).thenReturn(false);
+
+        //When
+        interceptor.onEvent(entity);
+
+        //Then
+        verify(validator).validate(entity);
+        verify(snapshotRegistry, never()).findDirtyPropertyNames(entity, meta);
+    }
+
+    @Test
+    public void should_not_validate_dirty_fields_without_constraint() throws Exception {
+        //Given
+        CompleteBean entity = new CompleteBean();
+        when(proxifier.isProxy(entity)).thenReturn(true);
+        Method method = Object.class.getDeclaredMethod("toString");
+        DirtyChecker dirtyChecker = mock(DirtyChecker.class, RETURNS_DEEP_STUBS);
+        when(dirtyChecker.getPropertyMeta().getPropertyName()).thenReturn("field");
+        when(proxifier.getInterceptor(entity).getDirtyMap()).thenReturn(of(method, dirtyChecker));
+        when(proxifier.getRealObject(entity)).thenReturn(entity);
+        mockBeanDescriptor(CompleteBean.class, false, "otherField");
+
+        //When
+        interceptor.onEvent(entity);
+        interceptor.onEvent(entity);
+
+        //Then
+        verify(validator).getConstraintsForClass(CompleteBean.class);
+        verify(validator, never()).validateProperty(entity, "field");
+        verify(validator, never()).validate(entity);
+    }
+
+    @Test
+    public void should_validate_class_level_constraints_on_proxy() throws Exception {
+        //Given
+        boolean exceptionRaised = false;
+
+        CompleteBean entity = new CompleteBean();
+        when(proxifier.isProxy(entity)).thenReturn(true);
+        when(proxifier.getInterceptor(entity).getDirtyMap()).thenReturn(ImmutableMap.<Method, DirtyChecker>of());
+        when(proxifier.getRealObject(entity)).thenReturn(entity);
+        mockBeanDescriptor(CompleteBean.class, true);
 
         when(validator.validate(entity)).thenReturn(Sets.newHashSet(violation));
 
@@ -152,4 +264,21 @@ public class DefaultBeanValidationInterceptorTest {
 
         assertThat(exceptionRaised).isTrue();
     }
+
+    private void mockBeanDescriptor(Class<?> entityClass, boolean classLevelConstraints, String... constrainedProperties) {
+        BeanDescriptor beanDescriptor = mock(BeanDescriptor.class);
+        Set<PropertyDescriptor> propertyDescriptors = new HashSet<>();
+        for (String constrainedProperty : constrainedProperties) {
+            PropertyDescriptor propertyDescriptor = mock(PropertyDescriptor.class);
+            when(propertyDescriptor.getPropertyName()).thenReturn(constrainedProperty);
+            propertyDescriptors.add(propertyDescriptor);
+        }
+        Set<ConstraintDescriptor<?>> classConstraints = new HashSet<>();
+        if (classLevelConstraints) {
+            classConstraints.add(mock(ConstraintDescriptor.class));
+        }
+        when(beanDescriptor.getConstrainedProperties()).thenReturn(propertyDescriptors);
+        when(beanDescriptor.getConstraintDescriptors()).thenReturn(classConstraints);
+        when(validator.getConstraintsForClass(entityClass)).thenReturn(beanDescriptor);
+    }
 }
@@ -166,6 +166,26 @@ public class AchillesBootstrapperTest {
         verify(schemaContext).createTableForEntity(meta);
     }
 
+    @Test
+    public void should_create_all_missing_tables_in_one_pass() throws Exception {
+        // Given
+        Map<Class<?>, EntityMeta> metas = ImmutableMap.<Class<?>, EntityMeta>of(UserBean.class, meta);
+        Map<String, TableMetadata> tableMetaDatas = ImmutableMap.of();
+
+        // When
+        when(schemaContext.fetchTableMetaData()).thenReturn(tableMetaDatas);
+        when(schemaContext.isParallelTableCreation()).thenReturn(true);
+        when(meta.config().getQualifiedTableName()).thenReturn("UserBean");
+        when(schemaContext.entityMetaEntrySet()).thenReturn(metas.entrySet());
+        when(schemaContext.hasSimpleCounter()).thenReturn(false);
+
+        bootstrapper.validateOrCreateTables(schemaContext);
+
+        // Then
+        verify(schemaContext).createTablesForEntities(Arrays.asList(meta));
+        verify(schemaContext, never()).createTableForEntity(meta);
+    }
+
     @Test
     public void should_validate_counter_table() throws Exception {
         // Given
@@ -85,6 +85,27 @@ public class EntityMetaBuilderTest {
         assertThat(meta.getSetterMetas().get(setter)).isSameAs(simpleMeta);
     }
 
+    @Test
+    public void should_exclude_lazy_metas_from_eager_metas() throws Exception {
+        Map<String, PropertyMeta> propertyMetas = new HashMap<>();
+        PropertyMeta nameMeta = new PropertyMeta();
+        nameMeta.setType(SIMPLE);
+        PropertyMeta contentMeta = new PropertyMeta();
+        contentMeta.setType(SIMPLE);
+        contentMeta.setLazy(true);
+        propertyMetas.put("name", nameMeta);
+        propertyMetas.put("content", contentMeta);
+
+        when(idMeta.<Long>getValueClass()).thenReturn(Long.class);
+
+        EntityMeta meta = entityMetaBuilder(idMeta).className("Bean").propertyMetas(propertyMetas)
+                .keyspaceName("ks").tableName("table").build();
+
+        assertThat(meta.getAllMetasExceptCounters()).containsOnly(nameMeta, contentMeta);
+        assertThat(meta.getAllEagerMetasExceptCounters()).containsOnly(nameMeta);
+        assertThat(meta.getAllLazyMetas()).containsOnly(contentMeta);
+    }
+
     @Test
     public void should_build_meta_with_custom_table_name_and_comment() throws Exception {
 
@@ -108,4 +108,23 @@ public class EntityMetaInterceptorsTest {
         //Then
         verify(interceptor).onEvent(entity);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_not_resolve_real_object_when_no_interceptor_for_event() throws Exception {
+        //Given
+        final Object entity = new Object();
+        final Interceptor<Object> interceptor = mock(Interceptor.class);
+        final ArrayList<Interceptor<?>> interceptors = new ArrayList<>();
+        when(meta.getInterceptors()).thenReturn(interceptors);
+        when(interceptor.events()).thenReturn(asList(Event.PRE_INSERT));
+
+        view.addInterceptor(interceptor);
+
+        //When
+        view.intercept(entity, Event.POST_LOAD);
+
+        //Then
+        verifyZeroInteractions(proxifier);
+        verify(interceptor, never()).onEvent(entity);
+    }
+}
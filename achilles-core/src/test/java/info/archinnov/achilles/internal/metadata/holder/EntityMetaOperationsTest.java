@@ -6,6 +6,7 @@ import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.google.common.collect.ImmutableMap;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internal.reflection.ReflectionInvoker;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.InsertStrategy;
@@ -83,7 +84,7 @@ public class EntityMetaOperationsTest {
         //Given
         PropertyMeta nameMeta = mock(PropertyMeta.class);
         when(meta.structure().isClusteredCounter()).thenReturn(false);
-        when(meta.getAllMetasExceptCounters()).thenReturn(asList(idMeta, nameMeta));
+        when(meta.getAllEagerMetasExceptCounters()).thenReturn(asList(idMeta, nameMeta));
 
         //When
         final List<PropertyMeta> actual = view.getColumnsMetaToLoad();
@@ -125,4 +126,45 @@ public class EntityMetaOperationsTest {
         //Then
         assertThat(actual).containsExactly(nameMeta);
     }
+
+    @Test
+    public void should_get_projection_metas_with_primary_key_first() throws Exception {
+        //Given
+        PropertyMeta nameMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        when(meta.structure().isClusteredCounter()).thenReturn(false);
+        when(meta.getIdMeta()).thenReturn(idMeta);
+        when(meta.getPropertyMetas()).thenReturn(ImmutableMap.of("id", idMeta, "name", nameMeta));
+        when(nameMeta.structure().isCounter()).thenReturn(false);
+        when(idMeta.structure().isCounter()).thenReturn(false);
+
+        //When
+        final List<PropertyMeta> actual = view.getProjectionMetas(asList("name", "id", "name"));
+
+        //Then
+        assertThat(actual).containsExactly(idMeta, nameMeta);
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_projection_selects_counter() throws Exception {
+        //Given
+        PropertyMeta counterMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        when(meta.structure().isClusteredCounter()).thenReturn(false);
+        when(meta.getIdMeta()).thenReturn(idMeta);
+        when(meta.getPropertyMetas()).thenReturn(ImmutableMap.of("id", idMeta, "count", counterMeta));
+        when(counterMeta.structure().isCounter()).thenReturn(true);
+
+        //When
+        view.getProjectionMetas(asList("count"));
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_projection_selects_unknown_property() throws Exception {
+        //Given
+        when(meta.structure().isClusteredCounter()).thenReturn(false);
+        when(meta.getIdMeta()).thenReturn(idMeta);
+        when(meta.getPropertyMetas()).thenReturn(ImmutableMap.of("id", idMeta));
+
+        //When
+        view.getProjectionMetas(asList("unknown"));
+    }
 }
\ No newline at end of file
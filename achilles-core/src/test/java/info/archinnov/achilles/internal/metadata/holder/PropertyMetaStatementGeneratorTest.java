@@ -91,6 +91,38 @@ public class PropertyMetaStatementGeneratorTest {
         assertThat(actual.getQueryString()).isEqualTo("INSERT INTO table(id) VALUES (:id);");
     }
 
+    @Test
+    public void should_generate_partition_token_for_compound_pk() throws Exception {
+        //Given
+        PropertyMeta meta1 = mock(PropertyMeta.class);
+        PropertyMeta meta2 = mock(PropertyMeta.class);
+        when(meta1.getCQLColumnName()).thenReturn("id");
+        when(meta2.getCQLColumnName()).thenReturn("bucket");
+
+        PartitionComponents partitionComponents = new PartitionComponents(asList(meta1, meta2));
+        when(meta.structure().isCompoundPK()).thenReturn(true);
+        when(meta.getCompoundPKProperties().getPartitionComponents()).thenReturn(partitionComponents);
+
+        //When
+        final String actual = view.generatePartitionToken();
+
+        //Then
+        assertThat(actual).isEqualTo("token(id,bucket)");
+    }
+
+    @Test
+    public void should_generate_partition_token_for_simple_id() throws Exception {
+        //Given
+        when(meta.structure().isCompoundPK()).thenReturn(false);
+        when(meta.getCQLColumnName()).thenReturn("id");
+
+        //When
+        final String actual = view.generatePartitionToken();
+
+        //Then
+        assertThat(actual).isEqualTo("token(id)");
+    }
+
     @Test
     public void should_prepare_where_clause_for_select_with_compound_pk() throws Exception {
         //Given
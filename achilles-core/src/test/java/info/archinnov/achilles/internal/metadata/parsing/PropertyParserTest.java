@@ -316,6 +316,57 @@ public class PropertyParserTest {
 
     }
 
+    @Test
+    public void should_parse_lazy_property() throws Exception {
+        @SuppressWarnings("unused")
+        @Entity(keyspace = "ks", table="test")
+        class Test {
+            @Column
+            @Lazy
+            private List<String> content;
+
+            public List<String> getContent() {
+                return content;
+            }
+
+            public void setContent(List<String> content) {
+                this.content = content;
+            }
+        }
+
+        PropertyParsingContext context = newContext(Test.class, Test.class.getDeclaredField("content"));
+
+        PropertyMeta meta = parser.parse(context);
+
+        assertThat(meta.type()).isEqualTo(PropertyType.LIST);
+        assertThat(meta.structure().isLazy()).isTrue();
+    }
+
+    @Test
+    public void should_exception_when_counter_is_lazy() throws Exception {
+        @SuppressWarnings("unused")
+        @Entity(keyspace = "ks", table="test")
+        class Test {
+            @Column
+            @Lazy
+            private Counter counter;
+
+            public Counter getCounter() {
+                return counter;
+            }
+
+            public void setCounter(Counter counter) {
+                this.counter = counter;
+            }
+        }
+
+        expectedEx.expect(AchillesBeanMappingException.class);
+        expectedEx.expectMessage("Property 'counter' of entity 'null' is a counter, which is always lazy loaded, and therefore cannot have @Lazy");
+
+        PropertyParsingContext context = newContext(Test.class, Test.class.getDeclaredField("counter"));
+        parser.parse(context);
+    }
+
     @Test
     public void should_parse_simple_property_and_override_name() throws Exception {
         @SuppressWarnings("unused")
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import java.util.Arrays;
+import info.archinnov.achilles.annotations.TableTuning;
 import info.archinnov.achilles.exception.AchillesBeanMappingException;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
@@ -83,4 +84,42 @@ public class EntityParsingValidatorTest {
 
         validator.validateStaticColumns(entityMeta, idMeta);
     }
+
+    @Test
+    public void should_exception_when_table_tuning_has_invalid_speculative_retry() throws Exception {
+        //Given
+        EntityMeta entityMeta = mock(EntityMeta.class, RETURNS_DEEP_STUBS);
+        when(entityMeta.getClassName()).thenReturn("myEntity");
+        when(entityMeta.config().hasTableTuning()).thenReturn(true);
+        when(entityMeta.config().getTableTuning()).thenReturn(EntityWithInvalidSpeculativeRetry.class.getAnnotation(TableTuning.class));
+
+        //When //Then
+        exception.expect(AchillesBeanMappingException.class);
+        exception.expectMessage("The @TableTuning speculativeRetry '99th' of entity class 'myEntity' should be NONE, ALWAYS, <n>percentile or <n>ms");
+
+        validator.validateTableTuning(entityMeta);
+    }
+
+    @Test
+    public void should_exception_when_table_tuning_sstable_size_without_leveled_compaction() throws Exception {
+        //Given
+        EntityMeta entityMeta = mock(EntityMeta.class, RETURNS_DEEP_STUBS);
+        when(entityMeta.getClassName()).thenReturn("myEntity");
+        when(entityMeta.config().hasTableTuning()).thenReturn(true);
+        when(entityMeta.config().getTableTuning()).thenReturn(EntityWithSSTableSizeWithoutLeveled.class.getAnnotation(TableTuning.class));
+
+        //When //Then
+        exception.expect(AchillesBeanMappingException.class);
+        exception.expectMessage("The @TableTuning sstableSizeInMB of entity class 'myEntity' requires the LEVELED compaction");
+
+        validator.validateTableTuning(entityMeta);
+    }
+
+    @TableTuning(speculativeRetry = "99th")
+    private static class EntityWithInvalidSpeculativeRetry {
+    }
+
+    @TableTuning(compaction = TableTuning.Compaction.SIZE_TIERED, sstableSizeInMB = 160)
+    private static class EntityWithSSTableSizeWithoutLeveled {
+    }
 }
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.internal.persistence.operations;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.ONE;
+import static info.archinnov.achilles.type.ConsistencyLevel.QUORUM;
 import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
@@ -26,6 +27,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Before;
@@ -38,6 +41,7 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.datastax.driver.core.Row;
 import com.google.common.base.Function;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.internal.async.AsyncUtils;
@@ -90,6 +94,9 @@ public class CounterLoaderTest {
     @Captor
     private ArgumentCaptor<Function<Row, CompleteBean>> rowToEntityCaptor;
 
+    @Captor
+    private ArgumentCaptor<Function<Map<String, Long>, List<PropertyMeta>>> countersToEntityCaptor;
+
     private Object primaryKey = RandomUtils.nextLong(0,Long.MAX_VALUE);
 
     private CompleteBean entity = new CompleteBean();
@@ -177,4 +184,52 @@ public class CounterLoaderTest {
         // Then
         verify(mapper).setCounterToEntity(counterMeta, entity, counterValue);
     }
+
+    @Test
+    public void should_load_all_counters_with_one_query() throws Exception {
+        // Given
+        final PropertyMeta otherCounterMeta = mock(PropertyMeta.class);
+        final ListenableFuture<Map<String, Long>> futureCounters = mock(ListenableFuture.class);
+        final ListenableFuture<List<PropertyMeta>> futureLoaded = mock(ListenableFuture.class);
+        final List<PropertyMeta> counterMetas = asList(counterMeta, otherCounterMeta);
+
+        when(counterMeta.getCQLColumnName()).thenReturn("count");
+        when(otherCounterMeta.getCQLColumnName()).thenReturn("other_count");
+        when(overrider.getReadLevel(context, counterMeta)).thenReturn(ONE);
+        when(overrider.getReadLevel(context, otherCounterMeta)).thenReturn(ONE);
+        when(context.getSimpleCounters(ONE)).thenReturn(futureCounters);
+        when(asyncUtils.transformFuture(eq(futureCounters), countersToEntityCaptor.capture())).thenReturn(futureLoaded);
+
+        // When
+        final ListenableFuture<List<PropertyMeta>> actual = loader.loadCountersAsync(context, entity, counterMetas);
+
+        // Then
+        assertThat(actual).isSameAs(futureLoaded);
+        final List<PropertyMeta> loaded = countersToEntityCaptor.getValue().apply(ImmutableMap.of("count", 11L));
+        assertThat(loaded).isSameAs(counterMetas);
+
+        verify(mapper).setCounterToEntity(counterMeta, entity, 11L);
+        verify(mapper).setCounterToEntity(otherCounterMeta, entity, (Long) null);
+        verify(context, never()).getSimpleCounter(counterMeta, ONE);
+    }
+
+    @Test
+    public void should_load_counters_one_by_one_when_read_levels_differ() throws Exception {
+        // Given
+        final PropertyMeta otherCounterMeta = mock(PropertyMeta.class);
+
+        when(overrider.getReadLevel(context, counterMeta)).thenReturn(ONE);
+        when(overrider.getReadLevel(context, otherCounterMeta)).thenReturn(QUORUM);
+        when(context.getSimpleCounter(counterMeta, ONE)).thenReturn(11L);
+        when(context.getSimpleCounter(otherCounterMeta, QUORUM)).thenReturn(12L);
+
+        // When
+        final ListenableFuture<List<PropertyMeta>> actual = loader.loadCountersAsync(context, entity, asList(counterMeta, otherCounterMeta));
+
+        // Then
+        assertThat(actual.get()).containsExactly(counterMeta, otherCounterMeta);
+        verify(mapper).setCounterToEntity(counterMeta, entity, 11L);
+        verify(mapper).setCounterToEntity(otherCounterMeta, entity, 12L);
+        verify(context, never()).getSimpleCounters(ONE);
+    }
 }
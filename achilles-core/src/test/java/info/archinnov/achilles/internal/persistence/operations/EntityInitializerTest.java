@@ -17,11 +17,16 @@
 package info.archinnov.achilles.internal.persistence.operations;
 
 import static org.mockito.Mockito.*;
+import info.archinnov.achilles.internal.context.ConfigurationContext;
+import info.archinnov.achilles.internal.context.facade.EntityOperations;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.proxy.ProxyInterceptor;
+import info.archinnov.achilles.internal.proxy.dirtycheck.EntitySnapshotRegistry;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -31,6 +36,9 @@ import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
 
 @RunWith(MockitoJUnitRunner.class)
 public class EntityInitializerTest {
@@ -47,6 +55,27 @@ public class EntityInitializerTest {
 	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
 	private PropertyMeta counterMeta;
 
+    @Mock
+    private EntityProxifier proxifier;
+
+    @Mock
+    private CounterLoader counterLoader;
+
+    @Mock
+    private EntityLoader loader;
+
+    @Mock
+    private EntityOperations context;
+
+    @Mock
+    private ConfigurationContext configContext;
+
+    @Mock
+    private EntitySnapshotRegistry snapshotRegistry;
+
+    @Mock
+    private Function<Object, EntityOperations> contextProvider;
+
 	private CompleteBean bean = new CompleteBean();
 
 	@Test
@@ -60,4 +89,216 @@ public class EntityInitializerTest {
 
 	}
 
+    @Test
+    public void should_initialize_lazy_properties_of_proxy() throws Exception {
+        //Given
+        PropertyMeta lazyMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        when(meta.getAllLazyMetas()).thenReturn(Arrays.asList(lazyMeta));
+
+        //When
+        initializer.initializeEntity(bean, meta);
+
+        //Then
+        verify(lazyMeta.forValues()).forceLoad(bean);
+    }
+
+    @Test
+    public void should_load_lazy_properties_and_refresh_snapshot_of_entity_managed_without_proxy() throws Exception {
+        //Given
+        PropertyMeta lazyMeta = mock(PropertyMeta.class);
+        final List<PropertyMeta> lazyMetas = Arrays.asList(lazyMeta);
+        when(context.getEntityMeta()).thenReturn(meta);
+        when(context.getConfigContext()).thenReturn(configContext);
+        when(configContext.getSnapshotRegistry()).thenReturn(snapshotRegistry);
+        when(meta.getAllLazyMetas()).thenReturn(lazyMetas);
+
+        //When
+        initializer.initializeLazyProperties(context, bean);
+
+        //Then
+        verify(loader).loadPropertyIntoObject(context, bean, lazyMeta);
+        verify(snapshotRegistry).refresh(bean, meta, lazyMetas);
+    }
+
+    @Test
+    public void should_not_refresh_snapshot_when_no_lazy_property() throws Exception {
+        //Given
+        when(context.getEntityMeta()).thenReturn(meta);
+        when(meta.getAllLazyMetas()).thenReturn(Arrays.<PropertyMeta>asList());
+
+        //When
+        initializer.initializeLazyProperties(context, bean);
+
+        //Then
+        verifyZeroInteractions(loader, snapshotRegistry);
+    }
+
+    @Test
+    public void should_load_counters_of_all_entities_concurrently() throws Exception {
+        //Given
+        final CompleteBean otherBean = new CompleteBean();
+        final ProxyInterceptor<Object> interceptor = mock(ProxyInterceptor.class);
+        final ProxyInterceptor<Object> otherInterceptor = mock(ProxyInterceptor.class);
+        final List<PropertyMeta> counterMetas = Arrays.asList(counterMeta);
+        final SettableFuture<List<PropertyMeta>> counterLoad = SettableFuture.create();
+        final SettableFuture<List<PropertyMeta>> otherCounterLoad = SettableFuture.create();
+
+        when(proxifier.getInterceptor((Object) bean)).thenReturn(interceptor);
+        when(proxifier.getInterceptor((Object) otherBean)).thenReturn(otherInterceptor);
+        when(interceptor.getEntityOperations()).thenReturn(context);
+        when(otherInterceptor.getEntityOperations()).thenReturn(context);
+        when(context.getEntityMeta()).thenReturn(meta);
+        when(interceptor.getTarget()).thenReturn(bean);
+        when(otherInterceptor.getTarget()).thenReturn(otherBean);
+        when(interceptor.getCountersNotLoaded()).thenReturn(counterMetas);
+        when(otherInterceptor.getCountersNotLoaded()).thenReturn(counterMetas);
+        when(counterLoader.loadCountersAsync(context, bean, counterMetas)).thenReturn(counterLoad);
+        when(counterLoader.loadCountersAsync(context, otherBean, counterMetas)).thenReturn(otherCounterLoad);
+        when(proxifier.isProxy(bean)).thenReturn(true);
+        when(proxifier.isProxy(otherBean)).thenReturn(true);
+        when(configContext.getInitializeMaxConcurrency()).thenReturn(64);
+        counterLoad.set(counterMetas);
+        otherCounterLoad.set(counterMetas);
+
+        //When
+        initializer.initializeEntities(Arrays.asList(bean, otherBean), configContext, contextProvider);
+
+        //Then
+        verify(proxifier).ensureManaged(bean, configContext);
+        verify(proxifier).ensureManaged(otherBean, configContext);
+        verifyZeroInteractions(contextProvider);
+        verify(interceptor).markLoaded(counterMetas);
+        verify(otherInterceptor).markLoaded(counterMetas);
+        verify(counterMeta.forValues(), never()).forceLoad(bean);
+    }
+
+    @Test
+    public void should_not_exceed_max_concurrency_when_loading_counters() throws Exception {
+        //Given
+        final CompleteBean otherBean = new CompleteBean();
+        final ProxyInterceptor<Object> interceptor = mock(ProxyInterceptor.class);
+        final ProxyInterceptor<Object> otherInterceptor = mock(ProxyInterceptor.class);
+        final List<PropertyMeta> counterMetas = Arrays.asList(counterMeta);
+        final SettableFuture<List<PropertyMeta>> counterLoad = SettableFuture.create();
+        final SettableFuture<List<PropertyMeta>> otherCounterLoad = SettableFuture.create();
+
+        when(proxifier.getInterceptor((Object) bean)).thenReturn(interceptor);
+        when(proxifier.getInterceptor((Object) otherBean)).thenReturn(otherInterceptor);
+        when(interceptor.getEntityOperations()).thenReturn(context);
+        when(otherInterceptor.getEntityOperations()).thenReturn(context);
+        when(context.getEntityMeta()).thenReturn(meta);
+        when(interceptor.getTarget()).thenReturn(bean);
+        when(otherInterceptor.getTarget()).thenReturn(otherBean);
+        when(interceptor.getCountersNotLoaded()).thenReturn(counterMetas);
+        when(otherInterceptor.getCountersNotLoaded()).thenReturn(counterMetas);
+        when(counterLoader.loadCountersAsync(context, bean, counterMetas)).thenReturn(counterLoad);
+        when(counterLoader.loadCountersAsync(context, otherBean, counterMetas)).thenReturn(otherCounterLoad);
+        when(proxifier.isProxy(bean)).thenReturn(true);
+        when(proxifier.isProxy(otherBean)).thenReturn(true);
+        when(configContext.getInitializeMaxConcurrency()).thenReturn(1);
+        otherCounterLoad.set(counterMetas);
+
+        final Thread initialization = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                initializer.initializeEntities(Arrays.asList(bean, otherBean), configContext, contextProvider);
+            }
+        });
+
+        //When
+        initialization.start();
+        verify(counterLoader, timeout(1000)).loadCountersAsync(context, bean, counterMetas);
+        Thread.sleep(100);
+
+        //Then
+        verify(counterLoader, never()).loadCountersAsync(context, otherBean, counterMetas);
+
+        counterLoad.set(counterMetas);
+        initialization.join(1000);
+
+        verify(counterLoader).loadCountersAsync(context, otherBean, counterMetas);
+        verify(interceptor).markLoaded(counterMetas);
+        verify(otherInterceptor).markLoaded(counterMetas);
+    }
+
+    @Test
+    public void should_initialize_list_of_entities_managed_without_proxy() throws Exception {
+        //Given
+        final CompleteBean otherBean = new CompleteBean();
+        final EntityOperations otherContext = mock(EntityOperations.class);
+        final PropertyMeta lazyMeta = mock(PropertyMeta.class);
+        final List<PropertyMeta> counterMetas = Arrays.asList(counterMeta);
+        final List<PropertyMeta> lazyMetas = Arrays.asList(lazyMeta);
+        final SettableFuture<List<PropertyMeta>> counterLoad = SettableFuture.create();
+        final SettableFuture<List<PropertyMeta>> otherCounterLoad = SettableFuture.create();
+
+        when(proxifier.isProxy(bean)).thenReturn(false);
+        when(proxifier.isProxy(otherBean)).thenReturn(false);
+        when(configContext.getInitializeMaxConcurrency()).thenReturn(64);
+        when(configContext.getSnapshotRegistry()).thenReturn(snapshotRegistry);
+        when(contextProvider.apply(bean)).thenReturn(context);
+        when(contextProvider.apply(otherBean)).thenReturn(otherContext);
+        for (EntityOperations ctx : Arrays.asList(context, otherContext)) {
+            when(ctx.getEntityMeta()).thenReturn(meta);
+            when(ctx.getConfigContext()).thenReturn(configContext);
+            when(ctx.getAllCountersMeta()).thenReturn(counterMetas);
+        }
+        when(meta.getAllLazyMetas()).thenReturn(lazyMetas);
+        when(counterLoader.loadCountersAsync(context, bean, counterMetas)).thenReturn(counterLoad);
+        when(counterLoader.loadCountersAsync(otherContext, otherBean, counterMetas)).thenReturn(otherCounterLoad);
+        when(loader.loadPropertiesIntoObjectAsync(context, bean, lazyMetas)).thenReturn(Futures.immediateFuture(lazyMetas));
+        when(loader.loadPropertiesIntoObjectAsync(otherContext, otherBean, lazyMetas)).thenReturn(Futures.immediateFuture(lazyMetas));
+        counterLoad.set(counterMetas);
+        otherCounterLoad.set(counterMetas);
+
+        //When
+        initializer.initializeEntities(Arrays.asList(bean, otherBean), configContext, contextProvider);
+
+        //Then
+        verify(proxifier).ensureManaged(bean, configContext);
+        verify(proxifier).ensureManaged(otherBean, configContext);
+        verify(proxifier, never()).getInterceptor(any());
+        verify(loader, never()).loadPropertyIntoObject(any(EntityOperations.class), any(), any(PropertyMeta.class));
+        verify(snapshotRegistry).refresh(bean, meta, lazyMetas);
+        verify(snapshotRegistry).refresh(otherBean, meta, lazyMetas);
+        verify(counterLoader).loadCountersAsync(context, bean, counterMetas);
+        verify(counterLoader).loadCountersAsync(otherContext, otherBean, counterMetas);
+    }
+
+    @Test
+    public void should_exception_when_initializing_list_with_unmanaged_entity() throws Exception {
+        //Given
+        when(configContext.getInitializeMaxConcurrency()).thenReturn(64);
+        doThrow(new IllegalStateException("The entity is not in 'managed' state.")).when(proxifier).ensureManaged(bean, configContext);
+
+        exception.expect(IllegalStateException.class);
+
+        //When
+        initializer.initializeEntities(Arrays.asList(bean), configContext, contextProvider);
+    }
+
+    @Test
+    public void should_load_lazy_properties_of_proxies_asynchronously() throws Exception {
+        //Given
+        final ProxyInterceptor<Object> interceptor = mock(ProxyInterceptor.class);
+        final PropertyMeta lazyMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        final List<PropertyMeta> lazyMetas = Arrays.asList(lazyMeta);
+
+        when(proxifier.isProxy(bean)).thenReturn(true);
+        when(proxifier.getInterceptor((Object) bean)).thenReturn(interceptor);
+        when(configContext.getInitializeMaxConcurrency()).thenReturn(64);
+        when(interceptor.getEntityOperations()).thenReturn(context);
+        when(interceptor.getTarget()).thenReturn(bean);
+        when(interceptor.getCountersNotLoaded()).thenReturn(Arrays.<PropertyMeta>asList());
+        when(interceptor.getLazyPropertiesNotLoaded()).thenReturn(lazyMetas);
+        when(loader.loadPropertiesIntoObjectAsync(context, bean, lazyMetas)).thenReturn(Futures.immediateFuture(lazyMetas));
+
+        //When
+        initializer.initializeEntities(Arrays.asList(bean), configContext, contextProvider);
+
+        //Then
+        verify(interceptor).markLoaded(lazyMetas);
+        verify(lazyMeta.forValues(), never()).forceLoad(bean);
+        verifyZeroInteractions(counterLoader);
+    }
 }
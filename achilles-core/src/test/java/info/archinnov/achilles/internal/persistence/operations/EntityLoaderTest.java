@@ -23,6 +23,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Before;
@@ -115,7 +117,7 @@ public class EntityLoaderTest {
         // Given
         Row row = mock(Row.class);
         when(meta.structure().isClusteredCounter()).thenReturn(false);
-        when(context.loadEntity()).thenReturn(futureRow);
+        when(context.loadEntity(false)).thenReturn(futureRow);
         when(meta.forOperations().instanciate()).thenReturn(entity);
         when(asyncUtils.transformFuture(eq(futureRow), rowToEntityCaptor.capture())).thenReturn(futureEntity);
         when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
@@ -134,11 +136,68 @@ public class EntityLoaderTest {
         verifyZeroInteractions(counterLoader);
     }
 
+    @Test
+    public void should_load_projection() throws Exception {
+        // Given
+        Row row = mock(Row.class);
+        List<PropertyMeta> projection = Arrays.asList(idMeta, pm);
+        when(context.loadProjection(projection)).thenReturn(futureRow);
+        when(meta.forOperations().instanciate()).thenReturn(entity);
+        when(asyncUtils.transformFuture(eq(futureRow), rowToEntityCaptor.capture())).thenReturn(futureEntity);
+        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+
+        // When
+        final AchillesFuture<CompleteBean> actual = loader.loadProjection(context, CompleteBean.class, projection);
+
+        // Then
+        assertThat(actual).isSameAs(achillesFutureEntity);
+
+        final CompleteBean actualEntity = rowToEntityCaptor.getValue().apply(row);
+        assertThat(actualEntity).isSameAs(entity);
+
+        verify(mapper).setPropertyToEntity(row, meta, idMeta, entity);
+        verify(mapper).setPropertyToEntity(row, meta, pm, entity);
+        verify(mapper, never()).setNonCounterPropertiesToEntity(row, meta, entity);
+        verifyZeroInteractions(counterLoader);
+    }
+
+    @Test
+    public void should_not_load_projection_when_not_found() throws Exception {
+        // Given
+        List<PropertyMeta> projection = Arrays.asList(idMeta, pm);
+        when(context.loadProjection(projection)).thenReturn(futureRow);
+        when(asyncUtils.transformFuture(eq(futureRow), rowToEntityCaptor.capture())).thenReturn(futureEntity);
+        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+
+        // When
+        loader.loadProjection(context, CompleteBean.class, projection);
+
+        // Then
+        assertThat(rowToEntityCaptor.getValue().apply(null)).isNull();
+        verifyZeroInteractions(mapper);
+    }
+
+    @Test
+    public void should_load_simple_entity_bypassing_row_cache() throws Exception {
+        // Given
+        when(meta.structure().isClusteredCounter()).thenReturn(false);
+        when(context.loadEntity(true)).thenReturn(futureRow);
+        when(asyncUtils.transformFuture(eq(futureRow), rowToEntityCaptor.capture())).thenReturn(futureEntity);
+        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+
+        // When
+        final AchillesFuture<CompleteBean> actual = loader.load(context, CompleteBean.class, true);
+
+        // Then
+        assertThat(actual).isSameAs(achillesFutureEntity);
+        verify(context, never()).loadEntity(false);
+    }
+
     @Test
     public void should_not_load_simple_entity_when_not_found() throws Exception {
         // Given
         when(meta.structure().isClusteredCounter()).thenReturn(false);
-        when(context.loadEntity()).thenReturn(futureRow);
+        when(context.loadEntity(false)).thenReturn(futureRow);
         when(asyncUtils.transformFuture(eq(futureRow), rowToEntityCaptor.capture())).thenReturn(futureEntity);
         when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
 
@@ -203,6 +262,28 @@ public class EntityLoaderTest {
         verifyZeroInteractions(counterLoader);
     }
 
+    @Test
+    public void should_load_properties_into_object_asynchronously_with_one_projection() throws Exception {
+        // Given
+        Row row = mock(Row.class);
+        ListenableFuture<List<PropertyMeta>> futureLoaded = mock(ListenableFuture.class);
+        ArgumentCaptor<Function> rowToPropertiesCaptor = ArgumentCaptor.forClass(Function.class);
+        final List<PropertyMeta> pms = Arrays.asList(pm);
+        when(context.loadProjection(pms)).thenReturn(futureRow);
+        when(asyncUtils.transformFuture(eq(futureRow), rowToPropertiesCaptor.capture())).thenReturn(futureLoaded);
+
+        // When
+        final ListenableFuture<List<PropertyMeta>> actual = loader.loadPropertiesIntoObjectAsync(context, entity, pms);
+
+        // Then
+        assertThat(actual).isSameAs(futureLoaded);
+        assertThat(rowToPropertiesCaptor.getValue().apply(row)).isEqualTo(pms);
+
+        verify(mapper).setPropertyToEntity(row, meta, pm, entity);
+        verify(context, never()).loadProperty(pm);
+        verifyZeroInteractions(counterLoader);
+    }
+
     @Test
     public void should_load_counter_properties_into_object() throws Exception {
         // Given
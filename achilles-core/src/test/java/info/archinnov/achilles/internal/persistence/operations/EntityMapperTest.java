@@ -92,7 +92,7 @@ public class EntityMapperTest {
 
         when(pm.structure().isCompoundPK()).thenReturn(false);
         when(pm.getPropertyName()).thenReturn("name");
-        when(entityMeta.getAllMetasExceptCounters()).thenReturn(asList(pm));
+        when(entityMeta.getAllEagerMetasExceptCounters()).thenReturn(asList(pm));
 
         when(row.isNull("name")).thenReturn(false);
         when(pm.forRowExtraction().invokeOnRowForFields(row)).thenReturn("value");
@@ -45,10 +45,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.PersistenceContext;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
@@ -93,6 +96,9 @@ public class EntityProxifierTest {
     @Mock
     private PropertyMeta idMeta;
 
+    @Captor
+    private ArgumentCaptor<Set<Method>> alreadyLoadedCaptor;
+
     @Test
     public void should_derive_base_class_from_transient() throws Exception {
         assertThat(proxifier.<CompleteBean>deriveBaseClass(new CompleteBean())).isEqualTo(CompleteBean.class);
@@ -184,6 +190,57 @@ public class EntityProxifierTest {
         verify(counterMeta.forValues(),never()).setValueToField(realProxy,counter);
     }
 
+    @Test
+    public void should_build_proxy_with_projection_fields_loaded() throws Exception {
+        //Given
+        long primaryKey = RandomUtils.nextLong(0,Long.MAX_VALUE);
+        PropertyMeta primaryKeyMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        PropertyMeta nameMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        PropertyMeta counterMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        final Method idGetter = CompleteBean.class.getDeclaredMethod("getId");
+        final Method nameGetter = CompleteBean.class.getDeclaredMethod("getName");
+        final Method counterGetter = CompleteBean.class.getDeclaredMethod("getCount");
+
+        CompleteBean entity = CompleteBeanTestBuilder.builder().id(primaryKey).name("name").buid();
+        proxifier = spy(proxifier);
+
+        doReturn(interceptor).when(proxifier).buildInterceptor(eq(context), eq(entity), anySetOf(Method.class));
+        when(context.getEntityMeta()).thenReturn(entityMeta);
+        when(entityMeta.getAllMetasExceptCounters()).thenReturn(Arrays.asList(primaryKeyMeta, nameMeta));
+        when(entityMeta.getAllCounterMetas()).thenReturn(Arrays.asList(counterMeta));
+        when(primaryKeyMeta.getGetter()).thenReturn(idGetter);
+        when(nameMeta.getGetter()).thenReturn(nameGetter);
+        when(counterMeta.getGetter()).thenReturn(counterGetter);
+        when(context.getConfigContext()).thenReturn(configContext);
+        when(factory.createProxyClass(entity.getClass(), configContext)).thenReturn((Class) entity.getClass());
+        when(instantiator.instantiate(Mockito.<Class<Factory>>any())).thenReturn(realProxy);
+
+        //When
+        Object proxy = proxifier.buildProxyWithFieldsLoaded(entity, context, Arrays.asList(primaryKeyMeta, nameMeta));
+
+        //Then
+        assertThat(proxy).isSameAs(realProxy);
+        verify(proxifier).buildInterceptor(eq(context), eq(entity), alreadyLoadedCaptor.capture());
+        assertThat(alreadyLoadedCaptor.getValue()).containsOnly(idGetter, nameGetter);
+        verify(counterMeta.forValues()).setValueToField(entity, null);
+    }
+
+    @Test
+    public void should_exception_when_building_projection_proxy_with_snapshot_dirty_checking() throws Exception {
+        //Given
+        CompleteBean entity = CompleteBeanTestBuilder.builder().id(10L).name("name").buid();
+        when(context.getConfigContext()).thenReturn(configContext);
+        when(configContext.isSnapshotDirtyChecking()).thenReturn(true);
+        when(context.getEntityMeta()).thenReturn(entityMeta);
+        when(entityMeta.getClassName()).thenReturn(CompleteBean.class.getCanonicalName());
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Cannot manage a partially loaded entity '" + CompleteBean.class.getCanonicalName() + "' with snapshot dirty checking");
+
+        //When
+        proxifier.buildProxyWithFieldsLoaded(entity, context, new HashSet<Method>());
+    }
+
     @Test
     public void should_build_null_proxy() throws Exception {
         assertThat(proxifier.buildProxyWithAllFieldsLoadedExceptCounters(null, context)).isNull();
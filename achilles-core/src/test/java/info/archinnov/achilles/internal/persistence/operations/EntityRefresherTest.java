@@ -16,11 +16,18 @@
 
 package info.archinnov.achilles.internal.persistence.operations;
 
+import static info.archinnov.achilles.internal.metadata.holder.PropertyMetaTestBuilder.completeBean;
+import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -33,14 +40,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.internal.context.PersistenceContext;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyType;
 import info.archinnov.achilles.internal.proxy.ProxyInterceptor;
 import info.archinnov.achilles.internal.proxy.dirtycheck.DirtyChecker;
+import info.archinnov.achilles.internal.reflection.ReflectionInvoker;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 
@@ -74,6 +85,9 @@ public class EntityRefresherTest {
     @Captor
     private ArgumentCaptor<Function<CompleteBean, CompleteBean>> interceptorCaptor;
 
+    @Captor
+    private ArgumentCaptor<Function<List<Object>, CompleteBean>> snapshotCaptor;
+
     @Mock
     private ProxyInterceptor<CompleteBean> proxyInterceptor;
 
@@ -102,14 +116,15 @@ public class EntityRefresherTest {
         when(context.getPrimaryKey()).thenReturn(bean.getId());
         when(context.getEntity()).thenReturn(bean);
 
+        when(proxifier.isProxy(bean)).thenReturn(true);
         when(proxifier.getInterceptor(bean)).thenReturn(proxyInterceptor);
 
         when(proxyInterceptor.getTarget()).thenReturn(bean);
         when(proxyInterceptor.getDirtyMap()).thenReturn(dirtyMap);
         when(proxyInterceptor.getAlreadyLoaded()).thenReturn(alreadyLoaded);
         when(context.getEntityMeta()).thenReturn(entityMeta);
-        when(loader.load(context, CompleteBean.class)).thenReturn(achillesFutureEntity);
-        when(context.getAllGettersExceptCounters()).thenReturn(allGettersExceptCounters);
+        when(loader.load(context, CompleteBean.class, true)).thenReturn(achillesFutureEntity);
+        when(context.getAllEagerGettersExceptCounters()).thenReturn(allGettersExceptCounters);
         when(asyncUtils.transformFuture(eq(achillesFutureEntity), interceptorCaptor.capture())).thenReturn(achillesFutureEntity);
         when(asyncUtils.buildInterruptible(achillesFutureEntity)).thenReturn(achillesFutureEntity);
 
@@ -128,6 +143,74 @@ public class EntityRefresherTest {
         verify(proxyInterceptor).setTarget(bean);
     }
 
+    @Test
+    public void should_refresh_entity_managed_by_snapshot() throws Exception {
+        // Given
+        CompleteBean bean = CompleteBeanTestBuilder.builder().id(12L).name("name").buid();
+        CompleteBean freshBean = CompleteBeanTestBuilder.builder().id(12L).name("fresh_name").buid();
+        PropertyMeta nameMeta = completeBean(Void.class, String.class).propertyName("name").accessors()
+                .type(PropertyType.SIMPLE).invoker(new ReflectionInvoker()).build();
+
+        when(context.<CompleteBean>getEntityClass()).thenReturn(CompleteBean.class);
+        when(context.getPrimaryKey()).thenReturn(bean.getId());
+        when(context.getEntity()).thenReturn(bean);
+        when(context.getEntityMeta()).thenReturn(entityMeta);
+        when(entityMeta.getAllEagerMetasExceptCounters()).thenReturn(asList(nameMeta));
+        when(entityMeta.getAllLazyMetas()).thenReturn(Collections.<PropertyMeta>emptyList());
+        when(context.getAllEagerGettersExceptCounters()).thenReturn(allGettersExceptCounters);
+        when(proxifier.isProxy(bean)).thenReturn(false);
+        when(proxifier.registerSnapshot(bean, context, allGettersExceptCounters)).thenReturn(bean);
+        when(loader.load(context, CompleteBean.class, true)).thenReturn(achillesFutureEntity);
+        when(asyncUtils.transformFuture(any(ListenableFuture.class), snapshotCaptor.capture())).thenReturn(futureEntity);
+        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+
+        // When
+        final AchillesFuture<CompleteBean> actual = refresher.refresh(bean, context);
+
+        // Then
+        assertThat(actual).isSameAs(achillesFutureEntity);
+
+        final CompleteBean actualBean = snapshotCaptor.getValue().apply(Arrays.<Object>asList(freshBean, Collections.emptyList()));
+        assertThat(actualBean).isSameAs(bean);
+        assertThat(bean.getName()).isEqualTo("fresh_name");
+        verify(proxifier).registerSnapshot(bean, context, allGettersExceptCounters);
+        verify(proxifier, never()).getInterceptor(bean);
+        verify(loader, never()).loadPropertiesIntoObjectAsync(eq(context), eq(bean), any(List.class));
+    }
+
+    @Test
+    public void should_reload_initialized_lazy_properties_when_refreshing_entity_managed_by_snapshot() throws Exception {
+        // Given
+        CompleteBean bean = CompleteBeanTestBuilder.builder().id(12L).name("name").label("label").buid();
+        PropertyMeta labelMeta = completeBean(Void.class, String.class).propertyName("label").accessors()
+                .type(PropertyType.SIMPLE).invoker(new ReflectionInvoker()).build();
+        PropertyMeta ageMeta = completeBean(Void.class, Long.class).propertyName("age").accessors()
+                .type(PropertyType.SIMPLE).invoker(new ReflectionInvoker()).build();
+
+        when(context.<CompleteBean>getEntityClass()).thenReturn(CompleteBean.class);
+        when(context.getPrimaryKey()).thenReturn(bean.getId());
+        when(context.getEntity()).thenReturn(bean);
+        when(context.getEntityMeta()).thenReturn(entityMeta);
+        when(entityMeta.getAllLazyMetas()).thenReturn(asList(labelMeta, ageMeta));
+        when(proxifier.isProxy(bean)).thenReturn(false);
+        when(loader.load(context, CompleteBean.class, true)).thenReturn(achillesFutureEntity);
+        when(loader.loadPropertiesIntoObjectAsync(context, bean, asList(labelMeta))).thenReturn(Futures.immediateFuture(asList(labelMeta)));
+        when(asyncUtils.transformFuture(any(ListenableFuture.class), snapshotCaptor.capture())).thenReturn(futureEntity);
+        when(asyncUtils.buildInterruptible(futureEntity)).thenReturn(achillesFutureEntity);
+
+        // When
+        refresher.refresh(bean, context);
+
+        // Then
+        verify(loader).loadPropertiesIntoObjectAsync(context, bean, asList(labelMeta));
+    }
+
+    @Test(expected = AchillesStaleObjectStateException.class)
+    public void should_throw_exception_when_entity_managed_by_snapshot_no_longer_exists() throws Exception {
+        CompleteBean bean = CompleteBeanTestBuilder.builder().id(12L).buid();
+        refresher.updateSnapshot(context, bean, bean.getId()).apply(Arrays.<Object>asList(null, Collections.emptyList()));
+    }
+
     @Test(expected = AchillesStaleObjectStateException.class)
     public void should_throw_exception_when_object_staled() throws Exception {
         CompleteBean bean = CompleteBeanTestBuilder.builder().id(12L).buid();
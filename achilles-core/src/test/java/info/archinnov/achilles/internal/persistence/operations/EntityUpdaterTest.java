@@ -16,8 +16,12 @@
 
 package info.archinnov.achilles.internal.persistence.operations;
 
+import static info.archinnov.achilles.internal.metadata.holder.PropertyType.LIST;
 import static info.archinnov.achilles.internal.metadata.holder.PropertyType.SIMPLE;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.APPEND_TO_LIST;
+import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.lang.reflect.Method;
@@ -37,6 +41,7 @@ import info.archinnov.achilles.internal.context.PersistenceContext;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import info.archinnov.achilles.internal.proxy.ProxyInterceptor;
+import info.archinnov.achilles.internal.proxy.dirtycheck.DirtyCheckChangeSet;
 import info.archinnov.achilles.internal.proxy.dirtycheck.DirtyChecker;
 import info.archinnov.achilles.internal.proxy.dirtycheck.SimpleDirtyChecker;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
@@ -71,6 +76,9 @@ public class EntityUpdaterTest {
     @Captor
     private ArgumentCaptor<List<PropertyMeta>> pmCaptor;
 
+    @Captor
+    private ArgumentCaptor<DirtyCheckChangeSet> changeSetCaptor;
+
     private CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().buid();
 
     private List<PropertyMeta> allMetas = new ArrayList<>();
@@ -142,4 +150,32 @@ public class EntityUpdaterTest {
         verify(interceptor).setTarget(entity);
 
     }
+
+    @Test
+    public void should_push_one_statement_for_consecutive_list_appends() throws Exception {
+        //Given
+        when(proxifier.isProxy(entity)).thenReturn(true);
+        when(proxifier.getRealObject(entity)).thenReturn(entity);
+        when(proxifier.getInterceptor(entity)).thenReturn(interceptor);
+        when(interceptor.getDirtyMap()).thenReturn(dirtyMap);
+        when(meta.getAllCounterMetas()).thenReturn(allCounterMetas);
+        when(context.isClusteredCounter()).thenReturn(false);
+
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).propertyName("friends").type(LIST)
+                .accessors().build();
+        DirtyChecker dirtyChecker = new DirtyChecker(pm);
+        dirtyMap.put(pm.getSetter(), dirtyChecker);
+        for (int i = 0; i < 500; i++) {
+            dirtyChecker.appendListElements(asList((Object) ("friend" + i)));
+        }
+
+        //When
+        entityUpdater.update(context, entity);
+
+        //Then
+        verify(context, times(1)).pushCollectionAndMapUpdateStatements(changeSetCaptor.capture());
+        final DirtyCheckChangeSet changeSet = changeSetCaptor.getValue();
+        assertThat(changeSet.getChangeType()).isEqualTo(APPEND_TO_LIST);
+        assertThat(changeSet.getRawListChanges()).hasSize(500);
+    }
 }
@@ -18,12 +18,16 @@ package info.archinnov.achilles.internal.persistence.operations;
 import static info.archinnov.achilles.schemabuilder.Create.Options.ClusteringOrder;
 import static info.archinnov.achilles.schemabuilder.Create.Options.ClusteringOrder.Sorting;
 import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ITERATOR;
-import static info.archinnov.achilles.internal.async.AsyncUtils.RESULTSET_TO_ROWS;
 import static info.archinnov.achilles.type.ConsistencyLevel.LOCAL_QUORUM;
 import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.Arrays;
@@ -39,6 +43,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -46,12 +51,16 @@ import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.Page;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContext;
@@ -116,18 +125,9 @@ public class SliceQueryExecutorTest {
     @Mock
     private ListenableFuture<ResultSet> futureResultSet;
 
-    @Mock
-    private ListenableFuture<List<Row>> futureRows;
-
-
-    @Captor
-    private ArgumentCaptor<Function<List<Row>, List<ClusteredEntity>>> rowsToEntitiesCaptor;
 
     @Captor
-    private ArgumentCaptor<Function<List<ClusteredEntity>, List<ClusteredEntity>>> isoEntitiesCaptor;
-
-    @Mock
-    private ListenableFuture<List<ClusteredEntity>> futureEntities;
+    private ArgumentCaptor<ListenableFuture<List<ClusteredEntity>>> futureEntitiesCaptor;
 
     @Mock
     private AchillesFuture<List<ClusteredEntity>> achillesFutureEntities;
@@ -144,9 +144,6 @@ public class SliceQueryExecutorTest {
     @Mock
     private AchillesFuture<Iterator<ClusteredEntity>> achillesFutureIteratorEntities;
 
-    @Mock
-    private ListenableFuture<Empty> futureEmpty;
-
     @Mock
     private AchillesFuture<Empty> achillesFutureEmpty;
 
@@ -174,19 +171,40 @@ public class SliceQueryExecutorTest {
         executor.asyncUtils = asyncUtils;
     }
 
+    @Test
+    public void should_exception_when_selecting_projection_with_snapshot_dirty_checking() throws Exception {
+        //Given
+        Whitebox.setInternalState(sliceQueryProperties, "projectionO", Optional.of(Arrays.asList(idMeta)));
+        when(configContext.isSnapshotDirtyChecking()).thenReturn(true);
+        when(meta.getClassName()).thenReturn(ClusteredEntity.class.getCanonicalName());
+
+        //When
+        try {
+            executor.asyncGet(sliceQueryProperties);
+            fail("Expected AchillesException");
+        } catch (AchillesException ex) {
+            //Then
+            assertThat(ex.getMessage()).isEqualTo("Cannot select a projection of entity '" + ClusteredEntity.class.getCanonicalName()
+                    + "' with snapshot dirty checking since the other properties cannot be lazy loaded");
+        }
+        verify(daoContext, never()).bindForSliceQuerySelect(sliceQueryProperties);
+    }
+
     @Test
     public void should_get_clustered_entities_async() throws Exception {
 
         Row row = mock(Row.class);
         List<Row> rows = asList(row);
+        ResultSet resultSet = mock(ResultSet.class);
+        FutureCallback<Object> asyncListener = mock(FutureCallback.class);
+        Whitebox.setInternalState(sliceQueryProperties, "asyncListeners", new FutureCallback[] { asyncListener });
 
         when(daoContext.bindForSliceQuerySelect(sliceQueryProperties)).thenReturn(bsWrapper);
 
-        when(daoContext.execute(bsWrapper)).thenReturn(futureResultSet);
-        when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ROWS)).thenReturn(futureRows);
-        when(asyncUtils.transformFuture(eq(futureRows), rowsToEntitiesCaptor.capture())).thenReturn(futureEntities);
-        when(asyncUtils.transformFuture(eq(futureEntities), isoEntitiesCaptor.capture())).thenReturn(futureEntities);
-        when(asyncUtils.buildInterruptible(futureEntities)).thenReturn(achillesFutureEntities);
+        when(daoContext.executePaged(bsWrapper)).thenReturn(Futures.immediateFuture(resultSet));
+        when(resultSet.all()).thenReturn(rows);
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEntitiesCaptor.capture())).thenReturn(achillesFutureEntities);
 
         when(meta.forOperations().instanciate()).thenReturn(entity);
         when(contextFactory.newContext(entity)).thenReturn(context);
@@ -197,25 +215,69 @@ public class SliceQueryExecutorTest {
 
         // Then
         assertThat(actual).isSameAs(achillesFutureEntities);
+        assertThat(futureEntitiesCaptor.getValue().get()).containsExactly(entity);
+
+        InOrder inOrder = inOrder(mapper, meta.forInterception(), asyncListener, proxifier);
+        inOrder.verify(mapper).setNonCounterPropertiesToEntity(row, meta, entity);
+        inOrder.verify(meta.forInterception()).intercept(entity, Event.POST_LOAD);
+        inOrder.verify(asyncListener).onSuccess(asList(entity));
+        inOrder.verify(proxifier).buildProxyWithAllFieldsLoadedExceptCounters(entity, entityFacade);
+    }
+
+    @Test
+    public void should_get_page_of_clustered_entities_async() throws Exception {
+        //Given
+        Row row = mock(Row.class);
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        final ArgumentCaptor<ListenableFuture> futurePageCaptor = ArgumentCaptor.forClass(ListenableFuture.class);
 
-        final Function<List<Row>, List<ClusteredEntity>> rowsToEntities = rowsToEntitiesCaptor.getValue();
-        List<ClusteredEntity> entities = rowsToEntities.apply(rows);
-        assertThat(entities).containsExactly(entity);
+        when(daoContext.bindForSliceQuerySelect(sliceQueryProperties)).thenReturn(bsWrapper);
+        when(daoContext.execute(bsWrapper)).thenReturn(Futures.immediateFuture(resultSet));
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+        when(resultSet.one()).thenReturn(row);
+        when(resultSet.getExecutionInfo().getPagingState()).thenReturn(null);
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+
+        when(meta.forOperations().instanciate()).thenReturn(entity);
+        when(contextFactory.newContext(entity)).thenReturn(context);
+        when(proxifier.buildProxyWithAllFieldsLoadedExceptCounters(entity, entityFacade)).thenReturn(entity);
+
+        //When
+        executor.asyncGetPage(sliceQueryProperties);
+
+        //Then
+        verify(asyncUtils).buildInterruptible(futurePageCaptor.capture());
+        final Page<ClusteredEntity> page = (Page<ClusteredEntity>) futurePageCaptor.getValue().get();
+        assertThat(page.getResults()).containsExactly(entity);
+        assertThat(page.hasMorePages()).isFalse();
+        verify(resultSet, never()).all();
         verify(mapper).setNonCounterPropertiesToEntity(row, meta, entity);
-        verify(meta.forInterception()).intercept(entity, Event.POST_LOAD);
+    }
 
-        final Function<List<ClusteredEntity>, List<ClusteredEntity>> entitiesFunction = isoEntitiesCaptor.getValue();
-        entities = entitiesFunction.apply(asList(entity));
-        assertThat(entities).containsExactly(entity);
+    @Test
+    public void should_get_first_clustered_entity_async() throws Exception {
+
+        ResultSet resultSet = mock(ResultSet.class);
+        final ArgumentCaptor<ListenableFuture> futureEntityCaptor = ArgumentCaptor.forClass(ListenableFuture.class);
+
+        when(daoContext.bindForSliceQuerySelect(sliceQueryProperties)).thenReturn(bsWrapper);
+        when(daoContext.executePaged(bsWrapper)).thenReturn(Futures.immediateFuture(resultSet));
+        when(resultSet.all()).thenReturn(Arrays.<Row>asList());
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
 
-        verify(asyncUtils).maybeAddAsyncListeners(futureEntities, asyncListeners);
+        // When
+        executor.asyncGetOne(sliceQueryProperties);
+
+        // Then
+        verify(asyncUtils).buildInterruptible(futureEntityCaptor.capture());
+        assertThat(futureEntityCaptor.getValue().get()).isNull();
     }
 
     @Test
     public void should_create_iterator_for_clustered_entities_async() throws Exception {
         when(daoContext.bindForSliceQuerySelect(sliceQueryProperties)).thenReturn(bsWrapper);
 
-        when(daoContext.execute(bsWrapper)).thenReturn(futureResultSet);
+        when(daoContext.executePaged(bsWrapper)).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ITERATOR)).thenReturn(futureIteratorRow);
         when(asyncUtils.transformFuture(eq(futureIteratorRow), rowToEntityIteratorCaptor.capture())).thenReturn(futureIteratorEntities);
         when(asyncUtils.buildInterruptible(futureIteratorEntities)).thenReturn(achillesFutureIteratorEntities);
@@ -235,15 +297,28 @@ public class SliceQueryExecutorTest {
 
     @Test
     public void should_delete_clustered_entities() throws Exception {
+        //Given
+        final ResultSet resultSet = mock(ResultSet.class);
+        final FutureCallback<Object> asyncListener = mock(FutureCallback.class);
+        final ArgumentCaptor<ListenableFuture> futureEmptyCaptor = ArgumentCaptor.forClass(ListenableFuture.class);
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+        Whitebox.setInternalState(sliceQueryProperties, "asyncListeners", new FutureCallback[] { asyncListener });
+
         when(daoContext.bindForSliceQueryDelete(sliceQueryProperties)).thenReturn(bsWrapper);
-        when(daoContext.execute(bsWrapper)).thenReturn(futureResultSet);
-        when(asyncUtils.transformFutureToEmpty(futureResultSet, executorService)).thenReturn(futureEmpty);
-        when(asyncUtils.buildInterruptible(futureEmpty)).thenReturn(achillesFutureEmpty);
+        when(daoContext.execute(bsWrapper)).thenReturn(Futures.immediateFuture(resultSet));
+        when(asyncUtils.pipeline(any(ListenableFuture.class))).thenCallRealMethod();
+        when(asyncUtils.buildInterruptible(futureEmptyCaptor.capture())).thenReturn(achillesFutureEmpty);
 
+        //When
         final AchillesFuture<Empty> actual = executor.asyncDelete(sliceQueryProperties);
 
+        //Then
         assertThat(actual).isSameAs(achillesFutureEmpty);
         verify(daoContext).execute(bsWrapper);
+        verify(executorService).execute(runnableCaptor.capture());
 
+        runnableCaptor.getValue().run();
+        assertThat(futureEmptyCaptor.getValue().get()).isSameAs(Empty.INSTANCE);
+        verify(asyncListener).onSuccess(Empty.INSTANCE);
     }
 }
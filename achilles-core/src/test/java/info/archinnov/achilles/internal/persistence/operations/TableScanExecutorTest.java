@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.persistence.operations;
+
+import static com.datastax.driver.core.TokenRangeBuilder.murmur3MinToken;
+import static com.datastax.driver.core.TokenRangeBuilder.murmur3Range;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TokenRange;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internal.context.ConfigurationContext;
+import info.archinnov.achilles.internal.context.DaoContext;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.statement.wrapper.BoundStatementWrapper;
+import info.archinnov.achilles.query.scan.TableScanCheckpoint;
+import info.archinnov.achilles.query.scan.TableScanConsumer;
+import info.archinnov.achilles.query.scan.TableScanListener;
+import info.archinnov.achilles.query.scan.TableScanProperties;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Empty;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TableScanExecutorTest {
+
+    private TableScanExecutor executor;
+
+    @Mock
+    private ConfigurationContext configContext;
+
+    @Mock
+    private DaoContext daoContext;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Session session;
+
+    @Mock
+    private PreparedStatement boundedPS;
+
+    @Mock
+    private PreparedStatement openPS;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityMeta meta;
+
+    @Mock
+    private TableScanProperties<CompleteBean> tableScanProperties;
+
+    @Mock
+    private TableScanConsumer<CompleteBean> consumer;
+
+    @Mock
+    private TableScanListener listener;
+
+    @Captor
+    private ArgumentCaptor<BoundStatementWrapper> bsWrapperCaptor;
+
+    @Before
+    public void setUp() {
+        executor = new TableScanExecutor(configContext, daoContext);
+
+        when(configContext.getExecutorService()).thenReturn(MoreExecutors.sameThreadExecutor());
+        when(daoContext.getSession()).thenReturn(session);
+        when(daoContext.getTokenRangeSelect(meta, true)).thenReturn(boundedPS);
+        when(daoContext.getTokenRangeSelect(meta, false)).thenReturn(openPS);
+        when(resultSet.iterator()).thenReturn(Collections.<Row>emptyIterator());
+
+        when(meta.getClassName()).thenReturn(CompleteBean.class.getCanonicalName());
+        when(tableScanProperties.getEntityMeta()).thenReturn(meta);
+        when(tableScanProperties.getEntityClass()).thenReturn(CompleteBean.class);
+        when(tableScanProperties.getReadConsistencyLevel()).thenReturn(ConsistencyLevel.ONE);
+        when(tableScanProperties.getParallelism()).thenReturn(1);
+        when(tableScanProperties.getCheckpoint()).thenReturn(Optional.<TableScanCheckpoint>absent());
+        when(tableScanProperties.getListener()).thenReturn(Optional.<TableScanListener>absent());
+    }
+
+    @Test
+    public void should_unwrap_range_wrapping_around_the_ring() throws Exception {
+        //Given
+        TokenRange range = murmur3Range(-100, 100);
+        TokenRange wrappingRange = murmur3Range(100, -100);
+
+        //When
+        List<TokenRange> splits = executor.splitTokenRing(ImmutableSet.of(wrappingRange, range), 2);
+
+        //Then
+        assertThat(splits).containsExactly(murmur3Range(Long.MIN_VALUE, -100), range, murmur3Range(100, Long.MIN_VALUE));
+    }
+
+    @Test
+    public void should_split_token_ring_into_contiguous_sorted_splits() throws Exception {
+        //Given
+        TokenRange range = murmur3Range(0, 100);
+        TokenRange wrappingRange = murmur3Range(100, 0);
+
+        //When
+        List<TokenRange> splits = executor.splitTokenRing(ImmutableSet.of(range, wrappingRange), 3);
+
+        //Then
+        assertThat(splits).hasSize(5);
+        assertThat(splits.get(0).getStart()).isEqualTo(murmur3MinToken());
+        assertThat(splits.get(4).getEnd()).isEqualTo(murmur3MinToken());
+        for (int i = 0; i < splits.size() - 1; i++) {
+            assertThat(splits.get(i).getEnd()).isEqualTo(splits.get(i + 1).getStart());
+        }
+        assertThat(splits).contains(murmur3Range(0, 50), murmur3Range(50, 100));
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_token_ring_is_unknown() throws Exception {
+        executor.splitTokenRing(Collections.<TokenRange>emptySet(), 2);
+    }
+
+    @Test
+    public void should_be_upper_bounded_when_split_does_not_end_the_ring() throws Exception {
+        assertThat(executor.isUpperBounded(murmur3Range(-100, 100))).isTrue();
+        assertThat(executor.isUpperBounded(murmur3Range(Long.MIN_VALUE, -100))).isTrue();
+    }
+
+    @Test
+    public void should_not_be_upper_bounded_when_split_ends_the_ring() throws Exception {
+        assertThat(executor.isUpperBounded(murmur3Range(100, Long.MIN_VALUE))).isFalse();
+    }
+
+    @Test
+    public void should_compute_same_fingerprint_for_same_token_ring() throws Exception {
+        //Given
+        final List<TokenRange> splits = executor.splitTokenRing(ImmutableSet.of(murmur3Range(-100, 100), murmur3Range(100, -100)), 2);
+        final List<TokenRange> sameSplits = executor.splitTokenRing(ImmutableSet.of(murmur3Range(100, -100), murmur3Range(-100, 100)), 2);
+        final List<TokenRange> otherSplits = executor.splitTokenRing(ImmutableSet.of(murmur3Range(-50, 100), murmur3Range(100, -50)), 2);
+
+        //When
+        final long fingerprint = executor.ringFingerprint(splits);
+
+        //Then
+        assertThat(executor.ringFingerprint(sameSplits)).isEqualTo(fingerprint);
+        assertThat(executor.ringFingerprint(otherSplits)).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void should_scan_splits_with_bounded_and_open_statements() throws Exception {
+        //Given
+        when(session.getCluster().getMetadata().getTokenRanges()).thenReturn(ImmutableSet.of(murmur3Range(-100, 100), murmur3Range(100, -100)));
+        when(tableScanProperties.getSplitCount()).thenReturn(2);
+        when(daoContext.execute(any(BoundStatementWrapper.class))).thenReturn(Futures.immediateFuture(resultSet));
+
+        //When
+        executor.asyncScan(tableScanProperties, consumer).get(5, SECONDS);
+
+        //Then
+        verify(daoContext, times(3)).execute(bsWrapperCaptor.capture());
+        final List<BoundStatementWrapper> wrappers = bsWrapperCaptor.getAllValues();
+        assertThat(wrappers.get(0).getValues()).containsExactly(Long.MIN_VALUE, -100L);
+        assertThat(wrappers.get(1).getValues()).containsExactly(-100L, 100L);
+        assertThat(wrappers.get(2).getValues()).containsExactly(100L);
+    }
+
+    @Test
+    public void should_skip_completed_splits_when_resuming_from_checkpoint() throws Exception {
+        //Given
+        final Set<TokenRange> tokenRanges = ImmutableSet.of(murmur3Range(-100, 100), murmur3Range(100, -100));
+        final TableScanCheckpoint checkpoint = new TableScanCheckpoint(3, executor.ringFingerprint(executor.splitTokenRing(tokenRanges, 2))).withCompletedSplit(1);
+        when(session.getCluster().getMetadata().getTokenRanges()).thenReturn(tokenRanges);
+        when(tableScanProperties.getSplitCount()).thenReturn(2);
+        when(tableScanProperties.getCheckpoint()).thenReturn(Optional.of(checkpoint));
+        when(tableScanProperties.getListener()).thenReturn(Optional.of(listener));
+        when(daoContext.execute(any(BoundStatementWrapper.class))).thenReturn(Futures.immediateFuture(resultSet));
+
+        //When
+        executor.asyncScan(tableScanProperties, consumer).get(5, SECONDS);
+
+        //Then
+        verify(daoContext, times(2)).execute(bsWrapperCaptor.capture());
+        final List<BoundStatementWrapper> wrappers = bsWrapperCaptor.getAllValues();
+        assertThat(wrappers.get(0).getValues()).containsExactly(Long.MIN_VALUE, -100L);
+        assertThat(wrappers.get(1).getValues()).containsExactly(100L);
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onSplitCompleted(checkpoint.withCompletedSplit(0));
+        inOrder.verify(listener).onSplitCompleted(checkpoint.withCompletedSplit(0).withCompletedSplit(2));
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_resuming_from_checkpoint_of_another_split_count() throws Exception {
+        //Given
+        when(session.getCluster().getMetadata().getTokenRanges()).thenReturn(ImmutableSet.of(murmur3Range(-100, 100), murmur3Range(100, -100)));
+        when(tableScanProperties.getSplitCount()).thenReturn(2);
+        when(tableScanProperties.getCheckpoint()).thenReturn(Optional.of(new TableScanCheckpoint(4, 0L)));
+
+        //When
+        executor.asyncScan(tableScanProperties, consumer);
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_exception_when_resuming_from_checkpoint_of_another_token_ring() throws Exception {
+        //Given
+        final long otherRingFingerprint = executor.ringFingerprint(executor.splitTokenRing(ImmutableSet.of(murmur3Range(-50, 100), murmur3Range(100, -50)), 2));
+        when(session.getCluster().getMetadata().getTokenRanges()).thenReturn(ImmutableSet.of(murmur3Range(-100, 100), murmur3Range(100, -100)));
+        when(tableScanProperties.getSplitCount()).thenReturn(2);
+        when(tableScanProperties.getCheckpoint()).thenReturn(Optional.of(new TableScanCheckpoint(3, otherRingFingerprint)));
+
+        //When
+        executor.asyncScan(tableScanProperties, consumer);
+    }
+
+    @Test
+    public void should_cancel_remaining_splits_when_a_split_fails() throws Exception {
+        //Given
+        final SettableFuture<ResultSet> failingSplit = SettableFuture.create();
+        when(session.getCluster().getMetadata().getTokenRanges()).thenReturn(ImmutableSet.of(murmur3Range(-100, 100), murmur3Range(100, -100)));
+        when(tableScanProperties.getSplitCount()).thenReturn(2);
+        when(tableScanProperties.getListener()).thenReturn(Optional.of(listener));
+        when(daoContext.execute(any(BoundStatementWrapper.class))).thenReturn(failingSplit, Futures.immediateFuture(resultSet));
+
+        //When
+        final AchillesFuture<Empty> future = executor.asyncScan(tableScanProperties, consumer);
+        failingSplit.setException(new RuntimeException("test"));
+
+        //Then
+        try {
+            future.get(5, SECONDS);
+            fail("Scan should fail");
+        } catch (ExecutionException ee) {
+            // Expected
+        }
+        // The pool has been shut down before its single thread could pick the next split
+        verify(daoContext, times(1)).execute(any(BoundStatementWrapper.class));
+        verify(listener, never()).onSplitCompleted(any(TableScanCheckpoint.class));
+    }
+}
@@ -265,6 +265,69 @@ public class ProxyInterceptorTest {
         assertThat(actual).isInstanceOf(MapWrapper.class);
     }
 
+    @Test
+    public void should_reuse_list_wrapper_on_successive_getter_calls() throws Throwable {
+        //Given
+        PropertyMeta propertyMeta = completeBean(Void.class, String.class).propertyName("friends").accessors()
+                .type(PropertyType.LIST).build();
+
+        getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+        rawValue = new ArrayList<String>();
+        when(invoker.getValueFromField(target, propertyMeta.getField())).thenReturn(rawValue);
+
+        //When
+        Object first = interceptor.intercept(target, propertyMeta.getGetter(), args, proxy);
+        Object second = interceptor.intercept(target, propertyMeta.getGetter(), args, proxy);
+
+        //Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void should_rebuild_set_wrapper_when_setter_replaces_the_set() throws Throwable {
+        //Given
+        PropertyMeta propertyMeta = completeBean(Void.class, String.class).propertyName("followers").accessors()
+                .type(PropertyType.SET).invoker(new ReflectionInvoker()).build();
+
+        getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+        setterMetas.put(propertyMeta.getSetter(), propertyMeta);
+        Set<String> newSet = newHashSet("a");
+        when(invoker.getValueFromField(target, propertyMeta.getField())).thenReturn(new HashSet<String>(), newSet);
+
+        Object first = interceptor.intercept(target, propertyMeta.getGetter(), args, proxy);
+
+        //When
+        interceptor.intercept(target, propertyMeta.getSetter(), new Object[] { newSet }, proxy);
+        Object second = interceptor.intercept(target, propertyMeta.getGetter(), args, proxy);
+
+        //Then
+        assertThat(second).isInstanceOf(SetWrapper.class).isNotSameAs(first);
+        assertThat((Set<Object>) second).containsOnly("a");
+    }
+
+    @Test
+    public void should_rebuild_map_wrapper_on_new_target() throws Throwable {
+        //Given
+        PropertyMeta propertyMeta = completeBean(Integer.class, String.class).propertyName("preferences").accessors()
+                .type(PropertyType.MAP).build();
+
+        getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+        alreadyLoaded.add(propertyMeta.getGetter());
+        CompleteBean freshEntity = CompleteBeanTestBuilder.builder().id(key).buid();
+        rawValue = new HashMap<Integer, String>();
+        when(invoker.getValueFromField(target, propertyMeta.getField())).thenReturn(rawValue);
+        when(invoker.getValueFromField(freshEntity, propertyMeta.getField())).thenReturn(rawValue);
+
+        Object first = interceptor.intercept(target, propertyMeta.getGetter(), args, proxy);
+
+        //When
+        interceptor.setTarget(freshEntity);
+        Object second = interceptor.intercept(freshEntity, propertyMeta.getGetter(), args, proxy);
+
+        //Then
+        assertThat(second).isInstanceOf(MapWrapper.class).isNotSameAs(first);
+    }
+
     @Test
     public void should_return_null_for_map_property() throws Throwable {
         PropertyMeta propertyMeta = completeBean(Integer.class, String.class).propertyName("preferences").accessors()
@@ -504,4 +567,22 @@ public class ProxyInterceptorTest {
         verify(counterLoader).loadClusteredCounterColumn(context, target, propertyMeta);
     }
 
+    @Test
+    public void should_load_all_simple_counters_at_first_counter_getter() throws Throwable {
+        PropertyMeta propertyMeta = completeBean(Void.class, Counter.class).propertyName("count").accessors()
+                .type(PropertyType.COUNTER).invoker(new ReflectionInvoker()).build();
+        PropertyMeta otherCounterMeta = mock(PropertyMeta.class);
+        Method otherGetter = CompleteBean.class.getMethod("getName");
+
+        when(otherCounterMeta.getGetter()).thenReturn(otherGetter);
+        when(context.isClusteredCounter()).thenReturn(false);
+        when(context.getAllCountersMeta()).thenReturn(asList(propertyMeta, otherCounterMeta));
+        getterMetas.put(propertyMeta.getGetter(), propertyMeta);
+
+        interceptor.intercept(target, propertyMeta.getGetter(), args, proxy);
+
+        verify(counterLoader).loadCounters(context, target, asList(propertyMeta, otherCounterMeta));
+        verify(loader, never()).loadPropertyIntoObject(context, target, propertyMeta);
+        assertThat(alreadyLoaded).contains(propertyMeta.getGetter(), otherGetter);
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.proxy.dirtycheck;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.ADD_TO_MAP;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.ADD_TO_SET;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.APPEND_TO_LIST;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.ASSIGN_VALUE_TO_LIST;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.ASSIGN_VALUE_TO_MAP;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.PREPEND_TO_LIST;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.REMOVE_COLLECTION_OR_MAP;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.REMOVE_FROM_LIST;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.REMOVE_FROM_MAP;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.REMOVE_FROM_SET;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.SET_TO_LIST_AT_INDEX;
+import static java.util.Arrays.asList;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.data.MapEntry.entry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.google.common.collect.ImmutableMap;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DirtyCheckerTest {
+
+    @Mock
+    private PropertyMeta pm;
+
+    private DirtyChecker dirtyChecker;
+
+    @Before
+    public void setUp() {
+        dirtyChecker = new DirtyChecker(pm);
+    }
+
+    @Test
+    public void should_merge_consecutive_appends() throws Exception {
+        //When
+        for (int i = 0; i < 500; i++) {
+            dirtyChecker.appendListElements(asList((Object) i));
+        }
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(1);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(APPEND_TO_LIST);
+        assertThat(changeSets.get(0).getRawListChanges()).hasSize(500);
+        assertThat(changeSets.get(0).getRawListChanges().get(499)).isEqualTo(499);
+    }
+
+    @Test
+    public void should_not_merge_appends_across_other_list_changes() throws Exception {
+        //When
+        dirtyChecker.appendListElements(asList((Object) "a"));
+        dirtyChecker.removeElements(asList((Object) "b"));
+        dirtyChecker.removeElements(asList((Object) "c"));
+        dirtyChecker.setListElementAtIndex(0, "d");
+        dirtyChecker.appendListElements(asList((Object) "e"));
+        dirtyChecker.prependListElements(asList((Object) "f"));
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(5);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(APPEND_TO_LIST);
+        assertThat(changeSets.get(1).getChangeType()).isEqualTo(REMOVE_FROM_LIST);
+        assertThat(changeSets.get(1).getRawListChanges()).containsExactly("b", "c");
+        assertThat(changeSets.get(2).getChangeType()).isEqualTo(SET_TO_LIST_AT_INDEX);
+        assertThat(changeSets.get(3).getChangeType()).isEqualTo(APPEND_TO_LIST);
+        assertThat(changeSets.get(4).getChangeType()).isEqualTo(PREPEND_TO_LIST);
+    }
+
+    @Test
+    public void should_apply_list_changes_to_assigned_value_without_modifying_it() throws Exception {
+        //Given
+        final List<Object> assigned = new ArrayList<Object>(asList("a", "b"));
+
+        //When
+        dirtyChecker.appendListElements(asList((Object) "z"));
+        dirtyChecker.assignValue(assigned);
+        dirtyChecker.appendListElements(asList((Object) "c"));
+        dirtyChecker.prependListElements(asList((Object) "0"));
+        dirtyChecker.removeElements(asList((Object) "b"));
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(1);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(ASSIGN_VALUE_TO_LIST);
+        assertThat(changeSets.get(0).getRawListChanges()).containsExactly("0", "a", "c");
+        assertThat(assigned).containsExactly("a", "b");
+    }
+
+    @Test
+    public void should_merge_set_changes_into_one_addition_and_one_removal() throws Exception {
+        //When
+        dirtyChecker.addElements(newHashSet((Object) "a"));
+        dirtyChecker.removeElements(newHashSet((Object) "b"));
+        dirtyChecker.addElements(newHashSet((Object) "c"));
+        dirtyChecker.removeElements(newHashSet((Object) "d"));
+        dirtyChecker.addElements(newHashSet((Object) "d"));
+        dirtyChecker.removeElements(newHashSet((Object) "a"));
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(2);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(ADD_TO_SET);
+        assertThat(changeSets.get(0).getRawSetChanges()).containsOnly("c", "d");
+        assertThat(changeSets.get(1).getChangeType()).isEqualTo(REMOVE_FROM_SET);
+        assertThat(changeSets.get(1).getRawSetChanges()).containsOnly("b", "a");
+    }
+
+    @Test
+    public void should_merge_map_puts_and_discard_removed_keys() throws Exception {
+        //When
+        for (int i = 0; i < 10; i++) {
+            Map<Object, Object> entries = new HashMap<>();
+            entries.put(i, "value" + i);
+            dirtyChecker.addElements(entries);
+        }
+        dirtyChecker.removeMapEntry(3);
+        dirtyChecker.removeMapEntry(3);
+        dirtyChecker.addElements(ImmutableMap.<Object, Object>of(11, "value11"));
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(2);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(ADD_TO_MAP);
+        assertThat(changeSets.get(0).getRawMapChanges()).hasSize(10).doesNotContain(entry(3, "value3")).contains(entry(11, "value11"));
+        assertThat(changeSets.get(1).getChangeType()).isEqualTo(REMOVE_FROM_MAP);
+        assertThat(changeSets.get(1).getRawMapChanges()).containsKey(3);
+    }
+
+    @Test
+    public void should_discard_key_removal_when_key_is_put_again() throws Exception {
+        //When
+        dirtyChecker.removeMapEntry(1);
+        dirtyChecker.addElements(ImmutableMap.<Object, Object>of(1, "one"));
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(1);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(ADD_TO_MAP);
+        assertThat(changeSets.get(0).getRawMapChanges()).contains(entry(1, "one"));
+    }
+
+    @Test
+    public void should_apply_map_changes_to_assigned_value() throws Exception {
+        //Given
+        final Map<Object, Object> assigned = new HashMap<>();
+        assigned.put(1, "one");
+
+        //When
+        dirtyChecker.assignValue(assigned);
+        dirtyChecker.addElements(ImmutableMap.<Object, Object>of(2, "two"));
+        dirtyChecker.removeMapEntry(1);
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(1);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(ASSIGN_VALUE_TO_MAP);
+        assertThat(changeSets.get(0).getRawMapChanges()).hasSize(1).contains(entry(2, "two"));
+        assertThat(assigned).hasSize(1).contains(entry(1, "one"));
+    }
+
+    @Test
+    public void should_supersede_previous_changes_on_removal_of_whole_collection() throws Exception {
+        //Given
+        dirtyChecker.addElements(newHashSet((Object) "a"));
+        dirtyChecker.removeElements(newHashSet((Object) "b"));
+
+        //When
+        dirtyChecker.removeAllElements();
+
+        //Then
+        final List<DirtyCheckChangeSet> changeSets = dirtyChecker.getChangeSets();
+        assertThat(changeSets).hasSize(1);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(REMOVE_COLLECTION_OR_MAP);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.internal.proxy.dirtycheck;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static info.archinnov.achilles.internal.metadata.holder.PropertyType.LIST;
+import static info.archinnov.achilles.internal.metadata.holder.PropertyType.SET;
+import static info.archinnov.achilles.internal.metadata.holder.PropertyType.SIMPLE;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.ADD_TO_SET;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.APPEND_TO_LIST;
+import static info.archinnov.achilles.internal.persistence.operations.CollectionAndMapChangeType.REMOVE_FROM_SET;
+import static java.util.Arrays.asList;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntitySnapshotRegistryTest {
+
+    @Mock(answer = RETURNS_DEEP_STUBS)
+    private PropertyMeta pm;
+
+    @Mock
+    private EntityMeta meta;
+
+    private CompleteBean entity = new CompleteBean();
+
+    private EntitySnapshotRegistry registry = new EntitySnapshotRegistry();
+
+    @Before
+    public void setUp() {
+        when(meta.getAllMetasExceptIdAndCounters()).thenReturn(asList(pm));
+        when(pm.forTranscoding().encodeToCassandra(any())).thenAnswer(returnsFirstArg());
+        when(pm.forTranscoding().decodeFromCassandra(any())).thenAnswer(returnsFirstArg());
+    }
+
+    @Test
+    public void should_register_entity_as_managed() throws Exception {
+        //Given
+        when(pm.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn("name");
+
+        //When
+        final CompleteBean actual = registry.register(entity, meta);
+
+        //Then
+        assertThat(actual).isSameAs(entity);
+        assertThat(registry.isManaged(entity)).isTrue();
+        assertThat(registry.isManaged(new CompleteBean())).isFalse();
+    }
+
+    @Test
+    public void should_not_find_dirty_checker_when_entity_unchanged() throws Exception {
+        //Given
+        when(pm.type()).thenReturn(SIMPLE);
+        when(pm.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn("name");
+        when(pm.forValues().getValueFromField(entity)).thenReturn("name");
+        registry.register(entity, meta);
+
+        //When
+        final List<DirtyChecker> dirtyCheckers = registry.findDirtyCheckers(entity, meta);
+
+        //Then
+        assertThat(dirtyCheckers).isEmpty();
+    }
+
+    @Test
+    public void should_not_find_dirty_checker_for_lazy_property_loaded_after_snapshot() throws Exception {
+        //Given
+        when(pm.type()).thenReturn(SIMPLE);
+        when(pm.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(null, "content");
+        when(pm.forValues().getValueFromField(entity)).thenReturn("content");
+        registry.register(entity, meta);
+
+        //When
+        registry.refresh(entity, meta, asList(pm));
+        final List<DirtyChecker> dirtyCheckers = registry.findDirtyCheckers(entity, meta);
+
+        //Then
+        assertThat(dirtyCheckers).isEmpty();
+    }
+
+    @Test
+    public void should_find_dirty_property_names() throws Exception {
+        //Given
+        when(pm.getPropertyName()).thenReturn("name");
+        when(pm.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn("name");
+        when(pm.forValues().getValueFromField(entity)).thenReturn("name", "new_name");
+        registry.register(entity, meta);
+
+        //When
+        final List<String> unchanged = registry.findDirtyPropertyNames(entity, meta);
+        final List<String> changed = registry.findDirtyPropertyNames(entity, meta);
+
+        //Then
+        assertThat(unchanged).isEmpty();
+        assertThat(changed).containsExactly("name");
+    }
+
+    @Test
+    public void should_find_simple_dirty_checker() throws Exception {
+        //Given
+        when(pm.type()).thenReturn(SIMPLE);
+        when(pm.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn("name");
+        when(pm.forValues().getValueFromField(entity)).thenReturn("new_name");
+        registry.register(entity, meta);
+
+        //When
+        final List<DirtyChecker> dirtyCheckers = registry.findDirtyCheckers(entity, meta);
+
+        //Then
+        assertThat(dirtyCheckers).hasSize(1);
+        assertThat(dirtyCheckers.get(0).isSimpleField()).isTrue();
+        assertThat(dirtyCheckers.get(0).getPropertyMeta()).isSameAs(pm);
+    }
+
+    @Test
+    public void should_append_only_new_tail_of_list() throws Exception {
+        //Given
+        when(pm.type()).thenReturn(LIST);
+        when(pm.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(asList("a", "b"));
+        when(pm.forValues().getValueFromField(entity)).thenReturn(asList("a", "b", "c", "d"));
+        registry.register(entity, meta);
+
+        //When
+        final List<DirtyChecker> dirtyCheckers = registry.findDirtyCheckers(entity, meta);
+
+        //Then
+        assertThat(dirtyCheckers).hasSize(1);
+        final List<DirtyCheckChangeSet> changeSets = dirtyCheckers.get(0).getChangeSets();
+        assertThat(changeSets).hasSize(1);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(APPEND_TO_LIST);
+        assertThat(changeSets.get(0).getRawListChanges()).containsExactly("c", "d");
+    }
+
+    @Test
+    public void should_add_and_remove_set_differences() throws Exception {
+        //Given
+        when(pm.type()).thenReturn(SET);
+        when(pm.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(newHashSet("a", "b"));
+        when(pm.forValues().getValueFromField(entity)).thenReturn(newHashSet("b", "c"));
+        registry.register(entity, meta);
+
+        //When
+        final List<DirtyChecker> dirtyCheckers = registry.findDirtyCheckers(entity, meta);
+
+        //Then
+        assertThat(dirtyCheckers).hasSize(1);
+        final List<DirtyCheckChangeSet> changeSets = dirtyCheckers.get(0).getChangeSets();
+        assertThat(changeSets).hasSize(2);
+        assertThat(changeSets.get(0).getChangeType()).isEqualTo(REMOVE_FROM_SET);
+        assertThat(changeSets.get(0).getRawSetChanges()).containsOnly("a");
+        assertThat(changeSets.get(1).getChangeType()).isEqualTo(ADD_TO_SET);
+        assertThat(changeSets.get(1).getRawSetChanges()).containsOnly("c");
+    }
+}
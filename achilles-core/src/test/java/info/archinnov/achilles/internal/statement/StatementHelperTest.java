@@ -7,7 +7,11 @@ import static org.fest.assertions.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -60,4 +64,35 @@ public class StatementHelperTest {
         //Then
         assertThat(actual).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_copy_simple_statement_with_values_and_settings() throws Exception {
+        //Given
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM test WHERE id=?", 10L);
+        statement.setConsistencyLevel(ConsistencyLevel.QUORUM);
+        statement.setFetchSize(100);
+
+        //When
+        final Statement copy = StatementHelper.copyStatement(statement, ProtocolVersion.V3);
+        copy.setFetchSize(5);
+
+        //Then
+        assertThat(copy).isNotSameAs(statement);
+        assertThat(StatementHelper.maybeGetQueryString(copy)).isEqualTo("SELECT * FROM test WHERE id=?");
+        assertThat(copy.getConsistencyLevel()).isEqualTo(ConsistencyLevel.QUORUM);
+        assertThat(copy.getFetchSize()).isEqualTo(5);
+        assertThat(statement.getFetchSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void should_copy_collection_value_of_simple_statement_with_protocol_version_in_use() throws Exception {
+        //Given
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM test WHERE id IN ?", Arrays.asList(10L, 11L));
+
+        //When
+        final Statement copy = StatementHelper.copyStatement(statement, ProtocolVersion.V3);
+
+        //Then
+        assertThat(((RegularStatement) copy).getValues(ProtocolVersion.V3)).isEqualTo(statement.getValues(ProtocolVersion.V3));
+    }
+}
@@ -139,6 +139,63 @@ public class CacheManagerTest {
         verify(cache).put(cacheKey, ps);
     }
 
+    @Test
+    public void should_generate_projection_prepared_statement_when_not_found_in_cache() throws Exception {
+        EntityMeta meta = new EntityMeta();
+        PropertyMeta idMeta = PropertyMetaTestBuilder.valueClass(Long.class).propertyName("id").type(SIMPLE).build();
+        PropertyMeta nameMeta = PropertyMetaTestBuilder.valueClass(String.class).propertyName("name").type(SIMPLE).build();
+        List<PropertyMeta> projection = asList(idMeta, nameMeta);
+
+        when(context.<CompleteBean>getEntityClass()).thenReturn(CompleteBean.class);
+        when(context.getEntityMeta()).thenReturn(meta);
+        when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+        when(generator.prepareSelectProjection(session, meta, projection)).thenReturn(ps);
+
+        PreparedStatement actual = manager.getCacheForProjectionSelect(session, cache, context, projection);
+
+        assertThat(actual).isSameAs(ps);
+        StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+        assertThat(cacheKey.getType()).isEqualTo(CacheType.SELECT_PROJECTION);
+        assertThat(cacheKey.getFields()).containsOnly("id", "name");
+        verify(cache).put(cacheKey, ps);
+    }
+
+    @Test
+    public void should_generate_token_range_prepared_statements_when_not_found_in_cache() throws Exception {
+        EntityMeta meta = mock(EntityMeta.class);
+        PreparedStatement openPS = mock(PreparedStatement.class);
+
+        when(meta.<CompleteBean>getEntityClass()).thenReturn(CompleteBean.class);
+        when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+        when(generator.prepareSelectTokenRange(session, meta, true)).thenReturn(ps);
+        when(generator.prepareSelectTokenRange(session, meta, false)).thenReturn(openPS);
+
+        PreparedStatement bounded = manager.getCacheForTokenRangeSelect(session, cache, meta, true);
+        PreparedStatement open = manager.getCacheForTokenRangeSelect(session, cache, meta, false);
+
+        assertThat(bounded).isSameAs(ps);
+        assertThat(open).isSameAs(openPS);
+        List<StatementCacheKey> cacheKeys = cacheKeyCaptor.getAllValues();
+        assertThat(cacheKeys.get(0).getType()).isEqualTo(CacheType.SELECT_TOKEN_RANGE);
+        assertThat(cacheKeys.get(0).<CompleteBean>getEntityClass()).isSameAs(CompleteBean.class);
+        assertThat(cacheKeys.get(0)).isNotEqualTo(cacheKeys.get(1));
+        verify(cache).put(cacheKeys.get(0), ps);
+        verify(cache).put(cacheKeys.get(1), openPS);
+    }
+
+    @Test
+    public void should_get_token_range_prepared_statement_from_cache() throws Exception {
+        EntityMeta meta = mock(EntityMeta.class);
+
+        when(meta.<CompleteBean>getEntityClass()).thenReturn(CompleteBean.class);
+        when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(ps);
+
+        PreparedStatement actual = manager.getCacheForTokenRangeSelect(session, cache, meta, true);
+
+        assertThat(actual).isSameAs(ps);
+        verifyZeroInteractions(generator);
+    }
+
     @Test
     public void should_get_cache_for_entity_insert() throws Exception {
         EntityMeta meta = new EntityMeta();
@@ -36,6 +36,7 @@ import static java.util.Arrays.fill;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.util.Arrays;
@@ -55,7 +56,9 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.PreparedStatement;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Optional;
@@ -91,6 +94,9 @@ public class PreparedStatementBinderTest {
     @Mock
     private BoundStatement bs;
 
+    @Mock
+    private ColumnDefinitions variables;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -141,6 +147,7 @@ public class PreparedStatementBinderTest {
         when(context.getSerialConsistencyLevel()).thenReturn(fromNullable(ConsistencyLevel.LOCAL_SERIAL));
 
         when(ps.bind(Matchers.anyVararg())).thenReturn(bs);
+        withVariables(DataType.bigint(), DataType.text(), DataType.bigint());
 
         BoundStatementWrapper actual = binder.bindForInsert(context, ps, asList(nameMeta, ageMeta));
         actual.getStatement();
@@ -166,12 +173,16 @@ public class PreparedStatementBinderTest {
         when(ageMeta.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(null);
 
         when(ps.bind(Matchers.anyVararg())).thenReturn(bs);
+        withVariables(DataType.bigint(), DataType.text(), DataType.bigint());
 
         BoundStatementWrapper actual = binder.bindForInsert(context, ps, asList(nameMeta, ageMeta));
         actual.getStatement();
 
         verify(bs).setConsistencyLevel(ConsistencyLevel.ALL);
         assertThat(asList(actual.getValues())).containsExactly(primaryKey, name, null);
+        verify(bs).setLong(0, primaryKey);
+        verify(bs).setString(1, name);
+        verify(bs).setBytesUnsafe(2, null);
     }
 
     @Test
@@ -193,6 +204,7 @@ public class PreparedStatementBinderTest {
         when(ageMeta.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(age);
 
         when(ps.bind(Matchers.anyVararg())).thenReturn(bs);
+        withVariables(DataType.bigint(), DataType.text(), DataType.text(), DataType.cint());
 
         BoundStatementWrapper actual = binder.bindForInsert(context, ps, asList(addressMeta, ageMeta));
         actual.getStatement();
@@ -201,6 +213,56 @@ public class PreparedStatementBinderTest {
         assertThat(asList(actual.getValues())).containsExactly(userId, name, address, age);
     }
 
+    @Test
+    public void should_reuse_binding_plan_of_prepared_statement() throws Exception {
+        //Given
+        long primaryKey = RandomUtils.nextLong(0,Long.MAX_VALUE);
+        long age = RandomUtils.nextLong(0,Long.MAX_VALUE);
+        String name = "name";
+        PropertyMeta nameMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+        PropertyMeta ageMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+
+        when(overrider.getWriteLevel(context)).thenReturn(ALL);
+        when(entityMeta.forOperations().getPrimaryKey(entity)).thenReturn(primaryKey);
+        when(idMeta.structure().isCompoundPK()).thenReturn(false);
+        when(idMeta.forTranscoding().encodeToCassandra(primaryKey)).thenReturn(primaryKey);
+        when(nameMeta.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(name);
+        when(ageMeta.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(age);
+        withVariables(DataType.bigint(), DataType.text(), DataType.bigint());
+
+        //When
+        binder.bindForInsert(context, ps, asList(nameMeta, ageMeta));
+        BoundStatementWrapper actual = binder.bindForInsert(context, ps, asList(ageMeta, nameMeta));
+
+        //Then
+        verify(ps, times(1)).getVariables();
+        assertThat(asList(actual.getValues())).containsExactly(primaryKey, name, age);
+    }
+
+    @Test
+    public void should_fall_back_to_generic_bind_for_untyped_variable() throws Exception {
+        //Given
+        long primaryKey = RandomUtils.nextLong(0,Long.MAX_VALUE);
+        Object custom = new Object();
+        PropertyMeta customMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+
+        when(overrider.getWriteLevel(context)).thenReturn(ALL);
+        when(entityMeta.forOperations().getPrimaryKey(entity)).thenReturn(primaryKey);
+        when(idMeta.structure().isCompoundPK()).thenReturn(false);
+        when(idMeta.forTranscoding().encodeToCassandra(primaryKey)).thenReturn(primaryKey);
+        when(customMeta.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(custom);
+        withVariables(DataType.bigint(), DataType.custom("org.apache.cassandra.db.marshal.BytesType"));
+        when(ps.bind(primaryKey, custom)).thenReturn(bs);
+
+        //When
+        BoundStatementWrapper actual = binder.bindForInsert(context, ps, asList(customMeta));
+        actual.getStatement();
+
+        //Then
+        verify(ps).bind(primaryKey, custom);
+        verify(bs).setConsistencyLevel(ConsistencyLevel.ALL);
+    }
+
     @Test
     public void should_bind_with_only_pk_in_where_clause() throws Exception {
         long userId = RandomUtils.nextLong(0,Long.MAX_VALUE);
@@ -241,6 +303,7 @@ public class PreparedStatementBinderTest {
         when(ageMeta.forTranscoding().getAndEncodeValueForCassandra(entity)).thenReturn(age);
 
         when(ps.bind(Matchers.anyVararg())).thenReturn(bs);
+        withVariables(DataType.text(), DataType.bigint(), DataType.bigint());
 
         BoundStatementWrapper actual = binder.bindForUpdate(context, ps, asList(nameMeta, ageMeta));
         actual.getStatement();
@@ -292,6 +355,23 @@ public class PreparedStatementBinderTest {
         assertThat(asList(actual.getValues())).containsExactly("CompleteBean", primaryKey.toString(), "count");
     }
 
+    @Test
+    public void should_bind_for_all_simple_counters_select() throws Exception {
+        Long primaryKey = RandomUtils.nextLong(0,Long.MAX_VALUE);
+
+        when(context.getPrimaryKey()).thenReturn(primaryKey);
+        when(entityMeta.getClassName()).thenReturn("CompleteBean");
+        when(idMeta.forTranscoding().forceEncodeToJSONForCounter(primaryKey)).thenReturn(primaryKey.toString());
+
+        when(ps.bind("CompleteBean", primaryKey.toString())).thenReturn(bs);
+
+        BoundStatementWrapper actual = binder.bindForSimpleCountersSelect(context, ps, ALL);
+        actual.getStatement();
+
+        verify(bs).setConsistencyLevel(ConsistencyLevel.ALL);
+        assertThat(asList(actual.getValues())).containsExactly("CompleteBean", primaryKey.toString());
+    }
+
     @Test
     public void should_bind_for_simple_counter_delete() throws Exception {
         Long primaryKey = RandomUtils.nextLong(0,Long.MAX_VALUE);
@@ -741,4 +821,13 @@ public class PreparedStatementBinderTest {
         verify(bs).setSerialConsistencyLevel(ConsistencyLevel.LOCAL_SERIAL);
         assertThat(asList(actual.getValues())).containsExactly(10L, primaryKey, "John", 33);
     }
+
+    private void withVariables(DataType... types) {
+        when(ps.getVariables()).thenReturn(variables);
+        when(ps.bind()).thenReturn(bs);
+        when(variables.size()).thenReturn(types.length);
+        for (int i = 0; i < types.length; i++) {
+            when(variables.getType(i)).thenReturn(types[i]);
+        }
+    }
 }
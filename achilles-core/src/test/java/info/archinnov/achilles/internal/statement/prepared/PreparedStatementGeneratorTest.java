@@ -27,6 +27,7 @@ import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.DECR;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.DELETE;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.INCR;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.SELECT;
+import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.SELECT_ENTITY;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_FQCN;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_PRIMARY_KEY;
 import static info.archinnov.achilles.counter.AchillesCounter.ACHILLES_COUNTER_PROPERTY_NAME;
@@ -216,6 +217,46 @@ public class PreparedStatementGeneratorTest {
         assertThat(queryCaptor.getValue()).isEqualTo("SELECT name FROM ks.table WHERE id=:id;");
     }
 
+    @Test
+    public void should_prepare_select_projection() throws Exception {
+        PropertyMeta nameMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+
+        when(idMeta.forStatementGeneration().prepareSelectField(isA(Selection.class))).thenReturn(select().column("id"));
+        when(nameMeta.forStatementGeneration().prepareSelectField(isA(Selection.class))).thenReturn(select().column("id").column("name"));
+        when(meta.structure().hasOnlyStaticColumns()).thenReturn(false);
+        when(idMeta.forStatementGeneration().generateWhereClauseForSelect(Mockito.eq(Optional.<PropertyMeta>absent()), isA(Select.class)))
+                .thenReturn(select("id", "name").from("ks", "table").where(eq("id", bindMarker("id"))));
+
+        when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+        PreparedStatement actual = generator.prepareSelectProjection(session, meta, asList(idMeta, nameMeta));
+
+        assertThat(actual).isSameAs(ps);
+        assertThat(queryCaptor.getValue()).isEqualTo("SELECT id,name FROM ks.table WHERE id=:id;");
+    }
+
+    @Test
+    public void should_prepare_select_by_token_range() throws Exception {
+        //Given
+        PropertyMeta nameMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
+
+        when(meta.forOperations().getColumnsMetaToLoad()).thenReturn(asList(idMeta, nameMeta));
+        when(idMeta.forStatementGeneration().prepareSelectField(isA(Selection.class))).thenReturn(select().column("id"));
+        when(nameMeta.forStatementGeneration().prepareSelectField(isA(Selection.class))).thenReturn(select().column("id").column("name"));
+        when(idMeta.forStatementGeneration().generatePartitionToken()).thenReturn("token(id)");
+        when(session.prepare(queryCaptor.capture())).thenReturn(ps, ps2);
+
+        //When
+        PreparedStatement bounded = generator.prepareSelectTokenRange(session, meta, true);
+        PreparedStatement open = generator.prepareSelectTokenRange(session, meta, false);
+
+        //Then
+        assertThat(bounded).isSameAs(ps);
+        assertThat(open).isSameAs(ps2);
+        assertThat(queryCaptor.getAllValues()).containsExactly("SELECT id,name FROM ks.table WHERE token(id)>? AND token(id)<=?;",
+                "SELECT id,name FROM ks.table WHERE token(id)>?;");
+    }
+
     @Test
     public void should_prepare_select_eager_ps_with_static_columns() throws Exception {
         PropertyMeta nameMeta = mock(PropertyMeta.class, RETURNS_DEEP_STUBS);
@@ -241,20 +282,22 @@ public class PreparedStatementGeneratorTest {
         PreparedStatement incrPs = mock(PreparedStatement.class);
         PreparedStatement decrPs = mock(PreparedStatement.class);
         PreparedStatement selectPs = mock(PreparedStatement.class);
+        PreparedStatement selectEntityPs = mock(PreparedStatement.class);
         PreparedStatement deletePs = mock(PreparedStatement.class);
 
-        when(session.prepare(queryCaptor.capture())).thenReturn(incrPs, decrPs, selectPs, deletePs);
+        when(session.prepare(queryCaptor.capture())).thenReturn(incrPs, decrPs, selectPs, selectEntityPs, deletePs);
 
         Map<CQLQueryType, PreparedStatement> actual = generator.prepareSimpleCounterQueryMap(session);
 
         assertThat(actual.get(INCR)).isSameAs(incrPs);
         assertThat(actual.get(DECR)).isSameAs(decrPs);
         assertThat(actual.get(SELECT)).isSameAs(selectPs);
+        assertThat(actual.get(SELECT_ENTITY)).isSameAs(selectEntityPs);
         assertThat(actual.get(DELETE)).isSameAs(deletePs);
 
         List<String> queries = queryCaptor.getAllValues();
 
-        assertThat(queries).hasSize(4);
+        assertThat(queries).hasSize(5);
         assertThat(queries.get(0)).isEqualTo(
                         update(ACHILLES_COUNTER_TABLE)
                         .with(incr(ACHILLES_COUNTER_VALUE, bindMarker()))
@@ -277,6 +320,12 @@ public class PreparedStatementGeneratorTest {
                         .and(eq(ACHILLES_COUNTER_PROPERTY_NAME, bindMarker())).getQueryString());
 
         assertThat(queries.get(3)).isEqualTo(
+                        select().column(ACHILLES_COUNTER_PROPERTY_NAME).column(ACHILLES_COUNTER_VALUE)
+                        .from(ACHILLES_COUNTER_TABLE)
+                        .where(eq(ACHILLES_COUNTER_FQCN, bindMarker()))
+                        .and(eq(ACHILLES_COUNTER_PRIMARY_KEY, bindMarker())).getQueryString());
+
+        assertThat(queries.get(4)).isEqualTo(
                         delete()
                         .from(ACHILLES_COUNTER_TABLE)
                         .where(eq(ACHILLES_COUNTER_FQCN, bindMarker()))
@@ -529,7 +578,7 @@ public class PreparedStatementGeneratorTest {
                 .propertyName("name").cqlColumnName("name").type(SIMPLE).build();
 
         when(sliceQueryProperties.getEntityMeta()).thenReturn(meta);
-        when(meta.forOperations().getColumnsMetaToLoad()).thenReturn(asList(pm));
+        when(sliceQueryProperties.getColumnsMetaToLoad()).thenReturn(asList(pm));
         when(meta.config().getQualifiedTableName()).thenReturn("table");
         when(sliceQueryProperties.generateWhereClauseForSelect(selectCaptor.capture())).thenReturn(select);
         when(session.prepare(queryCaptor.capture())).thenReturn(ps);
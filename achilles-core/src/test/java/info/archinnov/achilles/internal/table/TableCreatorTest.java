@@ -31,9 +31,11 @@ import static info.archinnov.achilles.schemabuilder.Create.Options.ClusteringOrd
 import static info.archinnov.achilles.schemabuilder.Create.Options.ClusteringOrder.Sorting;
 import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -52,9 +54,15 @@ import org.mockito.*;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.TableMetadata;
+import com.google.common.util.concurrent.ListenableFuture;
+import info.archinnov.achilles.annotations.TableTuning;
+import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.exception.AchillesInvalidTableException;
+import info.archinnov.achilles.internal.async.AsyncUtils;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMetaTestBuilder;
 import info.archinnov.achilles.type.Counter;
@@ -88,9 +96,24 @@ public class TableCreatorTest {
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private PropertyMeta idMeta;
 
+    @Mock
+    private AsyncUtils asyncUtils;
+
+    @Mock
+    private ResultSetFuture resultSetFuture;
+
+    @Mock
+    private ListenableFuture<List<ResultSet>> futureAsList;
+
+    @Mock
+    private AchillesFuture<List<ResultSet>> achillesFuture;
+
     @Captor
     private ArgumentCaptor<String> stringCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<ListenableFuture<ResultSet>>> futuresCaptor;
+
     private ObjectMapper defaultJakcsonMapper = new DefaultJacksonMapperFactory().getMapper(String.class);
 
     private String keyspaceName = "achilles";
@@ -145,6 +168,29 @@ public class TableCreatorTest {
         assertThat(scripts.get(1)).isEqualTo("\n\tCREATE INDEX simple_idx ON myTable(longcol)");
     }
 
+    @Test
+    public void should_create_table_with_table_tuning() throws Exception {
+        PropertyMeta idMeta = PropertyMetaTestBuilder.valueClass(Long.class).type(PARTITION_KEY).cqlColumnName("id").build();
+        PropertyMeta longColPM = PropertyMetaTestBuilder.valueClass(Long.class).type(SIMPLE).cqlColumnName("longcol").build();
+
+        when(meta.structure().isClusteredCounter()).thenReturn(false);
+        when(meta.getAllMetasExceptIdAndCounters()).thenReturn(asList(longColPM));
+        when(meta.getIdMeta()).thenReturn(idMeta);
+        when(meta.config().hasTableTuning()).thenReturn(true);
+        when(meta.config().getTableTuning()).thenReturn(TunedEntity.class.getAnnotation(TableTuning.class));
+
+        creator.createTableForEntity(session, meta, configContext);
+
+        verify(session).execute(stringCaptor.capture());
+
+        assertThat(stringCaptor.getValue()).isEqualTo(
+                "\n\tCREATE TABLE myTable(\n"
+                        + "\t\tid bigint,\n"
+                        + "\t\tlongcol bigint,\n"
+                        + "\t\tPRIMARY KEY(id))\n"
+                        + "\tWITH caching = 'keys_only' AND comment = 'test table' AND compaction = {'class' : 'LeveledCompactionStrategy'}");
+    }
+
     @Test
     public void should_create_complete_table_with_clustering_order() throws Exception {
 
@@ -218,6 +264,58 @@ public class TableCreatorTest {
         creator.createTableForEntity(session, meta, configContext);
     }
 
+    @Test
+    public void should_create_tables_in_parallel_then_indexes() throws Exception {
+        //Given
+        PropertyMeta idMeta = PropertyMetaTestBuilder.valueClass(Long.class).type(PARTITION_KEY).cqlColumnName("id").build();
+        PropertyMeta longColPM = PropertyMetaTestBuilder.valueClass(Long.class).type(SIMPLE).cqlColumnName("longcol").indexed("simple_idx").build();
+        EntityMeta otherMeta = mock(EntityMeta.class, Answers.RETURNS_DEEP_STUBS.get());
+
+        when(meta.structure().isClusteredCounter()).thenReturn(false);
+        when(meta.getAllMetasExceptIdAndCounters()).thenReturn(asList(longColPM));
+        when(meta.getIdMeta()).thenReturn(idMeta);
+        when(otherMeta.config().getQualifiedTableName()).thenReturn("otherTable");
+        when(otherMeta.structure().isClusteredCounter()).thenReturn(false);
+        when(otherMeta.getAllMetasExceptIdAndCounters()).thenReturn(new ArrayList<PropertyMeta>());
+        when(otherMeta.getIdMeta()).thenReturn(idMeta);
+
+        when(session.executeAsync(stringCaptor.capture())).thenReturn(resultSetFuture);
+        when(asyncUtils.mergeResultSetFutures(futuresCaptor.capture())).thenReturn(futureAsList);
+        when(asyncUtils.buildInterruptible(futureAsList)).thenReturn(achillesFuture);
+        creator.asyncUtils = asyncUtils;
+
+        //When
+        creator.createTablesForEntities(session, asList(meta, otherMeta), configContext);
+
+        //Then
+        final List<String> scripts = stringCaptor.getAllValues();
+        assertThat(scripts).hasSize(3);
+        assertThat(scripts.get(0)).startsWith("\n\tCREATE TABLE myTable(");
+        assertThat(scripts.get(1)).startsWith("\n\tCREATE TABLE otherTable(");
+        assertThat(scripts.get(2)).isEqualTo("\n\tCREATE INDEX simple_idx ON myTable(longcol)");
+
+        final List<List<ListenableFuture<ResultSet>>> futures = futuresCaptor.getAllValues();
+        assertThat(futures).hasSize(2);
+        assertThat(futures.get(0)).hasSize(2);
+        assertThat(futures.get(1)).hasSize(1);
+        verify(achillesFuture, times(2)).getImmediately();
+        verify(session, times(0)).execute(any(String.class));
+    }
+
+    @Test
+    public void should_exception_when_tables_do_not_exist_and_parallel_creation() throws Exception {
+        when(configContext.isForceColumnFamilyCreation()).thenReturn(false);
+
+        exception.expect(AchillesInvalidTableException.class);
+        exception.expectMessage("The required table 'myTable' does not exist for entity 'CompleteBean'");
+
+        try {
+            creator.createTablesForEntities(session, asList(meta), configContext);
+        } finally {
+            verifyZeroInteractions(session);
+        }
+    }
+
     @Test
     public void should_create_achilles_counter_table() throws Exception {
         creator.createTableForCounter(session, configContext);
@@ -242,4 +340,8 @@ public class TableCreatorTest {
 
         creator.createTableForCounter(session, configContext);
     }
+
+    @TableTuning(compaction = TableTuning.Compaction.LEVELED, caching = TableTuning.Caching.KEYS_ONLY)
+    private static class TunedEntity {
+    }
 }
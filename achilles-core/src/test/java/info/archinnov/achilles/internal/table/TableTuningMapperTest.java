@@ -0,0 +1,94 @@
+package info.archinnov.achilles.internal.table;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.junit.Test;
+import com.datastax.driver.core.TableMetadata;
+import com.google.common.collect.ImmutableMap;
+import info.archinnov.achilles.annotations.TableTuning;
+import info.archinnov.achilles.annotations.TableTuning.Caching;
+import info.archinnov.achilles.annotations.TableTuning.Compaction;
+import info.archinnov.achilles.annotations.TableTuning.Compression;
+import info.archinnov.achilles.schemabuilder.Alter;
+import info.archinnov.achilles.schemabuilder.SchemaBuilder;
+
+public class TableTuningMapperTest {
+
+    private TableTuningMapper mapper = new TableTuningMapper();
+
+    @Test
+    public void should_add_table_options() throws Exception {
+        //Given
+        final TableTuning tableTuning = TimeSeriesEntity.class.getAnnotation(TableTuning.class);
+        final Alter.Options tableOptions = SchemaBuilder.alterTable("events").withOptions();
+
+        //When
+        mapper.addTableOptions(tableTuning, tableOptions);
+
+        //Then
+        assertThat(tableOptions.build()).isEqualTo("\n\tALTER TABLE events " +
+                "WITH caching = 'keys_only' " +
+                "AND bloom_filter_fp_chance = 0.01 " +
+                "AND compression = {'sstable_compression' : 'LZ4Compressor', 'chunk_length_kb' : 64} " +
+                "AND compaction = {'class' : 'DateTieredCompactionStrategy', 'max_threshold' : 32, 'base_time_seconds' : 3600, 'max_sstable_age_days' : 30} " +
+                "AND speculative_retry = '99percentile'");
+    }
+
+    @Test
+    public void should_only_add_declared_table_options() throws Exception {
+        //Given
+        final TableTuning tableTuning = LeveledEntity.class.getAnnotation(TableTuning.class);
+        final Alter.Options tableOptions = SchemaBuilder.alterTable("users").withOptions();
+
+        //When
+        mapper.addTableOptions(tableTuning, tableOptions);
+
+        //Then
+        assertThat(tableOptions.build()).isEqualTo("\n\tALTER TABLE users WITH compaction = {'class' : 'LeveledCompactionStrategy', 'sstable_size_in_mb' : 160}");
+    }
+
+    @Test
+    public void should_be_up_to_date_when_current_options_match() throws Exception {
+        //Given
+        final TableTuning tableTuning = TimeSeriesEntity.class.getAnnotation(TableTuning.class);
+        final TableMetadata.Options currentOptions = mock(TableMetadata.Options.class);
+        when(currentOptions.getCompaction()).thenReturn(ImmutableMap.of("class", "org.apache.cassandra.db.compaction.DateTieredCompactionStrategy",
+                "base_time_seconds", "3600", "max_sstable_age_days", "30"));
+        when(currentOptions.getCompression()).thenReturn(ImmutableMap.of("sstable_compression", "org.apache.cassandra.io.compress.LZ4Compressor",
+                "chunk_length_kb", "64"));
+        when(currentOptions.getCaching()).thenReturn(ImmutableMap.of("keys", "ALL", "rows_per_partition", "NONE"));
+        when(currentOptions.getBloomFilterFalsePositiveChance()).thenReturn(0.01);
+        when(currentOptions.getSpeculativeRetry()).thenReturn("99.0PERCENTILE");
+
+        //When
+        final boolean upToDate = mapper.isUpToDate(tableTuning, currentOptions);
+
+        //Then
+        assertThat(upToDate).isTrue();
+    }
+
+    @Test
+    public void should_not_be_up_to_date_when_compaction_strategy_differs() throws Exception {
+        //Given
+        final TableTuning tableTuning = LeveledEntity.class.getAnnotation(TableTuning.class);
+        final TableMetadata.Options currentOptions = mock(TableMetadata.Options.class);
+        when(currentOptions.getCompaction()).thenReturn(ImmutableMap.of("class", "org.apache.cassandra.db.compaction.SizeTieredCompactionStrategy"));
+
+        //When
+        final boolean upToDate = mapper.isUpToDate(tableTuning, currentOptions);
+
+        //Then
+        assertThat(upToDate).isFalse();
+    }
+
+    @TableTuning(compaction = Compaction.DATE_TIERED, baseTimeSeconds = 3600, maxSSTableAgeDays = 30, maxThreshold = 32,
+            compression = Compression.LZ4, compressionChunkLengthInKb = 64, caching = Caching.KEYS_ONLY,
+            bloomFilterFPChance = 0.01, speculativeRetry = "99percentile")
+    private static class TimeSeriesEntity {
+    }
+
+    @TableTuning(compaction = Compaction.LEVELED, sstableSizeInMB = 160)
+    private static class LeveledEntity {
+    }
+}
@@ -25,6 +25,7 @@ import static info.archinnov.achilles.internal.metadata.holder.PropertyType.SET;
 import static info.archinnov.achilles.internal.metadata.holder.PropertyType.SIMPLE;
 import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -49,6 +50,8 @@ import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.KeyspaceMetadata;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.TableMetadata;
+import com.google.common.collect.ImmutableMap;
+import info.archinnov.achilles.annotations.TableTuning;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
 import info.archinnov.achilles.internal.metadata.holder.IndexProperties;
 import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
@@ -236,4 +239,44 @@ public class TableUpdaterTest {
         verifyZeroInteractions(session);
     }
 
+    @Test
+    public void should_alter_table_options_when_table_tuning_changed() throws Exception {
+        // Given
+        final TableMetadata.Options currentOptions = mock(TableMetadata.Options.class);
+        when(currentOptions.getCompaction()).thenReturn(ImmutableMap.of("class", "org.apache.cassandra.db.compaction.SizeTieredCompactionStrategy"));
+        when(tableMeta.getOptions()).thenReturn(currentOptions);
+        when(tableMeta.getColumns()).thenReturn(Arrays.<ColumnMetadata>asList());
+        when(meta.getAllMetasExceptId()).thenReturn(Arrays.<PropertyMeta>asList());
+        when(meta.config().hasTableTuning()).thenReturn(true);
+        when(meta.config().getTableTuning()).thenReturn(LeveledEntity.class.getAnnotation(TableTuning.class));
+
+        // When
+        updater.updateTableForEntity(session, meta, tableMeta);
+
+        // Then
+        verify(session).execute(stringCaptor.capture());
+        assertThat(stringCaptor.getValue()).isEqualTo("\n\tALTER TABLE tableName WITH compaction = {'class' : 'LeveledCompactionStrategy'}");
+    }
+
+    @Test
+    public void should_not_alter_table_options_when_table_tuning_up_to_date() throws Exception {
+        // Given
+        final TableMetadata.Options currentOptions = mock(TableMetadata.Options.class);
+        when(currentOptions.getCompaction()).thenReturn(ImmutableMap.of("class", "org.apache.cassandra.db.compaction.LeveledCompactionStrategy"));
+        when(tableMeta.getOptions()).thenReturn(currentOptions);
+        when(tableMeta.getColumns()).thenReturn(Arrays.<ColumnMetadata>asList());
+        when(meta.getAllMetasExceptId()).thenReturn(Arrays.<PropertyMeta>asList());
+        when(meta.config().hasTableTuning()).thenReturn(true);
+        when(meta.config().getTableTuning()).thenReturn(LeveledEntity.class.getAnnotation(TableTuning.class));
+
+        // When
+        updater.updateTableForEntity(session, meta, tableMeta);
+
+        // Then
+        verifyZeroInteractions(session);
+    }
+
+    @TableTuning(compaction = TableTuning.Compaction.LEVELED)
+    private static class LeveledEntity {
+    }
 }
@@ -18,6 +18,18 @@ package info.archinnov.achilles.internal.utils;
 
 import static org.fest.assertions.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -34,4 +46,38 @@ public class UUIDGenTest {
 			timestampInMicros = newTimestampInMicros;
 		}
 	}
+
+	@Test
+	public void should_generate_distinct_time_uuids_from_concurrent_threads() throws Exception {
+		final int threads = 8;
+		final int uuidsPerThread = 10000;
+		final Set<UUID> uuids = Collections.newSetFromMap(new ConcurrentHashMap<UUID, Boolean>());
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final List<Future<?>> futures = new ArrayList<>();
+
+		for (int i = 0; i < threads; i++) {
+			futures.add(executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					start.await();
+					long previous = 0;
+					for (int j = 0; j < uuidsPerThread; j++) {
+						final UUID uuid = UUIDGen.getTimeUUID();
+						assertThat(uuid.timestamp()).isGreaterThan(previous);
+						previous = uuid.timestamp();
+						uuids.add(uuid);
+					}
+					return null;
+				}
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		assertThat(uuids).hasSize(threads * uuidsPerThread);
+	}
 }
@@ -24,6 +24,7 @@ import static info.archinnov.achilles.type.ConsistencyLevel.ONE;
 import static info.archinnov.achilles.type.OptionsBuilder.noOptions;
 import static info.archinnov.achilles.type.OptionsBuilder.withConsistency;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,10 +46,13 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Insert;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.async.BlockingCall;
+import info.archinnov.achilles.internal.async.BlockingCallExecutor;
 import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.internal.context.BatchingFlushContext;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
@@ -132,7 +136,7 @@ public class BatchTest {
     @Before
     public void setUp() {
         when(configContext.getDefaultWriteConsistencyLevel()).thenReturn(ConsistencyLevel.ONE);
-        when(configContext.getExecutorService()).thenReturn(executorService);
+        when(configContext.getCallbackExecutor()).thenReturn(executorService);
         batch = new Batch(null, contextFactory, daoContext, configContext,false);
         batch.optionsValidator = optionsValidator;
         batch.entityValidator = entityValidator;
@@ -186,6 +190,23 @@ public class BatchTest {
     }
 
 
+    @Test
+    public void should_end_batch_within_blocking_call() throws Exception {
+        //Given
+        BatchingFlushContext newFlushContext = mock(BatchingFlushContext.class);
+        when(configContext.openBlockingCall()).thenReturn(BlockingCallExecutor.open(false));
+        when(configContext.awaitBlocking(any(BlockingCall.class))).thenCallRealMethod();
+        when(flushContext.flushBatch()).thenReturn(new AchillesFuture<>(Futures.immediateFuture(Empty.INSTANCE)));
+        when(flushContext.duplicateWithNoData(ONE)).thenReturn(newFlushContext);
+
+        //When
+        batch.endBatch();
+
+        //Then
+        verify(flushContext).flushBatch();
+        assertThat(batch.flushContext).isSameAs(newFlushContext);
+    }
+
     @Test
     public void should_add_timestamp_to_statement_if_ordered_batch() throws Exception {
         //Given
@@ -48,6 +48,8 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.async.BlockingCall;
+import info.archinnov.achilles.internal.async.BlockingCallExecutor;
 import info.archinnov.achilles.type.Empty;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
@@ -124,7 +126,9 @@ public class NativeQueryTest {
     @Before
     public void setUp() {
 
-        when(configContext.getExecutorService()).thenReturn(executorService);
+        when(configContext.getCallbackExecutor()).thenReturn(executorService);
+        when(configContext.openBlockingCall()).thenReturn(BlockingCallExecutor.open(false));
+        when(configContext.awaitBlocking(any(BlockingCall.class))).thenCallRealMethod();
         query = new NativeQuery(daoContext, configContext,regularStatement, OptionsBuilder.noOptions(), boundValues);
         query.asyncUtils = asyncUtils;
         query.mapper = mapper;
@@ -136,7 +140,7 @@ public class NativeQueryTest {
         List<Row> rows = Arrays.asList(row);
         List<TypedMap> typedMaps = new ArrayList<>();
 
-        when(daoContext.execute(any(NativeStatementWrapper.class))).thenReturn(futureResultSet);
+        when(daoContext.executePaged(any(NativeStatementWrapper.class))).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ROWS)).thenReturn(futureRows);
         when(asyncUtils.transformFuture(eq(futureRows), rowsToTypedMapsCaptor.capture())).thenReturn(futureTypedMaps);
         when(asyncUtils.buildInterruptible(futureTypedMaps)).thenReturn(achillesFutureTypedMaps);
@@ -164,7 +168,7 @@ public class NativeQueryTest {
         List<TypedMap> typedMaps = new ArrayList<>();
         typedMaps.add(typedMap);
 
-        when(daoContext.execute(any(NativeStatementWrapper.class))).thenReturn(futureResultSet);
+        when(daoContext.executePaged(any(NativeStatementWrapper.class))).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ROWS)).thenReturn(futureRows);
         when(asyncUtils.transformFuture(eq(futureRows), rowsToTypedMapCaptor.capture())).thenReturn(futureTypedMap);
         when(asyncUtils.buildInterruptible(futureTypedMap)).thenReturn(achillesFutureTypedMap);
@@ -190,7 +194,7 @@ public class NativeQueryTest {
         List<Row> rows = Arrays.asList(row);
         List<TypedMap> typedMaps = new ArrayList<>();
 
-        when(daoContext.execute(any(NativeStatementWrapper.class))).thenReturn(futureResultSet);
+        when(daoContext.executePaged(any(NativeStatementWrapper.class))).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ROWS)).thenReturn(futureRows);
         when(asyncUtils.transformFuture(eq(futureRows), rowsToTypedMapCaptor.capture())).thenReturn(futureTypedMap);
         when(asyncUtils.buildInterruptible(futureTypedMap)).thenReturn(achillesFutureTypedMap);
@@ -242,7 +246,7 @@ public class NativeQueryTest {
         ResultSet resultSet = mock(ResultSet.class);
         Iterator<Row> iterator = mock(Iterator.class);
 
-        when(daoContext.execute(nativeStatementCaptor.capture())).thenReturn(futureResultSet);
+        when(daoContext.executePaged(nativeStatementCaptor.capture())).thenReturn(futureResultSet);
         when(asyncUtils.buildInterruptible(futureResultSet).getImmediately()).thenReturn(resultSet);
         when(resultSet.iterator()).thenReturn(Arrays.asList(row).iterator());
         when(iterator.hasNext()).thenReturn(true);
@@ -261,7 +265,7 @@ public class NativeQueryTest {
         AchillesFuture<Iterator<TypedMap>> achillesFuture = mock(AchillesFuture.class);
         Iterator<TypedMap> typedMapIterator = mock(TypedMapIterator.class);
 
-        when(daoContext.execute(nativeStatementCaptor.capture())).thenReturn(futureResultSet);
+        when(daoContext.executePaged(nativeStatementCaptor.capture())).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(eq(futureResultSet), any(Function.class), eq(executorService))).thenReturn(futureTypedMapIterator);
         when(asyncUtils.buildInterruptible(futureTypedMapIterator)).thenReturn(achillesFuture);
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.query.scan;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import org.junit.Test;
+
+public class TableScanCheckpointTest {
+
+    @Test
+    public void should_add_completed_split_to_new_checkpoint() throws Exception {
+        //Given
+        TableScanCheckpoint checkpoint = new TableScanCheckpoint(3, 42L);
+
+        //When
+        TableScanCheckpoint actual = checkpoint.withCompletedSplit(1);
+
+        //Then
+        assertThat(actual.getSplitCount()).isEqualTo(3);
+        assertThat(actual.getRingFingerprint()).isEqualTo(42L);
+        assertThat(actual.isCompleted(1)).isTrue();
+        assertThat(actual.isCompleted(0)).isFalse();
+        assertThat(checkpoint.getCompletedSplits()).isEmpty();
+    }
+
+    @Test
+    public void should_be_finished_when_all_splits_completed() throws Exception {
+        //Given
+        TableScanCheckpoint checkpoint = new TableScanCheckpoint(2, 42L).withCompletedSplit(0);
+
+        //When
+        TableScanCheckpoint actual = checkpoint.withCompletedSplit(1);
+
+        //Then
+        assertThat(checkpoint.isFinished()).isFalse();
+        assertThat(actual.isFinished()).isTrue();
+        assertThat(actual).isEqualTo(new TableScanCheckpoint(2, 42L).withCompletedSplit(1).withCompletedSplit(0));
+    }
+
+    @Test
+    public void should_not_count_twice_a_split_completed_again() throws Exception {
+        //Given
+        TableScanCheckpoint checkpoint = new TableScanCheckpoint(2, 42L).withCompletedSplit(0);
+
+        //When
+        TableScanCheckpoint actual = checkpoint.withCompletedSplit(0);
+
+        //Then
+        assertThat(actual.getCompletedSplits()).containsOnly(0);
+        assertThat(actual.isFinished()).isFalse();
+    }
+}
@@ -21,14 +21,19 @@ import static info.archinnov.achilles.schemabuilder.Create.Options.ClusteringOrd
 import static info.archinnov.achilles.type.ConsistencyLevel.QUORUM;
 import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
@@ -101,6 +106,35 @@ public class SelectDSLTest {
     }
 
 
+    @Test
+    public void should_not_leak_page_size_and_paging_state_into_following_get() throws Exception {
+        //Given
+        final SelectDSL<String> builder = new SliceQueryBuilder<>(executor, String.class, meta).forSelect();
+        when(meta.forTranscoding().encodePartitionComponents(Arrays.<Object>asList("a"))).thenReturn(Arrays.<Object>asList("a"));
+        final ArgumentCaptor<SliceQueryProperties> pagePropertiesCaptor = ArgumentCaptor.forClass(SliceQueryProperties.class);
+        final Statement statement = mock(Statement.class);
+
+        //When
+        final SelectFromPartition<String> start = builder
+                .withPartitionComponents("a");
+
+        start.getPage(5, "pagingState");
+        start.get();
+
+        //Then
+        verify(executor).getPage(pagePropertiesCaptor.capture());
+        final SliceQueryProperties<?> pageProperties = pagePropertiesCaptor.getValue();
+        assertThat(pageProperties).isNotSameAs(start.properties);
+        assertThat(pageProperties.fetchSizeO.get()).isEqualTo(5);
+        assertThat(pageProperties.getBoundValues()).containsSequence("a");
+
+        verify(executor).get(start.properties);
+        assertThat(start.properties.fetchSizeO.isPresent()).isFalse();
+        start.properties.setFetchSizeToStatement(statement);
+        start.properties.setPagingStateToStatement(statement);
+        verifyZeroInteractions(statement);
+    }
+
     @Test
     public void should_get_one_from_partition_keys_only() throws Exception {
         //Given
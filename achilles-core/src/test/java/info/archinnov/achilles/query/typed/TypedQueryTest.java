@@ -27,9 +27,11 @@ import static java.util.Arrays.asList;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 
@@ -45,7 +47,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
+import com.datastax.driver.core.ColumnDefinitionBuilder;
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Row;
 import com.google.common.base.Function;
@@ -54,6 +59,8 @@ import com.google.common.util.concurrent.ListenableFuture;
 import info.archinnov.achilles.async.AchillesFuture;
 import info.archinnov.achilles.interceptor.Event;
 import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.internal.async.BlockingCall;
+import info.archinnov.achilles.internal.async.BlockingCallExecutor;
 import info.archinnov.achilles.internal.context.ConfigurationContext;
 import info.archinnov.achilles.internal.context.DaoContext;
 import info.archinnov.achilles.internal.context.PersistenceContext;
@@ -153,6 +160,9 @@ public class TypedQueryTest {
     @Captor
     private ArgumentCaptor<Function<Iterator<Row>, Iterator<CompleteBean>>> iteratorCaptor;
 
+    @Captor
+    private ArgumentCaptor<Set<Method>> selectedGettersCaptor;
+
     private Class<CompleteBean> entityClass = CompleteBean.class;
 
     private CompleteBean entity = new CompleteBean();
@@ -160,6 +170,8 @@ public class TypedQueryTest {
     @Before
     public void setUp() {
         when(context.getEntityFacade()).thenReturn(entityFacade);
+        when(configContext.openBlockingCall()).thenReturn(BlockingCallExecutor.open(false));
+        when(configContext.awaitBlocking(any(BlockingCall.class))).thenCallRealMethod();
     }
 
     @Test
@@ -183,7 +195,7 @@ public class TypedQueryTest {
 
         initTypedQuery(statement, meta, meta.getPropertyMetas(), MANAGED);
 
-        when(daoContext.execute(any(AbstractStatementWrapper.class))).thenReturn(futureResultSet);
+        when(daoContext.executePaged(any(AbstractStatementWrapper.class))).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ROWS)).thenReturn(futureRows);
         when(asyncUtils.transformFuture(eq(futureRows), rowsToEntitiesCaptor.capture())).thenReturn(futureEntities);
         when(asyncUtils.transformFuture(eq(futureEntities), isoEntitiesCaptor.capture())).thenReturn(futureEntities);
@@ -215,6 +227,42 @@ public class TypedQueryTest {
     }
 
 
+    @Test
+    public void should_mark_only_selected_columns_as_loaded_on_proxies() throws Exception {
+        // Given
+        RegularStatement statement = select("id", "name").from("test");
+        initTypedQueryForProjection(statement, true);
+        when(proxifier.buildProxyWithFieldsLoaded(eq(entity), eq(entityFacade), selectedGettersCaptor.capture())).thenReturn(entity);
+
+        // When
+        typedQuery.asyncGetInternal(asyncListeners);
+
+        // Then
+        rowsToEntitiesCaptor.getValue().apply(asList(row));
+        final List<CompleteBean> entitiesWithProxy = isoEntitiesCaptor.getAllValues().get(1).apply(asList(entity));
+
+        assertThat(entitiesWithProxy).containsExactly(entity);
+        assertThat(selectedGettersCaptor.getValue()).containsOnly(CompleteBean.class.getDeclaredMethod("getId"), CompleteBean.class.getDeclaredMethod("getName"));
+    }
+
+    @Test
+    public void should_mark_all_columns_as_loaded_on_proxies_when_not_a_projection_query() throws Exception {
+        // Given
+        RegularStatement statement = select("id", "name").from("test");
+        initTypedQueryForProjection(statement, false);
+        when(proxifier.buildProxyWithAllFieldsLoadedExceptCounters(entity, entityFacade)).thenReturn(entity);
+
+        // When
+        typedQuery.asyncGetInternal(asyncListeners);
+
+        // Then
+        rowsToEntitiesCaptor.getValue().apply(asList(row));
+        final List<CompleteBean> entitiesWithProxy = isoEntitiesCaptor.getAllValues().get(1).apply(asList(entity));
+
+        assertThat(entitiesWithProxy).containsExactly(entity);
+        verify(proxifier, never()).buildProxyWithFieldsLoaded(eq(entity), eq(entityFacade), Mockito.<Set<Method>>any());
+    }
+
     @Test
     public void should_get_first_entity_async() throws Exception {
         // When
@@ -265,7 +313,7 @@ public class TypedQueryTest {
         initTypedQuery(statement, meta, meta.getPropertyMetas(), MANAGED);
 
         when(contextFactory.newContextForTypedQuery(entityClass)).thenReturn(context);
-        when(daoContext.execute(any(AbstractStatementWrapper.class))).thenReturn(futureResultSet);
+        when(daoContext.executePaged(any(AbstractStatementWrapper.class))).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ITERATOR, executorService)).thenReturn(futureIteratorRow);
         when(asyncUtils.transformFuture(eq(futureIteratorRow), iteratorCaptor.capture())).thenReturn(futureIteratorEntity);
 
@@ -289,7 +337,7 @@ public class TypedQueryTest {
         initTypedQuery(statement, meta, meta.getPropertyMetas(), MANAGED);
 
         when(contextFactory.newContextForTypedQuery(entityClass)).thenReturn(context);
-        when(daoContext.execute(any(AbstractStatementWrapper.class))).thenReturn(futureResultSet);
+        when(daoContext.executePaged(any(AbstractStatementWrapper.class))).thenReturn(futureResultSet);
         when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ITERATOR, executorService)).thenReturn(futureIteratorRow);
         when(asyncUtils.transformFuture(eq(futureIteratorRow), iteratorCaptor.capture())).thenReturn(futureIteratorEntity);
 
@@ -307,6 +355,58 @@ public class TypedQueryTest {
         verify(asyncUtils).maybeAddAsyncListeners(futureIteratorEntity, asyncListeners);
     }
 
+    @Test
+    public void should_not_leak_page_size_into_following_get() throws Exception {
+        //Given
+        PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).propertyName("id")
+                .type(PropertyType.PARTITION_KEY).cqlColumnName("id").accessors().build();
+
+        EntityMeta meta = buildEntityMeta(idMeta);
+
+        RegularStatement statement = select("id").from("test");
+        initTypedQuery(statement, meta, meta.getPropertyMetas(), MANAGED);
+
+        final ArgumentCaptor<AbstractStatementWrapper> pageWrapperCaptor = ArgumentCaptor.forClass(AbstractStatementWrapper.class);
+        final ArgumentCaptor<AbstractStatementWrapper> wrapperCaptor = ArgumentCaptor.forClass(AbstractStatementWrapper.class);
+        when(daoContext.getProtocolVersion()).thenReturn(ProtocolVersion.V3);
+        when(daoContext.execute(pageWrapperCaptor.capture())).thenReturn(futureResultSet);
+        when(daoContext.executePaged(wrapperCaptor.capture())).thenReturn(futureResultSet);
+
+        //When
+        typedQuery.asyncGetPageInternal(5, null, asyncListeners);
+        typedQuery.asyncGetInternal(asyncListeners);
+
+        //Then
+        assertThat(pageWrapperCaptor.getValue()).isNotSameAs(typedQuery.nativeStatementWrapper);
+        assertThat(pageWrapperCaptor.getValue().getStatement().getFetchSize()).isEqualTo(5);
+        assertThat(wrapperCaptor.getValue()).isSameAs(typedQuery.nativeStatementWrapper);
+        assertThat(wrapperCaptor.getValue().getStatement().getFetchSize()).isEqualTo(0);
+    }
+
+    private void initTypedQueryForProjection(RegularStatement statement, boolean projection) {
+        PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).propertyName("id")
+                .type(PARTITION_KEY).cqlColumnName("id").accessors().build();
+        PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).propertyName("name")
+                .type(SIMPLE).cqlColumnName("name").accessors().build();
+        PropertyMeta ageMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).propertyName("age")
+                .type(SIMPLE).cqlColumnName("age").accessors().build();
+
+        EntityMeta meta = buildEntityMeta(idMeta, nameMeta, ageMeta);
+        when(meta.getIdMeta()).thenReturn(idMeta);
+        initTypedQuery(statement, meta, meta.getPropertyMetas(), MANAGED, projection);
+
+        when(row.getColumnDefinitions()).thenReturn(ColumnDefinitionBuilder.buildColumnDefinitions(
+                ColumnDefinitionBuilder.buildColumnDef("ks", "test", "id", DataType.bigint()),
+                ColumnDefinitionBuilder.buildColumnDef("ks", "test", "name", DataType.text())));
+        when(daoContext.executePaged(any(AbstractStatementWrapper.class))).thenReturn(futureResultSet);
+        when(asyncUtils.transformFuture(futureResultSet, RESULTSET_TO_ROWS)).thenReturn(futureRows);
+        when(asyncUtils.transformFuture(eq(futureRows), rowsToEntitiesCaptor.capture())).thenReturn(futureEntities);
+        when(asyncUtils.transformFuture(eq(futureEntities), isoEntitiesCaptor.capture())).thenReturn(futureEntities);
+        when(asyncUtils.buildInterruptible(futureEntities)).thenReturn(achillesFuturesEntities);
+        when(mapper.mapRowToEntityWithPrimaryKey(eq(meta), eq(row), Mockito.<Map<String, PropertyMeta>>any(), eq(MANAGED))).thenReturn(entity);
+        when(contextFactory.newContext(entity)).thenReturn(context);
+    }
+
     private EntityMeta buildEntityMeta(PropertyMeta... pms) {
         Map<String, PropertyMeta> propertyMetas = new HashMap<>();
         for (PropertyMeta pm : pms) {
@@ -317,7 +417,11 @@ public class TypedQueryTest {
     }
 
     private void initTypedQuery(RegularStatement regularStatement, EntityMeta meta, Map<String, PropertyMeta> propertyMetas, EntityState entityState) {
-        typedQuery = new TypedQuery<>(entityClass, daoContext, configContext, regularStatement, meta, contextFactory, entityState, new Object[] { "a" });
+        initTypedQuery(regularStatement, meta, propertyMetas, entityState, false);
+    }
+
+    private void initTypedQuery(RegularStatement regularStatement, EntityMeta meta, Map<String, PropertyMeta> propertyMetas, EntityState entityState, boolean projection) {
+        typedQuery = new TypedQuery<>(entityClass, daoContext, configContext, regularStatement, meta, contextFactory, entityState, new Object[] { "a" }, projection);
 
         Whitebox.setInternalState(typedQuery, Map.class, propertyMetas);
         Whitebox.setInternalState(typedQuery, EntityMapper.class, mapper);
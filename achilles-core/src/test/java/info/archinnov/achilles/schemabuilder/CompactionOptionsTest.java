@@ -58,6 +58,21 @@ public class CompactionOptionsTest {
         assertThat(build).isEqualTo("{'class' : 'LeveledCompactionStrategy', 'enabled' : true, 'max_threshold' : 5, 'tombstone_compaction_interval' : 3, 'tombstone_threshold' : 0.7, 'sstable_size_in_mb' : 160}");
     }
 
+    @Test
+    public void should_create_date_tiered_compaction_option() throws Exception {
+        //When
+        final String build = TableOptions.CompactionOptions
+                .dateTieredStrategy()
+                .baseTimeSeconds(3600L)
+                .maxSSTableAgeDays(30)
+                .minThreshold(4)
+                .maxThreshold(32)
+                .build();
+
+        //Then
+        assertThat(build).isEqualTo("{'class' : 'DateTieredCompactionStrategy', 'max_threshold' : 32, 'base_time_seconds' : 3600, 'max_sstable_age_days' : 30, 'min_threshold' : 4}");
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void should_throw_exception_if_cold_read_ration_out_of_range() throws Exception {
         TableOptions.CompactionOptions
@@ -19,6 +19,7 @@ package info.archinnov.achilles.embedded;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.KEYSPACE_NAME;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.*;
 import static info.archinnov.achilles.embedded.StateRepository.REPOSITORY;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import java.util.ArrayList;
@@ -69,10 +70,16 @@ public class AchillesInitializer {
 
     private void initialize(String cassandraHost, TypedMap parameters, ConfigMap achillesParameters) {
 
-        Boolean keyspaceDurableWrite = parameters.getTyped(KEYSPACE_DURABLE_WRITE);
+        final boolean fastStartup = parameters.getTypedOr(FAST_STARTUP, false);
+        final Boolean durableWriteParameter = parameters.getTyped(KEYSPACE_DURABLE_WRITE);
+        Boolean keyspaceDurableWrite = durableWriteParameter && !fastStartup;
         Boolean nativeSessionOnly = parameters.getTyped(BUILD_NATIVE_SESSION_ONLY);
         Boolean nativeClusterOnly = parameters.getTyped(BUILD_NATIVE_CLUSTER_ONLY);
 
+        if (fastStartup && !achillesParameters.containsKey(ConfigurationParameters.PARALLEL_TABLE_CREATION)) {
+            achillesParameters.put(ConfigurationParameters.PARALLEL_TABLE_CREATION, true);
+        }
+
 
         String hostname;
         int cqlPort;
@@ -95,16 +102,23 @@ public class AchillesInitializer {
         }
 
         String keyspaceName = extractAndValidateKeyspaceName(achillesParameters);
+        final long startTime = System.nanoTime();
         createKeyspaceIfNeeded(cluster, keyspaceName, keyspaceDurableWrite);
         final Session session = cluster.connect(keyspaceName);
+        final long keyspaceTime = System.nanoTime();
         executeStartupScripts(session, parameters);
+        final long scriptsTime = System.nanoTime();
 
         if (nativeSessionOnly) {
             REPOSITORY.addNewSessionToKeyspace(keyspaceName, session);
         } else {
             bootstrapAchilles(achillesParameters, cluster, keyspaceName, session);
         }
+        final long endTime = System.nanoTime();
 
+        LOGGER.info("Keyspace {} initialized in {} ms : keyspace creation = {} ms, startup scripts = {} ms, Achilles bootstrap = {} ms",
+                keyspaceName, NANOSECONDS.toMillis(endTime - startTime), NANOSECONDS.toMillis(keyspaceTime - startTime),
+                NANOSECONDS.toMillis(scriptsTime - keyspaceTime), NANOSECONDS.toMillis(endTime - scriptsTime));
     }
 
     private void bootstrapAchilles(ConfigMap achillesParameters, Cluster cluster, String keyspaceName, Session session) {
@@ -33,6 +33,7 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.COMMIT_LOG_FOLDER;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.CONFIG_YAML_FILE;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DATA_FILE_FOLDER;
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.FAST_STARTUP;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.SAVED_CACHES_FOLDER;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -124,6 +125,24 @@ public class CassandraConfig {
         // Tuning for perf
         config.memtable_total_space_in_mb = 64;
         config.commitlog_total_space_in_mb = 32;
+
+        if (parameters.getTypedOr(FAST_STARTUP, false)) {
+            configureFastStartup(parameters);
+        }
+    }
+
+    private void configureFastStartup(TypedMap parameters) {
+        config.commitlog_sync_period_in_ms = 60000;
+        config.concurrent_reads = parameters.getTypedOr(CASSANDRA_CONCURRENT_READS, 4);
+        config.concurrent_writes = parameters.getTypedOr(CASSANDRA_CONCURRENT_WRITES, 4);
+        config.concurrent_compactors = 1;
+        config.memtable_flush_writers = 1;
+        config.native_transport_max_threads = 16;
+        config.max_hints_delivery_threads = 1;
+        config.key_cache_size_in_mb = 0L;
+        config.key_cache_save_period = 0;
+        config.compaction_preheat_key_cache = false;
+        config.auto_snapshot = false;
     }
 
     private void updateWithHomePath() {
@@ -70,6 +70,8 @@ public class CassandraEmbeddedConfigParameters {
 
     public static final String SCRIPT_LOCATIONS = "scriptLocations";
 
+    public static final String FAST_STARTUP = "fastStartup";
+
     /*
      * Default values
      */
@@ -85,6 +87,8 @@ public class CassandraEmbeddedConfigParameters {
 
     static final String DEFAULT_ACHILLES_TEST_TRIGGERS_FOLDER = "/cassandra_triggers";
 
+    static final String DEFAULT_FAST_STARTUP_MEMORY_FOLDER = "/dev/shm";
+
     static final Set<String> DEFAULT_ACHILLES_TEST_FOLDERS = ImmutableSet.of(DEFAULT_ACHILLES_TEST_DATA_FOLDER,
             DEFAULT_ACHILLES_TEST_COMMIT_LOG_FOLDER, DEFAULT_ACHILLES_TEST_SAVED_CACHES_FOLDER);
 
@@ -116,6 +120,7 @@ public class CassandraEmbeddedConfigParameters {
         defaultParams.put(RECONNECTION_POLICY, Policies.defaultReconnectionPolicy());
         defaultParams.put(BUILD_NATIVE_SESSION_ONLY, false);
         defaultParams.put(BUILD_NATIVE_CLUSTER_ONLY, false);
+        defaultParams.put(FAST_STARTUP, false);
         defaultParams.putAll(parameters);
 
         return defaultParams;
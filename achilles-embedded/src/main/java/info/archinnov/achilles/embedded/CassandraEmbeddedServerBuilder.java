@@ -101,6 +101,8 @@ public class CassandraEmbeddedServerBuilder {
 
     private boolean buildNativeClusterOnly = false;
 
+    private boolean fastStartup = false;
+
     private List<String> scriptLocations = new ArrayList<>();
 
     private Map<ConfigurationParameters, Object> achillesConfigParams = new HashMap<>();
@@ -366,6 +368,31 @@ public class CassandraEmbeddedServerBuilder {
         return this;
     }
 
+    /**
+     * Start the embedded Cassandra server with a profile trading durability for startup time.
+     * Meant for unit tests and local benchmarking only, <strong>data may be lost</strong>:
+     *
+     * <ul>
+     *     <li>data, commit log and saved caches folders left to their default value are moved
+     *     to the in-memory file system <em>/dev/shm</em> when available</li>
+     *     <li>system tables are not flushed on schema changes</li>
+     *     <li>the keyspace is created with 'durable write' disabled</li>
+     *     <li>thread pools and caches of the server are trimmed</li>
+     *     <li>missing entity tables are created in one parallel pass</li>
+     * </ul>
+     *
+     * Default value is 'false'
+     *
+     * @param fastStartup
+     *            whether to activate the fast startup profile or not
+     *
+     * @return CassandraEmbeddedServerBuilder
+     */
+    public CassandraEmbeddedServerBuilder withFastStartup(boolean fastStartup) {
+        this.fastStartup = fastStartup;
+        return this;
+    }
+
     /**
      * Add Achilles configuration parameters
      *
@@ -512,7 +539,7 @@ public class CassandraEmbeddedServerBuilder {
           config.put(CASSANDRA_CONCURRENT_READS, concurrentReads);
 
         if (concurrentWrites > 0)
-          config.put(CASSANDRA_CONCURRENT_READS, concurrentWrites);
+          config.put(CASSANDRA_CONCURRENT_WRITES, concurrentWrites);
 
         config.put(KEYSPACE_DURABLE_WRITE, durableWrite);
 
@@ -522,6 +549,8 @@ public class CassandraEmbeddedServerBuilder {
 
         config.put(SCRIPT_LOCATIONS, scriptLocations);
 
+        config.put(FAST_STARTUP, fastStartup);
+
         TypedMap parameters = CassandraEmbeddedConfigParameters.mergeWithDefaultParameters(config);
         return parameters;
     }
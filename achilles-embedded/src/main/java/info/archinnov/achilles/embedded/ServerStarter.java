@@ -37,9 +37,15 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.COMMIT_LOG_FOLDER;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.CONFIG_YAML_FILE;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DATA_FILE_FOLDER;
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_ACHILLES_TEST_COMMIT_LOG_FOLDER;
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_ACHILLES_TEST_DATA_FOLDER;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_ACHILLES_TEST_FOLDERS;
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_ACHILLES_TEST_SAVED_CACHES_FOLDER;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_ACHILLES_TEST_TRIGGERS_FOLDER;
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_FAST_STARTUP_MEMORY_FOLDER;
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.FAST_STARTUP;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.SAVED_CACHES_FOLDER;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import java.io.File;
 import java.io.IOException;
@@ -81,15 +87,25 @@ public enum ServerStarter {
         if (StringUtils.isBlank(cassandraHost)) {
 
             log.debug("Do start embedded Cassandra server ");
+            final long startTime = System.nanoTime();
+            if (parameters.getTypedOr(FAST_STARTUP, false)) {
+                configureFastStartup(parameters);
+            }
             validateDataFolders(parameters);
             cleanCassandraDataFiles(parameters);
             cleanCassandraConfigFile(parameters);
             randomizePortsIfNeeded(parameters);
+            final long preparationTime = System.nanoTime();
 
             CassandraConfig cassandraConfig = new CassandraConfig(parameters);
 
             // Start embedded server
             CASSANDRA_EMBEDDED.start(cassandraConfig);
+            final long endTime = System.nanoTime();
+
+            log.info("Embedded Cassandra started in {} ms : folders and ports preparation = {} ms, server startup = {} ms",
+                    NANOSECONDS.toMillis(endTime - startTime), NANOSECONDS.toMillis(preparationTime - startTime),
+                    NANOSECONDS.toMillis(endTime - preparationTime));
         }
     }
 
@@ -129,7 +145,9 @@ public enum ServerStarter {
         log.info(" Embedded Cassandra triggers directory = {}", triggersDir);
 
         log.info("Starting Cassandra...");
+        final long startTime = System.nanoTime();
         config.write();
+        final long configTime = System.nanoTime();
 
         System.setProperty("cassandra.triggers_dir", triggersDir);
         System.setProperty("cassandra.config", "file:" + config.getConfigFile().getAbsolutePath());
@@ -153,6 +171,8 @@ public enum ServerStarter {
             log.error("Timeout starting Cassandra embedded", e);
             throw new IllegalStateException("Timeout starting Cassandra embedded", e);
         }
+        log.info(" Embedded Cassandra config file written in {} ms, daemon activated in {} ms",
+                NANOSECONDS.toMillis(configTime - startTime), NANOSECONDS.toMillis(System.nanoTime() - configTime));
 
         // Generate an OrderedShutdownHook to shutdown all connections from java clients before closing the server
         Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -168,6 +188,33 @@ public enum ServerStarter {
         });
     }
 
+    private void configureFastStartup(TypedMap parameters) {
+        log.info(" Embedded Cassandra fast startup enabled, data are not durable");
+
+        // Skip the flush of the system tables on each schema change (keyspace & table creation)
+        System.setProperty("cassandra.unsafesystem", "true");
+
+        final File memoryFolder = new File(DEFAULT_FAST_STARTUP_MEMORY_FOLDER);
+        final File baseFolder = memoryFolder.isDirectory() && memoryFolder.canWrite() ? memoryFolder : new File(System.getProperty("java.io.tmpdir"));
+        // One folder per project so that builds of different projects do not share the same data
+        final File embeddedFolder = new File(baseFolder, "achilles_embedded_" + Math.abs(System.getProperty("user.dir").hashCode()));
+
+        moveToFolderIfDefault(parameters, DATA_FILE_FOLDER, DEFAULT_ACHILLES_TEST_DATA_FOLDER, new File(embeddedFolder, "data"));
+        moveToFolderIfDefault(parameters, COMMIT_LOG_FOLDER, DEFAULT_ACHILLES_TEST_COMMIT_LOG_FOLDER, new File(embeddedFolder, "commitlog"));
+        moveToFolderIfDefault(parameters, SAVED_CACHES_FOLDER, DEFAULT_ACHILLES_TEST_SAVED_CACHES_FOLDER, new File(embeddedFolder, "saved_caches"));
+    }
+
+    private void moveToFolderIfDefault(TypedMap parameters, String parameter, String defaultFolder, File folder) {
+        if (defaultFolder.equals(parameters.get(parameter))) {
+            try {
+                FileUtils.forceMkdir(folder);
+            } catch (IOException e) {
+                throw new RuntimeException("Cannot create Cassandra data folder " + folder.getAbsolutePath(), e);
+            }
+            parameters.put(parameter, folder.getAbsolutePath());
+        }
+    }
+
     private void validateDataFolders(Map<String, Object> parameters) {
         final String dataFolder = (String) parameters.get(DATA_FILE_FOLDER);
         final String commitLogFolder = (String) parameters.get(COMMIT_LOG_FOLDER);
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package info.archinnov.achilles.java8;
+
+import static info.archinnov.achilles.java8.CompletionStages.from;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.ListenableFuture;
+import info.archinnov.achilles.persistence.AsyncBatch;
+import info.archinnov.achilles.persistence.AsyncManager;
+import info.archinnov.achilles.query.slice.AsyncSliceQueryBuilder;
+import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.IndexCondition;
+import info.archinnov.achilles.type.Options;
+
+/**
+ * <p>
+ * <strong>Stateless</strong> CompletionStage view of an {@link info.archinnov.achilles.persistence.AsyncManager}.
+ * This class is thread-safe and can be shared by many threads.
+ * <br/>
+ * Each returned stage is completed on the thread completing the underlying <em>AchillesFuture</em>,
+ * without any additional hand-off to the Achilles executor service.
+ * </p>
+ *
+ * <pre class="code"><code class="java">
+ *      CompletionStageManager manager = new CompletionStageManager(persistenceManagerFactory.createAsyncManager());
+ *
+ *      manager.find(User.class, 10L)
+ *          .thenApply(User::getFirstname)
+ *          .thenAccept(System.out::println);
+ *
+ *      CompletionStage&lt;List&lt;Tweet&gt;&gt; tweets = manager.sliceQuery(Tweet.class,
+ *          builder -&gt; builder.forSelect().withPartitionComponents(userId).get(10));
+ * </code></pre>
+ */
+public class CompletionStageManager {
+
+    private final AsyncManager asyncManager;
+
+    public CompletionStageManager(AsyncManager asyncManager) {
+        this.asyncManager = asyncManager;
+    }
+
+    public <T> CompletionStage<T> find(Class<T> entityClass, Object primaryKey) {
+        return from(asyncManager.find(entityClass, primaryKey));
+    }
+
+    public <T> CompletionStage<T> find(Class<T> entityClass, Object primaryKey, Options options) {
+        return from(asyncManager.find(entityClass, primaryKey, options));
+    }
+
+    public <T> CompletionStage<T> findProjection(Class<T> entityClass, Object primaryKey, String... propertyNames) {
+        return from(asyncManager.findProjection(entityClass, primaryKey, propertyNames));
+    }
+
+    public <T> CompletionStage<T> insert(T entity) {
+        return from(asyncManager.insert(entity));
+    }
+
+    public <T> CompletionStage<T> insert(T entity, Options options) {
+        return from(asyncManager.insert(entity, options));
+    }
+
+    public <T> CompletionStage<T> update(T entity) {
+        return from(asyncManager.update(entity));
+    }
+
+    public <T> CompletionStage<T> update(T entity, Options options) {
+        return from(asyncManager.update(entity, options));
+    }
+
+    public <T> CompletionStage<T> insertOrUpdate(T entity) {
+        return from(asyncManager.insertOrUpdate(entity));
+    }
+
+    public <T> CompletionStage<T> insertOrUpdate(T entity, Options options) {
+        return from(asyncManager.insertOrUpdate(entity, options));
+    }
+
+    public <T> CompletionStage<T> delete(T entity) {
+        return from(asyncManager.delete(entity));
+    }
+
+    public <T> CompletionStage<T> delete(T entity, Options options) {
+        return from(asyncManager.delete(entity, options));
+    }
+
+    public CompletionStage<Empty> deleteById(Class<?> entityClass, Object primaryKey) {
+        return from(asyncManager.deleteById(entityClass, primaryKey));
+    }
+
+    public CompletionStage<Empty> deleteById(Class<?> entityClass, Object primaryKey, Options options) {
+        return from(asyncManager.deleteById(entityClass, primaryKey, options));
+    }
+
+    public <T> CompletionStage<T> refresh(T entity) {
+        return from(asyncManager.refresh(entity));
+    }
+
+    public <T> CompletionStage<T> refresh(T entity, Options options) {
+        return from(asyncManager.refresh(entity, options));
+    }
+
+    /**
+     * Execute a slice query built with the asynchronous slice query DSL
+     *
+     * @param entityClass type of the clustered entity
+     * @param query function building and executing the slice query from the provided builder
+     * @return CompletionStage of the slice query result
+     */
+    public <T, V> CompletionStage<V> sliceQuery(Class<T> entityClass, Function<AsyncSliceQueryBuilder<T>, ? extends ListenableFuture<V>> query) {
+        return from(query.apply(asyncManager.sliceQuery(entityClass)));
+    }
+
+    public <T> CompletionStageTypedQuery<T> typedQuery(Class<T> entityClass, Statement statement, Object... boundValues) {
+        return new CompletionStageTypedQuery<>(asyncManager.typedQuery(entityClass, statement, boundValues));
+    }
+
+    public <T> CompletionStageTypedQuery<T> typedProjectionQuery(Class<T> entityClass, Statement statement, Object... boundValues) {
+        return new CompletionStageTypedQuery<>(asyncManager.typedProjectionQuery(entityClass, statement, boundValues));
+    }
+
+    public <T> CompletionStageTypedQuery<T> rawTypedQuery(Class<T> entityClass, Statement statement, Object... boundValues) {
+        return new CompletionStageTypedQuery<>(asyncManager.rawTypedQuery(entityClass, statement, boundValues));
+    }
+
+    public <T> CompletionStageTypedQuery<T> indexedQuery(Class<T> entityClass, IndexCondition indexCondition) {
+        return new CompletionStageTypedQuery<>(asyncManager.indexedQuery(entityClass, indexCondition));
+    }
+
+    /**
+     * Flush all pending statements of the batch
+     *
+     * @param batch batch created with {@link info.archinnov.achilles.persistence.AsyncManager#createBatch()}
+     * @return CompletionStage completed when the batch has been flushed
+     */
+    public CompletionStage<Empty> endBatch(AsyncBatch batch) {
+        return from(batch.asyncEndBatch());
+    }
+
+    public AsyncManager getAsyncManager() {
+        return asyncManager;
+    }
+}
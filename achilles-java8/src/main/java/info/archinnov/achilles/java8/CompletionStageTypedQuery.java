@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package info.archinnov.achilles.java8;
+
+import static info.archinnov.achilles.java8.CompletionStages.from;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import info.archinnov.achilles.query.typed.AsyncTypedQuery;
+import info.archinnov.achilles.type.Page;
+
+public class CompletionStageTypedQuery<T> {
+
+    private final AsyncTypedQuery<T> typedQuery;
+
+    CompletionStageTypedQuery(AsyncTypedQuery<T> typedQuery) {
+        this.typedQuery = typedQuery;
+    }
+
+    /**
+     * Executes the query and returns entities
+     *
+     * @return CompletionStage&lt;List&lt;T&gt;&gt; list of found entities or empty list
+     */
+    public CompletionStage<List<T>> get() {
+        return from(typedQuery.get());
+    }
+
+    /**
+     * Executes the query and returns first entity
+     *
+     * @return CompletionStage&lt;T&gt; first found entity or null
+     */
+    public CompletionStage<T> getFirst() {
+        return from(typedQuery.getFirst());
+    }
+
+    /**
+     * Executes the query and returns an iterator on entities
+     *
+     * @return CompletionStage&lt;Iterator&lt;T&gt;&gt; iterator on found entities
+     */
+    public CompletionStage<Iterator<T>> iterator() {
+        return from(typedQuery.iterator());
+    }
+
+    /**
+     * Executes the query and returns the first page of entities
+     *
+     * @param pageSize max number of entities of the page
+     * @return CompletionStage&lt;Page&lt;T&gt;&gt; first page of found entities
+     */
+    public CompletionStage<Page<T>> getPage(int pageSize) {
+        return from(typedQuery.getPage(pageSize));
+    }
+
+    /**
+     * Executes the query and returns the page of entities right after the page which returned the provided paging state
+     *
+     * @param pageSize max number of entities of the page
+     * @param pagingState paging state of the previous page
+     * @return CompletionStage&lt;Page&lt;T&gt;&gt; next page of found entities
+     */
+    public CompletionStage<Page<T>> getPage(int pageSize, String pagingState) {
+        return from(typedQuery.getPage(pageSize, pagingState));
+    }
+}
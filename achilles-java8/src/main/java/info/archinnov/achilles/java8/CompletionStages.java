@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package info.archinnov.achilles.java8;
+
+import static com.google.common.util.concurrent.MoreExecutors.sameThreadExecutor;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Adapt Guava <em>ListenableFuture</em> (and thus <em>AchillesFuture</em>) to <em>CompletableFuture</em>
+ * <br/>
+ * <br/>
+ * The CompletableFuture is completed by a single listener running on the thread completing the source future,
+ * there is no hand-off to any executor. Cancelling the CompletableFuture cancels the source future.
+ *
+ * <pre class="code"><code class="java">
+ *      CompletionStage&lt;User&gt; user = CompletionStages.from(asyncManager.find(User.class, 10L));
+ * </code></pre>
+ */
+public final class CompletionStages {
+
+    private CompletionStages() {
+    }
+
+    public static <V> CompletableFuture<V> from(final ListenableFuture<V> source) {
+        final CompletableFuture<V> stage = new SourceBoundFuture<>(source);
+        source.addListener(() -> {
+            try {
+                stage.complete(Uninterruptibles.getUninterruptibly(source));
+            } catch (ExecutionException e) {
+                stage.completeExceptionally(e.getCause());
+            } catch (CancellationException e) {
+                stage.cancel(false);
+            } catch (RuntimeException | Error e) {
+                stage.completeExceptionally(e);
+            }
+        }, sameThreadExecutor());
+        return stage;
+    }
+
+    private static class SourceBoundFuture<V> extends CompletableFuture<V> {
+
+        private final ListenableFuture<V> source;
+
+        private SourceBoundFuture(ListenableFuture<V> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                source.cancel(mayInterruptIfRunning);
+            }
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package info.archinnov.achilles.java8;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Futures;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.persistence.AsyncBatch;
+import info.archinnov.achilles.persistence.AsyncManager;
+import info.archinnov.achilles.query.slice.AsyncSliceQueryBuilder;
+import info.archinnov.achilles.query.typed.AsyncTypedQuery;
+import info.archinnov.achilles.type.Empty;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CompletionStageManagerTest {
+
+    private CompletionStageManager manager;
+
+    @Mock
+    private AsyncManager asyncManager;
+
+    @Mock
+    private AsyncBatch batch;
+
+    @Mock
+    private AsyncTypedQuery<String> typedQuery;
+
+    @Mock
+    private AsyncSliceQueryBuilder<String> sliceQueryBuilder;
+
+    @Mock
+    private Statement statement;
+
+    @Before
+    public void setUp() {
+        manager = new CompletionStageManager(asyncManager);
+    }
+
+    @Test
+    public void should_find() throws Exception {
+        //Given
+        when(asyncManager.find(String.class, 10L)).thenReturn(achillesFuture("entity"));
+
+        //When
+        final String actual = manager.find(String.class, 10L).toCompletableFuture().get();
+
+        //Then
+        assertThat(actual).isEqualTo("entity");
+    }
+
+    @Test
+    public void should_insert() throws Exception {
+        //Given
+        when(asyncManager.insert("entity")).thenReturn(achillesFuture("proxy"));
+
+        //When
+        final String actual = manager.insert("entity").toCompletableFuture().get();
+
+        //Then
+        assertThat(actual).isEqualTo("proxy");
+    }
+
+    @Test
+    public void should_delete_by_id() throws Exception {
+        //Given
+        when(asyncManager.deleteById(String.class, 10L)).thenReturn(achillesFuture(Empty.INSTANCE));
+
+        //When
+        final Empty actual = manager.deleteById(String.class, 10L).toCompletableFuture().get();
+
+        //Then
+        assertThat(actual).isSameAs(Empty.INSTANCE);
+    }
+
+    @Test
+    public void should_execute_slice_query() throws Exception {
+        //Given
+        final List<String> entities = Arrays.asList("entity");
+        when(asyncManager.sliceQuery(String.class)).thenReturn(sliceQueryBuilder);
+
+        //When
+        final List<String> actual = manager.sliceQuery(String.class, builder -> {
+            assertThat(builder).isSameAs(sliceQueryBuilder);
+            return achillesFuture(entities);
+        }).toCompletableFuture().get();
+
+        //Then
+        assertThat(actual).isSameAs(entities);
+    }
+
+    @Test
+    public void should_execute_typed_query() throws Exception {
+        //Given
+        final List<String> entities = Arrays.asList("entity");
+        when(asyncManager.typedQuery(String.class, statement)).thenReturn(typedQuery);
+        when(typedQuery.get()).thenReturn(achillesFuture(entities));
+        when(typedQuery.getFirst()).thenReturn(achillesFuture("entity"));
+
+        //When
+        final CompletionStageTypedQuery<String> query = manager.typedQuery(String.class, statement);
+
+        //Then
+        assertThat(query.get().toCompletableFuture().get()).isSameAs(entities);
+        assertThat(query.getFirst().toCompletableFuture().get()).isEqualTo("entity");
+    }
+
+    @Test
+    public void should_end_batch() throws Exception {
+        //Given
+        when(batch.asyncEndBatch()).thenReturn(achillesFuture(Empty.INSTANCE));
+
+        //When
+        final Empty actual = manager.endBatch(batch).toCompletableFuture().get();
+
+        //Then
+        assertThat(actual).isSameAs(Empty.INSTANCE);
+    }
+
+    private <V> AchillesFuture<V> achillesFuture(V value) {
+        return new AchillesFuture<>(Futures.immediateFuture(value));
+    }
+}
@@ -0,0 +1,75 @@
+package info.archinnov.achilles.java8;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.fest.assertions.api.Assertions.fail;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import com.google.common.util.concurrent.SettableFuture;
+
+public class CompletionStagesTest {
+
+    @Test
+    public void should_complete_stage_on_completing_thread() throws Exception {
+        //Given
+        final SettableFuture<String> source = SettableFuture.create();
+        final AtomicReference<Thread> completingThread = new AtomicReference<>();
+
+        //When
+        final CompletableFuture<String> stage = CompletionStages.from(source);
+        stage.thenRun(() -> completingThread.set(Thread.currentThread()));
+        source.set("test");
+
+        //Then
+        assertThat(stage.get()).isEqualTo("test");
+        assertThat(completingThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void should_complete_stage_exceptionally_with_cause() throws Exception {
+        //Given
+        final SettableFuture<String> source = SettableFuture.create();
+        final RuntimeException exception = new RuntimeException("test");
+
+        //When
+        final CompletableFuture<String> stage = CompletionStages.from(source);
+        source.setException(exception);
+
+        //Then
+        assertThat(stage.isCompletedExceptionally()).isTrue();
+        try {
+            stage.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isSameAs(exception);
+        }
+    }
+
+    @Test
+    public void should_cancel_source_when_stage_cancelled() throws Exception {
+        //Given
+        final SettableFuture<String> source = SettableFuture.create();
+
+        //When
+        final CompletableFuture<String> stage = CompletionStages.from(source);
+        stage.cancel(false);
+
+        //Then
+        assertThat(source.isCancelled()).isTrue();
+        assertThat(stage.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void should_cancel_stage_when_source_cancelled() throws Exception {
+        //Given
+        final SettableFuture<String> source = SettableFuture.create();
+
+        //When
+        final CompletableFuture<String> stage = CompletionStages.from(source);
+        source.cancel(false);
+
+        //Then
+        assertThat(stage.isCancelled()).isTrue();
+    }
+}
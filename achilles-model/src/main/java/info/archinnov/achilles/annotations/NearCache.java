@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Keep the rows of an entity in a client-side cache, in front of <em>PersistenceManager.find()</em>.
+ * <br/>
+ * The cache is keyed by primary key and holds the raw rows: each <em>find()</em> served from the cache
+ * still maps a new entity instance, so modifying a returned entity never alters the cache.
+ * <br/>
+ * <br/>
+ * Entries are evicted by size and time to live, and invalidated by the <em>insert()</em>, <em>update()</em>,
+ * <em>delete()</em> and <em>deleteById()</em> operations and slice deletes issued through the same
+ * <em>PersistenceManagerFactory</em>. Writes done by other clients or with native queries are only seen
+ * once the entry expires, so use it for reference data that can tolerate this staleness.
+ * <br/>
+ * A find with an explicit consistency level always goes to Cassandra, and so does <em>refresh()</em>.
+ *
+ * <pre class="code"><code class="java">
+ *
+ *   {@literal @}Entity(table = "country")
+ *   <strong>{@literal @}NearCache(maxSize = 5000, expireAfterWriteSeconds = 600)</strong>
+ *   public class Country
+ *
+ * </code></pre>
+ * </p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@Documented
+public @interface NearCache {
+
+    /**
+     * Max number of cached rows. Default = 10000
+     */
+    long maxSize() default 10000;
+
+    /**
+     * Time to live of a cached row, in seconds. Default = 300
+     */
+    long expireAfterWriteSeconds() default 300;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Remember the primary keys for which <em>PersistenceManager.find()</em> recently found no row, so that
+ * repeated lookups of unknown keys return null without querying Cassandra.
+ * <br/>
+ * <br/>
+ * A miss is forgotten after a short time to live, or as soon as an <em>insert()</em> or <em>update()</em>
+ * of the same primary key is issued through the same <em>PersistenceManagerFactory</em>. Rows created by
+ * other clients are only seen once the miss expires, keep the time to live short.
+ * <br/>
+ * A find with an explicit consistency level always goes to Cassandra, and so does <em>refresh()</em>.
+ * <br/>
+ * This annotation can be used alone or together with {@link info.archinnov.achilles.annotations.NearCache}
+ *
+ * <pre class="code"><code class="java">
+ *
+ *   {@literal @}Entity(table = "user")
+ *   <strong>{@literal @}NegativeCache(maxSize = 100000, expireAfterWriteSeconds = 5)</strong>
+ *   public class User
+ *
+ * </code></pre>
+ * </p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@Documented
+public @interface NegativeCache {
+
+    /**
+     * Max number of remembered misses. Default = 10000
+     */
+    long maxSize() default 10000;
+
+    /**
+     * Time to live of a remembered miss, in seconds. Default = 10
+     */
+    long expireAfterWriteSeconds() default 10;
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Declare the performance options of the entity table: compaction strategy, caching, compression,
+ * bloom filter false-positive chance and speculative retry.
+ * <br/>
+ * The options are used when Achilles creates the table. When schema update is enabled for the table,
+ * an existing table whose options differ is altered at bootstrap.
+ * <br/>
+ * Options left to their default value are not set, so Cassandra defaults apply.
+ *
+ * <pre class="code"><code class="java">
+ *
+ *   {@literal @}Entity(table = "sensor_events")
+ *   <strong>{@literal @}TableTuning(compaction = Compaction.DATE_TIERED, baseTimeSeconds = 3600, maxSSTableAgeDays = 30,
+ *                compression = Compression.LZ4, caching = Caching.KEYS_ONLY)</strong>
+ *   public class SensorEvent
+ *
+ * </code></pre>
+ * </p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@Documented
+public @interface TableTuning {
+
+    /**
+     * Compaction strategy. Default = Cassandra default (size-tiered)
+     */
+    Compaction compaction() default Compaction.DEFAULT;
+
+    /**
+     * Minimum number of SSTables to trigger a minor compaction, for the size-tiered and date-tiered strategies.
+     * Default = Cassandra default
+     */
+    int minThreshold() default 0;
+
+    /**
+     * Maximum number of SSTables compacted at once. Default = Cassandra default
+     */
+    int maxThreshold() default 0;
+
+    /**
+     * Target SSTable size in Mb, for the leveled strategy. Default = Cassandra default
+     */
+    int sstableSizeInMB() default 0;
+
+    /**
+     * Size in seconds of the first time window, for the date-tiered strategy. Default = Cassandra default
+     */
+    long baseTimeSeconds() default 0;
+
+    /**
+     * Age in days after which SSTables are no longer compacted, for the date-tiered strategy. Default = Cassandra default
+     */
+    int maxSSTableAgeDays() default 0;
+
+    /**
+     * Caching of partition keys and rows. Default = Cassandra default
+     */
+    Caching caching() default Caching.DEFAULT;
+
+    /**
+     * SSTable compression algorithm. Default = Cassandra default
+     */
+    Compression compression() default Compression.DEFAULT;
+
+    /**
+     * Compression chunk length in Kb. Default = Cassandra default
+     */
+    int compressionChunkLengthInKb() default 0;
+
+    /**
+     * Bloom filter false-positive chance, between 0 and 1. Default = Cassandra default
+     */
+    double bloomFilterFPChance() default -1;
+
+    /**
+     * Speculative retry: <strong>NONE</strong>, <strong>ALWAYS</strong>, <em>n</em><strong>percentile</strong>
+     * or <em>n</em><strong>ms</strong>. Default = Cassandra default
+     */
+    String speculativeRetry() default "";
+
+    public static enum Compaction {
+        DEFAULT, SIZE_TIERED, LEVELED, DATE_TIERED
+    }
+
+    public static enum Caching {
+        DEFAULT, ALL, KEYS_ONLY, ROWS_ONLY, NONE
+    }
+
+    public static enum Compression {
+        DEFAULT, NONE, LZ4, SNAPPY, DEFLATE
+    }
+}
@@ -0,0 +1,129 @@
+package info.archinnov.achilles.perf;
+
+import static com.google.common.util.concurrent.MoreExecutors.sameThreadExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import info.archinnov.achilles.async.AchillesFuture;
+import info.archinnov.achilles.internal.async.AsyncUtils;
+import info.archinnov.achilles.type.OptionsBuilder.BuiltOptions;
+
+/**
+ * Compares the chained Futures.transform() post-processing of a find/insert with the fused
+ * completion pipeline. A SettableFuture stands for the driver ResultSetFuture.
+ *
+ * Run with the GC profiler to compare allocations per operation (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+public class AsyncPipelineBench {
+
+    private static final Function<Object, Object> STAGE = new Function<Object, Object>() {
+        @Override
+        public Object apply(Object input) {
+            return input;
+        }
+    };
+
+    private static final FutureCallback<Object> LISTENER = new FutureCallback<Object>() {
+        @Override
+        public void onSuccess(Object result) {
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+        }
+    };
+
+    private static final Object RESULT = new Object();
+
+    private final AsyncUtils asyncUtils = AsyncUtils.Singleton.INSTANCE.get();
+
+    private final BuiltOptions options = info.archinnov.achilles.type.OptionsBuilder.withAsyncListeners(LISTENER);
+
+    @Benchmark
+    public Object chainedFind() throws Exception {
+        final SettableFuture<Object> driverFuture = SettableFuture.create();
+        // tracing -> LWT check -> resultSet to row -> row to entity -> interceptors -> listeners -> proxy
+        final ListenableFuture<Object> tracing = Futures.transform(driverFuture, STAGE, sameThreadExecutor());
+        final ListenableFuture<Object> lwtCheck = Futures.transform(tracing, STAGE);
+        final ListenableFuture<Object> row = Futures.transform(lwtCheck, STAGE);
+        final ListenableFuture<Object> entity = Futures.transform(row, STAGE);
+        final AchillesFuture<Object> loaded = new AchillesFuture<>(entity);
+        final ListenableFuture<Object> triggers = Futures.transform(loaded, STAGE);
+        asyncUtils.maybeAddAsyncListeners(triggers, options);
+        final ListenableFuture<Object> proxy = Futures.transform(triggers, STAGE);
+        final AchillesFuture<Object> result = new AchillesFuture<>(proxy);
+
+        driverFuture.set(RESULT);
+        return result.getImmediately();
+    }
+
+    @Benchmark
+    public Object fusedFind() throws Exception {
+        final SettableFuture<Object> driverFuture = SettableFuture.create();
+        final ListenableFuture<Object> checked = asyncUtils.pipeline(driverFuture).then(STAGE).build(sameThreadExecutor());
+        final ListenableFuture<Object> proxy = asyncUtils.pipeline(checked)
+                .then(STAGE)
+                .then(STAGE)
+                .then(STAGE)
+                .notify(options)
+                .then(STAGE)
+                .build();
+        final AchillesFuture<Object> result = new AchillesFuture<>(proxy);
+
+        driverFuture.set(RESULT);
+        return result.getImmediately();
+    }
+
+    @Benchmark
+    public Object chainedInsert() throws Exception {
+        final SettableFuture<Object> driverFuture = SettableFuture.create();
+        // tracing -> LWT check -> interceptors -> listeners -> proxy
+        final ListenableFuture<Object> tracing = Futures.transform(driverFuture, STAGE, sameThreadExecutor());
+        final ListenableFuture<Object> lwtCheck = Futures.transform(tracing, STAGE);
+        final ListenableFuture<Object> triggers = Futures.transform(lwtCheck, STAGE, sameThreadExecutor());
+        asyncUtils.maybeAddAsyncListeners(triggers, options);
+        final ListenableFuture<Object> proxy = Futures.transform(triggers, STAGE);
+        final AchillesFuture<Object> result = new AchillesFuture<>(proxy);
+
+        driverFuture.set(RESULT);
+        return result.getImmediately();
+    }
+
+    @Benchmark
+    public Object fusedInsert() throws Exception {
+        final SettableFuture<Object> driverFuture = SettableFuture.create();
+        final ListenableFuture<Object> checked = asyncUtils.pipeline(driverFuture).then(STAGE).build(sameThreadExecutor());
+        final ListenableFuture<Object> proxy = asyncUtils.pipeline(checked)
+                .then(STAGE)
+                .notify(options)
+                .then(STAGE)
+                .build(sameThreadExecutor());
+        final AchillesFuture<Object> result = new AchillesFuture<>(proxy);
+
+        driverFuture.set(RESULT);
+        return result.getImmediately();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + AsyncPipelineBench.class.getSimpleName() + ".*")
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
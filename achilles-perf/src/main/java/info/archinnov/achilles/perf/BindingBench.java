@@ -0,0 +1,125 @@
+package info.archinnov.achilles.perf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
+import info.archinnov.achilles.internal.metadata.holder.PropertyMeta;
+import info.archinnov.achilles.internal.statement.prepared.BindingPlan;
+import info.archinnov.achilles.perf.entity.PerfBindingEntity;
+
+/**
+ * Cost of binding the INSERT prepared statement of a 20 columns entity (bigint, int, text, boolean, double,
+ * timestamp and uuid columns), once the column values are encoded.
+ *
+ * <em>genericBind</em> is what PreparedStatementBinder used to do: gather the primary key, the columns and the TTL/timestamp
+ * values in intermediate lists, copy them to an array then call <em>PreparedStatement.bind(Object...)</em>.
+ * <em>bindingPlan</em> writes the values by index in an array sized once and binds them with the typed setters of the BindingPlan
+ */
+@State(Scope.Benchmark)
+public class BindingBench {
+
+    private static final int COLUMNS = 20;
+
+    private PreparedStatement ps;
+
+    private BindingPlan plan;
+
+    private final Long id = 10L;
+
+    private final Object[] encodedColumns = new Object[COLUMNS];
+
+    @Setup
+    public void setUp() {
+        final Session session = CassandraEmbeddedServerBuilder.withEntities(PerfBindingEntity.class)
+                .cleanDataFilesAtStartup(true)
+                .withKeyspaceName("achilles_perf")
+                .buildPersistenceManager()
+                .getNativeSession();
+
+        final StringBuilder columns = new StringBuilder("id");
+        final StringBuilder markers = new StringBuilder("?");
+        for (int i = 1; i <= COLUMNS; i++) {
+            columns.append(", ").append(String.format("field%02d", i));
+            markers.append(", ?");
+        }
+        ps = session.prepare("INSERT INTO " + PerfBindingEntity.TABLE_NAME + "(" + columns + ") VALUES (" + markers + ")");
+        plan = new BindingPlan(ps, Collections.<PropertyMeta>emptyList(), false);
+
+        for (int i = 0; i < COLUMNS; i++) {
+            encodedColumns[i] = encodedValue(i);
+        }
+    }
+
+    @Benchmark
+    public BoundStatement genericBind() {
+        final List<Object> primaryKey = new ArrayList<>();
+        primaryKey.add(id);
+
+        final List<Object> columns = new ArrayList<>();
+        for (Object encodedColumn : encodedColumns) {
+            columns.add(encodedColumn);
+        }
+
+        final List<Object> values = new ArrayList<>();
+        values.addAll(primaryKey);
+        values.addAll(columns);
+        values.addAll(new ArrayList<Object>());
+        return ps.bind(values.toArray());
+    }
+
+    @Benchmark
+    public BoundStatement bindingPlan() {
+        final Object[] values = plan.newValues();
+        int index = 0;
+        values[index++] = id;
+        for (Object encodedColumn : encodedColumns) {
+            values[index++] = encodedColumn;
+        }
+        return plan.bind(ps, values);
+    }
+
+    private Object encodedValue(int index) {
+        if (index < 5) {
+            return "value_" + index;
+        } else if (index < 9) {
+            return (long) index;
+        } else if (index < 12) {
+            return index;
+        } else if (index < 14) {
+            return index % 2 == 0;
+        } else if (index < 16) {
+            return index * 1.5d;
+        } else if (index < 18) {
+            return new Date();
+        } else {
+            return UUID.randomUUID();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + BindingBench.class.getSimpleName() + ".*")
+                .warmupIterations(5)
+                .measurementIterations(10)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,125 @@
+package info.archinnov.achilles.perf;
+
+import static info.archinnov.achilles.configuration.ConfigurationParameters.BLOCKING_CALLER_RUNS;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.google.common.collect.ImmutableMap;
+import info.archinnov.achilles.configuration.ConfigurationParameters;
+import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
+import info.archinnov.achilles.perf.entity.PerfUser;
+import info.archinnov.achilles.persistence.PersistenceManager;
+
+/**
+ * Load test of the blocking PersistenceManager API against the embedded Cassandra server.
+ *
+ * Each invocation simulates CONCURRENT_REQUESTS request handlers doing an insert then a find, running either on a
+ * fixed pool of platform threads or on one virtual thread per request, with or without BLOCKING_CALLER_RUNS.
+ *
+ * Virtual threads are created by reflection, run this bench on JDK 21+ to get the VIRTUAL results
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockingCallLoadBench {
+
+    public static final int CONCURRENT_REQUESTS = 1000;
+
+    public static final int PLATFORM_THREADS = 200;
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    public String requestThreads;
+
+    @Param({ "false", "true" })
+    public boolean blockingCallerRuns;
+
+    private PersistenceManager manager;
+
+    private ExecutorService requestHandlers;
+
+    private final AtomicLong ids = new AtomicLong(0);
+
+    @Setup
+    public void setUp() throws Exception {
+        manager = CassandraEmbeddedServerBuilder.withEntities(PerfUser.class)
+                .cleanDataFilesAtStartup(true)
+                .withKeyspaceName("achilles_perf")
+                .withAchillesConfigParams(ImmutableMap.<ConfigurationParameters, Object>of(BLOCKING_CALLER_RUNS, blockingCallerRuns))
+                .buildPersistenceManager();
+
+        if ("VIRTUAL".equals(requestThreads)) {
+            requestHandlers = newVirtualThreadPerTaskExecutor();
+        } else {
+            requestHandlers = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestHandlers.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public int insertThenFind() throws Exception {
+        final List<Callable<PerfUser>> requests = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            requests.add(new Callable<PerfUser>() {
+                @Override
+                public PerfUser call() throws Exception {
+                    final Long id = ids.incrementAndGet();
+                    manager.insert(new PerfUser(id, "John", "DOE"));
+                    return manager.find(PerfUser.class, id);
+                }
+            });
+        }
+
+        int found = 0;
+        for (Future<PerfUser> response : requestHandlers.invokeAll(requests)) {
+            if (response.get() != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads are not available on JDK " + System.getProperty("java.version"), e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + BlockingCallLoadBench.class.getSimpleName() + ".*")
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,77 @@
+package info.archinnov.achilles.perf;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import info.archinnov.achilles.internal.counter.CounterAggregator;
+import info.archinnov.achilles.internal.counter.CounterAggregator.CounterKey;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+/**
+ * Throughput of the page-view increments aggregation from 1 to 32 threads, on 100 hot counters.
+ *
+ * <em>synchronizedMap</em> is the naive aggregation behind a single lock, <em>counterAggregator</em> goes through
+ * the per-counter cells of the counter write-behind mode
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CounterWriteBehindBench {
+
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32 };
+
+    private static final int HOT_COUNTERS = 100;
+
+    private final CounterAggregator aggregator = new CounterAggregator(1000, 0);
+
+    private final Map<CounterKey, Long> synchronizedDeltas = new HashMap<>();
+
+    private final CounterKey[] keys = new CounterKey[HOT_COUNTERS];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < HOT_COUNTERS; i++) {
+            keys[i] = new CounterKey("PageView", String.valueOf(i), "views", ConsistencyLevel.ONE);
+        }
+    }
+
+    @Benchmark
+    public void synchronizedMap() {
+        final CounterKey key = keys[ThreadLocalRandom.current().nextInt(HOT_COUNTERS)];
+        synchronized (synchronizedDeltas) {
+            final Long delta = synchronizedDeltas.get(key);
+            synchronizedDeltas.put(key, delta == null ? 1L : delta + 1L);
+        }
+    }
+
+    @Benchmark
+    public boolean counterAggregator() {
+        return aggregator.add(keys[ThreadLocalRandom.current().nextInt(HOT_COUNTERS)], 1L);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            Options opt = new OptionsBuilder()
+                    .include(".*" + CounterWriteBehindBench.class.getSimpleName() + ".*")
+                    .warmupIterations(5)
+                    .measurementIterations(5)
+                    .threads(threads)
+                    .forks(1)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package info.archinnov.achilles.perf;
+
+import static javax.validation.Validation.buildDefaultValidatorFactory;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import info.archinnov.achilles.internal.interceptor.DefaultBeanValidationInterceptor;
+import info.archinnov.achilles.perf.entity.PerfWideEntity;
+
+/**
+ * Cost of the bean validation of a one-field update on a 40 constrained fields entity.
+ *
+ * <em>fullBeanValidation</em> is what the update used to pay: all the constraints are checked then the violations
+ * are filtered down to the dirty fields. <em>dirtyPropertyValidation</em> only checks the constraints of the dirty field.
+ * <em>transientEntityValidation</em> goes through the interceptor for an insert, which still validates the whole bean
+ */
+@State(Scope.Benchmark)
+public class DirtyPropertyValidationBench {
+
+    private static final String DIRTY_PROPERTY = "field07";
+
+    private final Validator validator = buildDefaultValidatorFactory().getValidator();
+
+    private final DefaultBeanValidationInterceptor interceptor = new DefaultBeanValidationInterceptor(validator);
+
+    private final PerfWideEntity entity = new PerfWideEntity(10L);
+
+    @Setup
+    public void setUp() throws Exception {
+        for (int i = 1; i <= 40; i++) {
+            PerfWideEntity.class.getMethod(String.format("setField%02d", i), String.class).invoke(entity, "value_" + i);
+        }
+    }
+
+    @Benchmark
+    public int fullBeanValidation() {
+        int dirtyViolations = 0;
+        for (ConstraintViolation<PerfWideEntity> violation : validator.validate(entity)) {
+            if (DIRTY_PROPERTY.equals(violation.getPropertyPath().toString())) {
+                dirtyViolations++;
+            }
+        }
+        return dirtyViolations;
+    }
+
+    @Benchmark
+    public int dirtyPropertyValidation() {
+        final Set<ConstraintViolation<PerfWideEntity>> violations = validator.validateProperty(entity, DIRTY_PROPERTY);
+        return violations.size();
+    }
+
+    @Benchmark
+    public PerfWideEntity transientEntityValidation() {
+        interceptor.onEvent(entity);
+        return entity;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + DirtyPropertyValidationBench.class.getSimpleName() + ".*")
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
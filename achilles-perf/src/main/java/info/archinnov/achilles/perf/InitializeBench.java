@@ -0,0 +1,85 @@
+package info.archinnov.achilles.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
+import info.archinnov.achilles.perf.entity.PerfPageView;
+import info.archinnov.achilles.persistence.PersistenceManager;
+
+/**
+ * Time to initialize the counters of 1000 managed entities against the embedded Cassandra server.
+ *
+ * <em>initializeOneByOne</em> initializes each entity in turn, <em>initializeList</em> goes through
+ * PersistenceManager.initialize(List), which sends the counter reads of all the entities concurrently
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InitializeBench {
+
+    public static final int ENTITIES = 1000;
+
+    private PersistenceManager manager;
+
+    private List<PerfPageView> proxies;
+
+    @Setup
+    public void setUp() {
+        manager = CassandraEmbeddedServerBuilder.withEntities(PerfPageView.class)
+                .cleanDataFilesAtStartup(true)
+                .withKeyspaceName("achilles_perf")
+                .buildPersistenceManager();
+
+        for (long id = 0; id < ENTITIES; id++) {
+            final PerfPageView pageView = manager.insert(new PerfPageView(id, "/page/" + id));
+            pageView.getViews().incr(id);
+            pageView.getLikes().incr();
+            manager.update(pageView);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void findProxies() {
+        proxies = new ArrayList<>(ENTITIES);
+        for (long id = 0; id < ENTITIES; id++) {
+            proxies.add(manager.find(PerfPageView.class, id));
+        }
+    }
+
+    @Benchmark
+    public List<PerfPageView> initializeOneByOne() {
+        for (PerfPageView proxy : proxies) {
+            manager.initialize(proxy);
+        }
+        return proxies;
+    }
+
+    @Benchmark
+    public List<PerfPageView> initializeList() {
+        return manager.initialize(proxies);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + InitializeBench.class.getSimpleName() + ".*")
+                .warmupIterations(5)
+                .measurementIterations(10)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
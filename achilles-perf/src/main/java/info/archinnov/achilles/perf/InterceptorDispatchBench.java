@@ -0,0 +1,100 @@
+package info.archinnov.achilles.perf;
+
+import static java.util.Arrays.asList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.google.common.base.Predicate;
+import com.google.common.collect.FluentIterable;
+import info.archinnov.achilles.interceptor.Event;
+import info.archinnov.achilles.interceptor.Interceptor;
+import info.archinnov.achilles.internal.metadata.holder.EntityMeta;
+import info.archinnov.achilles.internal.persistence.operations.EntityProxifier;
+import info.archinnov.achilles.perf.entity.PerfUser;
+
+/**
+ * Cost of the POST_LOAD interception for each row of a 10 000 rows slice query, when the entity only has
+ * an interceptor on PRE_INSERT/PRE_UPDATE.
+ *
+ * <em>filterPerRow</em> reproduces the previous per-call filtering of the interceptors list,
+ * <em>dispatchTable</em> goes through the interceptors indexed by event at registration time
+ */
+@State(Scope.Benchmark)
+public class InterceptorDispatchBench {
+
+    public static final int SLICE_SIZE = 10000;
+
+    private final EntityProxifier proxifier = EntityProxifier.Singleton.INSTANCE.get();
+
+    private final EntityMeta meta = new EntityMeta();
+
+    private final PerfUser[] rows = new PerfUser[SLICE_SIZE];
+
+    @Setup
+    public void setUp() {
+        meta.forInterception().addInterceptor(new Interceptor<PerfUser>() {
+            @Override
+            public void onEvent(PerfUser entity) {
+                entity.setLastname(entity.getLastname().toUpperCase());
+            }
+
+            @Override
+            public List<Event> events() {
+                return asList(Event.PRE_INSERT, Event.PRE_UPDATE);
+            }
+        });
+        for (int i = 0; i < SLICE_SIZE; i++) {
+            rows[i] = new PerfUser((long) i, "John", "Doe");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE_SIZE)
+    public void filterPerRow(Blackhole blackhole) {
+        for (PerfUser row : rows) {
+            final Object realObject = proxifier.getRealObject(row);
+            final List<Interceptor<?>> interceptors = FluentIterable.from(meta.getInterceptors()).filter(filterFor(Event.POST_LOAD)).toList();
+            for (Interceptor interceptor : interceptors) {
+                interceptor.onEvent(realObject);
+            }
+            blackhole.consume(interceptors);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE_SIZE)
+    public void dispatchTable() {
+        for (PerfUser row : rows) {
+            meta.forInterception().intercept(row, Event.POST_LOAD);
+        }
+    }
+
+    private static Predicate<Interceptor<?>> filterFor(final Event event) {
+        return new Predicate<Interceptor<?>>() {
+            public boolean apply(Interceptor<?> interceptor) {
+                return interceptor != null && interceptor.events() != null && interceptor.events().contains(event);
+            }
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + InterceptorDispatchBench.class.getSimpleName() + ".*")
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
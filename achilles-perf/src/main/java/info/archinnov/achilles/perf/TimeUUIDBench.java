@@ -0,0 +1,74 @@
+package info.archinnov.achilles.perf;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import info.archinnov.achilles.internal.utils.UUIDGen;
+
+/**
+ * Throughput of @TimeUUID generation from 1 to 32 threads.
+ *
+ * <em>synchronizedTimeUUID</em> reproduces the previous synchronized timestamp generation,
+ * <em>lockFreeTimeUUID</em> goes through UUIDGen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeUUIDBench {
+
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32 };
+
+    private static final long START_EPOCH = -12219292800000L;
+
+    private final long clockSeqAndNode = UUIDGen.getTimeUUID().getLeastSignificantBits();
+
+    private long lastNanos;
+
+    @Benchmark
+    public UUID synchronizedTimeUUID() {
+        return new UUID(createTimeSynchronized(), clockSeqAndNode);
+    }
+
+    @Benchmark
+    public UUID lockFreeTimeUUID() {
+        return UUIDGen.getTimeUUID();
+    }
+
+    private synchronized long createTimeSynchronized() {
+        long nanosSince = (System.currentTimeMillis() - START_EPOCH) * 10000;
+        if (nanosSince > lastNanos) {
+            lastNanos = nanosSince;
+        } else {
+            nanosSince = ++lastNanos;
+        }
+        long msb = 0L;
+        msb |= (0x00000000ffffffffL & nanosSince) << 32;
+        msb |= (0x0000ffff00000000L & nanosSince) >>> 16;
+        msb |= (0xffff000000000000L & nanosSince) >>> 48;
+        msb |= 0x0000000000001000L;
+        return msb;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            Options opt = new OptionsBuilder()
+                    .include(".*" + TimeUUIDBench.class.getSimpleName() + ".*")
+                    .warmupIterations(5)
+                    .measurementIterations(5)
+                    .threads(threads)
+                    .forks(1)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
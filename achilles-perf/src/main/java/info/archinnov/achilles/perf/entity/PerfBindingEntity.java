@@ -0,0 +1,244 @@
+package info.archinnov.achilles.perf.entity;
+
+import java.util.Date;
+import java.util.UUID;
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.Entity;
+import info.archinnov.achilles.annotations.PartitionKey;
+
+@Entity(table = PerfBindingEntity.TABLE_NAME)
+public class PerfBindingEntity {
+
+    public static final String TABLE_NAME = "perf_binding_entity";
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    private String field01;
+
+    @Column
+    private String field02;
+
+    @Column
+    private String field03;
+
+    @Column
+    private String field04;
+
+    @Column
+    private String field05;
+
+    @Column
+    private Long field06;
+
+    @Column
+    private Long field07;
+
+    @Column
+    private Long field08;
+
+    @Column
+    private Long field09;
+
+    @Column
+    private Integer field10;
+
+    @Column
+    private Integer field11;
+
+    @Column
+    private Integer field12;
+
+    @Column
+    private Boolean field13;
+
+    @Column
+    private Boolean field14;
+
+    @Column
+    private Double field15;
+
+    @Column
+    private Double field16;
+
+    @Column
+    private Date field17;
+
+    @Column
+    private Date field18;
+
+    @Column
+    private UUID field19;
+
+    @Column
+    private UUID field20;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getField01() {
+        return field01;
+    }
+
+    public void setField01(String field01) {
+        this.field01 = field01;
+    }
+
+    public String getField02() {
+        return field02;
+    }
+
+    public void setField02(String field02) {
+        this.field02 = field02;
+    }
+
+    public String getField03() {
+        return field03;
+    }
+
+    public void setField03(String field03) {
+        this.field03 = field03;
+    }
+
+    public String getField04() {
+        return field04;
+    }
+
+    public void setField04(String field04) {
+        this.field04 = field04;
+    }
+
+    public String getField05() {
+        return field05;
+    }
+
+    public void setField05(String field05) {
+        this.field05 = field05;
+    }
+
+    public Long getField06() {
+        return field06;
+    }
+
+    public void setField06(Long field06) {
+        this.field06 = field06;
+    }
+
+    public Long getField07() {
+        return field07;
+    }
+
+    public void setField07(Long field07) {
+        this.field07 = field07;
+    }
+
+    public Long getField08() {
+        return field08;
+    }
+
+    public void setField08(Long field08) {
+        this.field08 = field08;
+    }
+
+    public Long getField09() {
+        return field09;
+    }
+
+    public void setField09(Long field09) {
+        this.field09 = field09;
+    }
+
+    public Integer getField10() {
+        return field10;
+    }
+
+    public void setField10(Integer field10) {
+        this.field10 = field10;
+    }
+
+    public Integer getField11() {
+        return field11;
+    }
+
+    public void setField11(Integer field11) {
+        this.field11 = field11;
+    }
+
+    public Integer getField12() {
+        return field12;
+    }
+
+    public void setField12(Integer field12) {
+        this.field12 = field12;
+    }
+
+    public Boolean getField13() {
+        return field13;
+    }
+
+    public void setField13(Boolean field13) {
+        this.field13 = field13;
+    }
+
+    public Boolean getField14() {
+        return field14;
+    }
+
+    public void setField14(Boolean field14) {
+        this.field14 = field14;
+    }
+
+    public Double getField15() {
+        return field15;
+    }
+
+    public void setField15(Double field15) {
+        this.field15 = field15;
+    }
+
+    public Double getField16() {
+        return field16;
+    }
+
+    public void setField16(Double field16) {
+        this.field16 = field16;
+    }
+
+    public Date getField17() {
+        return field17;
+    }
+
+    public void setField17(Date field17) {
+        this.field17 = field17;
+    }
+
+    public Date getField18() {
+        return field18;
+    }
+
+    public void setField18(Date field18) {
+        this.field18 = field18;
+    }
+
+    public UUID getField19() {
+        return field19;
+    }
+
+    public void setField19(UUID field19) {
+        this.field19 = field19;
+    }
+
+    public UUID getField20() {
+        return field20;
+    }
+
+    public void setField20(UUID field20) {
+        this.field20 = field20;
+    }
+}
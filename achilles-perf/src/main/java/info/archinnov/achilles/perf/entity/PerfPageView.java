@@ -0,0 +1,64 @@
+package info.archinnov.achilles.perf.entity;
+
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.Entity;
+import info.archinnov.achilles.annotations.PartitionKey;
+import info.archinnov.achilles.type.Counter;
+
+@Entity(table = PerfPageView.TABLE_NAME)
+public class PerfPageView {
+
+    public static final String TABLE_NAME = "perf_page_view";
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    private String url;
+
+    @Column
+    private Counter views;
+
+    @Column
+    private Counter likes;
+
+    public PerfPageView() {
+    }
+
+    public PerfPageView(Long id, String url) {
+        this.id = id;
+        this.url = url;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Counter getViews() {
+        return views;
+    }
+
+    public void setViews(Counter views) {
+        this.views = views;
+    }
+
+    public Counter getLikes() {
+        return likes;
+    }
+
+    public void setLikes(Counter likes) {
+        this.likes = likes;
+    }
+}
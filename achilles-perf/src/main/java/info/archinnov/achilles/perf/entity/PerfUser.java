@@ -0,0 +1,53 @@
+package info.archinnov.achilles.perf.entity;
+
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.Entity;
+import info.archinnov.achilles.annotations.PartitionKey;
+
+@Entity(table = PerfUser.TABLE_NAME)
+public class PerfUser {
+
+    public static final String TABLE_NAME = "perf_user";
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    private String firstname;
+
+    @Column
+    private String lastname;
+
+    public PerfUser() {
+    }
+
+    public PerfUser(Long id, String firstname, String lastname) {
+        this.id = id;
+        this.firstname = firstname;
+        this.lastname = lastname;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstname() {
+        return firstname;
+    }
+
+    public void setFirstname(String firstname) {
+        this.firstname = firstname;
+    }
+
+    public String getLastname() {
+        return lastname;
+    }
+
+    public void setLastname(String lastname) {
+        this.lastname = lastname;
+    }
+}
@@ -0,0 +1,552 @@
+package info.archinnov.achilles.perf.entity;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.Entity;
+import info.archinnov.achilles.annotations.PartitionKey;
+
+@Entity(table = PerfWideEntity.TABLE_NAME)
+public class PerfWideEntity {
+
+    public static final String TABLE_NAME = "perf_wide_entity";
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field01;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field02;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field03;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field04;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field05;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field06;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field07;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field08;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field09;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field10;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field11;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field12;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field13;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field14;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field15;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field16;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field17;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field18;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field19;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field20;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field21;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field22;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field23;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field24;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field25;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field26;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field27;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field28;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field29;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field30;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field31;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field32;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field33;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field34;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field35;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field36;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field37;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field38;
+
+    @Column
+    @NotNull
+    @Size(min = 1, max = 64)
+    private String field39;
+
+    @Column
+    @NotNull
+    @Pattern(regexp = "[a-z0-9_]+")
+    private String field40;
+
+    public PerfWideEntity() {
+    }
+
+    public PerfWideEntity(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getField01() {
+        return field01;
+    }
+
+    public void setField01(String field01) {
+        this.field01 = field01;
+    }
+
+    public String getField02() {
+        return field02;
+    }
+
+    public void setField02(String field02) {
+        this.field02 = field02;
+    }
+
+    public String getField03() {
+        return field03;
+    }
+
+    public void setField03(String field03) {
+        this.field03 = field03;
+    }
+
+    public String getField04() {
+        return field04;
+    }
+
+    public void setField04(String field04) {
+        this.field04 = field04;
+    }
+
+    public String getField05() {
+        return field05;
+    }
+
+    public void setField05(String field05) {
+        this.field05 = field05;
+    }
+
+    public String getField06() {
+        return field06;
+    }
+
+    public void setField06(String field06) {
+        this.field06 = field06;
+    }
+
+    public String getField07() {
+        return field07;
+    }
+
+    public void setField07(String field07) {
+        this.field07 = field07;
+    }
+
+    public String getField08() {
+        return field08;
+    }
+
+    public void setField08(String field08) {
+        this.field08 = field08;
+    }
+
+    public String getField09() {
+        return field09;
+    }
+
+    public void setField09(String field09) {
+        this.field09 = field09;
+    }
+
+    public String getField10() {
+        return field10;
+    }
+
+    public void setField10(String field10) {
+        this.field10 = field10;
+    }
+
+    public String getField11() {
+        return field11;
+    }
+
+    public void setField11(String field11) {
+        this.field11 = field11;
+    }
+
+    public String getField12() {
+        return field12;
+    }
+
+    public void setField12(String field12) {
+        this.field12 = field12;
+    }
+
+    public String getField13() {
+        return field13;
+    }
+
+    public void setField13(String field13) {
+        this.field13 = field13;
+    }
+
+    public String getField14() {
+        return field14;
+    }
+
+    public void setField14(String field14) {
+        this.field14 = field14;
+    }
+
+    public String getField15() {
+        return field15;
+    }
+
+    public void setField15(String field15) {
+        this.field15 = field15;
+    }
+
+    public String getField16() {
+        return field16;
+    }
+
+    public void setField16(String field16) {
+        this.field16 = field16;
+    }
+
+    public String getField17() {
+        return field17;
+    }
+
+    public void setField17(String field17) {
+        this.field17 = field17;
+    }
+
+    public String getField18() {
+        return field18;
+    }
+
+    public void setField18(String field18) {
+        this.field18 = field18;
+    }
+
+    public String getField19() {
+        return field19;
+    }
+
+    public void setField19(String field19) {
+        this.field19 = field19;
+    }
+
+    public String getField20() {
+        return field20;
+    }
+
+    public void setField20(String field20) {
+        this.field20 = field20;
+    }
+
+    public String getField21() {
+        return field21;
+    }
+
+    public void setField21(String field21) {
+        this.field21 = field21;
+    }
+
+    public String getField22() {
+        return field22;
+    }
+
+    public void setField22(String field22) {
+        this.field22 = field22;
+    }
+
+    public String getField23() {
+        return field23;
+    }
+
+    public void setField23(String field23) {
+        this.field23 = field23;
+    }
+
+    public String getField24() {
+        return field24;
+    }
+
+    public void setField24(String field24) {
+        this.field24 = field24;
+    }
+
+    public String getField25() {
+        return field25;
+    }
+
+    public void setField25(String field25) {
+        this.field25 = field25;
+    }
+
+    public String getField26() {
+        return field26;
+    }
+
+    public void setField26(String field26) {
+        this.field26 = field26;
+    }
+
+    public String getField27() {
+        return field27;
+    }
+
+    public void setField27(String field27) {
+        this.field27 = field27;
+    }
+
+    public String getField28() {
+        return field28;
+    }
+
+    public void setField28(String field28) {
+        this.field28 = field28;
+    }
+
+    public String getField29() {
+        return field29;
+    }
+
+    public void setField29(String field29) {
+        this.field29 = field29;
+    }
+
+    public String getField30() {
+        return field30;
+    }
+
+    public void setField30(String field30) {
+        this.field30 = field30;
+    }
+
+    public String getField31() {
+        return field31;
+    }
+
+    public void setField31(String field31) {
+        this.field31 = field31;
+    }
+
+    public String getField32() {
+        return field32;
+    }
+
+    public void setField32(String field32) {
+        this.field32 = field32;
+    }
+
+    public String getField33() {
+        return field33;
+    }
+
+    public void setField33(String field33) {
+        this.field33 = field33;
+    }
+
+    public String getField34() {
+        return field34;
+    }
+
+    public void setField34(String field34) {
+        this.field34 = field34;
+    }
+
+    public String getField35() {
+        return field35;
+    }
+
+    public void setField35(String field35) {
+        this.field35 = field35;
+    }
+
+    public String getField36() {
+        return field36;
+    }
+
+    public void setField36(String field36) {
+        this.field36 = field36;
+    }
+
+    public String getField37() {
+        return field37;
+    }
+
+    public void setField37(String field37) {
+        this.field37 = field37;
+    }
+
+    public String getField38() {
+        return field38;
+    }
+
+    public void setField38(String field38) {
+        this.field38 = field38;
+    }
+
+    public String getField39() {
+        return field39;
+    }
+
+    public void setField39(String field39) {
+        this.field39 = field39;
+    }
+
+    public String getField40() {
+        return field40;
+    }
+
+    public void setField40(String field40) {
+        this.field40 = field40;
+    }
+}
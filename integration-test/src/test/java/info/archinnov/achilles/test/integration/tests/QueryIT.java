@@ -427,6 +427,24 @@ public class QueryIT {
         assertThat(found.getName()).isEqualTo(entity.getName());
     }
 
+    @Test
+    public void should_lazy_load_columns_left_out_of_typed_projection_query() throws Exception {
+        CompleteBean entity = builder().randomId().name("DuyHai").age(35L).buid();
+
+        manager.insert(entity);
+
+        RegularStatement statement = select("id","name").from("CompleteBean").where(eq("id",bindMarker()));
+        List<CompleteBean> projections = manager.typedProjectionQuery(CompleteBean.class, statement, entity.getId()).get();
+        List<CompleteBean> entities = manager.typedQuery(CompleteBean.class, statement, entity.getId()).get();
+
+        assertThat(projections).hasSize(1);
+        assertThat(projections.get(0).getName()).isEqualTo("DuyHai");
+        assertThat(projections.get(0).getAge()).isEqualTo(35L);
+
+        assertThat(entities).hasSize(1);
+        assertThat(entities.get(0).getAge()).isNull();
+    }
+
     @Test
     public void should_return_raw_entities_for_raw_typed_query_with_select_star() throws Exception {
         Counter counter1 = CounterBuilder.incr(15L);
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2012-2014 DuyHai DOAN
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package info.archinnov.achilles.test.integration.tests;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import com.datastax.driver.core.Session;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.persistence.PersistenceManager;
+import info.archinnov.achilles.test.integration.AchillesInternalCQLResource;
+import info.archinnov.achilles.test.integration.entity.EntityWithRowCache;
+
+public class RowCacheIT {
+
+    @Rule
+    public AchillesInternalCQLResource resource = new AchillesInternalCQLResource(Steps.AFTER_TEST, EntityWithRowCache.TABLE_NAME);
+
+    private PersistenceManager manager = resource.getPersistenceManager();
+
+    private Session session = manager.getNativeSession();
+
+    @Test
+    public void should_refresh_entity_whose_row_is_cached() throws Exception {
+        //Given
+        Long id = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        manager.insert(new EntityWithRowCache(id, "name"));
+        EntityWithRowCache entity = manager.find(EntityWithRowCache.class, id);
+
+        session.execute("UPDATE " + EntityWithRowCache.TABLE_NAME + " SET name='modified_name' WHERE id=" + id);
+
+        //When
+        manager.refresh(entity);
+
+        //Then
+        assertThat(entity.getName()).isEqualTo("modified_name");
+    }
+
+    @Test
+    public void should_refresh_entity_whose_miss_is_cached() throws Exception {
+        //Given
+        Long id = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        assertThat(manager.find(EntityWithRowCache.class, id)).isNull();
+
+        session.execute("INSERT INTO " + EntityWithRowCache.TABLE_NAME + "(id, name) VALUES(" + id + ", 'name')");
+        EntityWithRowCache proxy = manager.getProxy(EntityWithRowCache.class, id);
+
+        //When
+        manager.refresh(proxy);
+
+        //Then
+        assertThat(proxy.getName()).isEqualTo("name");
+    }
+}